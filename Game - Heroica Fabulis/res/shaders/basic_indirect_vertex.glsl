@@ -0,0 +1,85 @@
+#version 460 core
+
+in vec3 inVertex;
+in vec2 inTexCoord;
+in vec2 inNormal;
+
+out vec2 texCoord;
+out vec3 surfaceNormal;
+out vec3 toLightVector;
+out vec3 toCameraVector;
+out float fogVisibility;
+
+layout(std140, binding = 0) uniform FrameData {
+
+	mat4 projection;
+	mat4 view;
+	vec4 cameraPosition;
+	vec4 lightPosition;
+	vec4 lightColor;
+};
+
+layout(std140, binding = 1) uniform MaterialData {
+
+	vec4 matColor;
+	vec4 fogColor;
+	float matColorMapTiling;
+	float matSpecularMapTiling;
+	float matNormalMapTiling;
+	float matBlendMapTiling;
+	float matOverlay1Tiling;
+	float matOverlay2Tiling;
+	float matOverlay3Tiling;
+	float matShineDamping;
+	float matReflectivity;
+	float matMinBrightness;
+	float matBrightness;
+	float fogDensity;
+	float fogGradient;
+	bool matAffectedByLight;
+	bool matSpecular;
+	bool matUseSpecularMap;
+	bool matUseColorMap;
+	bool matUseNormalMap;
+	bool matUseBlendMap;
+	bool matUseOverlay1;
+	bool matUseOverlay2;
+	bool matUseOverlay3;
+	bool matAllowTransparency;
+	bool matUseUpwardsNormals;
+	bool matAffectedByFog;
+};
+
+// Permutations define these as constants, so that the compiler can remove the code of unused features
+#ifndef PERMUTATION
+#define MAT_USE_UPWARDS_NORMALS matUseUpwardsNormals
+#define MAT_AFFECTED_BY_FOG     matAffectedByFog
+#endif
+
+layout(std430, binding = 2) readonly buffer DrawData {
+
+	mat4 transformations[];
+};
+
+// Normals are encoded with the octahedral mapping, see VertexLayout
+vec3 decodeNormal(vec2 encoded) {
+
+	vec3 normal = vec3(encoded, 1.0 - abs(encoded.x) - abs(encoded.y));
+	float fold = max(-normal.z, 0.0);
+	normal.x += normal.x >= 0.0 ? -fold : fold;
+	normal.y += normal.y >= 0.0 ? -fold : fold;
+	return normalize(normal);
+}
+
+void main(void) {
+
+	mat4 transformation = transformations[gl_BaseInstance + gl_InstanceID];
+	vec4 world = transformation * vec4(inVertex, 1.0);
+	vec4 relativeCamDist = view * world;
+	gl_Position = projection * relativeCamDist;
+	texCoord = inTexCoord;
+	surfaceNormal = !MAT_USE_UPWARDS_NORMALS ? (transformation * vec4(decodeNormal(inNormal), 0.0)).xyz : vec3(0.0, 1.0, 0.0);
+	toLightVector = lightPosition.xyz - world.xyz;
+	toCameraVector = cameraPosition.xyz - world.xyz;
+	fogVisibility = MAT_AFFECTED_BY_FOG ? exp(-pow((length(relativeCamDist.xyz) * fogDensity), fogGradient)) : 1.0;
+}
\ No newline at end of file
@@ -1,32 +1,103 @@
-#version 460 core
-
-in vec3 inVertex;
-in vec2 inTexCoord;
-in vec3 inNormal;
-
-out vec2 texCoord;
-out vec3 surfaceNormal;
-out vec3 toLightVector;
-out vec3 toCameraVector;
-out float fogVisibility;
-
-uniform mat4 transformation;
-uniform mat4 projection;
-uniform mat4 view;
-uniform vec3 lightPos;
-
-uniform bool matAffectedByFog;
-uniform float fogDensity;
-uniform float fogGradient;
-
-void main(void) {
-
-	vec4 world = transformation * vec4(inVertex, 1.0);
-	vec4 relativeCamDist = view * world;
-	gl_Position = projection * relativeCamDist;
-	texCoord = inTexCoord;
-	surfaceNormal = (transformation * vec4(inNormal, 0.0)).xyz;
-	toLightVector = lightPos - world.xyz;
-	toCameraVector = (inverse(view) * vec4(0.0, 0.0, 0.0, 1.0)).xyz - world.xyz;
-	fogVisibility = matAffectedByFog ? exp(-pow((length(relativeCamDist.xyz) * fogDensity), fogGradient)) : 1.0;
+#version 460 core
+
+// Position in the shared grid between 0 and 1, the heights come from the heightmap
+in vec3 inVertex;
+
+out vec2 texCoord;
+out vec3 surfaceNormal;
+out vec3 toLightVector;
+out vec3 toCameraVector;
+out float fogVisibility;
+
+layout(std140, binding = 0) uniform FrameData {
+
+	mat4 projection;
+	mat4 view;
+	vec4 cameraPosition;
+	vec4 lightPosition;
+	vec4 lightColor;
+};
+
+// X, Z and size of the quadtree node in world space
+uniform vec3 terrainNode;
+
+// Distances from the camera at which the node starts and finishes to morph into the next coarser level
+uniform vec2 terrainMorph;
+
+// X and Z of the tile in world space
+uniform vec2 terrainOrigin;
+uniform float terrainSize;
+uniform float terrainGridResolution;
+uniform sampler2D terrainHeightmap;
+
+layout(std140, binding = 1) uniform MaterialData {
+
+	vec4 matColor;
+	vec4 fogColor;
+	float matColorMapTiling;
+	float matSpecularMapTiling;
+	float matNormalMapTiling;
+	float matBlendMapTiling;
+	float matOverlay1Tiling;
+	float matOverlay2Tiling;
+	float matOverlay3Tiling;
+	float matShineDamping;
+	float matReflectivity;
+	float matMinBrightness;
+	float matBrightness;
+	float fogDensity;
+	float fogGradient;
+	bool matAffectedByLight;
+	bool matSpecular;
+	bool matUseSpecularMap;
+	bool matUseColorMap;
+	bool matUseNormalMap;
+	bool matUseBlendMap;
+	bool matUseOverlay1;
+	bool matUseOverlay2;
+	bool matUseOverlay3;
+	bool matAllowTransparency;
+	bool matUseUpwardsNormals;
+	bool matAffectedByFog;
+};
+
+// Permutations define these as constants, so that the compiler can remove the code of unused features
+#ifndef PERMUTATION
+#define MAT_AFFECTED_BY_FOG matAffectedByFog
+#endif
+
+// The first and last sample of the heightmap lie on the edges of the tile
+float sampleHeight(vec2 position) {
+
+	vec2 size = vec2(textureSize(terrainHeightmap, 0));
+	vec2 uv = ((position - terrainOrigin) / terrainSize * (size - 1.0) + 0.5) / size;
+	return textureLod(terrainHeightmap, uv, 0.0).r;
+}
+
+void main(void) {
+
+	vec2 position = terrainNode.xy + inVertex.xz * terrainNode.z;
+	float distanceToCamera = distance(cameraPosition.xyz, vec3(position.x, sampleHeight(position), position.y));
+	float morph = clamp((distanceToCamera - terrainMorph.x) / (terrainMorph.y - terrainMorph.x), 0.0, 1.0);
+
+	// Moves the odd vertices onto their even neighbors, so that the grid looks like the next coarser level at the end of the range
+	vec2 odd = fract(inVertex.xz * terrainGridResolution * 0.5) * 2.0 / terrainGridResolution;
+	position -= odd * terrainNode.z * morph;
+
+	float height = sampleHeight(position);
+	vec4 world = vec4(position.x, height, position.y, 1.0);
+	vec4 relativeCamDist = view * world;
+	gl_Position = projection * relativeCamDist;
+	texCoord = (position - terrainOrigin) / terrainSize;
+
+	// Central differences over one grid cell of the finest level
+	float step = terrainSize / float(textureSize(terrainHeightmap, 0).x - 1);
+	float left = sampleHeight(position - vec2(step, 0.0));
+	float right = sampleHeight(position + vec2(step, 0.0));
+	float back = sampleHeight(position - vec2(0.0, step));
+	float front = sampleHeight(position + vec2(0.0, step));
+	surfaceNormal = normalize(vec3(left - right, 2.0 * step, back - front));
+	toLightVector = lightPosition.xyz - world.xyz;
+	toCameraVector = cameraPosition.xyz - world.xyz;
+	fogVisibility = MAT_AFFECTED_BY_FOG ? exp(-pow((length(relativeCamDist.xyz) * fogDensity), fogGradient)) : 1.0;
 }
\ No newline at end of file
@@ -1,226 +1,377 @@
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-
-import javax.vecmath.Vector2f;
-import javax.vecmath.Vector3f;
-
-/**
- * Tool for converting between OBJ and XMESH models.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 23.08.2018/0.2.0
- * @since 22.08.2018/0.2.0
- */
-public final class MeshConverter {
-
-	private static final String XMESH_SIGNATURE = "XMESH";
-	
-	/**
-	 * Private because no instances of this class should exist.
-	 * @since 22.08.2018/0.2.0
-	 */
-	private MeshConverter() {}
-	
-	/**
-	 * @param args 0 = source file, 1 = target file
-	 * @throws IOException if an I/O error occurred
-	 * @since 22.08.2018/0.2.0
-	 */
-	public static void main(String[] args) throws IOException {
-		
-		args = new String[] {
-			"res/meshes/stall.xmesh",
-			"res/meshes/stall2.obj"
-		};
-		
-		File source = new File(args[0]);
-		File target = new File(args[1]);
-		
-		try(FileOutputStream out = new FileOutputStream(target);
-			FileInputStream in = new FileInputStream(source)) {
-			
-			if(source.getName().toLowerCase().endsWith(".xmesh")) {
-				
-				try(ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
-					
-					// Read the entire image into memory
-					int readByteCount = 0;
-					int offset = 0;
-					byte[] data = new byte[4096];
-					
-					while((readByteCount = in.read(data)) != -1) {
-						
-						buffer.write(data, 0, readByteCount);
-					}
-					
-					data = buffer.toByteArray();
-					
-					// Check the signature
-					String signature = new String(new byte[] {data[offset++], data[offset++], data[offset++], data[offset++], data[offset++]});
-					
-					if(signature.equals(XMESH_SIGNATURE)) {
-						
-						int flags = data[offset++] & 0xFF;
-						boolean hasTexCoords = (flags & 1) == 1;
-						boolean hasNormals = ((flags >> 1) & 1) == 1;
-						boolean generateNormals = ((flags >> 7) & 1) == 1;
-						List<Vector3f> vertices = new ArrayList<>();
-						List<Vector2f> texCoords = null;
-						List<Vector3f> normals = null;
-						
-						int vertexCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
-						
-						for(int v = 0; v < vertexCount; v++) {
-							
-							float x = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-							float y = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-							float z = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-							vertices.add(new Vector3f(x, y, z));
-						}
-						
-						int indexCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
-						int[] indices = new int[indexCount];
-						
-						for(int i = 0; i < indexCount; i++) {
-							
-							indices[i] = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
-						}
-						
-						if(hasTexCoords) {
-							
-							texCoords = new ArrayList<>();
-							int texCoordCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
-							
-							for(int vt = 0; vt < texCoordCount; vt++) {
-								
-								float x = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-								float y = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-								texCoords.add(new Vector2f(x, y));
-							}
-						}
-						
-						if(hasNormals) {
-							
-							normals = new ArrayList<>();
-							int normalCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
-
-							// FIXME
-							// I just suddenly run out of bytes even though it doesn't make sense.
-							// All of the counts are correct and nowhere is the offset incremented wrong.
-							
-							for(int vn = 0; vn < normalCount; vn++) {
-								
-								float x = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-								float y = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-								float z = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
-								normals.add(new Vector3f(x, y, z));
-							}
-							
-						} else if(generateNormals) {
-							
-							normals = new ArrayList<>();
-							
-							for(int index = 0; index < vertices.size(); index++) {
-								
-								normals.add(new Vector3f());
-							}
-							
-							for(int index = 0; index < indexCount; index += 3) {
-								
-								Vector3f vert1 = vertices.get(indices[index]);
-								Vector3f vert2 = vertices.get(indices[index + 1]);
-								Vector3f vert3 = vertices.get(indices[index + 2]);
-								
-								Vector3f v1 = new Vector3f(vert2);
-								v1.sub(vert1);
-								
-								Vector3f v2 = new Vector3f(vert3);
-								v2.sub(vert1);
-								v2.cross(v2, v1);
-								v2.normalize();
-								
-								normals.get(indices[index]).add(v2);
-								normals.get(indices[index + 1]).add(v2);
-								normals.get(indices[index + 2]).add(v2);
-							}
-							
-							for(Vector3f normal : normals) {
-								
-								normal.normalize();
-								normal.negate();
-							}
-						}
-						
-						for(Vector3f vertex : vertices) {
-							
-							out.write(String.format("v %s %s %s\n", vertex.x, vertex.y, vertex.z).getBytes());
-						}
-						
-						if(hasTexCoords) {
-							
-							for(Vector2f texCoord : texCoords) {
-								
-								out.write(String.format("vt %s %s\n", texCoord.x, texCoord.y).getBytes());
-							}
-						}
-						
-						if(hasNormals) {
-							
-							for(Vector3f normal : normals) {
-								
-								out.write(String.format("vn %s %s %s\n", normal.x, normal.y, normal.z).getBytes());
-							}
-						}
-						
-						if(!hasTexCoords && !hasNormals) {
-							
-							for(int index = 0; index < indices.length; index += 3) {
-
-								out.write(String.format("f %s %s %s\n", index, index + 1, index + 2).getBytes());
-							}
-							
-						} else if(!hasTexCoords && hasNormals) {
-							
-							for(int index = 0; index < indices.length; index += 3) {
-
-								int i2 = index + 1;
-								int i3 = index + 3;
-								out.write(String.format("f %s//%s %s//%s %s//%s\n", index, index, i2, i2, i3, i3).getBytes());
-							}
-							
-						} else if(hasTexCoords && !hasNormals) {
-							
-							for(int index = 0; index < indices.length; index += 3) {
-								
-								int i2 = index + 1;
-								int i3 = index + 3;
-								out.write(String.format("f %s/%s %s/%s %s/%s\n", index, index, i2, i2, i3, i3).getBytes());
-							}
-							
-						} else if(hasTexCoords && hasNormals) {
-							
-							for(int index = 0; index < indices.length; index += 3) {
-								
-								int i2 = index + 1;
-								int i3 = index + 3;
-								out.write(String.format("f %s/%s/%s %s/%s/%s %s/%s/%s\n", index, index, index, i2, i2, i2, i3, i3, i3).getBytes());
-							}
-						}
-						
-					} else {
-						
-						throw new IOException("Not a XMESH file!");
-					}
-				}
-				
-			} else {
-				
-				// TODO
-			}
-		}
-	}
-}
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.vecmath.Vector2f;
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.io.meshes.ObjMeshReader;
+import de.ralleytn.engine.caveman.io.meshes.XMeshReader;
+import de.ralleytn.engine.caveman.io.meshes.XMeshWriter;
+import de.ralleytn.engine.caveman.rendering.geom.MeshData;
+import de.ralleytn.engine.caveman.util.MeshSimplifier;
+import de.ralleytn.engine.caveman.util.MeshUtil;
+
+/**
+ * Tool for converting between OBJ and XMESH models.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 22.08.2018/0.2.0
+ */
+public final class MeshConverter {
+
+	private static final String XMESH_SIGNATURE = "XMESH";
+	private static final String OPTION_OPTIMIZE = "-optimize";
+	private static final String OPTION_LODS = "-lods";
+	
+	// Every level of detail has half the triangles of the one before, as long as the error stays below 2% of the size of the mesh
+	private static final int LOD_LEVELS = 3;
+	private static final float LOD_RATIO = 0.5F;
+	private static final float LOD_ERROR = 0.02F;
+	
+	/**
+	 * Private because no instances of this class should exist.
+	 * @since 22.08.2018/0.2.0
+	 */
+	private MeshConverter() {}
+	
+	/**
+	 * If the source is a directory, every OBJ and XMESH file in it and its sub directories is converted into a XMESH file in the target directory.
+	 * The files are converted in parallel.
+	 * @param args 0 = source file or directory, 1 = target file or directory, followed by the options for XMESH target files:
+	 * {@code -optimize} to optimize the mesh for the vertex cache, {@code -lods} to write simplified meshes next to it ({@code name.lod1.xmesh}, ...)
+	 * @throws IOException if an I/O error occurred
+	 * @since 22.08.2018/0.2.0
+	 */
+	public static void main(String[] args) throws IOException {
+		
+		if(args.length == 0) {
+			
+			args = new String[] {
+				"res/meshes/stall.xmesh",
+				"res/meshes/stall2.obj"
+			};
+		}
+		
+		File source = new File(args[0]);
+		File target = new File(args[1]);
+		List<String> options = Arrays.asList(args).subList(2, args.length);
+		boolean optimize = options.contains(OPTION_OPTIMIZE);
+		boolean lods = options.contains(OPTION_LODS);
+		
+		if(source.isDirectory()) {
+			
+			MeshConverter.convertDirectory(source, target, optimize, lods);
+			return;
+		}
+		
+		if(target.getName().toLowerCase().endsWith(".xmesh")) {
+			
+			System.out.println(MeshConverter.convertToXMesh(source, target, optimize, lods));
+			return;
+		}
+		
+		try(FileOutputStream out = new FileOutputStream(target);
+			FileInputStream in = new FileInputStream(source)) {
+			
+			if(source.getName().toLowerCase().endsWith(".xmesh")) {
+				
+				try(ByteArrayOutputStream buffer = new ByteArrayOutputStream()) {
+					
+					// Read the entire image into memory
+					int readByteCount = 0;
+					int offset = 0;
+					byte[] data = new byte[4096];
+					
+					while((readByteCount = in.read(data)) != -1) {
+						
+						buffer.write(data, 0, readByteCount);
+					}
+					
+					data = buffer.toByteArray();
+					
+					// Check the signature
+					String signature = new String(new byte[] {data[offset++], data[offset++], data[offset++], data[offset++], data[offset++]});
+					
+					if(signature.equals(XMESH_SIGNATURE)) {
+						
+						int flags = data[offset++] & 0xFF;
+						boolean hasTexCoords = (flags & 1) == 1;
+						boolean hasNormals = ((flags >> 1) & 1) == 1;
+						boolean hasBounds = ((flags >> 2) & 1) == 1;
+						boolean generateNormals = ((flags >> 7) & 1) == 1;
+						List<Vector3f> vertices = new ArrayList<>();
+						List<Vector2f> texCoords = null;
+						List<Vector3f> normals = null;
+						
+						if(hasBounds) {
+							
+							// The bounds (6 floats AABB, 4 floats sphere) are not part of the OBJ format
+							offset += 10 * Float.BYTES;
+						}
+						
+						int vertexCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
+						
+						for(int v = 0; v < vertexCount; v++) {
+							
+							float x = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+							float y = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+							float z = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+							vertices.add(new Vector3f(x, y, z));
+						}
+						
+						int indexCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
+						int[] indices = new int[indexCount];
+						
+						for(int i = 0; i < indexCount; i++) {
+							
+							indices[i] = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
+						}
+						
+						if(hasTexCoords) {
+							
+							texCoords = new ArrayList<>();
+							int texCoordCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
+							
+							for(int vt = 0; vt < texCoordCount; vt++) {
+								
+								float x = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+								float y = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+								texCoords.add(new Vector2f(x, y));
+							}
+						}
+						
+						if(hasNormals) {
+							
+							normals = new ArrayList<>();
+							int normalCount = ((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF);
+
+							// FIXME
+							// I just suddenly run out of bytes even though it doesn't make sense.
+							// All of the counts are correct and nowhere is the offset incremented wrong.
+							
+							for(int vn = 0; vn < normalCount; vn++) {
+								
+								float x = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+								float y = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+								float z = Float.intBitsToFloat(((data[offset++] & 0xFF) << 24) | ((data[offset++] & 0xFF) << 16) | ((data[offset++] & 0xFF) << 8) | (data[offset++] & 0xFF));
+								normals.add(new Vector3f(x, y, z));
+							}
+							
+						} else if(generateNormals) {
+							
+							normals = new ArrayList<>();
+							
+							for(int index = 0; index < vertices.size(); index++) {
+								
+								normals.add(new Vector3f());
+							}
+							
+							for(int index = 0; index < indexCount; index += 3) {
+								
+								Vector3f vert1 = vertices.get(indices[index]);
+								Vector3f vert2 = vertices.get(indices[index + 1]);
+								Vector3f vert3 = vertices.get(indices[index + 2]);
+								
+								Vector3f v1 = new Vector3f(vert2);
+								v1.sub(vert1);
+								
+								Vector3f v2 = new Vector3f(vert3);
+								v2.sub(vert1);
+								v2.cross(v2, v1);
+								v2.normalize();
+								
+								normals.get(indices[index]).add(v2);
+								normals.get(indices[index + 1]).add(v2);
+								normals.get(indices[index + 2]).add(v2);
+							}
+							
+							for(Vector3f normal : normals) {
+								
+								normal.normalize();
+								normal.negate();
+							}
+						}
+						
+						for(Vector3f vertex : vertices) {
+							
+							out.write(String.format("v %s %s %s\n", vertex.x, vertex.y, vertex.z).getBytes());
+						}
+						
+						if(hasTexCoords) {
+							
+							for(Vector2f texCoord : texCoords) {
+								
+								out.write(String.format("vt %s %s\n", texCoord.x, texCoord.y).getBytes());
+							}
+						}
+						
+						if(hasNormals) {
+							
+							for(Vector3f normal : normals) {
+								
+								out.write(String.format("vn %s %s %s\n", normal.x, normal.y, normal.z).getBytes());
+							}
+						}
+						
+						if(!hasTexCoords && !hasNormals) {
+							
+							for(int index = 0; index < indices.length; index += 3) {
+
+								out.write(String.format("f %s %s %s\n", index, index + 1, index + 2).getBytes());
+							}
+							
+						} else if(!hasTexCoords && hasNormals) {
+							
+							for(int index = 0; index < indices.length; index += 3) {
+
+								int i2 = index + 1;
+								int i3 = index + 3;
+								out.write(String.format("f %s//%s %s//%s %s//%s\n", index, index, i2, i2, i3, i3).getBytes());
+							}
+							
+						} else if(hasTexCoords && !hasNormals) {
+							
+							for(int index = 0; index < indices.length; index += 3) {
+								
+								int i2 = index + 1;
+								int i3 = index + 3;
+								out.write(String.format("f %s/%s %s/%s %s/%s\n", index, index, i2, i2, i3, i3).getBytes());
+							}
+							
+						} else if(hasTexCoords && hasNormals) {
+							
+							for(int index = 0; index < indices.length; index += 3) {
+								
+								int i2 = index + 1;
+								int i3 = index + 3;
+								out.write(String.format("f %s/%s/%s %s/%s/%s %s/%s/%s\n", index, index, index, i2, i2, i2, i3, i3, i3).getBytes());
+							}
+						}
+						
+					} else {
+						
+						throw new IOException("Not a XMESH file!");
+					}
+				}
+				
+			} else {
+				
+				// TODO
+			}
+		}
+	}
+	
+	/**
+	 * Converts all meshes in a directory tree in parallel. If there is an OBJ and a XMESH file with the same name, only the OBJ file is converted,
+	 * because it is the one the artists work with. Simplified meshes that were written by an earlier run are skipped.
+	 * Files that can't be converted are reported and skipped.
+	 * @param sourceDirectory the source directory
+	 * @param targetDirectory the target directory, can be the same as the source directory
+	 * @param optimize {@code true} if the triangles and vertices should be reordered for the vertex cache of the GPU
+	 * @param lods {@code true} if simplified meshes should be written
+	 * @throws IOException if an I/O error occurred
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void convertDirectory(File sourceDirectory, File targetDirectory, boolean optimize, boolean lods) throws IOException {
+		
+		Path root = sourceDirectory.toPath();
+		List<Path> sources;
+		
+		try(Stream<Path> files = Files.walk(root)) {
+			
+			sources = files.filter(path -> {
+				
+				String name = path.getFileName().toString().toLowerCase();
+				
+				if(name.endsWith(".obj")) {
+					
+					return true;
+				}
+				
+				return name.endsWith(".xmesh") && !name.matches(".*\\.lod\\d+\\.xmesh") && !Files.exists(path.resolveSibling(MeshConverter.getBaseName(path.getFileName().toString()) + ".obj"));
+				
+			}).collect(Collectors.toList());
+		}
+		
+		sources.parallelStream().forEach(path -> {
+			
+			Path relative = root.relativize(path);
+			File target = new File(targetDirectory, relative.resolveSibling(MeshConverter.getBaseName(relative.getFileName().toString()) + ".xmesh").toString());
+			target.getParentFile().mkdirs();
+			
+			try {
+				
+				System.out.println(relative + ": " + MeshConverter.convertToXMesh(path.toFile(), target, optimize, lods));
+				
+			} catch(IOException | RuntimeException exception) {
+				
+				// One broken file should not stop the others
+				System.err.println(relative + ": " + exception);
+			}
+		});
+	}
+	
+	/**
+	 * Converts an OBJ or XMESH file into a XMESH file.
+	 * @param source the source file
+	 * @param target the target file
+	 * @param optimize {@code true} if the triangles and vertices should be reordered for the vertex cache of the GPU
+	 * @param lods {@code true} if simplified meshes should be written next to the target file
+	 * @return a short report of what was done
+	 * @throws IOException if an I/O error occurred
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final String convertToXMesh(File source, File target, boolean optimize, boolean lods) throws IOException {
+		
+		MeshData data = source.getName().toLowerCase().endsWith(".obj") ? new ObjMeshReader().read(new FileInputStream(source)) : new XMeshReader().read(new FileInputStream(source));
+		StringBuilder report = new StringBuilder();
+		report.append(data.getIndices().length / 3).append(" triangles");
+		
+		if(optimize) {
+			
+			int vertexCount = data.getVertices().length / 3;
+			float before = MeshUtil.calculateACMR(data.getIndices(), vertexCount, MeshUtil.DEFAULT_ACMR_CACHE_SIZE);
+			MeshUtil.optimize(data);
+			vertexCount = data.getVertices().length / 3;
+			float after = MeshUtil.calculateACMR(data.getIndices(), vertexCount, MeshUtil.DEFAULT_ACMR_CACHE_SIZE);
+			report.append(String.format(", ACMR (cache size %d): %.3f -> %.3f", MeshUtil.DEFAULT_ACMR_CACHE_SIZE, before, after));
+		}
+		
+		if(lods) {
+			
+			MeshData[] chain = MeshSimplifier.createLODChain(data, LOD_LEVELS, LOD_RATIO, LOD_ERROR);
+			String baseName = MeshConverter.getBaseName(target.getName());
+			report.append(", LODs:");
+			
+			for(int level = 0; level < chain.length; level++) {
+				
+				new XMeshWriter().write(new FileOutputStream(new File(target.getParentFile(), baseName + ".lod" + (level + 1) + ".xmesh")), chain[level]);
+				report.append(' ').append(chain[level].getIndices().length / 3);
+			}
+		}
+		
+		new XMeshWriter().write(new FileOutputStream(target), data);
+		return report.toString();
+	}
+	
+	/**
+	 * @param fileName the name of a file
+	 * @return the name without the extension
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final String getBaseName(String fileName) {
+		
+		int dot = fileName.lastIndexOf('.');
+		return dot != -1 ? fileName.substring(0, dot) : fileName;
+	}
+}
@@ -1,18 +1,18 @@
-package de.ralleytn.engine.caveman;
-
-/**
- * Enumeration of directions for {@linkplain Movable#move(Direction, float)}.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 14.08.2018/0.1.0
- * @since 14.08.2018/0.1.0
- */
-public enum Direction {
-
-	
-	/** @since 14.08.2018/0.1.0 */ FORWARD,
-	/** @since 14.08.2018/0.1.0 */ BACKWARD,
-	/** @since 14.08.2018/0.1.0 */ LEFT,
-	/** @since 14.08.2018/0.1.0 */ RIGHT,
-	/** @since 14.08.2018/0.1.0 */ UP,
-	/** @since 14.08.2018/0.1.0 */ DOWN;
-}
+package de.ralleytn.engine.caveman;
+
+/**
+ * Enumeration of directions for {@linkplain Movable#move(Direction, float)}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 14.08.2018/0.1.0
+ * @since 14.08.2018/0.1.0
+ */
+public enum Direction {
+
+	
+	/** @since 14.08.2018/0.1.0 */ FORWARD,
+	/** @since 14.08.2018/0.1.0 */ BACKWARD,
+	/** @since 14.08.2018/0.1.0 */ LEFT,
+	/** @since 14.08.2018/0.1.0 */ RIGHT,
+	/** @since 14.08.2018/0.1.0 */ UP,
+	/** @since 14.08.2018/0.1.0 */ DOWN;
+}
@@ -1,341 +1,462 @@
-package de.ralleytn.engine.caveman;
-
-import javax.vecmath.Matrix4f;
-import javax.vecmath.Vector3f;
-
-import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
-import de.ralleytn.engine.caveman.rendering.geom.Mesh;
-import de.ralleytn.engine.caveman.util.MatrixUtil;
-
-/**
- * Represents an entity. An entity is a transformable and updatable object on the scene.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 08.09.2018/0.4.0
- * @since 30.07.2018/0.1.0
- */
-public class Entity extends RenderableObject implements Transformable, Updatable, Comparable<Entity> {
-	
-	private static long ID_SUPPLY = Long.MIN_VALUE;
-	
-	private Vector3f translation;
-	private Vector3f rotation;
-	private Vector3f scale;
-	private Mesh mesh;
-	private float renderDistance;
-	private long id;
-	private AxisAlignedBox aabb;
-	
-	/**
-	 * @since 30.07.2018/0.1.0
-	 */
-	public Entity() {
-		
-		this.translation = new Vector3f();
-		this.rotation = new Vector3f();
-		this.scale = new Vector3f(1.0F, 1.0F, 1.0F);
-		this.transformation = new Matrix4f();
-		this.rendering = true;
-		this.aabb = new AxisAlignedBox();
-		this.renderDistance = 1000.0F;
-		this.calcTransformationMatrix();
-		this.assignID();
-	}
-	
-	/**
-	 * 
-	 * @since 04.09.2018/0.4.0
-	 */
-	private final void assignID() {
-		
-		long id = ID_SUPPLY++;
-		id = id != 0 ? id : ID_SUPPLY++;
-		this.id = id;
-	}
-	
-	/**
-	 * Sets the render distance.
-	 * If the distance between the player and the entity is higher than the render distance, the object will no longer be rendered.
-	 * @param renderDistance the render distance
-	 * @since 26.08.2018/0.3.0
-	 */
-	public void setRenderDistance(float renderDistance) {
-		
-		this.renderDistance = renderDistance;
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void setRotation(float x, float y, float z) {
-
-		Transformable.super.setRotation(x, y, z);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void setRotation(Vector3f newRotation) {
-
-		Transformable.super.setRotation(newRotation);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void setScale(float x, float y, float z) {
-
-		Transformable.super.setScale(x, y, z);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void setScale(Vector3f newScale) {
-
-		Transformable.super.setScale(newScale);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void setTranslation(float x, float y, float z) {
-
-		Transformable.super.setTranslation(x, y, z);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void setTranslation(Vector3f newTranslation) {
-
-		Transformable.super.setTranslation(newTranslation);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void scale(float x, float y, float z) {
-
-		Transformable.super.scale(x, y, z);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void scale(Vector3f factor) {
-
-		Transformable.super.scale(factor);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void rotate(float x, float y, float z) {
-
-		Transformable.super.rotate(x, y, z);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void rotate(Vector3f velocity) {
-
-		Transformable.super.rotate(velocity);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void translate(float x, float y, float z) {
-
-		Transformable.super.translate(x, y, z);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * <br><i>Calling this method will recalculate the transformation matrix</i>
-	 */
-	@Override
-	public void translate(Vector3f velocity) {
-
-		Transformable.super.translate(velocity);
-		this.calcBoundingBoxes();
-	}
-	
-	/**
-	 * 
-	 * @since 05.09.2018/0.4.0
-	 */
-	public void calcBoundingBoxes() {
-		
-		if(this.mesh != null) {
-			
-			float[] vertices = this.mesh.getVertexArray().getBuffer(0).getDataAsFloats();
-			
-			float xaabbn = Float.MAX_VALUE;
-			float yaabbn = xaabbn;
-			float zaabbn = xaabbn;
-			
-			float xaabbf = -Float.MAX_VALUE;
-			float yaabbf = xaabbf;
-			float zaabbf = xaabbf;
-			
-			for(int index = 0; index < vertices.length; index += 3) {
-
-				Vector3f vertex = MatrixUtil.multiply(this.transformation, vertices[index], vertices[index + 1], vertices[index + 2]);
-				
-				float xaabb = vertex.x;
-				float yaabb = vertex.y;
-				float zaabb = vertex.z;
-				
-				if(xaabb < xaabbn) xaabbn = xaabb; else if(xaabb > xaabbf) xaabbf = xaabb;
-				if(yaabb < yaabbn) yaabbn = yaabb; else if(yaabb > yaabbf) yaabbf = yaabb;
-				if(zaabb < zaabbn) zaabbn = zaabb; else if(zaabb > zaabbf) zaabbf = zaabb;
-			}
-			
-			float waabb = xaabbf - xaabbn;
-			float haabb = yaabbf - yaabbn;
-			float daabb = zaabbf - zaabbn;
-
-			this.aabb.set(xaabbn, yaabbn, zaabbn, waabb, haabb, daabb);
-		}
-	}
-	
-	/**
-	 * Sets the mesh that this entity should use.
-	 * @param mesh the mesh
-	 * @since 10.08.2018/0.1.0
-	 */
-	public void setMesh(Mesh mesh) {
-		
-		if(this.mesh != null) {
-			
-			this.mesh.dispose();
-		}
-		
-		this.mesh = mesh;
-	}
-
-	@Override
-	public Vector3f getTranslation() {
-		
-		return this.translation;
-	}
-
-	@Override
-	public Vector3f getRotation() {
-		
-		return this.rotation;
-	}
-
-	@Override
-	public Vector3f getScale() {
-		
-		return this.scale;
-	}
-	
-	public Matrix4f getTransformation() {
-		
-		return this.transformation;
-	}
-	
-	/**
-	 * @return the mesh
-	 * @since 22.08.2018/0.2.0
-	 */
-	public Mesh getMesh() {
-		
-		return this.mesh;
-	}
-
-	@Override
-	public void update(float delta) {}
-	
-	/**
-	 * @return the render distance
-	 * @since 26.08.2018/0.3.0
-	 */
-	public float getRenderDistance() {
-		
-		return this.renderDistance;
-	}
-	
-	/**
-	 * 
-	 * @return
-	 * @since 04.09.2018/0.4.0
-	 */
-	public final long getID() {
-		
-		return this.id;
-	}
-	
-	/**
-	 * 
-	 * @return
-	 * @since 04.09.2018/0.4.0
-	 */
-	private final int getSortValue() {
-		
-		return this.material.hashCode() * this.mesh.hashCode();
-	}
-	
-	/**
-	 * 
-	 * @return
-	 * @since 04.09.2018/0.4.0
-	 */
-	public Entity copy() {
-		
-		Entity entity = new Entity();
-		entity.material = this.material;
-		entity.mesh = this.mesh;
-		entity.rendering = this.rendering;
-		entity.rotation = new Vector3f(this.rotation);
-		entity.scale = new Vector3f(this.scale);
-		entity.translation = new Vector3f(this.translation);
-		entity.transformation = new Matrix4f(this.transformation);
-		entity.shaderPipeline = this.shaderPipeline;
-		
-		return entity;
-	}
-	
-	@Override
-	public int compareTo(Entity o) {
-		
-		int sortValue = this.getSortValue();
-		int oSortValue = o.getSortValue();
-		return sortValue == oSortValue ? 0 : (sortValue > oSortValue ? 1 : -1);
-	}
-	
-	/**
-	 * 
-	 * @return
-	 * @since 05.09.2018/0.4.0
-	 */
-	public AxisAlignedBox getAABB() {
-		
-		return this.aabb;
-	}
-}
+package de.ralleytn.engine.caveman;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.spatial.SpatialHashGrid;
+
+/**
+ * Represents an entity. An entity is a transformable and updatable object on the scene.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 30.07.2018/0.1.0
+ */
+public class Entity extends RenderableObject implements Transformable, Updatable, Disposable {
+	
+	// The scene uses the ID as key, so it has to stay unique even if entities are created by parallel updates
+	private static final AtomicLong ID_SUPPLY = new AtomicLong(Long.MIN_VALUE);
+	
+	// The screen size has to leave the threshold by this fraction before the level of detail changes again, so that it doesn't flicker at the border
+	private static final float LOD_HYSTERESIS = 0.1F;
+	
+	// Translation, rotation, scale, matrix and bounds live in the transform store, the entity is just a handle to its slot
+	private final TransformStore store;
+	private final int slot;
+	private Mesh mesh;
+	private Mesh[] lods;
+	private float[] lodScreenSizes;
+	private int lodLevel;
+	private float renderDistance;
+	private long id;
+	private AxisAlignedBox aabb;
+	
+	private boolean dynamic;
+	private boolean disposed;
+	
+	// Handle in the spatial index of the scene, -1 if the entity is not part of a scene
+	int spatialHandle;
+	
+	// Only set for dynamic entities, which move to their new cell as soon as they are translated
+	SpatialHashGrid<Entity> grid;
+	private Vector3f gridPosition;
+	
+	/**
+	 * @since 30.07.2018/0.1.0
+	 */
+	public Entity() {
+		
+		this.store = TransformStore.getDefault();
+		this.slot = this.store.allocate();
+		this.rendering = true;
+		this.aabb = new AxisAlignedBox();
+		this.renderDistance = 1000.0F;
+		this.spatialHandle = -1;
+		this.assignID();
+	}
+	
+	/**
+	 * Frees the slot of this entity in the {@linkplain TransformStore}, so that it can be used by the next entity.
+	 * The entity has to be removed from the scene before and must not be used anymore afterwards.
+	 * The mesh is not disposed, because copies of the entity share it.
+	 * @since 18.10.2026/0.5.0
+	 */
+	@Override
+	public void dispose() {
+		
+		if(!this.disposed) {
+			
+			this.disposed = true;
+			this.store.free(this.slot);
+		}
+	}
+	
+	@Override
+	public boolean isDisposed() {
+		
+		return this.disposed;
+	}
+	
+	/**
+	 * 
+	 * @since 04.09.2018/0.4.0
+	 */
+	private final void assignID() {
+		
+		long id = ID_SUPPLY.getAndIncrement();
+		id = id != 0 ? id : ID_SUPPLY.getAndIncrement();
+		this.id = id;
+	}
+	
+	/**
+	 * Sets the render distance.
+	 * If the distance between the player and the entity is higher than the render distance, the object will no longer be rendered.
+	 * @param renderDistance the render distance
+	 * @since 26.08.2018/0.3.0
+	 */
+	public void setRenderDistance(float renderDistance) {
+		
+		this.renderDistance = renderDistance;
+	}
+	
+	/**
+	 * Only marks the transformation matrix and the bounding box as dirty.
+	 * Both are recalculated once when they are read the next time or by {@link TransformStore#update()}.
+	 */
+	@Override
+	public void invalidateTransformation() {
+		
+		this.store.invalidate(this.slot);
+	}
+	
+	/**
+	 * Recalculates the transformation matrix and the bounding box right away.
+	 */
+	@Override
+	public void calcTransformationMatrix() {
+		
+		this.store.recalc(this.slot);
+	}
+	
+	/**
+	 * Calculates the world space bounding box by transforming the local bounds of the mesh.
+	 * The vertices of the mesh are not touched, only the 8 corners of its local bounding box.
+	 * @since 05.09.2018/0.4.0
+	 */
+	public void calcBoundingBoxes() {
+		
+		this.store.recalc(this.slot);
+	}
+	
+	@Override
+	public void setTranslation(float x, float y, float z) {
+		
+		this.store.setTranslation(this.slot, x, y, z);
+		this.moveInGrid();
+	}
+	
+	@Override
+	public void setTranslation(Vector3f newTranslation) {
+		
+		this.store.setTranslation(this.slot, newTranslation.x, newTranslation.y, newTranslation.z);
+		this.moveInGrid();
+	}
+	
+	@Override
+	public void translate(float xVelocity, float yVelocity, float zVelocity) {
+		
+		this.store.translate(this.slot, xVelocity, yVelocity, zVelocity);
+		this.moveInGrid();
+	}
+	
+	@Override
+	public void translate(Vector3f velocity) {
+		
+		this.store.translate(this.slot, velocity.x, velocity.y, velocity.z);
+		this.moveInGrid();
+	}
+	
+	@Override
+	public void setRotation(float x, float y, float z) {
+		
+		this.store.setRotation(this.slot, x, y, z);
+	}
+	
+	@Override
+	public void setRotation(Vector3f newRotation) {
+		
+		this.store.setRotation(this.slot, newRotation.x, newRotation.y, newRotation.z);
+	}
+	
+	@Override
+	public void rotate(float x, float y, float z) {
+		
+		this.store.rotate(this.slot, x, y, z);
+	}
+	
+	@Override
+	public void rotate(Vector3f velocity) {
+		
+		this.store.rotate(this.slot, velocity.x, velocity.y, velocity.z);
+	}
+	
+	@Override
+	public void setScale(float x, float y, float z) {
+		
+		this.store.setScale(this.slot, x, y, z);
+	}
+	
+	@Override
+	public void setScale(Vector3f newScale) {
+		
+		this.store.setScale(this.slot, newScale.x, newScale.y, newScale.z);
+	}
+	
+	@Override
+	public void scale(float x, float y, float z) {
+		
+		this.store.scale(this.slot, x, y, z);
+	}
+	
+	@Override
+	public void scale(Vector3f units) {
+		
+		this.store.addScale(this.slot, units.x, units.y, units.z);
+	}
+	
+	/**
+	 * Moves this entity in the spatial hash grid of the scene if it is dynamic.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void moveInGrid() {
+		
+		SpatialHashGrid<Entity> grid = this.grid;
+		
+		if(grid != null) {
+			
+			if(this.gridPosition == null) {
+				
+				this.gridPosition = new Vector3f();
+			}
+			
+			this.store.getTranslation(this.slot, this.gridPosition);
+			grid.move(this.spatialHandle, this.gridPosition.x, this.gridPosition.y, this.gridPosition.z);
+		}
+	}
+	
+	/**
+	 * Marks this entity as dynamic. Dynamic entities are expected to move every frame, like NPCs or projectiles.
+	 * The {@linkplain Scene} keeps them in a spatial hash grid instead of the octree, because moving them in a tree would be too expensive.
+	 * Has to be set before the entity is added to the scene.
+	 * @param dynamic {@code true} if the entity moves all the time, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setDynamic(boolean dynamic) {
+		
+		this.dynamic = dynamic;
+	}
+	
+	/**
+	 * Sets the mesh that this entity should use.
+	 * @param mesh the mesh
+	 * @since 10.08.2018/0.1.0
+	 */
+	public void setMesh(Mesh mesh) {
+		
+		if(this.mesh != null) {
+			
+			this.mesh.dispose();
+		}
+		
+		this.mesh = mesh;
+		this.store.setLocalBounds(this.slot, mesh != null ? mesh.getAABB() : null);
+	}
+
+	/**
+	 * Sets simpler versions of the mesh that are rendered instead of it while the entity covers only a small part of the screen.
+	 * They can be created with {@linkplain de.ralleytn.engine.caveman.util.MeshSimplifier}. The bounds of the entity are still taken from the mesh.
+	 * The previous simplified meshes are not disposed, because {@link #copy()} shares them between entities. The caller owns them.
+	 * @param lods the simplified meshes, beginning with the one with the most triangles; {@code null} to remove them
+	 * @param screenSizes for every simplified mesh the projected size below which it is used, as fraction of the screen height; has to be descending
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setLODs(Mesh[] lods, float[] screenSizes) {
+		
+		this.lods = lods;
+		this.lodScreenSizes = screenSizes;
+		this.lodLevel = 0;
+	}
+	
+	/**
+	 * Selects the mesh that should be rendered. The level of detail only changes if the screen size left the threshold
+	 * by a tenth of it, so that an entity at the border doesn't switch between two meshes every frame.
+	 * @param screenSize the projected size of the bounds as fraction of the screen height
+	 * @return the mesh or one of the simplified meshes
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Mesh selectMesh(float screenSize) {
+		
+		if(this.lods == null) {
+			
+			return this.mesh;
+		}
+		
+		int level = this.lodLevel;
+		
+		while(level < this.lods.length && screenSize < this.lodScreenSizes[level] * (1.0F - LOD_HYSTERESIS)) {
+			
+			level++;
+		}
+		
+		while(level > 0 && screenSize > this.lodScreenSizes[level - 1] * (1.0F + LOD_HYSTERESIS)) {
+			
+			level--;
+		}
+		
+		this.lodLevel = level;
+		return level == 0 ? this.mesh : this.lods[level - 1];
+	}
+	
+	/**
+	 * <br><i>Returns a new copy of the translation stored in the {@linkplain TransformStore} on every call, modifying it has no effect on the entity.
+	 * {@link #getTranslation(Vector3f)} avoids the allocation.</i>
+	 */
+	@Override
+	public Vector3f getTranslation() {
+		
+		return this.store.getTranslation(this.slot, new Vector3f());
+	}
+	
+	@Override
+	public Vector3f getTranslation(Vector3f destination) {
+		
+		return this.store.getTranslation(this.slot, destination);
+	}
+	
+	/**
+	 * <br><i>Returns a new copy of the rotation stored in the {@linkplain TransformStore} on every call, modifying it has no effect on the entity.
+	 * {@link #getRotation(Vector3f)} avoids the allocation.</i>
+	 */
+	@Override
+	public Vector3f getRotation() {
+		
+		return this.store.getRotation(this.slot, new Vector3f());
+	}
+	
+	@Override
+	public Vector3f getRotation(Vector3f destination) {
+		
+		return this.store.getRotation(this.slot, destination);
+	}
+	
+	/**
+	 * <br><i>Returns a new copy of the scale stored in the {@linkplain TransformStore} on every call, modifying it has no effect on the entity.
+	 * {@link #getScale(Vector3f)} avoids the allocation.</i>
+	 */
+	@Override
+	public Vector3f getScale() {
+		
+		return this.store.getScale(this.slot, new Vector3f());
+	}
+	
+	@Override
+	public Vector3f getScale(Vector3f destination) {
+		
+		return this.store.getScale(this.slot, destination);
+	}
+	
+	/**
+	 * <br><i>Recalculates the transformation matrix if it is dirty.
+	 * The returned matrix is a copy of the one in the {@linkplain TransformStore} that is only created once the matrix is read for the first time.</i>
+	 */
+	@Override
+	public Matrix4f getTransformation() {
+		
+		if(this.transformation == null) {
+			
+			this.transformation = new Matrix4f();
+		}
+		
+		return this.store.getTransformation(this.slot, this.transformation);
+	}
+	
+	/**
+	 * @return the mesh
+	 * @since 22.08.2018/0.2.0
+	 */
+	public Mesh getMesh() {
+		
+		return this.mesh;
+	}
+
+	/**
+	 * @return the simplified meshes or {@code null} if the entity has none
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Mesh[] getLODs() {
+		
+		return this.lods;
+	}
+	
+	/**
+	 * @return the level of detail that was selected last, {@code 0} is the mesh itself
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getLODLevel() {
+		
+		return this.lodLevel;
+	}
+
+	@Override
+	public void update(float delta) {}
+	
+	/**
+	 * @return the render distance
+	 * @since 26.08.2018/0.3.0
+	 */
+	public float getRenderDistance() {
+		
+		return this.renderDistance;
+	}
+	
+	/**
+	 * 
+	 * @return
+	 * @since 04.09.2018/0.4.0
+	 */
+	public final long getID() {
+		
+		return this.id;
+	}
+	
+	/**
+	 * 
+	 * @return
+	 * @since 04.09.2018/0.4.0
+	 */
+	public Entity copy() {
+		
+		Entity entity = new Entity();
+		entity.material = this.material;
+		entity.mesh = this.mesh;
+		entity.lods = this.lods;
+		entity.lodScreenSizes = this.lodScreenSizes;
+		entity.rendering = this.rendering;
+		entity.dynamic = this.dynamic;
+		entity.shaderPipeline = this.shaderPipeline;
+		this.store.copy(this.slot, entity.slot);
+		
+		return entity;
+	}
+	
+	/**
+	 * 
+	 * @return
+	 * @since 05.09.2018/0.4.0
+	 */
+	public AxisAlignedBox getAABB() {
+		
+		return this.store.getBounds(this.slot, this.aabb);
+	}
+	
+	/**
+	 * @return {@code true} if this entity moves all the time, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isDynamic() {
+		
+		return this.dynamic;
+	}
+	
+	/**
+	 * @return the slot of this entity in the {@linkplain TransformStore}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public final int getSlot() {
+		
+		return this.slot;
+	}
+}
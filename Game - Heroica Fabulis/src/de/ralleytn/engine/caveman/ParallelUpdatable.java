@@ -0,0 +1,12 @@
+package de.ralleytn.engine.caveman;
+
+/**
+ * Marks an {@linkplain Updatable} whose {@link #update(float)} may be called on any thread and at the same time as the updates of other objects.
+ * The {@linkplain Scene} updates entities that implement this interface in parallel before the remaining entities are updated on the main thread.
+ * <br><br>An implementation must only modify its own state. It must not make any OpenGL calls and must not modify shared state like other entities,
+ * the camera or static fields. Adding entities to and removing entities from the {@linkplain Scene} is allowed, these changes are buffered until all entities were updated.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public interface ParallelUpdatable extends Updatable {}
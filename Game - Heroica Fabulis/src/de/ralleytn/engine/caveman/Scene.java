@@ -1,146 +1,971 @@
-package de.ralleytn.engine.caveman;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
-import de.ralleytn.engine.caveman.rendering.Graphics3D;
-import de.ralleytn.engine.caveman.rendering.Renderable;
-import de.ralleytn.engine.caveman.rendering.light.Light;
-import de.ralleytn.engine.caveman.util.VectorUtil;
-
-/**
- * Represents the currently processed universe.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 04.09.2018/0.4.0
- * @since 31.07.2018/0.1.0
- */
-public class Scene implements Renderable, Updatable {
-
-	private final Game game;
-	
-	private List<Entity> entities;
-	private List<Terrain> terrain;
-	private Light sun;
-	
-	/**
-	 * @param game the instance of {@linkplain Game} this scene belongs to
-	 * @since 05.08.2018
-	 */
-	public Scene(Game game) {
-		
-		this.game = game;
-		this.entities = new ArrayList<>();
-		this.terrain = new ArrayList<>();
-	}
-	
-	/**
-	 * Adds an entity to the scene.
-	 * @param entity the entity
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void addEntity(Entity entity) {
-		
-		this.entities.add(entity);
-	}
-	
-	/**
-	 * Adds a terrain tile.
-	 * @param terrain the terrain tile
-	 * @since 21.08.2018/0.2.0
-	 */
-	public void addTerrain(Terrain terrain) {
-		
-		this.terrain.add(terrain);
-	}
-	
-	/**
-	 * Temporary method to add light to the scene until multiple light sources are a thing.
-	 * @param sun the light source
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void setSun(Light sun) {
-		
-		this.sun = sun;
-	}
-	
-	/**
-	 * Removes an entity from the scene.
-	 * @param entity the entity
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void removeEntity(Entity entity) {
-		
-		this.entities.remove(entity);
-	}
-	
-	/**
-	 * Removes a terrain tile.
-	 * @param terrain the terrain tile
-	 * @since 21.08.2018/0.2.0
-	 */
-	public void removeTerrain(Terrain terrain) {
-		
-		this.terrain.remove(terrain);
-	}
-	
-	/**
-	 * 
-	 * @since 04.09.2018/0.4.0
-	 */
-	public void compact() {
-		
-		Collections.sort(this.entities);
-	}
-	
-	/**
-	 * Removes everything from the scene.
-	 * @since 05.08.2018/0.1.0
-	 */
-	public void clear() {
-		
-		this.entities.clear();
-		this.terrain.clear();
-		this.sun = null;
-	}
-	
-	@Override
-	public void update(float delta) {
-		
-		for(Entity entity : this.entities) {
-
-			entity.update(delta);
-		}
-	}
-
-	@Override
-	public void render(Graphics3D graphics) {
-		
-		for(Entity entity : this.entities) {
-
-			if(entity.isRendering() &&
-			   VectorUtil.getAbsoluteDistance(this.game.getCamera().getTranslation(), entity.getTranslation()) <= entity.getRenderDistance() /*&&
-			   this.game.getCamera().getFrustum().getOBB().intersects(entity.getOBB())*/) {
-				
-				graphics.renderEntity(entity);
-			}
-		}
-		
-		for(Terrain terrain : this.terrain) {
-			
-			if(terrain.isRendering()) {
-				
-				graphics.renderTerrain(terrain);
-			}
-		}
-	}
-	
-	/**
-	 * @return the light source
-	 * @since 11.08.2018/0.1.0
-	 */
-	public Light getSun() {
-		
-		return this.sun;
-	}
-}
+package de.ralleytn.engine.caveman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.ecs.BoundsSystem;
+import de.ralleytn.engine.caveman.ecs.Chunk;
+import de.ralleytn.engine.caveman.ecs.ComponentType;
+import de.ralleytn.engine.caveman.ecs.Components;
+import de.ralleytn.engine.caveman.ecs.MovementSystem;
+import de.ralleytn.engine.caveman.ecs.SystemScheduler;
+import de.ralleytn.engine.caveman.ecs.TransformSystem;
+import de.ralleytn.engine.caveman.ecs.World;
+import de.ralleytn.engine.caveman.rendering.Graphics3D;
+import de.ralleytn.engine.caveman.rendering.RenderQueue;
+import de.ralleytn.engine.caveman.rendering.Renderable;
+import de.ralleytn.engine.caveman.rendering.camera.Camera;
+import de.ralleytn.engine.caveman.rendering.camera.Frustum;
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.rendering.light.Light;
+import de.ralleytn.engine.caveman.rendering.shader.Material;
+import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
+import de.ralleytn.engine.caveman.spatial.LooseOctree;
+import de.ralleytn.engine.caveman.spatial.SpatialHashGrid;
+import de.ralleytn.engine.caveman.spatial.SpatialVisitor;
+import de.ralleytn.engine.caveman.util.LongIntHashMap;
+import de.ralleytn.engine.caveman.util.MathUtil;
+
+/**
+ * Represents the currently processed universe.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 31.07.2018/0.1.0
+ */
+public class Scene implements Renderable, Updatable {
+
+	// Entities that don't override Entity#update(float) don't have to be updated at all
+	private static final ClassValue<Boolean> UPDATING = new ClassValue<Boolean>() {
+		
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			
+			try {
+				
+				return type.getMethod("update", float.class).getDeclaringClass() != Entity.class;
+				
+			} catch(NoSuchMethodException exception) {
+				
+				return true;
+			}
+		}
+	};
+	
+	// Below this amount of parallel entities the overhead of the fork join framework is not worth it
+	private static final int PARALLEL_THRESHOLD = 64;
+	
+	// Amount of entities that are updated or queued by a single task
+	private static final int PARALLEL_BATCH_SIZE = 32;
+	
+	// Root cell of the spatial index. Entities outside of it still work, but are tested by every query.
+	private static final float SPATIAL_INDEX_HALF_SIZE = 8192.0F;
+	private static final int SPATIAL_INDEX_DEPTH = 9;
+	
+	// Cell size of the spatial hash grid for dynamic entities
+	private static final float DYNAMIC_CELL_SIZE = 16.0F;
+	
+	private static final long RENDER_MASK = ComponentType.mask(Components.MATRIX, Components.MESH, Components.MATERIAL, Components.SHADER_PIPELINE);
+	
+	private final Game game;
+	private final World world;
+	private final SystemScheduler scheduler;
+	private final List<Chunk> renderChunks;
+	private final RenderQueue renderQueue;
+	private final LooseOctree<Entity> spatialIndex;
+	private final SpatialHashGrid<Entity> dynamicIndex;
+	private final Vector3f translation;
+	private final SpatialVisitor<Entity> candidateCollector;
+	
+	private final List<Entity> parallelEntities;
+	private final List<Entity> dynamicEntities;
+	private final CommandBuffer commands;
+	
+	// Maps the ID of an entity to its index in the lists above, so that it can be removed by swapping in the last entity
+	private final LongIntHashMap entityIndices;
+	private final LongIntHashMap parallelIndices;
+	private final LongIntHashMap dynamicIndices;
+	private List<Entity> entities;
+	private List<Terrain> terrain;
+	private boolean parallel;
+	private volatile boolean locked;
+	private Light sun;
+	private int visibleObjectCount;
+	private int culledObjectCount;
+	private Entity[] candidates;
+	
+	// Maps the slot of an entity in the TransformStore to the entity, so that moved slots can be synchronized without looking at every entity
+	private Entity[] entitiesBySlot;
+	private final IntConsumer movedCollector;
+	private int candidateCount;
+	private float lodScale;
+	
+	/**
+	 * @param game the instance of {@linkplain Game} this scene belongs to
+	 * @since 05.08.2018
+	 */
+	public Scene(Game game) {
+		
+		this.game = game;
+		this.entities = new ArrayList<>();
+		this.terrain = new ArrayList<>();
+		this.parallelEntities = new ArrayList<>();
+		this.dynamicEntities = new ArrayList<>();
+		this.commands = new CommandBuffer();
+		this.entityIndices = new LongIntHashMap();
+		this.parallelIndices = new LongIntHashMap();
+		this.dynamicIndices = new LongIntHashMap();
+		this.parallel = true;
+		this.world = new World();
+		this.scheduler = new SystemScheduler(this.world);
+		this.scheduler.addSystem(new MovementSystem());
+		this.scheduler.addSystem(new TransformSystem());
+		this.scheduler.addSystem(new BoundsSystem());
+		this.renderChunks = new ArrayList<>();
+		this.renderQueue = new RenderQueue();
+		this.spatialIndex = new LooseOctree<>(0.0F, 0.0F, 0.0F, SPATIAL_INDEX_HALF_SIZE, SPATIAL_INDEX_DEPTH);
+		this.dynamicIndex = new SpatialHashGrid<>(DYNAMIC_CELL_SIZE);
+		this.translation = new Vector3f();
+		this.candidateCollector = this::addCandidate;
+		this.candidates = new Entity[256];
+		this.entitiesBySlot = new Entity[256];
+		this.movedCollector = this::syncEntity;
+	}
+	
+	/**
+	 * Adds an entity to the scene. Adding an entity that is already part of the scene does nothing.
+	 * If this method is called while the scene is being updated or rendered, the entity is added at the end of the update
+	 * or at the beginning of the next update.
+	 * @param entity the entity
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void addEntity(Entity entity) {
+		
+		if(this.locked) {
+			
+			this.commands.add(entity, true);
+			
+		} else if(!this.entityIndices.containsKey(entity.getID())) {
+			
+			TransformStore store = TransformStore.getDefault();
+			Scene.add(this.entities, this.entityIndices, entity);
+			
+			if(entity.getSlot() >= this.entitiesBySlot.length) {
+				
+				this.entitiesBySlot = Arrays.copyOf(this.entitiesBySlot, Math.max(entity.getSlot() + 1, this.entitiesBySlot.length * 2));
+			}
+			
+			this.entitiesBySlot[entity.getSlot()] = entity;
+			
+			if(entity.isDynamic()) {
+				
+				store.getTranslation(entity.getSlot(), this.translation);
+				entity.spatialHandle = this.dynamicIndex.insert(entity, this.translation.x, this.translation.y, this.translation.z, this.getRadius(entity));
+				entity.grid = this.dynamicIndex;
+				Scene.add(this.dynamicEntities, this.dynamicIndices, entity);
+				
+			} else {
+				
+				entity.spatialHandle = this.spatialIndex.insert(entity, entity.getAABB());
+			}
+			
+			if(entity instanceof ParallelUpdatable) {
+				
+				Scene.add(this.parallelEntities, this.parallelIndices, entity);
+			}
+		}
+	}
+	
+	/**
+	 * Adds a terrain tile.
+	 * @param terrain the terrain tile
+	 * @since 21.08.2018/0.2.0
+	 */
+	public void addTerrain(Terrain terrain) {
+		
+		this.terrain.add(terrain);
+	}
+	
+	/**
+	 * Temporary method to add light to the scene until multiple light sources are a thing.
+	 * @param sun the light source
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void setSun(Light sun) {
+		
+		this.sun = sun;
+	}
+	
+	/**
+	 * Removes an entity from the scene in constant time. The order of the remaining entities may change.
+	 * The entity keeps its slot in the {@linkplain TransformStore}, so that it can be added again. Call {@link Entity#dispose()} if it isn't needed anymore.
+	 * If this method is called while the scene is being updated or rendered, the entity is removed at the end of the update
+	 * or at the beginning of the next update.
+	 * @param entity the entity
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void removeEntity(Entity entity) {
+		
+		if(this.locked) {
+			
+			this.commands.add(entity, false);
+			
+		} else if(Scene.remove(this.entities, this.entityIndices, entity)) {
+			
+			this.entitiesBySlot[entity.getSlot()] = null;
+			
+			if(entity.grid != null) {
+				
+				this.dynamicIndex.remove(entity.spatialHandle);
+				Scene.remove(this.dynamicEntities, this.dynamicIndices, entity);
+				entity.grid = null;
+				
+			} else {
+				
+				this.spatialIndex.remove(entity.spatialHandle);
+			}
+			
+			entity.spatialHandle = -1;
+			
+			if(entity instanceof ParallelUpdatable) {
+				
+				Scene.remove(this.parallelEntities, this.parallelIndices, entity);
+			}
+		}
+	}
+	
+	/**
+	 * @param entities a list of entities
+	 * @param indices the indices of the entities in the list
+	 * @param entity the entity that should be appended to the list
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void add(List<Entity> entities, LongIntHashMap indices, Entity entity) {
+		
+		indices.put(entity.getID(), entities.size());
+		entities.add(entity);
+	}
+	
+	/**
+	 * Removes an entity by moving the last entity of the list into its place.
+	 * @param entities a list of entities
+	 * @param indices the indices of the entities in the list
+	 * @param entity the entity that should be removed
+	 * @return {@code true} if the entity was in the list, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final boolean remove(List<Entity> entities, LongIntHashMap indices, Entity entity) {
+		
+		int index = indices.get(entity.getID(), -1);
+		
+		if(index == -1) {
+			
+			return false;
+		}
+		
+		indices.remove(entity.getID());
+		Entity last = entities.remove(entities.size() - 1);
+		
+		if(last != entity) {
+			
+			entities.set(index, last);
+			indices.put(last.getID(), index);
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Applies the additions and removals that were made while the scene was locked in the order in which they were made.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void applyPendingChanges() {
+		
+		this.commands.apply(this);
+	}
+	
+	/**
+	 * Enables or disables the parallel update of entities that implement {@linkplain ParallelUpdatable}.
+	 * If it is disabled, every entity is updated on the calling thread.
+	 * @param parallel {@code true} to update in parallel, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setParallel(boolean parallel) {
+		
+		this.parallel = parallel;
+	}
+	
+	/**
+	 * Removes a terrain tile.
+	 * @param terrain the terrain tile
+	 * @since 21.08.2018/0.2.0
+	 */
+	public void removeTerrain(Terrain terrain) {
+		
+		this.terrain.remove(terrain);
+	}
+	
+	/**
+	 * Removes everything from the scene. The world of the entity component system is not touched.
+	 * Must not be called while the scene is being updated.
+	 * @since 05.08.2018/0.1.0
+	 */
+	public void clear() {
+		
+		for(Entity entity : this.entities) {
+			
+			entity.spatialHandle = -1;
+			entity.grid = null;
+		}
+		
+		this.entities.clear();
+		Arrays.fill(this.entitiesBySlot, null);
+		this.parallelEntities.clear();
+		this.dynamicEntities.clear();
+		this.entityIndices.clear();
+		this.parallelIndices.clear();
+		this.dynamicIndices.clear();
+		this.spatialIndex.clear();
+		this.dynamicIndex.clear();
+		this.terrain.clear();
+		this.sun = null;
+	}
+	
+	@Override
+	public void update(float delta) {
+		
+		// Frame boundary: everything that was added or removed while the last frame was rendered is applied now
+		this.applyPendingChanges();
+		this.syncSpatialIndex();
+		this.locked = true;
+		
+		try {
+			
+			int parallelCount = this.parallelEntities.size();
+			
+			if(this.parallel && parallelCount >= PARALLEL_THRESHOLD) {
+				
+				// Dynamic entities that cross a cell border are moved to their new cell after the parallel phase
+				this.dynamicIndex.setDeferred(true);
+				
+				try {
+					
+					ForkJoinPool.commonPool().invoke(new UpdateTask(this.parallelEntities, 0, parallelCount, delta));
+					
+				} finally {
+					
+					this.dynamicIndex.setDeferred(false);
+				}
+				
+			} else {
+				
+				for(int index = 0; index < parallelCount; index++) {
+					
+					this.parallelEntities.get(index).update(delta);
+				}
+			}
+			
+			// Everything else may touch OpenGL or shared state and stays on the main thread
+			for(Entity entity : this.entities) {
+
+				if(!(entity instanceof ParallelUpdatable) && UPDATING.get(entity.getClass())) {
+					
+					entity.update(delta);
+				}
+			}
+			
+		} finally {
+			
+			this.locked = false;
+		}
+		
+		this.applyPendingChanges();
+		this.scheduler.update(delta);
+		
+		// Sync point: every matrix that was changed during the update is recalculated in one go
+		TransformStore.getDefault().update();
+	}
+
+	@Override
+	public void render(Graphics3D graphics) {
+		
+		Camera camera = this.game.getCamera();
+		camera.calcFrustum();
+		graphics.beginFrame();
+		Frustum frustum = camera.getFrustum();
+		int visible = 0;
+		int culled = 0;
+		
+		for(Terrain terrain : this.terrain) {
+			
+			if(terrain.isRendering()) {
+				
+				if(frustum.intersects(terrain.getAABB()) && terrain.select(camera.getTranslation(), frustum) > 0) {
+					
+					graphics.renderTerrain(terrain);
+					visible++;
+					
+				} else {
+					
+					culled++;
+				}
+			}
+		}
+		
+		this.syncSpatialIndex();
+		this.locked = true;
+		
+		try {
+			
+			this.renderEntities(graphics, camera, visible, culled);
+			
+		} finally {
+			
+			this.locked = false;
+		}
+	}
+	
+	/**
+	 * Renders the entities and the entity component system while the scene is locked.
+	 * @param graphics the graphics context
+	 * @param camera the camera
+	 * @param visible the amount of terrain tiles that were rendered
+	 * @param culled the amount of terrain tiles that were culled
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void renderEntities(Graphics3D graphics, Camera camera, int visible, int culled) {
+		
+		Frustum frustum = camera.getFrustum();
+		Vector3f cameraTranslation = camera.getTranslation();
+		int entityCount = this.entities.size();
+		this.candidateCount = 0;
+		this.spatialIndex.queryFrustum(frustum, this.candidateCollector);
+		
+		for(Entity entity : this.dynamicEntities) {
+			
+			if(frustum.intersects(entity.getAABB())) {
+				
+				this.addCandidate(entity);
+			}
+		}
+		
+		int candidateCount = this.candidateCount;
+		
+		// Turns the ratio of radius and distance into a fraction of the screen height
+		this.lodScale = 1.0F / (float)Math.tan(Math.toRadians(camera.getFOV() * 0.5F));
+		this.renderQueue.begin(candidateCount + this.world.getEntityCount(), camera.getFarPlaneDistance());
+		
+		if(this.parallel && candidateCount >= PARALLEL_THRESHOLD) {
+			
+			culled += ForkJoinPool.commonPool().invoke(new QueueTask(cameraTranslation, 0, candidateCount));
+			
+		} else {
+			
+			culled += this.queueEntities(cameraTranslation, 0, candidateCount);
+		}
+		
+		// Entities that are not candidates failed the frustum test, either on their own or with their octree node
+		culled += entityCount - candidateCount;
+		Arrays.fill(this.candidates, 0, candidateCount, null);
+		
+		this.renderChunks.clear();
+		this.world.query(RENDER_MASK, this.renderChunks);
+		
+		for(Chunk chunk : this.renderChunks) {
+			
+			culled += this.queueChunk(chunk, frustum, cameraTranslation);
+		}
+		
+		this.renderQueue.sort();
+		graphics.render(this.renderQueue);
+		
+		this.visibleObjectCount = visible + this.renderQueue.size();
+		this.culledObjectCount = culled;
+	}
+	
+	/**
+	 * Adds an entity that passed the frustum culling to the candidates of the current frame.
+	 * @param entity the entity
+	 * @return always {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean addCandidate(Entity entity) {
+		
+		if(this.candidateCount == this.candidates.length) {
+			
+			this.candidates = Arrays.copyOf(this.candidates, this.candidateCount * 2);
+		}
+		
+		this.candidates[this.candidateCount++] = entity;
+		return true;
+	}
+	
+	/**
+	 * Adds a packet to the render queue for every candidate in the given range that is rendering and within its render distance.
+	 * Entities with simplified meshes get the one that fits their projected size.
+	 * May be called by multiple threads at the same time for different ranges.
+	 * @param camera the translation of the camera
+	 * @param from index of the first candidate (inclusive)
+	 * @param to index of the last candidate (exclusive)
+	 * @return the amount of candidates that were culled, because they are past their render distance
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final int queueEntities(Vector3f camera, int from, int to) {
+		
+		TransformStore store = TransformStore.getDefault();
+		int culled = 0;
+		
+		for(int index = from; index < to; index++) {
+			
+			Entity entity = this.candidates[index];
+			
+			if(entity.isRendering() && entity.getMesh() != null) {
+				
+				float renderDistance = entity.getRenderDistance();
+				float distanceSquared = store.getDistanceSquared(entity.getSlot(), camera.x, camera.y, camera.z);
+				
+				if(distanceSquared <= renderDistance * renderDistance) {
+					
+					float distance = (float)Math.sqrt(distanceSquared);
+					Mesh mesh = entity.getMesh();
+					
+					if(entity.getLODs() != null) {
+						
+						AxisAlignedBox box = entity.getAABB();
+						float radius = 0.5F * (float)Math.sqrt(box.width * box.width + box.height * box.height + box.depth * box.depth);
+						mesh = entity.selectMesh(radius * this.lodScale / Math.max(distance, 0.001F));
+					}
+					
+					int packet = this.renderQueue.add(mesh, entity.getMaterial(), entity.getShaderPipeline(), distance);
+					store.getTransformation(entity.getSlot(), this.renderQueue.getMatrices(), packet * 16);
+					
+				} else {
+					
+					culled++;
+				}
+			}
+		}
+		
+		return culled;
+	}
+	
+	/**
+	 * Moves every entity that was transformed since the last call to its new place in the spatial index.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void syncSpatialIndex() {
+		
+		TransformStore.getDefault().drainMoved(this.movedCollector);
+	}
+	
+	/**
+	 * Moves an entity to its new place in the spatial index if it is part of this scene.
+	 * @param slot the slot of the moved entity in the {@linkplain TransformStore}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void syncEntity(int slot) {
+		
+		Entity entity = slot < this.entitiesBySlot.length ? this.entitiesBySlot[slot] : null;
+		
+		if(entity != null) {
+			
+			if(entity.grid != null) {
+				
+				// The position in the grid is already up to date, but rotating or scaling may have changed the radius
+				this.dynamicIndex.setRadius(entity.spatialHandle, this.getRadius(entity));
+				
+			} else {
+				
+				this.spatialIndex.update(entity.spatialHandle, entity.getAABB());
+			}
+		}
+	}
+	
+	/**
+	 * @param entity a dynamic entity
+	 * @return the distance between the translation of the entity and the farthest corner of its bounds
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final float getRadius(Entity entity) {
+		
+		AxisAlignedBox box = entity.getAABB();
+		Vector3f translation = TransformStore.getDefault().getTranslation(entity.getSlot(), this.translation);
+		float dx = Math.max(Math.abs(box.x - translation.x), Math.abs(box.x + box.width - translation.x));
+		float dy = Math.max(Math.abs(box.y - translation.y), Math.abs(box.y + box.height - translation.y));
+		float dz = Math.max(Math.abs(box.z - translation.z), Math.abs(box.z + box.depth - translation.z));
+		return (float)Math.sqrt(dx * dx + dy * dy + dz * dz);
+	}
+	
+	/**
+	 * Visits every entity whose bounds intersect the given box.
+	 * The spatial index is brought up to date at the beginning of every update and before every frame,
+	 * so entities that were moved during the current update are still found at their old position.
+	 * @param box the box
+	 * @param visitor the visitor, returns {@code false} to stop the query
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void queryBox(AxisAlignedBox box, SpatialVisitor<? super Entity> visitor) {
+		
+		if(this.spatialIndex.queryBox(box.x, box.y, box.z, box.x + box.width, box.y + box.height, box.z + box.depth, visitor)) {
+			
+			this.dynamicIndex.queryBox(box.x, box.y, box.z, box.x + box.width, box.y + box.height, box.z + box.depth, visitor);
+		}
+	}
+	
+	/**
+	 * Visits every entity whose bounds intersect the given sphere, for example to find all entities near the player.
+	 * @param center the center of the sphere
+	 * @param radius the radius of the sphere
+	 * @param visitor the visitor, returns {@code false} to stop the query
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void querySphere(Vector3f center, float radius, SpatialVisitor<? super Entity> visitor) {
+		
+		if(this.spatialIndex.querySphere(center.x, center.y, center.z, radius, visitor)) {
+			
+			this.dynamicIndex.queryRadius(center.x, center.y, center.z, radius, visitor);
+		}
+	}
+	
+	/**
+	 * Visits every entity whose bounds intersect the given frustum.
+	 * @param frustum the frustum
+	 * @param visitor the visitor, returns {@code false} to stop the query
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void queryFrustum(Frustum frustum, SpatialVisitor<? super Entity> visitor) {
+		
+		if(this.spatialIndex.queryFrustum(frustum, visitor)) {
+			
+			for(Entity entity : this.dynamicEntities) {
+				
+				if(frustum.intersects(entity.getAABB()) && !visitor.visit(entity)) {
+					
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Visits every entity whose bounds are hit by a ray, in no particular order.
+	 * @param origin the origin of the ray
+	 * @param direction the normalized direction of the ray
+	 * @param maxDistance the length of the ray
+	 * @param visitor the visitor, returns {@code false} to stop the query
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void raycast(Vector3f origin, Vector3f direction, float maxDistance, SpatialVisitor<? super Entity> visitor) {
+		
+		if(this.spatialIndex.raycast(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxDistance, visitor)) {
+			
+			for(Entity entity : this.dynamicEntities) {
+				
+				if(Scene.intersectRay(origin, direction, maxDistance, entity.getAABB()) >= 0.0F && !visitor.visit(entity)) {
+					
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param origin the origin of the ray
+	 * @param direction the normalized direction of the ray
+	 * @param maxDistance the length of the ray
+	 * @return the entity whose bounds are hit first by the ray or {@code null} if nothing was hit
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Entity raycastNearest(Vector3f origin, Vector3f direction, float maxDistance) {
+		
+		Entity nearest = this.spatialIndex.raycastNearest(origin.x, origin.y, origin.z, direction.x, direction.y, direction.z, maxDistance);
+		float nearestDistance = nearest != null ? Scene.intersectRay(origin, direction, maxDistance, nearest.getAABB()) : maxDistance;
+		
+		for(Entity entity : this.dynamicEntities) {
+			
+			float distance = Scene.intersectRay(origin, direction, nearestDistance, entity.getAABB());
+			
+			if(distance >= 0.0F && (nearest == null || distance < nearestDistance)) {
+				
+				nearest = entity;
+				nearestDistance = distance;
+			}
+		}
+		
+		return nearest;
+	}
+	
+	/**
+	 * @param origin the origin of the ray
+	 * @param direction the normalized direction of the ray
+	 * @param maxDistance the length of the ray
+	 * @param box the box
+	 * @return the distance from the origin to the hit or {@code -1} if the box is not hit
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final float intersectRay(Vector3f origin, Vector3f direction, float maxDistance, AxisAlignedBox box) {
+		
+		return MathUtil.intersectRay(origin.x, origin.y, origin.z, 1.0F / direction.x, 1.0F / direction.y, 1.0F / direction.z, maxDistance, box.x, box.y, box.z, box.x + box.width, box.y + box.height, box.z + box.depth);
+	}
+	
+	/**
+	 * Culls the entities of a chunk of the entity component system and adds a packet for every visible one to the render queue.
+	 * @param chunk the chunk
+	 * @param frustum the view frustum
+	 * @param camera the translation of the camera
+	 * @return the amount of culled entities
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final int queueChunk(Chunk chunk, Frustum frustum, Vector3f camera) {
+		
+		float[] matrices = chunk.getFloats(Components.MATRIX);
+		float[] bounds = chunk.getArchetype().has(Components.BOUNDS) ? chunk.getFloats(Components.BOUNDS) : null;
+		Object[] meshes = chunk.getObjects(Components.MESH);
+		Object[] materials = chunk.getObjects(Components.MATERIAL);
+		Object[] shaderPipelines = chunk.getObjects(Components.SHADER_PIPELINE);
+		int size = chunk.size();
+		int culled = 0;
+		
+		for(int index = 0; index < size; index++) {
+			
+			if(meshes[index] != null) {
+				
+				int b = index * 12 + Components.WORLD_BOUNDS;
+				
+				if(bounds == null || frustum.intersects(bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3] - bounds[b], bounds[b + 4] - bounds[b + 1], bounds[b + 5] - bounds[b + 2])) {
+					
+					int m = index * 16;
+					float dx = matrices[m + 12] - camera.x;
+					float dy = matrices[m + 13] - camera.y;
+					float dz = matrices[m + 14] - camera.z;
+					int packet = this.renderQueue.add((Mesh)meshes[index], (Material)materials[index], (ShaderPipeline)shaderPipelines[index], (float)Math.sqrt(dx * dx + dy * dy + dz * dz));
+					System.arraycopy(matrices, m, this.renderQueue.getMatrices(), packet * 16, 16);
+					
+				} else {
+					
+					culled++;
+				}
+			}
+		}
+		
+		return culled;
+	}
+	
+	/**
+	 * @return {@code true} if entities that implement {@linkplain ParallelUpdatable} are updated in parallel, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isParallel() {
+		
+		return this.parallel;
+	}
+	
+	/**
+	 * @return the light source
+	 * @since 11.08.2018/0.1.0
+	 */
+	public Light getSun() {
+		
+		return this.sun;
+	}
+	
+	/**
+	 * Entities of the world are updated by the systems of {@link #getScheduler()} and are rendered if they have a matrix, mesh, material and shader pipeline component.
+	 * Use {@linkplain de.ralleytn.engine.caveman.ecs.EntityAdapter} to move an existing {@linkplain Entity} into the world.
+	 * @return the world of the entity component system
+	 * @since 18.10.2026/0.5.0
+	 */
+	public World getWorld() {
+		
+		return this.world;
+	}
+	
+	/**
+	 * @return the scheduler that runs the systems of {@link #getWorld()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public SystemScheduler getScheduler() {
+		
+		return this.scheduler;
+	}
+	
+	/**
+	 * @return the amount of entities and terrain tiles that were rendered in the last frame
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getVisibleObjectCount() {
+		
+		return this.visibleObjectCount;
+	}
+	
+	/**
+	 * @return the amount of entities and terrain tiles that were culled or hidden in the last frame
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getCulledObjectCount() {
+		
+		return this.culledObjectCount;
+	}
+	
+	/**
+	 * Records additions and removals of entities while the scene is locked, so that they can be applied in the same order later.
+	 * May be used by multiple threads at the same time.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class CommandBuffer {
+		
+		private Entity[] entities;
+		private boolean[] additions;
+		private int size;
+		
+		/**
+		 * @since 18.10.2026/0.5.0
+		 */
+		CommandBuffer() {
+			
+			this.entities = new Entity[64];
+			this.additions = new boolean[64];
+		}
+		
+		/**
+		 * @param entity the entity
+		 * @param addition {@code true} if the entity should be added, {@code false} if it should be removed
+		 * @since 18.10.2026/0.5.0
+		 */
+		synchronized void add(Entity entity, boolean addition) {
+			
+			if(this.size == this.entities.length) {
+				
+				this.entities = Arrays.copyOf(this.entities, this.size * 2);
+				this.additions = Arrays.copyOf(this.additions, this.size * 2);
+			}
+			
+			this.entities[this.size] = entity;
+			this.additions[this.size++] = addition;
+		}
+		
+		/**
+		 * Applies and removes all recorded commands. The scene must not be locked.
+		 * @param scene the scene
+		 * @since 18.10.2026/0.5.0
+		 */
+		synchronized void apply(Scene scene) {
+			
+			for(int index = 0; index < this.size; index++) {
+				
+				if(this.additions[index]) {
+					
+					scene.addEntity(this.entities[index]);
+					
+				} else {
+					
+					scene.removeEntity(this.entities[index]);
+				}
+			}
+			
+			Arrays.fill(this.entities, 0, this.size, null);
+			this.size = 0;
+		}
+	}
+	
+	/**
+	 * Updates a range of parallel entities and splits it in half until it is not bigger than {@value Scene#PARALLEL_BATCH_SIZE}.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class UpdateTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final List<Entity> entities;
+		private final int from;
+		private final int to;
+		private final float delta;
+		
+		/**
+		 * @param entities the entities
+		 * @param from index of the first entity (inclusive)
+		 * @param to index of the last entity (exclusive)
+		 * @param delta the time since the last update
+		 * @since 18.10.2026/0.5.0
+		 */
+		UpdateTask(List<Entity> entities, int from, int to, float delta) {
+			
+			this.entities = entities;
+			this.from = from;
+			this.to = to;
+			this.delta = delta;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			if(this.to - this.from <= PARALLEL_BATCH_SIZE) {
+				
+				for(int index = this.from; index < this.to; index++) {
+					
+					this.entities.get(index).update(this.delta);
+				}
+				
+			} else {
+				
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new UpdateTask(this.entities, this.from, middle, this.delta),
+						  new UpdateTask(this.entities, middle, this.to, this.delta));
+			}
+		}
+	}
+	
+	/**
+	 * Queues a range of candidates and splits it in half until it is not bigger than {@value Scene#PARALLEL_BATCH_SIZE}.
+	 * The result is the amount of candidates that were culled, because they are past their render distance.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final class QueueTask extends RecursiveTask<Integer> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final Vector3f camera;
+		private final int from;
+		private final int to;
+		
+		/**
+		 * @param camera the translation of the camera
+		 * @param from index of the first candidate (inclusive)
+		 * @param to index of the last candidate (exclusive)
+		 * @since 18.10.2026/0.5.0
+		 */
+		QueueTask(Vector3f camera, int from, int to) {
+			
+			this.camera = camera;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected Integer compute() {
+			
+			if(this.to - this.from <= PARALLEL_BATCH_SIZE) {
+				
+				return Scene.this.queueEntities(this.camera, this.from, this.to);
+			}
+			
+			int middle = (this.from + this.to) >>> 1;
+			QueueTask left = new QueueTask(this.camera, this.from, middle);
+			left.fork();
+			return new QueueTask(this.camera, middle, this.to).compute() + left.join();
+		}
+	}
+}
@@ -0,0 +1,407 @@
+package de.ralleytn.engine.caveman;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.vecmath.Matrix3f;
+import javax.vecmath.Matrix4f;
+
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.rendering.geom.GeometryPool;
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.rendering.geom.MeshData;
+import de.ralleytn.engine.caveman.rendering.geom.PooledMesh;
+import de.ralleytn.engine.caveman.rendering.geom.StaticMesh;
+import de.ralleytn.engine.caveman.rendering.shader.Material;
+import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
+import de.ralleytn.engine.caveman.util.MeshUtil;
+
+/**
+ * Merges entities that never move into a few large meshes, so that a scene full of rocks, fences and houses needs only a few draw calls.
+ * Entities are grouped by material, shader pipeline and cull mode. Every group is split into cells of a uniform grid and
+ * every batch holds at most a maximum amount of vertices, so that the batches are still small enough to be culled.
+ * <br><br>The vertices are transformed into world space in parallel. The created entities have no transformation of their own.
+ * {@link #build()} reads the source meshes back from the GPU and creates the batches and must therefore be called on the OpenGL thread.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class StaticBatcher {
+
+	/** @since 18.10.2026/0.5.0 */ public static final int DEFAULT_MAX_VERTEX_COUNT = 65536;
+	/** @since 18.10.2026/0.5.0 */ public static final float DEFAULT_CELL_SIZE = 64.0F;
+	
+	// Below this amount of source meshes the overhead of the fork join framework is not worth it
+	private static final int PARALLEL_THRESHOLD = 8;
+	
+	private final int maxVertexCount;
+	private final float cellSize;
+	private final Map<Group, List<Entity>> groups;
+	private GeometryPool pool;
+	
+	/**
+	 * Creates a batcher with {@value #DEFAULT_MAX_VERTEX_COUNT} vertices per batch and a cell size of {@value #DEFAULT_CELL_SIZE}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public StaticBatcher() {
+		
+		this(DEFAULT_MAX_VERTEX_COUNT, DEFAULT_CELL_SIZE);
+	}
+	
+	/**
+	 * @param maxVertexCount the maximum amount of vertices per batch
+	 * @param cellSize the edge length of the grid cells, entities in different cells are never merged
+	 * @since 18.10.2026/0.5.0
+	 */
+	public StaticBatcher(int maxVertexCount, float cellSize) {
+		
+		this.maxVertexCount = maxVertexCount;
+		this.cellSize = cellSize;
+		this.groups = new LinkedHashMap<>();
+	}
+	
+	/**
+	 * Sets the pool in which the batches should be stored.
+	 * @param pool the pool or {@code null} if every batch should get its own buffers (default)
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setPool(GeometryPool pool) {
+		
+		this.pool = pool;
+	}
+	
+	/**
+	 * Adds an entity that should be merged. Dynamic entities, entities without mesh, entities with simplified meshes and entities whose mesh alone
+	 * has more vertices than a batch may have are not added.
+	 * A batch can't switch its level of detail per entity, so entities with simplified meshes are cheaper on their own.
+	 * The entity itself is not changed, it should be removed from the scene after the batches were built.
+	 * @param entity the entity
+	 * @return {@code true} if the entity was added, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean add(Entity entity) {
+		
+		Mesh mesh = entity.getMesh();
+		
+		if(entity.isDynamic() || mesh == null || entity.getLODs() != null || mesh.getVertexCount() > this.maxVertexCount) {
+			
+			return false;
+		}
+		
+		AxisAlignedBox aabb = entity.getAABB();
+		int cellX = (int)Math.floor((aabb.x + aabb.width * 0.5F) / this.cellSize);
+		int cellY = (int)Math.floor((aabb.y + aabb.height * 0.5F) / this.cellSize);
+		int cellZ = (int)Math.floor((aabb.z + aabb.depth * 0.5F) / this.cellSize);
+		Group group = new Group(entity.getMaterial(), entity.getShaderPipeline(), mesh, cellX, cellY, cellZ);
+		this.groups.computeIfAbsent(group, key -> new ArrayList<>()).add(entity);
+		return true;
+	}
+	
+	/**
+	 * Merges all added entities and forgets them afterwards.
+	 * @return one new entity for every batch
+	 * @since 18.10.2026/0.5.0
+	 */
+	public List<Entity> build() {
+		
+		Map<Mesh, MeshData> sources = new IdentityHashMap<>();
+		List<Batch> batches = new ArrayList<>();
+		List<Part> parts = new ArrayList<>();
+		
+		for(Map.Entry<Group, List<Entity>> entry : this.groups.entrySet()) {
+			
+			Group group = entry.getKey();
+			Batch batch = null;
+			
+			for(Entity entity : entry.getValue()) {
+				
+				Mesh mesh = entity.getMesh();
+				
+				// Many entities share a mesh, it only has to be read back once
+				MeshData data = sources.get(mesh);
+				
+				if(data == null) {
+					
+					data = mesh.createMeshData();
+					sources.put(mesh, data);
+				}
+				
+				int vertexCount = data.getVertices().length / 3;
+				
+				if(batch == null || batch.vertexCount + vertexCount > this.maxVertexCount) {
+					
+					batch = new Batch(group);
+					batches.add(batch);
+				}
+				
+				parts.add(new Part(batch, data, new Matrix4f(entity.getTransformation()), batch.vertexCount, batch.indexCount));
+				batch.vertexCount += vertexCount;
+				batch.indexCount += data.getIndices().length;
+				batch.renderDistance = Math.max(batch.renderDistance, entity.getRenderDistance());
+			}
+		}
+		
+		for(Batch batch : batches) {
+			
+			batch.allocate();
+		}
+		
+		Part[] array = parts.toArray(new Part[parts.size()]);
+		
+		if(array.length >= PARALLEL_THRESHOLD) {
+			
+			ForkJoinPool.commonPool().invoke(new MergeTask(array, 0, array.length));
+		
+		} else {
+			
+			StaticBatcher.merge(array, 0, array.length);
+		}
+		
+		List<Entity> entities = new ArrayList<>(batches.size());
+		
+		for(Batch batch : batches) {
+			
+			MeshData data = new MeshData();
+			data.setVertices(batch.vertices);
+			data.setTextureCoordinates(batch.textureCoordinates);
+			data.setNormals(batch.normals);
+			data.setIndices(batch.indices);
+			
+			Mesh mesh = this.pool != null ? new PooledMesh(this.pool, data) : new StaticMesh(data);
+			mesh.setCullMode(batch.group.cullMode);
+			
+			Entity entity = new Entity();
+			entity.setMaterial(batch.group.material);
+			entity.setShaderPipeline(batch.group.shaderPipeline);
+			entity.setMesh(mesh);
+			entity.setRenderDistance(batch.renderDistance);
+			entities.add(entity);
+		}
+		
+		this.groups.clear();
+		return entities;
+	}
+	
+	/**
+	 * @param parts the parts
+	 * @param from index of the first part (inclusive)
+	 * @param to index of the last part (exclusive)
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void merge(Part[] parts, int from, int to) {
+		
+		Matrix3f normalMatrix = new Matrix3f();
+		
+		for(int index = from; index < to; index++) {
+			
+			Part part = parts[index];
+			Batch batch = part.batch;
+			MeshUtil.createNormalMatrix(part.transformation, normalMatrix);
+			MeshUtil.append(part.data, part.transformation, normalMatrix, batch.vertices, batch.textureCoordinates, batch.normals, batch.indices, part.vertexOffset, part.indexOffset);
+		}
+	}
+	
+	/**
+	 * @return the maximum amount of vertices per batch
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getMaxVertexCount() {
+		
+		return this.maxVertexCount;
+	}
+	
+	/**
+	 * @return the edge length of the grid cells
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getCellSize() {
+		
+		return this.cellSize;
+	}
+	
+	/**
+	 * Entities with the same key can be merged.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class Group {
+		
+		private final Material material;
+		private final ShaderPipeline shaderPipeline;
+		private final int cullMode;
+		private final boolean textureCoordinates;
+		private final boolean normals;
+		private final int cellX;
+		private final int cellY;
+		private final int cellZ;
+		
+		/**
+		 * @param material the material
+		 * @param shaderPipeline the shader pipeline
+		 * @param mesh the mesh
+		 * @param cellX X coordinate of the cell
+		 * @param cellY Y coordinate of the cell
+		 * @param cellZ Z coordinate of the cell
+		 * @since 18.10.2026/0.5.0
+		 */
+		Group(Material material, ShaderPipeline shaderPipeline, Mesh mesh, int cellX, int cellY, int cellZ) {
+			
+			this.material = material;
+			this.shaderPipeline = shaderPipeline;
+			this.cullMode = mesh.getCullMode();
+			this.textureCoordinates = mesh.hasTextureCoordinates();
+			this.normals = mesh.hasNormals();
+			this.cellX = cellX;
+			this.cellY = cellY;
+			this.cellZ = cellZ;
+		}
+		
+		@Override
+		public int hashCode() {
+			
+			int hash = System.identityHashCode(this.material);
+			hash = hash * 31 + System.identityHashCode(this.shaderPipeline);
+			hash = hash * 31 + this.cullMode;
+			hash = hash * 31 + (this.textureCoordinates ? 1 : 0) + (this.normals ? 2 : 0);
+			hash = hash * 31 + this.cellX;
+			hash = hash * 31 + this.cellY;
+			hash = hash * 31 + this.cellZ;
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object object) {
+			
+			if(object instanceof Group) {
+				
+				Group group = (Group)object;
+				return this.material == group.material && this.shaderPipeline == group.shaderPipeline && this.cullMode == group.cullMode &&
+					   this.textureCoordinates == group.textureCoordinates && this.normals == group.normals &&
+					   this.cellX == group.cellX && this.cellY == group.cellY && this.cellZ == group.cellZ;
+			}
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * The merged mesh of a batch.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class Batch {
+		
+		private final Group group;
+		private int vertexCount;
+		private int indexCount;
+		private float renderDistance;
+		private float[] vertices;
+		private float[] textureCoordinates;
+		private float[] normals;
+		private int[] indices;
+		
+		/**
+		 * @param group the group to which the batch belongs
+		 * @since 18.10.2026/0.5.0
+		 */
+		Batch(Group group) {
+			
+			this.group = group;
+		}
+		
+		/**
+		 * Creates the arrays once the size of the batch is known.
+		 * @since 18.10.2026/0.5.0
+		 */
+		void allocate() {
+			
+			this.vertices = new float[this.vertexCount * 3];
+			this.textureCoordinates = this.group.textureCoordinates ? new float[this.vertexCount * 2] : null;
+			this.normals = this.group.normals ? new float[this.vertexCount * 3] : null;
+			this.indices = new int[this.indexCount];
+		}
+	}
+	
+	/**
+	 * A source mesh and the place in its batch it is written to.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class Part {
+		
+		private final Batch batch;
+		private final MeshData data;
+		private final Matrix4f transformation;
+		private final int vertexOffset;
+		private final int indexOffset;
+		
+		/**
+		 * @param batch the batch
+		 * @param data the source mesh
+		 * @param transformation the transformation of the entity
+		 * @param vertexOffset index of the first vertex in the batch
+		 * @param indexOffset position of the first index in the batch
+		 * @since 18.10.2026/0.5.0
+		 */
+		Part(Batch batch, MeshData data, Matrix4f transformation, int vertexOffset, int indexOffset) {
+			
+			this.batch = batch;
+			this.data = data;
+			this.transformation = transformation;
+			this.vertexOffset = vertexOffset;
+			this.indexOffset = indexOffset;
+		}
+	}
+	
+	/**
+	 * Merges a range of parts and splits it in half until it is not bigger than {@value StaticBatcher#PARALLEL_THRESHOLD}.
+	 * Every part writes to its own range of the batch arrays, so no synchronization is needed.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class MergeTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final Part[] parts;
+		private final int from;
+		private final int to;
+		
+		/**
+		 * @param parts the parts
+		 * @param from index of the first part (inclusive)
+		 * @param to index of the last part (exclusive)
+		 * @since 18.10.2026/0.5.0
+		 */
+		MergeTask(Part[] parts, int from, int to) {
+			
+			this.parts = parts;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			if(this.to - this.from <= PARALLEL_THRESHOLD) {
+				
+				StaticBatcher.merge(this.parts, this.from, this.to);
+			
+			} else {
+				
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new MergeTask(this.parts, this.from, middle),
+						  new MergeTask(this.parts, middle, this.to));
+			}
+		}
+	}
+}
@@ -1,140 +1,461 @@
-package de.ralleytn.engine.caveman;
-
-import javax.vecmath.Matrix4f;
-import javax.vecmath.Vector2f;
-import javax.vecmath.Vector3f;
-
-import de.ralleytn.engine.caveman.rendering.geom.Mesh;
-import de.ralleytn.engine.caveman.rendering.geom.MeshData;
-import de.ralleytn.engine.caveman.rendering.geom.StaticMesh;
-import de.ralleytn.engine.caveman.util.MatrixUtil;
-import de.ralleytn.engine.caveman.util.VectorUtil;
-
-/**
- * Represents a terrain tile in the grid.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 08.09.2018/0.4.0
- * @since 21.08.2018/0.2.0
- */
-public class Terrain extends RenderableObject {
-
-	/**
-	 * The size of the grid in OpenGL units.
-	 * @since 21.08.2018/0.2.0
-	 */
-	public static final float SIZE = 200;
-	
-	/**
-	 * The amount of vertices along each axis.
-	 * @since 21.08.2018/0.2.0
-	 */
-	public static final int VERTEX_COUNT = 64;
-	
-	private Vector2f position;
-	private Mesh mesh;
-	
-	/**
-	 * @param gridX position of the tile on the X axis of the world grid
-	 * @param gridY position of the tile on the Y axis of the world grid
-	 * @since 21.08.2018/0.2.0
-	 */
-	public Terrain(int gridX, int gridY) {
-		
-		this.position = new Vector2f(gridX * SIZE, gridY * SIZE);
-		this.mesh = this.generateMesh();
-		this.transformation = new Matrix4f();
-		this.rendering = true;
-		this.calcTransformationMatrix();
-	}
-	
-	/**
-	 * 
-	 * @since 08.09.2018/0.4.0
-	 */
-	public void calcTransformationMatrix() {
-		
-		this.transformation.setIdentity();
-		MatrixUtil.translate(new Vector3f(this.position.x, 0, this.position.y), this.transformation);
-		MatrixUtil.rotate(0, VectorUtil.AXIS_X, this.transformation);
-		MatrixUtil.rotate(0, VectorUtil.AXIS_Y, this.transformation);
-		MatrixUtil.rotate(0, VectorUtil.AXIS_Z, this.transformation);
-		MatrixUtil.scale(new Vector3f(1, 1, 1), this.transformation);
-	}
-	
-	/**
-	 * Generates the mesh for this tile.
-	 * @return the generated mesh
-	 * @since 21.08.2018/0.2.0
-	 */
-	private final StaticMesh generateMesh() {
-		
-		int count = VERTEX_COUNT * VERTEX_COUNT;
-		int vcm1 = VERTEX_COUNT - 1;
-		float[] vertices = new float[count * 3];
-		float[] normals = new float[count * 3];
-		float[] texCoords = new float[count * 2];
-		int[] indices = new int[6 * vcm1 * vcm1];
-		int pointer = 0;
-		
-		for(int i = 0; i < VERTEX_COUNT; i++) {
-			
-			for(int j = 0; j < VERTEX_COUNT; j++) {
-				
-				int vp3 = pointer * 3;
-				int vp31 = vp3 + 1;
-				int vp32 = vp3 + 2;
-				int vp2 = pointer * 2;
-				
-				vertices[vp3] = (float)j / (float)vcm1 * SIZE;
-				vertices[vp31] = 0;
-				vertices[vp32] = (float)i / (float)vcm1 * SIZE;
-				
-				normals[vp3] = 0;
-				normals[vp31] = 1;
-				normals[vp32] = 0;
-				
-				texCoords[vp2] = (float)j / (float)vcm1;
-				texCoords[vp2 + 1] = (float)i / (float)vcm1;
-				
-				pointer++;
-			}
-		}
-		
-		pointer = 0;
-		
-		for(int gz = 0; gz < vcm1; gz++) {
-			
-			for(int gx = 0; gx < vcm1; gx++) {
-				
-				int topLeft = (gz * VERTEX_COUNT) + gx;
-				int topRight = topLeft + 1;
-				int bottomLeft = ((gz + 1) * VERTEX_COUNT) + gx;
-				int bottomRight = bottomLeft + 1;
-				
-				indices[pointer++] = topLeft;
-				indices[pointer++] = bottomLeft;
-				indices[pointer++] = topRight;
-				indices[pointer++] = topRight;
-				indices[pointer++] = bottomLeft;
-				indices[pointer++] = bottomRight;
-			}
-		}
-		
-		MeshData data = new MeshData();
-		data.setIndices(indices);
-		data.setNormals(normals);
-		data.setTextureCoordinates(texCoords);
-		data.setVertices(vertices);
-		
-		return new StaticMesh(data);
-	}
-	
-	/**
-	 * @return the mesh
-	 * @since 22.08.2018/0.2.0
-	 */
-	public Mesh getMesh() {
-		
-		return this.mesh;
-	}
-}
+package de.ralleytn.engine.caveman;
+
+import java.util.Arrays;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Vector2f;
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.rendering.Heightmap;
+import de.ralleytn.engine.caveman.rendering.camera.Frustum;
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.rendering.geom.MeshData;
+import de.ralleytn.engine.caveman.rendering.geom.StaticMesh;
+import de.ralleytn.engine.caveman.rendering.geom.VertexLayout;
+import de.ralleytn.engine.caveman.util.MathUtil;
+import de.ralleytn.engine.caveman.util.MatrixUtil;
+import de.ralleytn.engine.caveman.util.VectorUtil;
+
+/**
+ * Represents a terrain tile in the grid.
+ * All tiles share one flat grid mesh. The heights come from a {@linkplain Heightmap} that is sampled in the vertex shader.
+ * Every tile is a quadtree whose root covers the whole tile. Each frame, {@link #select(Vector3f, Frustum)} picks the nodes
+ * with continuous distance-based LOD (CDLOD): the closer a node is to the camera, the deeper its level.
+ * Every selected node draws the same grid scaled to its size, so the triangle count depends only on the amount of nodes
+ * and not on the size of the world. Near the end of its range, a node morphs its odd vertices onto their even neighbors,
+ * so that it looks exactly like the next coarser level when it is replaced and there are no cracks or pops.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 21.08.2018/0.2.0
+ */
+public class Terrain extends RenderableObject {
+
+	/**
+	 * The size of the grid in OpenGL units.
+	 * @since 21.08.2018/0.2.0
+	 */
+	public static final float SIZE = 200;
+	
+	/**
+	 * The amount of height samples along each axis of a heightmap, which is about as dense as the finest level of detail.
+	 * @since 21.08.2018/0.2.0
+	 */
+	public static final int VERTEX_COUNT = 64;
+	
+	/**
+	 * The amount of quads along each axis of the shared grid mesh, has to be even.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int GRID_RESOLUTION = 16;
+	
+	/**
+	 * The amount of levels of the quadtree of a tile. Level {@code 0} is the finest, the root of the tile has the highest level.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int LOD_LEVELS = 3;
+	
+	/**
+	 * The distance from the camera up to which the finest level is used. It doubles with every level.
+	 * Has to be large enough that a level is at least as wide as the diagonal of its nodes, otherwise levels are skipped and cracks appear.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final float LOD_RANGE = 200.0F;
+	
+	// The part of its range at which a level starts to morph into the next coarser level
+	private static final float MORPH_START = 0.66F;
+	
+	private static StaticMesh grid;
+	private static Heightmap flatHeightmap;
+	
+	private Vector2f position;
+	private Heightmap heightmap;
+	private AxisAlignedBox aabb;
+	private boolean transformationDirty;
+	
+	// The lowest and highest height of every node, one array per level
+	private final float[][] nodeHeights;
+	private final float[] heightRange;
+	
+	// Every selected node: x, z, size, level and the quarter of the grid that is drawn (-1 for the whole grid)
+	private float[] selection;
+	private int selectionCount;
+	
+	/**
+	 * Creates a flat tile.
+	 * @param gridX position of the tile on the X axis of the world grid
+	 * @param gridY position of the tile on the Y axis of the world grid
+	 * @since 21.08.2018/0.2.0
+	 */
+	public Terrain(int gridX, int gridY) {
+		
+		this(gridX, gridY, null);
+	}
+	
+	/**
+	 * @param gridX position of the tile on the X axis of the world grid
+	 * @param gridY position of the tile on the Y axis of the world grid
+	 * @param heightmap the heights of the tile or {@code null} if it should be flat
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Terrain(int gridX, int gridY, Heightmap heightmap) {
+		
+		this.position = new Vector2f(gridX * SIZE, gridY * SIZE);
+		this.aabb = new AxisAlignedBox();
+		this.transformation = new Matrix4f();
+		this.rendering = true;
+		this.transformationDirty = true;
+		this.nodeHeights = new float[LOD_LEVELS][];
+		this.heightRange = new float[2];
+		this.selection = new float[5 * 16];
+		
+		for(int level = 0; level < LOD_LEVELS; level++) {
+			
+			int nodes = 1 << (LOD_LEVELS - 1 - level);
+			this.nodeHeights[level] = new float[nodes * nodes * 2];
+		}
+		
+		this.setHeightmap(heightmap);
+	}
+	
+	/**
+	 * 
+	 * @since 08.09.2018/0.4.0
+	 */
+	public void calcTransformationMatrix() {
+		
+		this.transformationDirty = false;
+		this.transformation.setIdentity();
+		MatrixUtil.translate(new Vector3f(this.position.x, 0, this.position.y), this.transformation);
+		MatrixUtil.rotate(0, VectorUtil.AXIS_X, this.transformation);
+		MatrixUtil.rotate(0, VectorUtil.AXIS_Y, this.transformation);
+		MatrixUtil.rotate(0, VectorUtil.AXIS_Z, this.transformation);
+		MatrixUtil.scale(new Vector3f(1, 1, 1), this.transformation);
+	}
+	
+	/**
+	 * <br><i>The transformation matrix is calculated when it is read for the first time</i>
+	 */
+	@Override
+	public Matrix4f getTransformation() {
+		
+		if(this.transformationDirty) {
+			
+			this.calcTransformationMatrix();
+		}
+		
+		return this.transformation;
+	}
+	
+	/**
+	 * Moves this tile to another place in the world grid, so that it can be reused instead of creating a new tile.
+	 * The bounds are updated with the next call of {@link #setHeightmap(Heightmap)}.
+	 * @param gridX position of the tile on the X axis of the world grid
+	 * @param gridY position of the tile on the Y axis of the world grid
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setGridPosition(int gridX, int gridY) {
+		
+		this.position.set(gridX * SIZE, gridY * SIZE);
+		this.transformationDirty = true;
+	}
+	
+	/**
+	 * Sets the heights of this tile and updates the bounds of the tile and its nodes.
+	 * The heightmap is not disposed with the tile, because it may be shared.
+	 * @param heightmap the heightmap or {@code null} if the tile should be flat
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setHeightmap(Heightmap heightmap) {
+		
+		this.heightmap = heightmap;
+		
+		for(int level = 0; level < LOD_LEVELS; level++) {
+			
+			int nodes = 1 << (LOD_LEVELS - 1 - level);
+			float nodeSize = 1.0F / nodes;
+			float[] heights = this.nodeHeights[level];
+			
+			for(int node = 0; node < nodes * nodes; node++) {
+				
+				if(heightmap != null) {
+					
+					heightmap.getHeightRange((node % nodes) * nodeSize, (node / nodes) * nodeSize, nodeSize, this.heightRange);
+					heights[node * 2] = this.heightRange[0];
+					heights[node * 2 + 1] = this.heightRange[1];
+					
+				} else {
+					
+					heights[node * 2] = 0.0F;
+					heights[node * 2 + 1] = 0.0F;
+				}
+			}
+		}
+		
+		float minHeight = heightmap != null ? heightmap.getMinHeight() : 0.0F;
+		float maxHeight = heightmap != null ? heightmap.getMaxHeight() : 0.0F;
+		this.aabb.set(this.position.x, minHeight, this.position.y, SIZE, maxHeight - minHeight, SIZE);
+	}
+	
+	/**
+	 * Selects the nodes that should be rendered in this frame.
+	 * @param camera the translation of the camera
+	 * @param frustum the view frustum
+	 * @return the amount of selected nodes
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int select(Vector3f camera, Frustum frustum) {
+		
+		this.selectionCount = 0;
+		this.selectNode(camera, frustum, LOD_LEVELS - 1, 0, 0, true);
+		return this.selectionCount;
+	}
+	
+	/**
+	 * Selects a node or its children.
+	 * @param camera the translation of the camera
+	 * @param frustum the view frustum
+	 * @param level the level of the node
+	 * @param nodeX X index of the node on its level
+	 * @param nodeZ Z index of the node on its level
+	 * @param root {@code true} if the node is the root of the tile, which is always in range
+	 * @return {@code false} if the node is out of the range of its level and its parent has to draw its area, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean selectNode(Vector3f camera, Frustum frustum, int level, int nodeX, int nodeZ, boolean root) {
+		
+		int nodes = 1 << (LOD_LEVELS - 1 - level);
+		float size = SIZE / nodes;
+		float x = this.position.x + nodeX * size;
+		float z = this.position.y + nodeZ * size;
+		int node = (nodeZ * nodes + nodeX) * 2;
+		float minY = this.nodeHeights[level][node];
+		float maxY = this.nodeHeights[level][node + 1];
+		
+		if(!root && !Terrain.intersectsSphere(camera, Terrain.getRange(level), x, minY, z, size, maxY)) {
+			
+			return false;
+		}
+		
+		// Culled nodes count as handled, so that the parent doesn't draw their area
+		if(!frustum.intersects(x, minY, z, size, maxY - minY, size)) {
+			
+			return true;
+		}
+		
+		if(level == 0 || !Terrain.intersectsSphere(camera, Terrain.getRange(level - 1), x, minY, z, size, maxY)) {
+			
+			this.addNode(x, z, size, level, -1);
+			return true;
+		}
+		
+		for(int quarter = 0; quarter < 4; quarter++) {
+			
+			int childX = nodeX * 2 + (quarter & 1);
+			int childZ = nodeZ * 2 + (quarter >> 1);
+			
+			if(!this.selectNode(camera, frustum, level - 1, childX, childZ, false)) {
+				
+				// The child is too far away for its level, so this node draws the quarter of its grid that covers it
+				this.addNode(x, z, size, level, quarter);
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * @param x X position of the node
+	 * @param z Z position of the node
+	 * @param size size of the node
+	 * @param level level of the node
+	 * @param quarter the quarter of the grid that should be drawn or {@code -1} for the whole grid
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void addNode(float x, float z, float size, int level, int quarter) {
+		
+		if(this.selectionCount * 5 == this.selection.length) {
+			
+			this.selection = Arrays.copyOf(this.selection, this.selection.length * 2);
+		}
+		
+		int offset = this.selectionCount * 5;
+		this.selection[offset] = x;
+		this.selection[offset + 1] = z;
+		this.selection[offset + 2] = size;
+		this.selection[offset + 3] = level;
+		this.selection[offset + 4] = quarter;
+		this.selectionCount++;
+	}
+	
+	/**
+	 * Tests if a sphere around the camera touches the bounding box of a node.
+	 * @param camera the center of the sphere
+	 * @param radius the radius of the sphere
+	 * @param x X position of the node
+	 * @param minY lowest height of the node
+	 * @param z Z position of the node
+	 * @param size size of the node
+	 * @param maxY highest height of the node
+	 * @return {@code true} if the sphere touches the box, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final boolean intersectsSphere(Vector3f camera, float radius, float x, float minY, float z, float size, float maxY) {
+		
+		return MathUtil.distanceSquared(camera.x, camera.y, camera.z, x, minY, z, x + size, maxY, z + size) <= radius * radius;
+	}
+	
+	/**
+	 * @param level the level
+	 * @return the distance from the camera up to which the level is used
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final float getRange(int level) {
+		
+		return LOD_RANGE * (1 << level);
+	}
+	
+	/**
+	 * @param level the level
+	 * @return the distance from the camera at which the level starts to morph into the next coarser level
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final float getMorphStart(int level) {
+		
+		float previous = level > 0 ? Terrain.getRange(level - 1) : 0.0F;
+		return previous + (Terrain.getRange(level) - previous) * MORPH_START;
+	}
+	
+	/**
+	 * Returns the grid mesh that is shared by all tiles and creates it the first time.
+	 * The vertices lie between {@code 0.0F} and {@code 1.0F} on the X and Z axis. The indices are sorted by the quarter of the grid,
+	 * so that every quarter can be drawn on its own with a quarter of the indices.
+	 * @return the grid mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final Mesh getGrid() {
+		
+		if(grid == null) {
+			
+			int size = GRID_RESOLUTION + 1;
+			int half = GRID_RESOLUTION / 2;
+			float[] vertices = new float[size * size * 3];
+			int[] indices = new int[GRID_RESOLUTION * GRID_RESOLUTION * 6];
+			int pointer = 0;
+			
+			for(int z = 0; z < size; z++) {
+				
+				for(int x = 0; x < size; x++) {
+					
+					vertices[pointer++] = (float)x / GRID_RESOLUTION;
+					vertices[pointer++] = 0.0F;
+					vertices[pointer++] = (float)z / GRID_RESOLUTION;
+				}
+			}
+			
+			pointer = 0;
+			
+			for(int quarter = 0; quarter < 4; quarter++) {
+				
+				int startX = (quarter & 1) * half;
+				int startZ = (quarter >> 1) * half;
+				
+				for(int gz = startZ; gz < startZ + half; gz++) {
+					
+					for(int gx = startX; gx < startX + half; gx++) {
+						
+						int topLeft = (gz * size) + gx;
+						int topRight = topLeft + 1;
+						int bottomLeft = ((gz + 1) * size) + gx;
+						int bottomRight = bottomLeft + 1;
+						
+						indices[pointer++] = topLeft;
+						indices[pointer++] = bottomLeft;
+						indices[pointer++] = topRight;
+						indices[pointer++] = topRight;
+						indices[pointer++] = bottomLeft;
+						indices[pointer++] = bottomRight;
+					}
+				}
+			}
+			
+			MeshData data = new MeshData();
+			data.setIndices(indices);
+			data.setVertices(vertices);
+			
+			// Normals and texture coordinates are calculated in the vertex shader
+			grid = new StaticMesh(data, VertexLayout.NORMALIZED);
+		}
+		
+		return grid;
+	}
+	
+	/**
+	 * @return the heightmap that is used for tiles without heights, created the first time it is needed
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final Heightmap getFlatHeightmap() {
+		
+		if(flatHeightmap == null) {
+			
+			flatHeightmap = new Heightmap(2, new float[4]);
+		}
+		
+		return flatHeightmap;
+	}
+	
+	/**
+	 * <br><i>All tiles share the same grid mesh, see {@link #getGrid()}</i>
+	 * @return the mesh
+	 * @since 22.08.2018/0.2.0
+	 */
+	public Mesh getMesh() {
+		
+		return Terrain.getGrid();
+	}
+	
+	/**
+	 * @return the heightmap or {@code null} if the tile is flat
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Heightmap getHeightmap() {
+		
+		return this.heightmap;
+	}
+	
+	/**
+	 * @return the position of the tile on the X and Z axis in world space
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Vector2f getPosition() {
+		
+		return this.position;
+	}
+	
+	/**
+	 * @return the nodes selected by the last call of {@link #select(Vector3f, Frustum)}; every node has five values: X, Z, size, level and the drawn quarter ({@code -1} for the whole grid)
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float[] getSelection() {
+		
+		return this.selection;
+	}
+	
+	/**
+	 * @return the amount of nodes selected by the last call of {@link #select(Vector3f, Frustum)}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getSelectionCount() {
+		
+		return this.selectionCount;
+	}
+	
+	/**
+	 * @return the bounding box of this tile in world space
+	 * @since 18.10.2026/0.5.0
+	 */
+	public AxisAlignedBox getAABB() {
+		
+		return this.aabb;
+	}
+}
@@ -0,0 +1,420 @@
+package de.ralleytn.engine.caveman;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.rendering.Heightmap;
+import de.ralleytn.engine.caveman.rendering.camera.Camera;
+import de.ralleytn.engine.caveman.rendering.shader.Material;
+import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
+import de.ralleytn.engine.caveman.util.math.SimplexNoise;
+
+/**
+ * Keeps the terrain tiles in a radius around the camera loaded.
+ * The heights of new tiles are generated with {@linkplain SimplexNoise} on worker threads. Finished heights are put into a bounded queue,
+ * from which {@link #update(float)} uploads them on the OpenGL thread until the time budget of the frame is used up.
+ * Tiles that leave the radius are removed from the scene and kept in a pool, so that their heightmap texture can be filled with new heights
+ * instead of creating a new one. Tiles are only evicted one tile behind the radius in which they are loaded, so that moving back and forth
+ * over a tile border doesn't load and evict the same tiles over and over again.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class TerrainStreamer implements Updatable, Disposable {
+
+	// Finished tiles that wait for the upload; workers wait when it is full, so that they can't run far ahead of the OpenGL thread
+	private static final int UPLOAD_QUEUE_CAPACITY = 8;
+	
+	private final Scene scene;
+	private final Camera camera;
+	private final SimplexNoise noise;
+	private final float heightScale;
+	private final int radius;
+	private final ExecutorService workers;
+	private final BlockingQueue<Tile> uploads;
+	private final Map<Long, Terrain> tiles;
+	private final Set<Long> requested;
+	private final ArrayDeque<Terrain> pool;
+	private final ConcurrentLinkedQueue<float[]> heightArrays;
+	private Material material;
+	private ShaderPipeline shaderPipeline;
+	private long uploadBudget;
+	private int centerX;
+	private int centerY;
+	private boolean centered;
+	private boolean disposed;
+	
+	/**
+	 * @param scene the scene to which the tiles are added
+	 * @param camera the camera around which the tiles are loaded
+	 * @param noise the noise from which the heights are generated; the noise has to be deterministic for all threads
+	 * @param heightScale the height of the terrain in OpenGL units, the noise values are multiplied with it
+	 * @param radius the amount of tiles that are loaded in every direction around the tile of the camera
+	 * @param threads the amount of worker threads
+	 * @since 18.10.2026/0.5.0
+	 */
+	public TerrainStreamer(Scene scene, Camera camera, SimplexNoise noise, float heightScale, int radius, int threads) {
+		
+		this.scene = scene;
+		this.camera = camera;
+		this.noise = noise;
+		this.heightScale = heightScale;
+		this.radius = radius;
+		this.workers = Engine.createExecutor(threads);
+		this.uploads = new ArrayBlockingQueue<>(UPLOAD_QUEUE_CAPACITY);
+		this.tiles = new HashMap<>();
+		this.requested = ConcurrentHashMap.newKeySet();
+		this.pool = new ArrayDeque<>();
+		this.heightArrays = new ConcurrentLinkedQueue<>();
+		this.uploadBudget = 2000000L;
+	}
+	
+	/**
+	 * Evicts the tiles that are too far away, requests the missing tiles when the camera entered another tile
+	 * and uploads finished tiles until the time budget is used up. Has to be called on the OpenGL thread.
+	 */
+	@Override
+	public void update(float delta) {
+		
+		if(this.disposed) {
+			
+			return;
+		}
+		
+		Vector3f translation = this.camera.getTranslation();
+		int cameraX = (int)Math.floor(translation.x / Terrain.SIZE);
+		int cameraY = (int)Math.floor(translation.z / Terrain.SIZE);
+		
+		if(!this.centered || cameraX != this.centerX || cameraY != this.centerY) {
+			
+			this.centerX = cameraX;
+			this.centerY = cameraY;
+			this.centered = true;
+			this.evict();
+			this.request();
+		}
+		
+		this.upload();
+	}
+	
+	/**
+	 * Removes the tiles that are more than one tile outside of the radius from the scene and puts them into the pool.
+	 * Requests for tiles that are that far away are dropped as well.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void evict() {
+		
+		Iterator<Map.Entry<Long, Terrain>> iterator = this.tiles.entrySet().iterator();
+		
+		while(iterator.hasNext()) {
+			
+			Map.Entry<Long, Terrain> entry = iterator.next();
+			long key = entry.getKey();
+			
+			if(!this.isInRange(TerrainStreamer.getX(key), TerrainStreamer.getY(key), this.radius + 1)) {
+				
+				Terrain terrain = entry.getValue();
+				this.scene.removeTerrain(terrain);
+				this.pool.push(terrain);
+				iterator.remove();
+			}
+		}
+		
+		// A worker skips a tile whose request was dropped before it started
+		this.requested.removeIf(key -> !this.isInRange(TerrainStreamer.getX(key), TerrainStreamer.getY(key), this.radius + 1));
+	}
+	
+	/**
+	 * Requests all missing tiles in the radius, the closest first.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void request() {
+		
+		List<Long> missing = new ArrayList<>();
+		
+		for(int y = this.centerY - this.radius; y <= this.centerY + this.radius; y++) {
+			
+			for(int x = this.centerX - this.radius; x <= this.centerX + this.radius; x++) {
+				
+				long key = TerrainStreamer.getKey(x, y);
+				
+				if(!this.tiles.containsKey(key) && !this.requested.contains(key)) {
+					
+					missing.add(key);
+				}
+			}
+		}
+		
+		missing.sort((key1, key2) -> Integer.compare(this.getDistance(key1), this.getDistance(key2)));
+		
+		for(long key : missing) {
+			
+			this.requested.add(key);
+			this.workers.execute(() -> this.generate(key));
+		}
+	}
+	
+	/**
+	 * Uploads finished tiles until the queue is empty or the time budget is used up.
+	 * At least one tile is uploaded per frame, so that the terrain is loaded even if the budget is too small.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void upload() {
+		
+		long start = System.nanoTime();
+		Tile tile;
+		
+		while((tile = this.uploads.poll()) != null) {
+			
+			// The request was dropped while the tile was generated or waited for the upload
+			if(this.requested.remove(tile.key)) {
+				
+				int x = TerrainStreamer.getX(tile.key);
+				int y = TerrainStreamer.getY(tile.key);
+				Terrain terrain = this.pool.poll();
+				
+				if(terrain != null && terrain.getHeightmap() != null) {
+					
+					terrain.setGridPosition(x, y);
+					terrain.getHeightmap().update(tile.heights);
+					terrain.setHeightmap(terrain.getHeightmap());
+				
+				} else {
+					
+					terrain = new Terrain(x, y, new Heightmap(Terrain.VERTEX_COUNT, tile.heights));
+				}
+				
+				terrain.setMaterial(this.material);
+				terrain.setShaderPipeline(this.shaderPipeline);
+				this.tiles.put(tile.key, terrain);
+				this.scene.addTerrain(terrain);
+			}
+			
+			this.heightArrays.offer(tile.heights);
+			
+			if(System.nanoTime() - start >= this.uploadBudget) {
+				
+				break;
+			}
+		}
+	}
+	
+	/**
+	 * Generates the heights of a tile and waits until there is space in the upload queue. Runs on a worker thread.
+	 * @param key the key of the tile
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void generate(long key) {
+		
+		if(!this.requested.contains(key)) {
+			
+			return;
+		}
+		
+		float[] heights = this.heightArrays.poll();
+		heights = heights != null ? heights : new float[Terrain.VERTEX_COUNT * Terrain.VERTEX_COUNT];
+		
+		// The samples on the edges are shared with the neighboring tiles, so neighbors have exactly the same heights on their border
+		int last = Terrain.VERTEX_COUNT - 1;
+		int startX = TerrainStreamer.getX(key) * last;
+		int startY = TerrainStreamer.getY(key) * last;
+		
+		for(int y = 0; y < Terrain.VERTEX_COUNT; y++) {
+			
+			for(int x = 0; x < Terrain.VERTEX_COUNT; x++) {
+				
+				heights[y * Terrain.VERTEX_COUNT + x] = (float)this.noise.getNoise(startX + x, startY + y) * this.heightScale;
+			}
+		}
+		
+		try {
+			
+			this.uploads.put(new Tile(key, heights));
+		
+		} catch(InterruptedException exception) {
+			
+			// The streamer was disposed
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Sets the material of all tiles. Tiles that are already loaded keep their material.
+	 * @param material the material
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setMaterial(Material material) {
+		
+		this.material = material;
+	}
+	
+	/**
+	 * Sets the shader pipeline of all tiles. Tiles that are already loaded keep their shader pipeline.
+	 * @param shaderPipeline the shader pipeline
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setShaderPipeline(ShaderPipeline shaderPipeline) {
+		
+		this.shaderPipeline = shaderPipeline;
+	}
+	
+	/**
+	 * Sets how long finished tiles may be uploaded per frame.
+	 * @param budget the time in milliseconds (default = {@code 2.0F})
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setUploadBudget(float budget) {
+		
+		this.uploadBudget = (long)(budget * 1000000.0F);
+	}
+	
+	/**
+	 * Removes all tiles from the scene and disposes of their heightmaps. The worker threads are stopped.
+	 * @since 18.10.2026/0.5.0
+	 */
+	@Override
+	public void dispose() {
+		
+		this.workers.shutdownNow();
+		this.requested.clear();
+		this.uploads.clear();
+		
+		for(Terrain terrain : this.tiles.values()) {
+			
+			this.scene.removeTerrain(terrain);
+			terrain.getHeightmap().dispose();
+		}
+		
+		for(Terrain terrain : this.pool) {
+			
+			terrain.getHeightmap().dispose();
+		}
+		
+		this.tiles.clear();
+		this.pool.clear();
+		this.disposed = true;
+	}
+	
+	@Override
+	public boolean isDisposed() {
+		
+		return this.disposed;
+	}
+	
+	/**
+	 * @param x position of the tile on the X axis of the world grid
+	 * @param y position of the tile on the Y axis of the world grid
+	 * @param range the range in tiles
+	 * @return {@code true} if the tile is within the range around the tile of the camera, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean isInRange(int x, int y, int range) {
+		
+		return Math.abs(x - this.centerX) <= range && Math.abs(y - this.centerY) <= range;
+	}
+	
+	/**
+	 * @param key the key of a tile
+	 * @return the squared distance in tiles between the tile and the tile of the camera
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final int getDistance(long key) {
+		
+		int x = TerrainStreamer.getX(key) - this.centerX;
+		int y = TerrainStreamer.getY(key) - this.centerY;
+		return x * x + y * y;
+	}
+	
+	/**
+	 * @param x position of the tile on the X axis of the world grid
+	 * @param y position of the tile on the Y axis of the world grid
+	 * @return the key of the tile
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final long getKey(int x, int y) {
+		
+		return ((long)x << 32) | (y & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * @param key the key of a tile
+	 * @return the position of the tile on the X axis of the world grid
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final int getX(long key) {
+		
+		return (int)(key >> 32);
+	}
+	
+	/**
+	 * @param key the key of a tile
+	 * @return the position of the tile on the Y axis of the world grid
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final int getY(long key) {
+		
+		return (int)key;
+	}
+	
+	/**
+	 * @return the amount of tiles that are in the scene
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getLoadedTileCount() {
+		
+		return this.tiles.size();
+	}
+	
+	/**
+	 * @return the amount of tiles that are being generated or wait for the upload
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getPendingTileCount() {
+		
+		return this.requested.size();
+	}
+	
+	/**
+	 * @return the amount of tiles in the pool that can be reused
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getPooledTileCount() {
+		
+		return this.pool.size();
+	}
+	
+	/**
+	 * Heights of a tile that wait for the upload.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class Tile {
+		
+		private final long key;
+		private final float[] heights;
+		
+		/**
+		 * @param key the key of the tile
+		 * @param heights the heights of the tile
+		 * @since 18.10.2026/0.5.0
+		 */
+		private Tile(long key, float[] heights) {
+			
+			this.key = key;
+			this.heights = heights;
+		}
+	}
+}
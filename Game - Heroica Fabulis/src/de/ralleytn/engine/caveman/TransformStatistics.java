@@ -0,0 +1,48 @@
+package de.ralleytn.engine.caveman;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how many matrix recalculations were saved by deferring them with a dirty flag.
+ * A recalculation counts as saved whenever an already dirty matrix is invalidated again before it was read.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class TransformStatistics {
+
+	private static final LongAdder SAVED_RECALCULATIONS = new LongAdder();
+	
+	/**
+	 * Private because no instances of this class should exist.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private TransformStatistics() {}
+	
+	/**
+	 * Records a single recalculation that was not performed.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void recordSavedRecalculation() {
+		
+		SAVED_RECALCULATIONS.increment();
+	}
+	
+	/**
+	 * @return the amount of recalculations that were saved since the start or the last reset
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final long getSavedRecalculationCount() {
+		
+		return SAVED_RECALCULATIONS.sum();
+	}
+	
+	/**
+	 * Resets the counter.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void reset() {
+		
+		SAVED_RECALCULATIONS.reset();
+	}
+}
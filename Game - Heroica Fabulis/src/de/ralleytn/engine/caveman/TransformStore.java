@@ -0,0 +1,725 @@
+package de.ralleytn.engine.caveman;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.util.MatrixUtil;
+
+/**
+ * Stores the translation, rotation, scale, world matrix and bounds of many objects in packed float arrays (structure of arrays).
+ * Every object owns a slot. The slots are grouped in pages of {@value #PAGE_SIZE} so that the store can grow without copying or moving existing data.
+ * Dirty matrices are either recalculated on demand with {@link #resolve(int)} or all at once with {@link #update()},
+ * which splits the work across the common {@linkplain ForkJoinPool}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class TransformStore {
+
+	/**
+	 * The amount of slots in a single page.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int PAGE_SIZE = 1024;
+	
+	private static final int PAGE_SHIFT = 10;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+	
+	// Below this amount of slots the bulk update is not worth the overhead of the fork join framework
+	private static final int PARALLEL_THRESHOLD = 4 * PAGE_SIZE;
+	
+	private static final TransformStore DEFAULT = new TransformStore();
+	
+	private volatile Page[] pages;
+	private int pageCount;
+	private int slotCount;
+	private int[] freeSlots;
+	private int freeSlotCount;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public TransformStore() {
+		
+		this.pages = new Page[4];
+		this.freeSlots = new int[64];
+	}
+	
+	/**
+	 * @return the store used by all entities
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final TransformStore getDefault() {
+		
+		return DEFAULT;
+	}
+	
+	/**
+	 * Allocates a new slot with no translation, no rotation and a scale of 1.
+	 * @return the allocated slot
+	 * @since 18.10.2026/0.5.0
+	 */
+	public synchronized int allocate() {
+		
+		int slot;
+		
+		if(this.freeSlotCount > 0) {
+			
+			slot = this.freeSlots[--this.freeSlotCount];
+		
+		} else {
+			
+			slot = this.slotCount++;
+			int pageIndex = slot >>> PAGE_SHIFT;
+			
+			if(pageIndex == this.pageCount) {
+				
+				if(this.pageCount == this.pages.length) {
+					
+					this.pages = Arrays.copyOf(this.pages, this.pageCount * 2);
+				}
+				
+				this.pages[this.pageCount++] = new Page();
+			}
+		}
+		
+		this.page(slot).reset(slot & PAGE_MASK);
+		return slot;
+	}
+	
+	/**
+	 * Frees a slot so that it can be reused by the next call to {@link #allocate()}.
+	 * The slot must not be used anymore after this call.
+	 * @param slot the slot
+	 * @since 18.10.2026/0.5.0
+	 */
+	public synchronized void free(int slot) {
+		
+		Page page = this.page(slot);
+		int index = slot & PAGE_MASK;
+		page.used[index] = false;
+		
+		page.dirty[index] = false;
+		
+		if(this.freeSlotCount == this.freeSlots.length) {
+			
+			this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeSlotCount * 2);
+		}
+		
+		this.freeSlots[this.freeSlotCount++] = slot;
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @return the page that contains the slot
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final Page page(int slot) {
+		
+		return this.pages[slot >>> PAGE_SHIFT];
+	}
+	
+	/**
+	 * Marks the matrix and the world bounds of a slot as dirty.
+	 * Different slots may be invalidated from different threads at the same time, as long as {@link #update()} is not running.
+	 * @param slot the slot
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void invalidate(int slot) {
+		
+		Page page = this.page(slot);
+		int index = slot & PAGE_MASK;
+		page.markMoved(index);
+		
+		if(page.dirty[index]) {
+			
+			TransformStatistics.recordSavedRecalculation();
+		
+		} else {
+			
+			page.dirty[index] = true;
+			page.containsDirty = true;
+		}
+	}
+	
+	/**
+	 * Passes every slot that was invalidated or allocated since the last call of this method to the consumer and forgets them.
+	 * Every page keeps a list of its moved slots, so only those are visited and not every slot of the store.
+	 * Unlike {@link #isDirty(int)} this is not affected by recalculating the matrix, so it can be used to keep spatial indices up to date.
+	 * Must not be called while slots are invalidated by other threads.
+	 * @param consumer receives the moved slots; slots that were freed in the meantime are passed as well
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void drainMoved(IntConsumer consumer) {
+		
+		Page[] pages;
+		int pageCount;
+		
+		synchronized(this) {
+			
+			pages = this.pages;
+			pageCount = this.pageCount;
+		}
+		
+		for(int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+			
+			Page page = pages[pageIndex];
+			int count = page.movedCount.getAndSet(0);
+			int base = pageIndex << PAGE_SHIFT;
+			
+			for(int index = 0; index < count; index++) {
+				
+				int slot = page.movedSlots[index];
+				page.moved[slot] = false;
+				consumer.accept(base + slot);
+			}
+		}
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @return {@code true} if the matrix of the slot has to be recalculated, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isDirty(int slot) {
+		
+		return this.page(slot).dirty[slot & PAGE_MASK];
+	}
+	
+	/**
+	 * Recalculates the matrix and the world bounds of a single slot if it is dirty.
+	 * @param slot the slot
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void resolve(int slot) {
+		
+		Page page = this.page(slot);
+		int index = slot & PAGE_MASK;
+		
+		if(page.dirty[index]) {
+			
+			page.dirty[index] = false;
+			page.calc(index);
+		}
+	}
+	
+	/**
+	 * Recalculates the matrix and the world bounds of a single slot, even if it is not dirty.
+	 * @param slot the slot
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void recalc(int slot) {
+		
+		Page page = this.page(slot);
+		int index = slot & PAGE_MASK;
+		
+		page.dirty[index] = false;
+		page.calc(index);
+	}
+	
+	/**
+	 * Recalculates all dirty matrices and world bounds.
+	 * Pages without dirty slots are skipped. If there are enough slots the pages are split across the common {@linkplain ForkJoinPool}.
+	 * Should be called once per frame after everything was updated and before anything is rendered.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void update() {
+		
+		Page[] pages;
+		int pageCount;
+		int slotCount;
+		
+		// Read together, because allocate() may replace the array of pages
+		synchronized(this) {
+			
+			pages = this.pages;
+			pageCount = this.pageCount;
+			slotCount = this.slotCount;
+		}
+		
+		if(slotCount >= PARALLEL_THRESHOLD) {
+			
+			ForkJoinPool.commonPool().invoke(new UpdateTask(pages, 0, pageCount));
+		
+		} else {
+			
+			for(int index = 0; index < pageCount; index++) {
+				
+				pages[index].update();
+			}
+		}
+	}
+	
+	/**
+	 * Copies translation, rotation, scale and local bounds from one slot to another.
+	 * @param source the source slot
+	 * @param target the target slot
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void copy(int source, int target) {
+		
+		Page sourcePage = this.page(source);
+		Page targetPage = this.page(target);
+		int sourceIndex = source & PAGE_MASK;
+		int targetIndex = target & PAGE_MASK;
+		
+		System.arraycopy(sourcePage.translations, sourceIndex * 3, targetPage.translations, targetIndex * 3, 3);
+		System.arraycopy(sourcePage.rotations, sourceIndex * 3, targetPage.rotations, targetIndex * 3, 3);
+		System.arraycopy(sourcePage.scales, sourceIndex * 3, targetPage.scales, targetIndex * 3, 3);
+		System.arraycopy(sourcePage.localBounds, sourceIndex * 6, targetPage.localBounds, targetIndex * 6, 6);
+		targetPage.bounded[targetIndex] = sourcePage.bounded[sourceIndex];
+		this.invalidate(target);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param x translation on the X axis
+	 * @param y translation on the Y axis
+	 * @param z translation on the Z axis
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setTranslation(int slot, float x, float y, float z) {
+		
+		this.set(this.page(slot).translations, slot, x, y, z);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param x velocity on the X axis
+	 * @param y velocity on the Y axis
+	 * @param z velocity on the Z axis
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void translate(int slot, float x, float y, float z) {
+		
+		this.add(this.page(slot).translations, slot, x, y, z);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param x rotation around the X axis in degrees
+	 * @param y rotation around the Y axis in degrees
+	 * @param z rotation around the Z axis in degrees
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setRotation(int slot, float x, float y, float z) {
+		
+		this.set(this.page(slot).rotations, slot, x, y, z);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param x velocity around the X axis in degrees
+	 * @param y velocity around the Y axis in degrees
+	 * @param z velocity around the Z axis in degrees
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void rotate(int slot, float x, float y, float z) {
+		
+		this.add(this.page(slot).rotations, slot, x, y, z);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param x scale on the X axis
+	 * @param y scale on the Y axis
+	 * @param z scale on the Z axis
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setScale(int slot, float x, float y, float z) {
+		
+		this.set(this.page(slot).scales, slot, x, y, z);
+	}
+	
+	/**
+	 * Adds the given values to the scale.
+	 * @param slot the slot
+	 * @param x added to the scale on the X axis
+	 * @param y added to the scale on the Y axis
+	 * @param z added to the scale on the Z axis
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void addScale(int slot, float x, float y, float z) {
+		
+		this.add(this.page(slot).scales, slot, x, y, z);
+	}
+	
+	/**
+	 * Multiplies the scale with the given factors.
+	 * @param slot the slot
+	 * @param x factor on the X axis
+	 * @param y factor on the Y axis
+	 * @param z factor on the Z axis
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void scale(int slot, float x, float y, float z) {
+		
+		float[] scales = this.page(slot).scales;
+		int offset = (slot & PAGE_MASK) * 3;
+		scales[offset] *= x;
+		scales[offset + 1] *= y;
+		scales[offset + 2] *= z;
+		this.invalidate(slot);
+	}
+	
+	/**
+	 * @param column the column
+	 * @param slot the slot
+	 * @param x X component
+	 * @param y Y component
+	 * @param z Z component
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void set(float[] column, int slot, float x, float y, float z) {
+		
+		int offset = (slot & PAGE_MASK) * 3;
+		column[offset] = x;
+		column[offset + 1] = y;
+		column[offset + 2] = z;
+		this.invalidate(slot);
+	}
+	
+	/**
+	 * @param column the column
+	 * @param slot the slot
+	 * @param x X component
+	 * @param y Y component
+	 * @param z Z component
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void add(float[] column, int slot, float x, float y, float z) {
+		
+		int offset = (slot & PAGE_MASK) * 3;
+		column[offset] += x;
+		column[offset + 1] += y;
+		column[offset + 2] += z;
+		this.invalidate(slot);
+	}
+	
+	/**
+	 * Sets the bounds of the slot in model space. They are transformed to world space together with the matrix.
+	 * @param slot the slot
+	 * @param bounds the local bounds or {@code null} if the slot has no bounds
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setLocalBounds(int slot, AxisAlignedBox bounds) {
+		
+		Page page = this.page(slot);
+		int index = slot & PAGE_MASK;
+		
+		if(bounds != null) {
+			
+			int offset = index * 6;
+			page.localBounds[offset] = bounds.x;
+			page.localBounds[offset + 1] = bounds.y;
+			page.localBounds[offset + 2] = bounds.z;
+			page.localBounds[offset + 3] = bounds.x + bounds.width;
+			page.localBounds[offset + 4] = bounds.y + bounds.height;
+			page.localBounds[offset + 5] = bounds.z + bounds.depth;
+		}
+		
+		page.bounded[index] = bounds != null;
+		this.invalidate(slot);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param destination the vector in which the translation should be stored
+	 * @return the destination vector
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Vector3f getTranslation(int slot, Vector3f destination) {
+		
+		return this.get(this.page(slot).translations, slot, destination);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param destination the vector in which the rotation should be stored
+	 * @return the destination vector
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Vector3f getRotation(int slot, Vector3f destination) {
+		
+		return this.get(this.page(slot).rotations, slot, destination);
+	}
+	
+	/**
+	 * @param slot the slot
+	 * @param destination the vector in which the scale should be stored
+	 * @return the destination vector
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Vector3f getScale(int slot, Vector3f destination) {
+		
+		return this.get(this.page(slot).scales, slot, destination);
+	}
+	
+	/**
+	 * @param column the column
+	 * @param slot the slot
+	 * @param destination the destination vector
+	 * @return the destination vector
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final Vector3f get(float[] column, int slot, Vector3f destination) {
+		
+		int offset = (slot & PAGE_MASK) * 3;
+		destination.x = column[offset];
+		destination.y = column[offset + 1];
+		destination.z = column[offset + 2];
+		return destination;
+	}
+	
+	/**
+	 * Calculates the squared distance between the translation of a slot and a point without creating any objects.
+	 * @param slot the slot
+	 * @param x X component of the point
+	 * @param y Y component of the point
+	 * @param z Z component of the point
+	 * @return the squared distance
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getDistanceSquared(int slot, float x, float y, float z) {
+		
+		float[] translations = this.page(slot).translations;
+		int offset = (slot & PAGE_MASK) * 3;
+		float dx = translations[offset] - x;
+		float dy = translations[offset + 1] - y;
+		float dz = translations[offset + 2] - z;
+		return dx * dx + dy * dy + dz * dz;
+	}
+	
+	/**
+	 * Copies the world matrix of a slot into a {@linkplain Matrix4f}. The matrix is resolved first if it is dirty.
+	 * @param slot the slot
+	 * @param destination the matrix in which the world matrix should be stored
+	 * @return the destination matrix
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Matrix4f getTransformation(int slot, Matrix4f destination) {
+		
+		this.resolve(slot);
+		return MatrixUtil.fromArray4f(this.page(slot).matrices, (slot & PAGE_MASK) * 16, destination);
+	}
+	
+	/**
+	 * Copies the world matrix of a slot into an array in the same order as {@link de.ralleytn.engine.caveman.util.MatrixUtil#toArray4f(Matrix4f)}.
+	 * The matrix is resolved first if it is dirty.
+	 * @param slot the slot
+	 * @param destination the array
+	 * @param offset the offset in the array
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void getTransformation(int slot, float[] destination, int offset) {
+		
+		this.resolve(slot);
+		System.arraycopy(this.page(slot).matrices, (slot & PAGE_MASK) * 16, destination, offset, 16);
+	}
+	
+	/**
+	 * Copies the world bounds of a slot into an {@linkplain AxisAlignedBox}. The bounds are resolved first if they are dirty.
+	 * If the slot has no local bounds, the bounds are an empty box at the translation of the slot.
+	 * @param slot the slot
+	 * @param destination the box in which the bounds should be stored
+	 * @return the destination box
+	 * @since 18.10.2026/0.5.0
+	 */
+	public AxisAlignedBox getBounds(int slot, AxisAlignedBox destination) {
+		
+		this.resolve(slot);
+		Page page = this.page(slot);
+		int index = slot & PAGE_MASK;
+		
+		if(page.bounded[index]) {
+			
+			float[] b = page.worldBounds;
+			int o = index * 6;
+			destination.set(b[o], b[o + 1], b[o + 2], b[o + 3] - b[o], b[o + 4] - b[o + 1], b[o + 5] - b[o + 2]);
+		
+		} else {
+			
+			float[] t = page.translations;
+			int o = index * 3;
+			destination.set(t[o], t[o + 1], t[o + 2], 0.0F, 0.0F, 0.0F);
+		}
+		
+		return destination;
+	}
+	
+	/**
+	 * @return the amount of slots that were ever allocated, including the free ones
+	 * @since 18.10.2026/0.5.0
+	 */
+	public synchronized int getCapacity() {
+		
+		return this.slotCount;
+	}
+	
+	/**
+	 * @return the amount of slots that are currently in use
+	 * @since 18.10.2026/0.5.0
+	 */
+	public synchronized int getSlotCount() {
+		
+		return this.slotCount - this.freeSlotCount;
+	}
+	
+	/**
+	 * A block of {@value TransformStore#PAGE_SIZE} slots. Each property is a column of packed floats.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class Page {
+		
+		final float[] translations = new float[PAGE_SIZE * 3];
+		final float[] rotations = new float[PAGE_SIZE * 3];
+		final float[] scales = new float[PAGE_SIZE * 3];
+		final float[] matrices = new float[PAGE_SIZE * 16];
+		
+		// min x, min y, min z, max x, max y, max z
+		final float[] localBounds = new float[PAGE_SIZE * 6];
+		final float[] worldBounds = new float[PAGE_SIZE * 6];
+		final boolean[] bounded = new boolean[PAGE_SIZE];
+		final boolean[] dirty = new boolean[PAGE_SIZE];
+		final boolean[] used = new boolean[PAGE_SIZE];
+		final boolean[] moved = new boolean[PAGE_SIZE];
+		
+		// Every moved slot is in this list exactly once, so it never holds more than a page of slots
+		final int[] movedSlots = new int[PAGE_SIZE];
+		final AtomicInteger movedCount = new AtomicInteger();
+		
+		// Only a hint to skip clean pages. Unlike a counter it stays correct when slots of the same page are invalidated from different threads.
+		boolean containsDirty;
+		
+		/**
+		 * Resets a slot to its initial state.
+		 * @param index the index of the slot in this page
+		 * @since 18.10.2026/0.5.0
+		 */
+		void reset(int index) {
+			
+			int offset = index * 3;
+			Arrays.fill(this.translations, offset, offset + 3, 0.0F);
+			Arrays.fill(this.rotations, offset, offset + 3, 0.0F);
+			Arrays.fill(this.scales, offset, offset + 3, 1.0F);
+			this.bounded[index] = false;
+			this.used[index] = true;
+			this.markMoved(index);
+			
+			if(!this.dirty[index]) {
+				
+				this.dirty[index] = true;
+				this.containsDirty = true;
+			}
+		}
+		
+		/**
+		 * Marks a slot as moved and adds it to the list of moved slots if it isn't in it yet.
+		 * Only the thread that modifies the slot writes its flag, so different slots may be marked by different threads at the same time.
+		 * @param index the index of the slot in this page
+		 * @since 18.10.2026/0.5.0
+		 */
+		void markMoved(int index) {
+			
+			if(!this.moved[index]) {
+				
+				this.moved[index] = true;
+				this.movedSlots[this.movedCount.getAndIncrement()] = index;
+			}
+		}
+		
+		/**
+		 * Recalculates every dirty slot in this page.
+		 * @since 18.10.2026/0.5.0
+		 */
+		void update() {
+			
+			if(this.containsDirty) {
+				
+				this.containsDirty = false;
+				
+				for(int index = 0; index < PAGE_SIZE; index++) {
+					
+					if(this.dirty[index]) {
+						
+						this.dirty[index] = false;
+						this.calc(index);
+					}
+				}
+			}
+		}
+		
+		/**
+		 * Calculates the matrix of a slot and transforms its local bounds.
+		 * @param index the index of the slot in this page
+		 * @since 18.10.2026/0.5.0
+		 */
+		void calc(int index) {
+			
+			int v = index * 3;
+			MatrixUtil.calcTransformation(this.translations[v], this.translations[v + 1], this.translations[v + 2],
+			                              this.rotations[v], this.rotations[v + 1], this.rotations[v + 2],
+			                              this.scales[v], this.scales[v + 1], this.scales[v + 2],
+			                              this.matrices, index * 16);
+			
+			if(this.bounded[index]) {
+				
+				MatrixUtil.transformBounds(this.matrices, index * 16, this.localBounds, index * 6, this.worldBounds, index * 6);
+			}
+		}
+	}
+	
+	/**
+	 * Updates a range of pages and splits it in half until only a single page is left.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class UpdateTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final Page[] pages;
+		private final int from;
+		private final int to;
+		
+		/**
+		 * @param pages the pages
+		 * @param from index of the first page (inclusive)
+		 * @param to index of the last page (exclusive)
+		 * @since 18.10.2026/0.5.0
+		 */
+		UpdateTask(Page[] pages, int from, int to) {
+			
+			this.pages = pages;
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			if(this.to - this.from <= 1) {
+				
+				for(int index = this.from; index < this.to; index++) {
+					
+					this.pages[index].update();
+				}
+			
+			} else {
+				
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new UpdateTask(this.pages, this.from, middle), new UpdateTask(this.pages, middle, this.to));
+			}
+		}
+	}
+}
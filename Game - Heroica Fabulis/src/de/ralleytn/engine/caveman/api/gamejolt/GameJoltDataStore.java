@@ -1,5 +1,5 @@
-package de.ralleytn.engine.caveman.api.gamejolt;
-
-public class GameJoltDataStore {
-
-}
+package de.ralleytn.engine.caveman.api.gamejolt;
+
+public class GameJoltDataStore {
+
+}
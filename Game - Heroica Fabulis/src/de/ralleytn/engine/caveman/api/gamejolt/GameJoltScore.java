@@ -1,5 +1,5 @@
-package de.ralleytn.engine.caveman.api.gamejolt;
-
-public class GameJoltScore {
-
-}
+package de.ralleytn.engine.caveman.api.gamejolt;
+
+public class GameJoltScore {
+
+}
@@ -1,5 +1,5 @@
-package de.ralleytn.engine.caveman.api.gamejolt;
-
-public class GameJoltUser {
-
-}
+package de.ralleytn.engine.caveman.api.gamejolt;
+
+public class GameJoltUser {
+
+}
@@ -0,0 +1,167 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A unique combination of component types. All entities with exactly these components are stored in the chunks of the same archetype.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class Archetype {
+
+	private final long mask;
+	private final ComponentType[] types;
+	private final int[] columns;
+	private final List<Chunk> chunks;
+	
+	/**
+	 * @param mask the mask of the component types
+	 * @param types the component types
+	 * @since 18.10.2026/0.5.0
+	 */
+	Archetype(long mask, ComponentType[] types) {
+		
+		this.mask = mask;
+		this.types = types;
+		this.columns = new int[ComponentType.MAX_TYPES];
+		this.chunks = new ArrayList<>();
+		
+		Arrays.fill(this.columns, -1);
+		
+		for(int index = 0; index < types.length; index++) {
+			
+			this.columns[types[index].getID()] = index;
+		}
+	}
+	
+	/**
+	 * @return a chunk with at least one free place
+	 * @since 18.10.2026/0.5.0
+	 */
+	Chunk getFreeChunk() {
+		
+		// Only the last chunk can have free places because removing always fills the hole with the last entity of the last chunk
+		if(!this.chunks.isEmpty()) {
+			
+			Chunk last = this.chunks.get(this.chunks.size() - 1);
+			
+			if(!last.isFull()) {
+				
+				return last;
+			}
+		}
+		
+		Chunk chunk = new Chunk(this);
+		this.chunks.add(chunk);
+		return chunk;
+	}
+	
+	/**
+	 * @return the last chunk
+	 * @since 18.10.2026/0.5.0
+	 */
+	Chunk getLastChunk() {
+		
+		return this.chunks.get(this.chunks.size() - 1);
+	}
+	
+	/**
+	 * Removes the last chunk if it is empty.
+	 * @since 18.10.2026/0.5.0
+	 */
+	void trim() {
+		
+		int last = this.chunks.size() - 1;
+		
+		if(last >= 0 && this.chunks.get(last).size() == 0) {
+			
+			this.chunks.remove(last);
+		}
+	}
+	
+	/**
+	 * @param type the component type
+	 * @return the column of the component type in the chunks or {@code -1} if this archetype does not have the component
+	 * @since 18.10.2026/0.5.0
+	 */
+	int getColumn(ComponentType type) {
+		
+		return this.columns[type.getID()];
+	}
+	
+	/**
+	 * @param type the component type
+	 * @return the column of the component type in the chunks
+	 * @throws IllegalArgumentException if this archetype does not have the component
+	 * @since 18.10.2026/0.5.0
+	 */
+	int requireColumn(ComponentType type) {
+		
+		int column = this.columns[type.getID()];
+		
+		if(column == -1) {
+			
+			throw new IllegalArgumentException(this + " has no " + type + " component!");
+		}
+		
+		return column;
+	}
+	
+	/**
+	 * @param mask the mask of the required component types
+	 * @return {@code true} if this archetype has all of the required component types, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean matches(long mask) {
+		
+		return (this.mask & mask) == mask;
+	}
+	
+	/**
+	 * @param type the component type
+	 * @return {@code true} if this archetype has the component type, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean has(ComponentType type) {
+		
+		return (this.mask & type.getMask()) != 0L;
+	}
+	
+	/**
+	 * @return the mask of the component types
+	 * @since 18.10.2026/0.5.0
+	 */
+	public long getMask() {
+		
+		return this.mask;
+	}
+	
+	/**
+	 * The returned array is not meant to be modified.
+	 * @return the component types
+	 * @since 18.10.2026/0.5.0
+	 */
+	public ComponentType[] getTypes() {
+		
+		return this.types;
+	}
+	
+	/**
+	 * The returned list is not meant to be modified.
+	 * @return the chunks
+	 * @since 18.10.2026/0.5.0
+	 */
+	public List<Chunk> getChunks() {
+		
+		return this.chunks;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return Arrays.toString(this.types);
+	}
+}
@@ -0,0 +1,34 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import de.ralleytn.engine.caveman.util.MatrixUtil;
+
+/**
+ * Transforms the local part of the {@link Components#BOUNDS} with the {@link Components#MATRIX} into its world part.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class BoundsSystem extends ComponentSystem {
+
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public BoundsSystem() {
+		
+		super(new ComponentType[] {Components.MATRIX}, new ComponentType[] {Components.BOUNDS});
+	}
+	
+	@Override
+	public void update(Chunk chunk, float delta) {
+		
+		float[] matrices = chunk.getFloats(Components.MATRIX);
+		float[] bounds = chunk.getFloats(Components.BOUNDS);
+		int size = chunk.size();
+		
+		for(int index = 0; index < size; index++) {
+			
+			int b = index * 12;
+			MatrixUtil.transformBounds(matrices, index * 16, bounds, b + Components.LOCAL_BOUNDS, bounds, b + Components.WORLD_BOUNDS);
+		}
+	}
+}
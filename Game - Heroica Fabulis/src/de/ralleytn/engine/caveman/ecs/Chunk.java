@@ -0,0 +1,220 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import java.util.Arrays;
+
+/**
+ * A fixed size block of entities that all share the same {@linkplain Archetype}.
+ * Every component type of the archetype has its own column, so systems can iterate over a component linearly.
+ * The float values of the entity at index {@code i} start at {@code i * type.getSize()} in the column of the type.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class Chunk {
+
+	/**
+	 * The maximum amount of entities in a chunk.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int CAPACITY = 256;
+	
+	private final Archetype archetype;
+	private final float[][] floats;
+	private final Object[][] objects;
+	private final int[] entities;
+	private int size;
+	
+	/**
+	 * @param archetype the archetype of this chunk
+	 * @since 18.10.2026/0.5.0
+	 */
+	Chunk(Archetype archetype) {
+		
+		ComponentType[] types = archetype.getTypes();
+		this.archetype = archetype;
+		this.floats = new float[types.length][];
+		this.objects = new Object[types.length][];
+		this.entities = new int[CAPACITY];
+		
+		for(int index = 0; index < types.length; index++) {
+			
+			ComponentType type = types[index];
+			
+			if(type.isObject()) {
+				
+				this.objects[index] = new Object[CAPACITY];
+			
+			} else {
+				
+				this.floats[index] = new float[CAPACITY * type.getSize()];
+			}
+		}
+	}
+	
+	/**
+	 * Appends an entity and initializes its components with their default values.
+	 * @param entity the entity
+	 * @return the index of the entity in this chunk
+	 * @since 18.10.2026/0.5.0
+	 */
+	int add(int entity) {
+		
+		int index = this.size++;
+		ComponentType[] types = this.archetype.getTypes();
+		this.entities[index] = entity;
+		
+		for(int column = 0; column < types.length; column++) {
+			
+			ComponentType type = types[column];
+			
+			if(!type.isObject()) {
+				
+				int size = type.getSize();
+				float[] defaults = type.getDefaults();
+				
+				if(defaults != null) {
+					
+					System.arraycopy(defaults, 0, this.floats[column], index * size, size);
+				
+				} else {
+					
+					Arrays.fill(this.floats[column], index * size, (index + 1) * size, 0.0F);
+				}
+			}
+		}
+		
+		return index;
+	}
+	
+	/**
+	 * Removes the last entity of this chunk.
+	 * Holes in the middle are filled by the {@linkplain World} which copies the last entity into them first.
+	 * @since 18.10.2026/0.5.0
+	 */
+	void removeLast() {
+		
+		int last = --this.size;
+		
+		for(Object[] column : this.objects) {
+			
+			if(column != null) {
+				
+				column[last] = null;
+			}
+		}
+	}
+	
+	/**
+	 * Copies all components that both chunks have in common.
+	 * @param index index of the entity in this chunk
+	 * @param target the target chunk
+	 * @param targetIndex index of the entity in the target chunk
+	 * @since 18.10.2026/0.5.0
+	 */
+	void copyTo(int index, Chunk target, int targetIndex) {
+		
+		ComponentType[] types = this.archetype.getTypes();
+		
+		for(int column = 0; column < types.length; column++) {
+			
+			ComponentType type = types[column];
+			int targetColumn = target.archetype.getColumn(type);
+			
+			if(targetColumn != -1) {
+				
+				if(type.isObject()) {
+					
+					target.objects[targetColumn][targetIndex] = this.objects[column][index];
+				
+				} else {
+					
+					int size = type.getSize();
+					System.arraycopy(this.floats[column], index * size, target.floats[targetColumn], targetIndex * size, size);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param type the component type
+	 * @return the float column of the component type
+	 * @throws IllegalArgumentException if the archetype of this chunk does not have the component or if it is an object component
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float[] getFloats(ComponentType type) {
+		
+		float[] column = this.floats[this.archetype.requireColumn(type)];
+		
+		if(column == null) {
+			
+			throw new IllegalArgumentException(type + " is not a float component!");
+		}
+		
+		return column;
+	}
+	
+	/**
+	 * @param type the component type
+	 * @return the object column of the component type
+	 * @throws IllegalArgumentException if the archetype of this chunk does not have the component or if it is a float component
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Object[] getObjects(ComponentType type) {
+		
+		Object[] column = this.objects[this.archetype.requireColumn(type)];
+		
+		if(column == null) {
+			
+			throw new IllegalArgumentException(type + " is not an object component!");
+		}
+		
+		return column;
+	}
+	
+	/**
+	 * @param index the index in this chunk
+	 * @return the entity at the given index
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getEntity(int index) {
+		
+		return this.entities[index];
+	}
+	
+	/**
+	 * @param index the index in this chunk
+	 * @param entity the entity that is now stored at the given index
+	 * @since 18.10.2026/0.5.0
+	 */
+	void setEntity(int index, int entity) {
+		
+		this.entities[index] = entity;
+	}
+	
+	/**
+	 * @return the amount of entities in this chunk
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int size() {
+		
+		return this.size;
+	}
+	
+	/**
+	 * @return {@code true} if no more entities fit into this chunk, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isFull() {
+		
+		return this.size == CAPACITY;
+	}
+	
+	/**
+	 * @return the archetype of this chunk
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Archetype getArchetype() {
+		
+		return this.archetype;
+	}
+}
@@ -0,0 +1,74 @@
+package de.ralleytn.engine.caveman.ecs;
+
+/**
+ * A system processes all chunks that contain the components it reads and writes.
+ * The declared components are used by the {@linkplain SystemScheduler} to decide which systems can run at the same time,
+ * so a system must never touch a component it did not declare.
+ * Since different chunks of the same system may be processed on different threads, {@link #update(Chunk, float)} must not keep any state between calls.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public abstract class ComponentSystem {
+
+	private final long readMask;
+	private final long writeMask;
+	
+	/**
+	 * @param reads the component types that are only read
+	 * @param writes the component types that are written
+	 * @since 18.10.2026/0.5.0
+	 */
+	protected ComponentSystem(ComponentType[] reads, ComponentType[] writes) {
+		
+		this.readMask = ComponentType.mask(reads);
+		this.writeMask = ComponentType.mask(writes);
+	}
+	
+	/**
+	 * Processes all entities of a chunk.
+	 * @param chunk the chunk
+	 * @param delta the time since the last update
+	 * @since 18.10.2026/0.5.0
+	 */
+	public abstract void update(Chunk chunk, float delta);
+	
+	/**
+	 * Two systems conflict if one of them writes a component that the other one reads or writes.
+	 * @param system the other system
+	 * @return {@code true} if the two systems must not run at the same time, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean conflicts(ComponentSystem system) {
+		
+		return (this.writeMask & (system.readMask | system.writeMask)) != 0L ||
+			   (system.writeMask & this.readMask) != 0L;
+	}
+	
+	/**
+	 * @return the mask of all components that an entity must have to be processed by this system
+	 * @since 18.10.2026/0.5.0
+	 */
+	public long getRequiredMask() {
+		
+		return this.readMask | this.writeMask;
+	}
+	
+	/**
+	 * @return the mask of the components that are only read
+	 * @since 18.10.2026/0.5.0
+	 */
+	public long getReadMask() {
+		
+		return this.readMask;
+	}
+	
+	/**
+	 * @return the mask of the components that are written
+	 * @since 18.10.2026/0.5.0
+	 */
+	public long getWriteMask() {
+		
+		return this.writeMask;
+	}
+}
@@ -0,0 +1,166 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Describes a kind of component. A component is either a fixed amount of floats or a single object reference.
+ * Because archetypes are identified by a 64 bit mask, there can't be more than 64 component types.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class ComponentType {
+
+	/**
+	 * The maximum amount of component types.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int MAX_TYPES = Long.SIZE;
+	
+	private static final AtomicInteger ID_SUPPLY = new AtomicInteger();
+	private static final ComponentType[] TYPES = new ComponentType[MAX_TYPES];
+	
+	private final int id;
+	private final String name;
+	private final int size;
+	private final float[] defaults;
+	
+	/**
+	 * @param name the name
+	 * @param size the amount of floats or {@code 0} for an object component
+	 * @param defaults the initial values of a new component or {@code null} for zeros
+	 * @since 18.10.2026/0.5.0
+	 */
+	private ComponentType(String name, int size, float[] defaults) {
+		
+		int id = ID_SUPPLY.getAndIncrement();
+		
+		if(id >= MAX_TYPES) {
+			
+			throw new IllegalStateException("There can't be more than " + MAX_TYPES + " component types!");
+		}
+		
+		if(defaults != null && defaults.length != size) {
+			
+			throw new IllegalArgumentException("The default values of " + name + " must have a length of " + size + "!");
+		}
+		
+		this.id = id;
+		this.name = name;
+		this.size = size;
+		this.defaults = defaults;
+		TYPES[id] = this;
+	}
+	
+	/**
+	 * Creates a component type that consists of floats.
+	 * @param name the name
+	 * @param size the amount of floats
+	 * @param defaults the initial values of a new component, nothing for zeros
+	 * @return the created component type
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType createFloats(String name, int size, float... defaults) {
+		
+		return new ComponentType(name, size, defaults.length > 0 ? defaults : null);
+	}
+	
+	/**
+	 * Creates a component type that holds a single object reference.
+	 * @param name the name
+	 * @return the created component type
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType createObject(String name) {
+		
+		return new ComponentType(name, 0, null);
+	}
+	
+	/**
+	 * @return the ID of this type, which is also its bit in the archetype mask
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getID() {
+		
+		return this.id;
+	}
+	
+	/**
+	 * @return the bit of this type in the archetype mask
+	 * @since 18.10.2026/0.5.0
+	 */
+	public long getMask() {
+		
+		return 1L << this.id;
+	}
+	
+	/**
+	 * @return the name
+	 * @since 18.10.2026/0.5.0
+	 */
+	public String getName() {
+		
+		return this.name;
+	}
+	
+	/**
+	 * @return the amount of floats per component or {@code 0} if this is an object component
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getSize() {
+		
+		return this.size;
+	}
+	
+	/**
+	 * @return the initial values of a new component or {@code null} for zeros
+	 * @since 18.10.2026/0.5.0
+	 */
+	float[] getDefaults() {
+		
+		return this.defaults;
+	}
+	
+	/**
+	 * @return {@code true} if this component holds an object reference instead of floats
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isObject() {
+		
+		return this.size == 0;
+	}
+	
+	/**
+	 * @param id the ID of the component type
+	 * @return the component type with the given ID or {@code null} if there is none
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType get(int id) {
+		
+		return TYPES[id];
+	}
+	
+	/**
+	 * Creates the mask of the given types.
+	 * @param types the types
+	 * @return the mask
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final long mask(ComponentType... types) {
+		
+		long mask = 0L;
+		
+		for(ComponentType type : types) {
+			
+			mask |= type.getMask();
+		}
+		
+		return mask;
+	}
+	
+	@Override
+	public String toString() {
+		
+		return this.name;
+	}
+}
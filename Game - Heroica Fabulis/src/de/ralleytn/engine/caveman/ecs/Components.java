@@ -0,0 +1,66 @@
+package de.ralleytn.engine.caveman.ecs;
+
+/**
+ * Contains the built-in component types and the offsets of their values.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class Components {
+
+	/**
+	 * Translation, rotation in degrees and scale, 3 floats each.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType TRANSFORM = ComponentType.createFloats("Transform", 9, 0, 0, 0, 0, 0, 0, 1, 1, 1);
+	
+	/**
+	 * The world matrix in the order of {@link de.ralleytn.engine.caveman.util.MatrixUtil#toArray4f(javax.vecmath.Matrix4f)}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType MATRIX = ComponentType.createFloats("Matrix", 16, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1);
+	
+	/**
+	 * Linear velocity in units and angular velocity in degrees, 3 floats each. Both are multiplied with the delta of the update.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType VELOCITY = ComponentType.createFloats("Velocity", 6);
+	
+	/**
+	 * Bounds in model space followed by the bounds in world space, each as {@code min x, min y, min z, max x, max y, max z}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType BOUNDS = ComponentType.createFloats("Bounds", 12);
+	
+	/**
+	 * Reference to a {@linkplain de.ralleytn.engine.caveman.rendering.geom.Mesh}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType MESH = ComponentType.createObject("Mesh");
+	
+	/**
+	 * Reference to a {@linkplain de.ralleytn.engine.caveman.rendering.shader.Material}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType MATERIAL = ComponentType.createObject("Material");
+	
+	/**
+	 * Reference to a {@linkplain de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final ComponentType SHADER_PIPELINE = ComponentType.createObject("ShaderPipeline");
+	
+	/** @since 18.10.2026/0.5.0 */ public static final int TRANSLATION = 0;
+	/** @since 18.10.2026/0.5.0 */ public static final int ROTATION = 3;
+	/** @since 18.10.2026/0.5.0 */ public static final int SCALE = 6;
+	/** @since 18.10.2026/0.5.0 */ public static final int LINEAR_VELOCITY = 0;
+	/** @since 18.10.2026/0.5.0 */ public static final int ANGULAR_VELOCITY = 3;
+	/** @since 18.10.2026/0.5.0 */ public static final int LOCAL_BOUNDS = 0;
+	/** @since 18.10.2026/0.5.0 */ public static final int WORLD_BOUNDS = 6;
+	
+	/**
+	 * Private because no instances of this class should exist.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private Components() {}
+}
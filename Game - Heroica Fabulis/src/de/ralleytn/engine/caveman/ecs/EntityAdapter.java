@@ -0,0 +1,69 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.Entity;
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.util.MatrixUtil;
+
+/**
+ * Converts an existing {@linkplain Entity} into an entity of a {@linkplain World}.
+ * Meant for static props that have no own {@link Entity#update(float)}, because they don't need to be updated every frame.
+ * The components are a copy, changes to the original {@linkplain Entity} after the conversion have no effect on them.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class EntityAdapter {
+
+	/**
+	 * Private because no instances of this class should exist.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private EntityAdapter() {}
+	
+	/**
+	 * Creates an entity with the transform, matrix, mesh, material and shader pipeline of the given {@linkplain Entity}.
+	 * If the entity has a mesh with bounds, the bounds component is added as well.
+	 * @param world the world in which the entity should be created
+	 * @param entity the entity that should be converted
+	 * @return the ID of the created entity
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int adapt(World world, Entity entity) {
+		
+		Mesh mesh = entity.getMesh();
+		AxisAlignedBox bounds = mesh != null ? mesh.getAABB() : null;
+		int id = bounds != null ?
+			world.createEntity(Components.TRANSFORM, Components.MATRIX, Components.BOUNDS, Components.MESH, Components.MATERIAL, Components.SHADER_PIPELINE) :
+			world.createEntity(Components.TRANSFORM, Components.MATRIX, Components.MESH, Components.MATERIAL, Components.SHADER_PIPELINE);
+		
+		world.setFloats(id, Components.TRANSFORM, Components.TRANSLATION, EntityAdapter.toArray(entity.getTranslation()));
+		world.setFloats(id, Components.TRANSFORM, Components.ROTATION, EntityAdapter.toArray(entity.getRotation()));
+		world.setFloats(id, Components.TRANSFORM, Components.SCALE, EntityAdapter.toArray(entity.getScale()));
+		world.setFloats(id, Components.MATRIX, 0, MatrixUtil.toArray4f(entity.getTransformation()));
+		world.setObject(id, Components.MESH, mesh);
+		world.setObject(id, Components.MATERIAL, entity.getMaterial());
+		world.setObject(id, Components.SHADER_PIPELINE, entity.getShaderPipeline());
+		
+		if(bounds != null) {
+			
+			AxisAlignedBox worldBounds = entity.getAABB();
+			world.setFloats(id, Components.BOUNDS, Components.LOCAL_BOUNDS, bounds.x, bounds.y, bounds.z, bounds.x + bounds.width, bounds.y + bounds.height, bounds.z + bounds.depth);
+			world.setFloats(id, Components.BOUNDS, Components.WORLD_BOUNDS, worldBounds.x, worldBounds.y, worldBounds.z, worldBounds.x + worldBounds.width, worldBounds.y + worldBounds.height, worldBounds.z + worldBounds.depth);
+		}
+		
+		return id;
+	}
+	
+	/**
+	 * @param vector the vector
+	 * @return the components of the vector as array
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final float[] toArray(Vector3f vector) {
+		
+		return new float[] {vector.x, vector.y, vector.z};
+	}
+}
@@ -0,0 +1,38 @@
+package de.ralleytn.engine.caveman.ecs;
+
+/**
+ * Applies the {@link Components#VELOCITY} to the {@link Components#TRANSFORM}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class MovementSystem extends ComponentSystem {
+
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public MovementSystem() {
+		
+		super(new ComponentType[] {Components.VELOCITY}, new ComponentType[] {Components.TRANSFORM});
+	}
+	
+	@Override
+	public void update(Chunk chunk, float delta) {
+		
+		float[] transforms = chunk.getFloats(Components.TRANSFORM);
+		float[] velocities = chunk.getFloats(Components.VELOCITY);
+		int size = chunk.size();
+		
+		for(int index = 0; index < size; index++) {
+			
+			int t = index * 9;
+			int v = index * 6;
+			
+			for(int axis = 0; axis < 3; axis++) {
+				
+				transforms[t + Components.TRANSLATION + axis] += velocities[v + Components.LINEAR_VELOCITY + axis] * delta;
+				transforms[t + Components.ROTATION + axis] += velocities[v + Components.ANGULAR_VELOCITY + axis] * delta;
+			}
+		}
+	}
+}
@@ -0,0 +1,219 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs the systems of a {@linkplain World}.
+ * The systems are grouped into stages. Systems in the same stage don't conflict with each other, so all of their chunks are processed in parallel.
+ * A system is always placed after every earlier added system it conflicts with, so the order in which conflicting systems were added is kept.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class SystemScheduler {
+
+	// Below this amount of chunks in a stage the overhead of the fork join framework is not worth it
+	private static final int PARALLEL_THRESHOLD = 4;
+	
+	private final World world;
+	private final List<ComponentSystem> systems;
+	private final List<List<ComponentSystem>> stages;
+	private final List<ComponentSystem> jobSystems;
+	private final List<Chunk> jobChunks;
+	private final List<Chunk> query;
+	private boolean parallel;
+	
+	/**
+	 * @param world the world whose entities should be processed
+	 * @since 18.10.2026/0.5.0
+	 */
+	public SystemScheduler(World world) {
+		
+		this.world = world;
+		this.systems = new ArrayList<>();
+		this.stages = new ArrayList<>();
+		this.jobSystems = new ArrayList<>();
+		this.jobChunks = new ArrayList<>();
+		this.query = new ArrayList<>();
+		this.parallel = true;
+	}
+	
+	/**
+	 * Adds a system. It will run after every earlier added system it conflicts with.
+	 * @param system the system
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void addSystem(ComponentSystem system) {
+		
+		int stage = 0;
+		
+		for(int index = this.stages.size() - 1; index >= 0; index--) {
+			
+			for(ComponentSystem other : this.stages.get(index)) {
+				
+				if(system.conflicts(other)) {
+					
+					stage = index + 1;
+					break;
+				}
+			}
+			
+			if(stage > 0) {
+				
+				break;
+			}
+		}
+		
+		if(stage == this.stages.size()) {
+			
+			this.stages.add(new ArrayList<>());
+		}
+		
+		this.stages.get(stage).add(system);
+		this.systems.add(system);
+	}
+	
+	/**
+	 * Removes a system and rebuilds the stages.
+	 * @param system the system
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void removeSystem(ComponentSystem system) {
+		
+		if(this.systems.remove(system)) {
+			
+			List<ComponentSystem> systems = new ArrayList<>(this.systems);
+			this.systems.clear();
+			this.stages.clear();
+			
+			for(ComponentSystem remaining : systems) {
+				
+				this.addSystem(remaining);
+			}
+		}
+	}
+	
+	/**
+	 * Enables or disables the parallel execution. If it is disabled, every system runs on the calling thread.
+	 * @param parallel {@code true} to run the stages in parallel, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setParallel(boolean parallel) {
+		
+		this.parallel = parallel;
+	}
+	
+	/**
+	 * Runs all systems stage by stage. Returns after the last stage has finished.
+	 * @param delta the time since the last update
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void update(float delta) {
+		
+		for(List<ComponentSystem> stage : this.stages) {
+			
+			this.jobSystems.clear();
+			this.jobChunks.clear();
+			
+			for(ComponentSystem system : stage) {
+				
+				this.query.clear();
+				this.world.query(system.getRequiredMask(), this.query);
+				
+				for(Chunk chunk : this.query) {
+					
+					this.jobSystems.add(system);
+					this.jobChunks.add(chunk);
+				}
+			}
+			
+			int jobCount = this.jobChunks.size();
+			
+			if(this.parallel && jobCount >= PARALLEL_THRESHOLD) {
+				
+				ForkJoinPool.commonPool().invoke(new StageTask(this.jobSystems, this.jobChunks, 0, jobCount, delta));
+			
+			} else {
+				
+				for(int index = 0; index < jobCount; index++) {
+					
+					this.jobSystems.get(index).update(this.jobChunks.get(index), delta);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * The returned list is not meant to be modified.
+	 * @return the stages, each containing systems that don't conflict with each other
+	 * @since 18.10.2026/0.5.0
+	 */
+	public List<List<ComponentSystem>> getStages() {
+		
+		return this.stages;
+	}
+	
+	/**
+	 * @return {@code true} if the stages run in parallel, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isParallel() {
+		
+		return this.parallel;
+	}
+	
+	/**
+	 * Processes a range of (system, chunk) pairs of a single stage and splits it in half until only a single pair is left.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class StageTask extends RecursiveAction {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final List<ComponentSystem> systems;
+		private final List<Chunk> chunks;
+		private final int from;
+		private final int to;
+		private final float delta;
+		
+		/**
+		 * @param systems the systems
+		 * @param chunks the chunks
+		 * @param from index of the first pair (inclusive)
+		 * @param to index of the last pair (exclusive)
+		 * @param delta the time since the last update
+		 * @since 18.10.2026/0.5.0
+		 */
+		StageTask(List<ComponentSystem> systems, List<Chunk> chunks, int from, int to, float delta) {
+			
+			this.systems = systems;
+			this.chunks = chunks;
+			this.from = from;
+			this.to = to;
+			this.delta = delta;
+		}
+		
+		@Override
+		protected void compute() {
+			
+			if(this.to - this.from <= 1) {
+				
+				for(int index = this.from; index < this.to; index++) {
+					
+					this.systems.get(index).update(this.chunks.get(index), this.delta);
+				}
+			
+			} else {
+				
+				int middle = (this.from + this.to) >>> 1;
+				invokeAll(new StageTask(this.systems, this.chunks, this.from, middle, this.delta),
+						  new StageTask(this.systems, this.chunks, middle, this.to, this.delta));
+			}
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import de.ralleytn.engine.caveman.util.MatrixUtil;
+
+/**
+ * Calculates the {@link Components#MATRIX} from the {@link Components#TRANSFORM}.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class TransformSystem extends ComponentSystem {
+
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public TransformSystem() {
+		
+		super(new ComponentType[] {Components.TRANSFORM}, new ComponentType[] {Components.MATRIX});
+	}
+	
+	@Override
+	public void update(Chunk chunk, float delta) {
+		
+		float[] transforms = chunk.getFloats(Components.TRANSFORM);
+		float[] matrices = chunk.getFloats(Components.MATRIX);
+		int size = chunk.size();
+		
+		for(int index = 0; index < size; index++) {
+			
+			int t = index * 9;
+			MatrixUtil.calcTransformation(transforms[t],     transforms[t + 1], transforms[t + 2],
+										  transforms[t + 3], transforms[t + 4], transforms[t + 5],
+										  transforms[t + 6], transforms[t + 7], transforms[t + 8],
+										  matrices, index * 16);
+		}
+	}
+}
@@ -0,0 +1,321 @@
+package de.ralleytn.engine.caveman.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds all entities of the entity component system. An entity is nothing more than an integer ID,
+ * its components are stored in the chunks of the {@linkplain Archetype} that matches its combination of components.
+ * <br><br>Structural changes (creating and destroying entities, adding and removing components) are not thread safe
+ * and must not be made while the systems are running.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class World {
+
+	private final Map<Long, Archetype> archetypes;
+	private final List<Archetype> archetypeList;
+	
+	// Location of every entity, indexed by entity ID
+	private Chunk[] chunks;
+	private int[] indices;
+	private int[] freeEntities;
+	private int freeEntityCount;
+	private int entitySupply;
+	private int entityCount;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public World() {
+		
+		this.archetypes = new HashMap<>();
+		this.archetypeList = new ArrayList<>();
+		this.chunks = new Chunk[256];
+		this.indices = new int[256];
+		this.freeEntities = new int[64];
+	}
+	
+	/**
+	 * Creates a new entity with the given components. All components are initialized with their default values.
+	 * @param types the component types
+	 * @return the ID of the created entity
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int createEntity(ComponentType... types) {
+		
+		int entity;
+		
+		if(this.freeEntityCount > 0) {
+			
+			entity = this.freeEntities[--this.freeEntityCount];
+		
+		} else {
+			
+			entity = this.entitySupply++;
+			
+			if(entity == this.chunks.length) {
+				
+				this.chunks = Arrays.copyOf(this.chunks, entity * 2);
+				this.indices = Arrays.copyOf(this.indices, entity * 2);
+			}
+		}
+		
+		Chunk chunk = this.getArchetype(ComponentType.mask(types)).getFreeChunk();
+		this.chunks[entity] = chunk;
+		this.indices[entity] = chunk.add(entity);
+		this.entityCount++;
+		return entity;
+	}
+	
+	/**
+	 * Destroys an entity. Its ID may be reused by the next created entity.
+	 * @param entity the entity
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void destroyEntity(int entity) {
+		
+		this.detach(entity);
+		this.chunks[entity] = null;
+		
+		if(this.freeEntityCount == this.freeEntities.length) {
+			
+			this.freeEntities = Arrays.copyOf(this.freeEntities, this.freeEntityCount * 2);
+		}
+		
+		this.freeEntities[this.freeEntityCount++] = entity;
+		this.entityCount--;
+	}
+	
+	/**
+	 * Adds a component to an entity. The entity moves to another archetype, the values of its other components are kept.
+	 * @param entity the entity
+	 * @param type the component type
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void addComponent(int entity, ComponentType type) {
+		
+		long mask = this.chunks[entity].getArchetype().getMask();
+		
+		if((mask & type.getMask()) == 0L) {
+			
+			this.move(entity, mask | type.getMask());
+		}
+	}
+	
+	/**
+	 * Removes a component from an entity. The entity moves to another archetype, the values of its other components are kept.
+	 * @param entity the entity
+	 * @param type the component type
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void removeComponent(int entity, ComponentType type) {
+		
+		long mask = this.chunks[entity].getArchetype().getMask();
+		
+		if((mask & type.getMask()) != 0L) {
+			
+			this.move(entity, mask & ~type.getMask());
+		}
+	}
+	
+	/**
+	 * Moves an entity to the archetype with the given mask.
+	 * @param entity the entity
+	 * @param mask the mask of the new archetype
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void move(int entity, long mask) {
+		
+		Chunk source = this.chunks[entity];
+		int sourceIndex = this.indices[entity];
+		Chunk target = this.getArchetype(mask).getFreeChunk();
+		int targetIndex = target.add(entity);
+		
+		source.copyTo(sourceIndex, target, targetIndex);
+		this.detach(entity);
+		this.chunks[entity] = target;
+		this.indices[entity] = targetIndex;
+	}
+	
+	/**
+	 * Removes an entity from its chunk and fills the hole with the last entity of the archetype.
+	 * @param entity the entity
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void detach(int entity) {
+		
+		Chunk chunk = this.chunks[entity];
+		int index = this.indices[entity];
+		Archetype archetype = chunk.getArchetype();
+		Chunk last = archetype.getLastChunk();
+		int lastIndex = last.size() - 1;
+		
+		if(last != chunk || lastIndex != index) {
+			
+			int moved = last.getEntity(lastIndex);
+			last.copyTo(lastIndex, chunk, index);
+			chunk.setEntity(index, moved);
+			this.chunks[moved] = chunk;
+			this.indices[moved] = index;
+		}
+		
+		last.removeLast();
+		archetype.trim();
+	}
+	
+	/**
+	 * @param mask the mask of the component types
+	 * @return the archetype with exactly the given component types, it will be created if it doesn't exist
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final Archetype getArchetype(long mask) {
+		
+		Archetype archetype = this.archetypes.get(mask);
+		
+		if(archetype == null) {
+			
+			List<ComponentType> types = new ArrayList<>();
+			
+			for(long bits = mask; bits != 0L; bits &= bits - 1L) {
+				
+				types.add(ComponentType.get(Long.numberOfTrailingZeros(bits)));
+			}
+			
+			archetype = new Archetype(mask, types.toArray(new ComponentType[types.size()]));
+			this.archetypes.put(mask, archetype);
+			this.archetypeList.add(archetype);
+		}
+		
+		return archetype;
+	}
+	
+	/**
+	 * Collects all chunks that contain entities with at least the given components.
+	 * @param mask the mask of the required component types
+	 * @param destination the list to which the chunks should be added
+	 * @return the destination list
+	 * @since 18.10.2026/0.5.0
+	 */
+	public List<Chunk> query(long mask, List<Chunk> destination) {
+		
+		for(Archetype archetype : this.archetypeList) {
+			
+			if(archetype.matches(mask)) {
+				
+				for(Chunk chunk : archetype.getChunks()) {
+					
+					if(chunk.size() > 0) {
+						
+						destination.add(chunk);
+					}
+				}
+			}
+		}
+		
+		return destination;
+	}
+	
+	/**
+	 * @param entity the entity
+	 * @param type the component type
+	 * @return {@code true} if the entity has the component, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean hasComponent(int entity, ComponentType type) {
+		
+		return this.chunks[entity].getArchetype().has(type);
+	}
+	
+	/**
+	 * Sets the values of a float component.
+	 * @param entity the entity
+	 * @param type the component type
+	 * @param offset the offset inside of the component
+	 * @param values the values
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setFloats(int entity, ComponentType type, int offset, float... values) {
+		
+		System.arraycopy(values, 0, this.chunks[entity].getFloats(type), this.indices[entity] * type.getSize() + offset, values.length);
+	}
+	
+	/**
+	 * @param entity the entity
+	 * @param type the component type
+	 * @param offset the offset inside of the component
+	 * @return the value
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getFloat(int entity, ComponentType type, int offset) {
+		
+		return this.chunks[entity].getFloats(type)[this.indices[entity] * type.getSize() + offset];
+	}
+	
+	/**
+	 * Sets the value of an object component.
+	 * @param entity the entity
+	 * @param type the component type
+	 * @param value the value
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setObject(int entity, ComponentType type, Object value) {
+		
+		this.chunks[entity].getObjects(type)[this.indices[entity]] = value;
+	}
+	
+	/**
+	 * @param entity the entity
+	 * @param type the component type
+	 * @return the value of the object component
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getObject(int entity, ComponentType type) {
+		
+		return (T)this.chunks[entity].getObjects(type)[this.indices[entity]];
+	}
+	
+	/**
+	 * @param entity the entity
+	 * @return the chunk in which the entity is currently stored
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Chunk getChunk(int entity) {
+		
+		return this.chunks[entity];
+	}
+	
+	/**
+	 * @param entity the entity
+	 * @return the index of the entity in its chunk
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getIndex(int entity) {
+		
+		return this.indices[entity];
+	}
+	
+	/**
+	 * @return the amount of living entities
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getEntityCount() {
+		
+		return this.entityCount;
+	}
+	
+	/**
+	 * The returned list is not meant to be modified.
+	 * @return all archetypes that were created so far
+	 * @since 18.10.2026/0.5.0
+	 */
+	public List<Archetype> getArchetypes() {
+		
+		return this.archetypeList;
+	}
+}
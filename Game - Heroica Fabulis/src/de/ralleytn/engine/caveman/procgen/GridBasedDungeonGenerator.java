@@ -1,17 +1,17 @@
-package de.ralleytn.engine.caveman.procgen;
-
-import java.util.List;
-
-public class GridBasedDungeonGenerator extends GridBasedLevelGenerator {
-
-	public GridBasedDungeonGenerator(List<GridCellCluster> clusterBaseSet) {
-		
-		super(clusterBaseSet);
-	}
-
-	@Override
-	public void generateLayout() {
-		
-		
-	}
-}
+package de.ralleytn.engine.caveman.procgen;
+
+import java.util.List;
+
+public class GridBasedDungeonGenerator extends GridBasedLevelGenerator {
+
+	public GridBasedDungeonGenerator(List<GridCellCluster> clusterBaseSet) {
+		
+		super(clusterBaseSet);
+	}
+
+	@Override
+	public void generateLayout() {
+		
+		
+	}
+}
@@ -0,0 +1,124 @@
+package de.ralleytn.engine.caveman.rendering;
+
+import java.nio.ByteBuffer;
+
+import javax.vecmath.Matrix4f;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL15.*;
+
+import de.ralleytn.engine.caveman.Disposable;
+import de.ralleytn.engine.caveman.rendering.camera.Camera;
+import de.ralleytn.engine.caveman.rendering.light.Light;
+
+/**
+ * Uniform buffer with the data that is the same for every object of a frame.
+ * It is written once per frame and stays bound to {@value #BINDING}, so that no program has to set these values itself.
+ * <br><br>Layout (std140):
+ * <pre>
+ * layout(std140, binding = 0) uniform FrameData {
+ *
+ *     mat4 projection;
+ *     mat4 view;
+ *     vec4 cameraPosition; // w is unused
+ *     vec4 lightPosition;  // w is unused
+ *     vec4 lightColor;     // w is unused
+ * };
+ * </pre>
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class FrameUniformBuffer implements Disposable {
+
+	/** @since 18.10.2026/0.5.0 */ public static final String BLOCK_NAME = "FrameData";
+	/** @since 18.10.2026/0.5.0 */ public static final int BINDING = 0;
+	
+	// Two matrices with 64 bytes each and three vectors with 16 bytes each
+	private static final int SIZE = 176;
+	
+	private final GLBuffer buffer;
+	private final ByteBuffer data;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public FrameUniformBuffer() {
+		
+		this.data = BufferUtils.createByteBuffer(SIZE);
+		this.buffer = new GLBuffer(GLBuffer.TYPE_UNIFORM);
+		this.buffer.bind();
+		this.buffer.allocate(SIZE, GL_DYNAMIC_DRAW);
+		this.buffer.unbind();
+		this.buffer.bindBase(BINDING);
+	}
+	
+	@Override
+	public void dispose() {
+		
+		this.buffer.dispose();
+	}
+	
+	@Override
+	public boolean isDisposed() {
+		
+		return this.buffer.isDisposed();
+	}
+	
+	/**
+	 * Writes the values of the current frame to the buffer with a single upload.
+	 * @param camera the camera
+	 * @param light the light source, may be {@code null}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void update(Camera camera, Light light) {
+		
+		ByteBuffer data = this.data;
+		data.clear();
+		FrameUniformBuffer.putMatrix(data, camera.getProjectionMatrix());
+		FrameUniformBuffer.putMatrix(data, camera.getViewMatrix());
+		data.putFloat(camera.getTranslation().x).putFloat(camera.getTranslation().y).putFloat(camera.getTranslation().z).putFloat(1.0F);
+		
+		if(light != null) {
+			
+			data.putFloat(light.getTranslation().x).putFloat(light.getTranslation().y).putFloat(light.getTranslation().z).putFloat(1.0F);
+			data.putFloat(light.getColor().x).putFloat(light.getColor().y).putFloat(light.getColor().z).putFloat(1.0F);
+		
+		} else {
+			
+			for(int index = 0; index < 8; index++) {
+				
+				data.putFloat(0.0F);
+			}
+		}
+		
+		data.flip();
+		this.buffer.bindBase(BINDING);
+		this.buffer.bind();
+		this.buffer.setSubData(0, data);
+	}
+	
+	/**
+	 * Writes a matrix in the order of {@link de.ralleytn.engine.caveman.util.MatrixUtil#toArray4f(Matrix4f)}.
+	 * @param data the buffer
+	 * @param matrix the matrix
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void putMatrix(ByteBuffer data, Matrix4f matrix) {
+		
+		data.putFloat(matrix.m00).putFloat(matrix.m01).putFloat(matrix.m02).putFloat(matrix.m03);
+		data.putFloat(matrix.m10).putFloat(matrix.m11).putFloat(matrix.m12).putFloat(matrix.m13);
+		data.putFloat(matrix.m20).putFloat(matrix.m21).putFloat(matrix.m22).putFloat(matrix.m23);
+		data.putFloat(matrix.m30).putFloat(matrix.m31).putFloat(matrix.m32).putFloat(matrix.m33);
+	}
+	
+	/**
+	 * @return the uniform buffer
+	 * @since 18.10.2026/0.5.0
+	 */
+	public GLBuffer getBuffer() {
+		
+		return this.buffer;
+	}
+}
@@ -1,147 +1,208 @@
-package de.ralleytn.engine.caveman.rendering;
-
-import static org.lwjgl.opengl.GL15.*;
-import static org.lwjgl.opengl.GL21.*;
-import static org.lwjgl.opengl.GL30.*;
-import static org.lwjgl.opengl.GL31.*;
-import static org.lwjgl.opengl.GL40.*;
-import static org.lwjgl.opengl.GL42.*;
-import static org.lwjgl.opengl.GL43.*;
-import static org.lwjgl.opengl.GL44.*;
-import static org.lwjgl.opengl.GL45.*;
-
-import de.ralleytn.engine.caveman.Bindable;
-import de.ralleytn.engine.caveman.LWJGLObject;
-import de.ralleytn.engine.caveman.util.BufferUtil;
-
-/**
- * Represents an OpenGL buffer.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 15.08.2018/0.1.0
- * @since 04.08.2018/0.1.0
- */
-public class GLBuffer extends LWJGLObject implements Bindable {
-
-	// I collected all of these enums here because they are scattered among different classes and it can be really annoying to search for them.
-	
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_ARRAY = GL_ARRAY_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_ELEMENT_ARRAY = GL_ELEMENT_ARRAY_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_PIXEL_UNPACK = GL_PIXEL_UNPACK_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_PIXEL_PACK = GL_PIXEL_PACK_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_QUERY = GL_QUERY_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_TEXTURE = GL_TEXTURE_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_TRANSFORM_FEEDBACK = GL_TRANSFORM_FEEDBACK_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_UNIFORM = GL_UNIFORM_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_DRAW_INDIRECT = GL_DRAW_INDIRECT_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_ATOMIC_COUNTER = GL_ATOMIC_COUNTER_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_DISPATCH_INDIRECT = GL_DISPATCH_INDIRECT_BUFFER;
-	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_SHADER_STORAGE = GL_SHADER_STORAGE_BUFFER;
-	
-	private int type;
-	
-	/**
-	 * @param type the buffer type
-	 * @since 04.08.2018/0.1.0
-	 */
-	public GLBuffer(int type) {
-		
-		this.type = type;
-		this.id = glGenBuffers();
-	}
-	
-	@Override
-	public void dispose() {
-		
-		glDeleteBuffers(this.id);
-		this.disposed = true;
-	}
-	
-	@Override
-	public void bind() {
-		
-		glBindBuffer(this.type, this.id);
-	}
-	
-	/**
-	 * This method will unbind ANY currently bound buffer.
-	 * @since 04.08.2018/0.1.0
-	 */
-	@Override
-	public void unbind() {
-		
-		glBindBuffer(this.type, 0);
-	}
-	
-	/**
-	 * Stores data in the buffer.
-	 * @param data the data
-	 * @param usage the usage
-	 * @since 04.08.2018/0.1.0
-	 */
-	public void setData(byte[] data, int usage) {
-		
-		glBufferData(this.type, BufferUtil.toByteBuffer(data), usage);
-	}
-	
-	/**
-	 * Stores data in the buffer.
-	 * @param data the data
-	 * @param usage the usage
-	 * @since 04.08.2018/0.1.0
-	 */
-	public void setData(int[] data, int usage) {
-		
-		glBufferData(this.type, BufferUtil.toIntBuffer(data), usage);
-	}
-	
-	/**
-	 * Stores data in the buffer.
-	 * @param data the data
-	 * @param usage the usage
-	 * @since 04.08.2018/0.1.0
-	 */
-	public void setData(float[] data, int usage) {
-		
-		glBufferData(this.type, BufferUtil.toFloatBuffer(data), usage);
-	}
-	
-	/**
-	 * @return the type of this buffer
-	 * @since 04.08.2018/0.1.0
-	 */
-	public int getType() {
-		
-		return this.type;
-	}
-	
-	/**
-	 * @return the memory this buffer takes up in bytes
-	 * @since 04.08.2018/0.1.0
-	 */
-	public int getBufferSizeInBytes() {
-		
-		return glGetNamedBufferParameteri(this.id, GL_BUFFER_SIZE);
-	}
-	
-	/**
-	 * @return the data stored in this buffer as {@code float}s
-	 * @since 04.08.2018/0.1.0
-	 */
-	public float[] getDataAsFloats() {
-		
-		float[] data = new float[this.getBufferSizeInBytes() / 4]; // Divided by 4 because one float has 4 bytes
-		glGetNamedBufferSubData(this.id, 0, data);
-		return data;
-	}
-
-	/**
-	 * @return the data stored in this buffer as {@code int}s
-	 * @since 04.08.2018/0.1.0
-	 */
-	public int[] getDataAsInts() {
-		
-		int[] data = new int[this.getBufferSizeInBytes() / 4]; // Divided by 4 because one int has 4 bytes
-		glGetNamedBufferSubData(this.id, 0, data);
-		return data;
-	}
-}
+package de.ralleytn.engine.caveman.rendering;
+
+import java.nio.ByteBuffer;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL21.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL40.*;
+import static org.lwjgl.opengl.GL42.*;
+import static org.lwjgl.opengl.GL43.*;
+import static org.lwjgl.opengl.GL44.*;
+import static org.lwjgl.opengl.GL45.*;
+
+import de.ralleytn.engine.caveman.Bindable;
+import de.ralleytn.engine.caveman.LWJGLObject;
+import de.ralleytn.engine.caveman.util.BufferUtil;
+
+/**
+ * Represents an OpenGL buffer.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 04.08.2018/0.1.0
+ */
+public class GLBuffer extends LWJGLObject implements Bindable {
+
+	// I collected all of these enums here because they are scattered among different classes and it can be really annoying to search for them.
+	
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_ARRAY = GL_ARRAY_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_ELEMENT_ARRAY = GL_ELEMENT_ARRAY_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_PIXEL_UNPACK = GL_PIXEL_UNPACK_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_PIXEL_PACK = GL_PIXEL_PACK_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_QUERY = GL_QUERY_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_TEXTURE = GL_TEXTURE_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_TRANSFORM_FEEDBACK = GL_TRANSFORM_FEEDBACK_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_UNIFORM = GL_UNIFORM_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_DRAW_INDIRECT = GL_DRAW_INDIRECT_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_ATOMIC_COUNTER = GL_ATOMIC_COUNTER_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_DISPATCH_INDIRECT = GL_DISPATCH_INDIRECT_BUFFER;
+	/** @since 04.08.2018/0.1.0 */ public static final int TYPE_SHADER_STORAGE = GL_SHADER_STORAGE_BUFFER;
+	
+	private int type;
+	
+	/**
+	 * @param type the buffer type
+	 * @since 04.08.2018/0.1.0
+	 */
+	public GLBuffer(int type) {
+		
+		this.type = type;
+		this.id = glGenBuffers();
+	}
+	
+	@Override
+	public void dispose() {
+		
+		glDeleteBuffers(this.id);
+		GLStateCache.getDefault().forgetBuffer(this.id);
+		this.disposed = true;
+	}
+	
+	@Override
+	public void bind() {
+		
+		GLStateCache.getDefault().bindBuffer(this.type, this.id);
+	}
+	
+	/**
+	 * This method will unbind ANY currently bound buffer.
+	 * @since 04.08.2018/0.1.0
+	 */
+	@Override
+	public void unbind() {
+		
+		GLStateCache.getDefault().bindBuffer(this.type, 0);
+	}
+	
+	/**
+	 * Stores data in the buffer.
+	 * @param data the data
+	 * @param usage the usage
+	 * @since 04.08.2018/0.1.0
+	 */
+	public void setData(byte[] data, int usage) {
+		
+		glBufferData(this.type, BufferUtil.toByteBuffer(data), usage);
+	}
+	
+	/**
+	 * Stores data in the buffer.
+	 * @param data the data
+	 * @param usage the usage
+	 * @since 04.08.2018/0.1.0
+	 */
+	public void setData(int[] data, int usage) {
+		
+		glBufferData(this.type, BufferUtil.toIntBuffer(data), usage);
+	}
+	
+	/**
+	 * Stores data in the buffer.
+	 * @param data the data
+	 * @param usage the usage
+	 * @since 04.08.2018/0.1.0
+	 */
+	public void setData(float[] data, int usage) {
+		
+		glBufferData(this.type, BufferUtil.toFloatBuffer(data), usage);
+	}
+	
+	/**
+	 * Stores data in the buffer.
+	 * @param data the data, from its position to its limit
+	 * @param usage the usage
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setData(ByteBuffer data, int usage) {
+		
+		glBufferData(this.type, data, usage);
+	}
+	
+	/**
+	 * Reserves memory for the buffer without filling it.
+	 * @param size the size in bytes
+	 * @param usage the usage
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void allocate(long size, int usage) {
+		
+		glBufferData(this.type, size, usage);
+	}
+	
+	/**
+	 * Replaces a part of the data in the buffer. The buffer has to be bound.
+	 * @param offset the offset in bytes
+	 * @param data the data
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setSubData(long offset, ByteBuffer data) {
+		
+		glBufferSubData(this.type, offset, data);
+	}
+	
+	/**
+	 * Binds the buffer to an indexed binding point of its type.
+	 * This also binds it to the generic binding point like {@link #bind()} does, unless it is already bound to the indexed binding point.
+	 * Only works for uniform, shader storage, atomic counter and transform feedback buffers.
+	 * @param index the index of the binding point
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bindBase(int index) {
+		
+		GLStateCache.getDefault().bindBufferBase(this.type, index, this.id);
+	}
+	
+	/**
+	 * @return the type of this buffer
+	 * @since 04.08.2018/0.1.0
+	 */
+	public int getType() {
+		
+		return this.type;
+	}
+	
+	/**
+	 * @return the memory this buffer takes up in bytes
+	 * @since 04.08.2018/0.1.0
+	 */
+	public int getBufferSizeInBytes() {
+		
+		return glGetNamedBufferParameteri(this.id, GL_BUFFER_SIZE);
+	}
+	
+	/**
+	 * @return the data stored in this buffer as bytes in the native byte order
+	 * @since 18.10.2026/0.5.0
+	 */
+	public ByteBuffer getData() {
+		
+		ByteBuffer data = BufferUtils.createByteBuffer(this.getBufferSizeInBytes());
+		glGetNamedBufferSubData(this.id, 0, data);
+		return data;
+	}
+	
+	/**
+	 * @return the data stored in this buffer as {@code float}s
+	 * @since 04.08.2018/0.1.0
+	 */
+	public float[] getDataAsFloats() {
+		
+		float[] data = new float[this.getBufferSizeInBytes() / 4]; // Divided by 4 because one float has 4 bytes
+		glGetNamedBufferSubData(this.id, 0, data);
+		return data;
+	}
+
+	/**
+	 * @return the data stored in this buffer as {@code int}s
+	 * @since 04.08.2018/0.1.0
+	 */
+	public int[] getDataAsInts() {
+		
+		int[] data = new int[this.getBufferSizeInBytes() / 4]; // Divided by 4 because one int has 4 bytes
+		glGetNamedBufferSubData(this.id, 0, data);
+		return data;
+	}
+}
@@ -0,0 +1,618 @@
+package de.ralleytn.engine.caveman.rendering;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL13.*;
+import static org.lwjgl.opengl.GL14.*;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL21.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL40.*;
+import static org.lwjgl.opengl.GL42.*;
+import static org.lwjgl.opengl.GL43.*;
+import static org.lwjgl.opengl.GL44.*;
+
+/**
+ * Remembers the OpenGL state the engine has set and skips every call that would set a value that is already set.
+ * Covers the bound program, vertex array, buffers, textures per unit, the active texture unit, enabled capabilities
+ * and the cull, blend, depth and clear state. All engine classes change this state through the cache, so it is always up to date.
+ * Code that calls OpenGL directly has to call {@link #invalidate()} afterwards.
+ * <br><br>The element array buffer binding is part of the vertex array and is therefore always passed through.
+ * Deleted objects have to be forgotten with one of the {@code forget} methods, because OpenGL reuses their names.
+ * Must only be used on the OpenGL thread.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class GLStateCache {
+
+	private static final int UNKNOWN = -1;
+	private static final int TEXTURE_UNITS = 32;
+	private static final int INDEXED_BINDINGS = 16;
+	
+	private static final int[] BUFFER_TARGETS = {
+		
+		GL_ARRAY_BUFFER, GL_PIXEL_UNPACK_BUFFER, GL_PIXEL_PACK_BUFFER, GL_QUERY_BUFFER, GL_TEXTURE_BUFFER, GL_TRANSFORM_FEEDBACK_BUFFER,
+		GL_UNIFORM_BUFFER, GL_DRAW_INDIRECT_BUFFER, GL_ATOMIC_COUNTER_BUFFER, GL_DISPATCH_INDIRECT_BUFFER, GL_SHADER_STORAGE_BUFFER,
+		GL_COPY_READ_BUFFER, GL_COPY_WRITE_BUFFER
+	};
+	
+	// Only these two targets are used with indexed bindings by the engine
+	private static final int[] INDEXED_TARGETS = {GL_UNIFORM_BUFFER, GL_SHADER_STORAGE_BUFFER};
+	
+	private static final int[] CAPABILITIES = {
+		
+		GL_DEPTH_TEST, GL_CULL_FACE, GL_BLEND, GL_SCISSOR_TEST, GL_STENCIL_TEST, GL_POLYGON_OFFSET_FILL,
+		GL_MULTISAMPLE, GL_FRAMEBUFFER_SRGB, GL_PRIMITIVE_RESTART, GL_TEXTURE_CUBE_MAP_SEAMLESS
+	};
+	
+	private static GLStateCache instance;
+	
+	private static long issuedCalls;
+	private static long skippedCalls;
+	
+	private final int[] textures;
+	private final int[] textureTargets;
+	private final int[] buffers;
+	private final int[] indexedBuffers;
+	private final long[] indexedOffsets;
+	private final long[] indexedSizes;
+	private final int[] capabilities;
+	private int program;
+	private int vertexArray;
+	private int activeTexture;
+	private int cullFace;
+	private int blendSource;
+	private int blendDestination;
+	private int depthFunction;
+	private int depthMask;
+	private float clearRed;
+	private float clearGreen;
+	private float clearBlue;
+	private float clearAlpha;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	private GLStateCache() {
+		
+		this.textures = new int[TEXTURE_UNITS];
+		this.textureTargets = new int[TEXTURE_UNITS];
+		this.buffers = new int[BUFFER_TARGETS.length];
+		this.indexedBuffers = new int[INDEXED_TARGETS.length * INDEXED_BINDINGS];
+		this.indexedOffsets = new long[INDEXED_TARGETS.length * INDEXED_BINDINGS];
+		this.indexedSizes = new long[INDEXED_TARGETS.length * INDEXED_BINDINGS];
+		this.capabilities = new int[CAPABILITIES.length];
+		this.invalidate();
+	}
+	
+	/**
+	 * Creates the cache the first time it is needed.
+	 * @return the state cache of the OpenGL context
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static GLStateCache getDefault() {
+		
+		if(instance == null) {
+			
+			instance = new GLStateCache();
+		}
+		
+		return instance;
+	}
+	
+	/**
+	 * Forgets the whole state, so that every value is set again the next time.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void invalidate() {
+		
+		Arrays.fill(this.textures, UNKNOWN);
+		Arrays.fill(this.textureTargets, UNKNOWN);
+		Arrays.fill(this.buffers, UNKNOWN);
+		Arrays.fill(this.indexedBuffers, UNKNOWN);
+		Arrays.fill(this.capabilities, UNKNOWN);
+		this.program = UNKNOWN;
+		this.vertexArray = UNKNOWN;
+		this.activeTexture = UNKNOWN;
+		this.cullFace = UNKNOWN;
+		this.blendSource = UNKNOWN;
+		this.blendDestination = UNKNOWN;
+		this.depthFunction = UNKNOWN;
+		this.depthMask = UNKNOWN;
+		this.clearRed = Float.NaN;
+	}
+	
+	/**
+	 * @param changed {@code true} if the call has to be issued
+	 * @return the given value
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final boolean count(boolean changed) {
+		
+		if(changed) {
+			
+			issuedCalls++;
+		
+		} else {
+			
+			skippedCalls++;
+		}
+		
+		return changed;
+	}
+	
+	/**
+	 * @param target the buffer target
+	 * @return the index of the target in {@link #BUFFER_TARGETS} or {@code -1} if it is not cached
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final int bufferSlot(int target) {
+		
+		for(int index = 0; index < BUFFER_TARGETS.length; index++) {
+			
+			if(BUFFER_TARGETS[index] == target) {
+				
+				return index;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * @param target the buffer target
+	 * @param index the index of the binding point
+	 * @return the index of the binding point in the indexed arrays or {@code -1} if it is not cached
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final int indexedSlot(int target, int index) {
+		
+		if(index >= 0 && index < INDEXED_BINDINGS) {
+			
+			for(int slot = 0; slot < INDEXED_TARGETS.length; slot++) {
+				
+				if(INDEXED_TARGETS[slot] == target) {
+					
+					return slot * INDEXED_BINDINGS + index;
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * @param capability the capability
+	 * @return the index of the capability in {@link #CAPABILITIES} or {@code -1} if it is not cached
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final int capabilitySlot(int capability) {
+		
+		for(int index = 0; index < CAPABILITIES.length; index++) {
+			
+			if(CAPABILITIES[index] == capability) {
+				
+				return index;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Binds a program.
+	 * @param program the ID of the program, {@code 0} to unbind
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void useProgram(int program) {
+		
+		if(GLStateCache.count(this.program != program)) {
+			
+			glUseProgram(program);
+			this.program = program;
+		}
+	}
+	
+	/**
+	 * Binds a vertex array.
+	 * @param vertexArray the ID of the vertex array, {@code 0} to unbind
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bindVertexArray(int vertexArray) {
+		
+		if(GLStateCache.count(this.vertexArray != vertexArray)) {
+			
+			glBindVertexArray(vertexArray);
+			this.vertexArray = vertexArray;
+		}
+	}
+	
+	/**
+	 * Binds a buffer to the generic binding point of a target.
+	 * @param target the buffer target
+	 * @param buffer the ID of the buffer, {@code 0} to unbind
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bindBuffer(int target, int buffer) {
+		
+		int slot = GLStateCache.bufferSlot(target);
+		
+		if(slot == -1) {
+			
+			issuedCalls++;
+			glBindBuffer(target, buffer);
+		
+		} else if(GLStateCache.count(this.buffers[slot] != buffer)) {
+			
+			glBindBuffer(target, buffer);
+			this.buffers[slot] = buffer;
+		}
+	}
+	
+	/**
+	 * Binds a whole buffer to an indexed binding point. Like in OpenGL, the buffer is also bound to the generic binding point.
+	 * @param target the buffer target
+	 * @param index the index of the binding point
+	 * @param buffer the ID of the buffer
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bindBufferBase(int target, int index, int buffer) {
+		
+		int slot = GLStateCache.indexedSlot(target, index);
+		
+		if(slot == -1 || GLStateCache.count(this.indexedBuffers[slot] != buffer || this.indexedSizes[slot] != UNKNOWN)) {
+			
+			if(slot == -1) {
+				
+				issuedCalls++;
+			
+			} else {
+				
+				this.indexedBuffers[slot] = buffer;
+				this.indexedOffsets[slot] = 0;
+				this.indexedSizes[slot] = UNKNOWN;
+			}
+			
+			glBindBufferBase(target, index, buffer);
+			this.setBuffer(target, buffer);
+		}
+	}
+	
+	/**
+	 * Binds a range of a buffer to an indexed binding point. Like in OpenGL, the buffer is also bound to the generic binding point.
+	 * @param target the buffer target
+	 * @param index the index of the binding point
+	 * @param buffer the ID of the buffer
+	 * @param offset the offset of the range in bytes
+	 * @param size the size of the range in bytes
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bindBufferRange(int target, int index, int buffer, long offset, long size) {
+		
+		int slot = GLStateCache.indexedSlot(target, index);
+		
+		if(slot == -1 || GLStateCache.count(this.indexedBuffers[slot] != buffer || this.indexedOffsets[slot] != offset || this.indexedSizes[slot] != size)) {
+			
+			if(slot == -1) {
+				
+				issuedCalls++;
+			
+			} else {
+				
+				this.indexedBuffers[slot] = buffer;
+				this.indexedOffsets[slot] = offset;
+				this.indexedSizes[slot] = size;
+			}
+			
+			glBindBufferRange(target, index, buffer, offset, size);
+			this.setBuffer(target, buffer);
+		}
+	}
+	
+	/**
+	 * Updates the generic binding point after an indexed bind.
+	 * @param target the buffer target
+	 * @param buffer the ID of the buffer
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void setBuffer(int target, int buffer) {
+		
+		int slot = GLStateCache.bufferSlot(target);
+		
+		if(slot != -1) {
+			
+			this.buffers[slot] = buffer;
+		}
+	}
+	
+	/**
+	 * Selects the active texture unit.
+	 * @param unit the texture unit ({@code GL_TEXTURE0} and up)
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void activeTexture(int unit) {
+		
+		if(GLStateCache.count(this.activeTexture != unit)) {
+			
+			glActiveTexture(unit);
+			this.activeTexture = unit;
+		}
+	}
+	
+	/**
+	 * Binds a texture to the active texture unit.
+	 * @param target the texture target
+	 * @param texture the ID of the texture, {@code 0} to unbind
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bindTexture(int target, int texture) {
+		
+		// Without a known unit the cache couldn't tell which binding was replaced
+		if(this.activeTexture == UNKNOWN) {
+			
+			this.activeTexture(GL_TEXTURE0);
+		}
+		
+		int unit = this.activeTexture - GL_TEXTURE0;
+		
+		if(unit < 0 || unit >= TEXTURE_UNITS) {
+			
+			issuedCalls++;
+			glBindTexture(target, texture);
+		
+		} else if(GLStateCache.count(this.textures[unit] != texture || this.textureTargets[unit] != target)) {
+			
+			glBindTexture(target, texture);
+			this.textures[unit] = texture;
+			this.textureTargets[unit] = target;
+		}
+	}
+	
+	/**
+	 * Binds a texture to a texture unit. Only changes the active texture unit if the texture isn't bound to the unit already.
+	 * @param unit the texture unit ({@code GL_TEXTURE0} and up)
+	 * @param target the texture target
+	 * @param texture the ID of the texture, {@code 0} to unbind
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bindTexture(int unit, int target, int texture) {
+		
+		int index = unit - GL_TEXTURE0;
+		
+		if(index >= 0 && index < TEXTURE_UNITS && this.textures[index] == texture && this.textureTargets[index] == target) {
+			
+			skippedCalls++;
+			return;
+		}
+		
+		this.activeTexture(unit);
+		this.bindTexture(target, texture);
+	}
+	
+	/**
+	 * Enables or disables a capability.
+	 * @param capability the capability, for example {@code GL_DEPTH_TEST}
+	 * @param enabled {@code true} to enable it, {@code false} to disable it
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setEnabled(int capability, boolean enabled) {
+		
+		int slot = GLStateCache.capabilitySlot(capability);
+		int state = enabled ? 1 : 0;
+		
+		if(slot == -1 || GLStateCache.count(this.capabilities[slot] != state)) {
+			
+			if(slot == -1) {
+				
+				issuedCalls++;
+			
+			} else {
+				
+				this.capabilities[slot] = state;
+			}
+			
+			if(enabled) {
+				
+				glEnable(capability);
+			
+			} else {
+				
+				glDisable(capability);
+			}
+		}
+	}
+	
+	/**
+	 * Selects which faces are culled.
+	 * @param mode {@code GL_BACK}, {@code GL_FRONT} or {@code GL_FRONT_AND_BACK}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void cullFace(int mode) {
+		
+		if(GLStateCache.count(this.cullFace != mode)) {
+			
+			glCullFace(mode);
+			this.cullFace = mode;
+		}
+	}
+	
+	/**
+	 * Sets the blend function.
+	 * @param source the factor of the source color
+	 * @param destination the factor of the destination color
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void blendFunc(int source, int destination) {
+		
+		if(GLStateCache.count(this.blendSource != source || this.blendDestination != destination)) {
+			
+			glBlendFunc(source, destination);
+			this.blendSource = source;
+			this.blendDestination = destination;
+		}
+	}
+	
+	/**
+	 * Sets the depth comparison function.
+	 * @param function the function, for example {@code GL_LESS}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void depthFunc(int function) {
+		
+		if(GLStateCache.count(this.depthFunction != function)) {
+			
+			glDepthFunc(function);
+			this.depthFunction = function;
+		}
+	}
+	
+	/**
+	 * Enables or disables writing to the depth buffer.
+	 * @param write {@code true} if the depth buffer should be written to
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void depthMask(boolean write) {
+		
+		int mask = write ? 1 : 0;
+		
+		if(GLStateCache.count(this.depthMask != mask)) {
+			
+			glDepthMask(write);
+			this.depthMask = mask;
+		}
+	}
+	
+	/**
+	 * Sets the color the color buffer is cleared with.
+	 * @param red red component
+	 * @param green green component
+	 * @param blue blue component
+	 * @param alpha alpha component
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void clearColor(float red, float green, float blue, float alpha) {
+		
+		if(GLStateCache.count(this.clearRed != red || this.clearGreen != green || this.clearBlue != blue || this.clearAlpha != alpha)) {
+			
+			glClearColor(red, green, blue, alpha);
+			this.clearRed = red;
+			this.clearGreen = green;
+			this.clearBlue = blue;
+			this.clearAlpha = alpha;
+		}
+	}
+	
+	/**
+	 * Has to be called when a program is deleted.
+	 * @param program the ID of the program
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void forgetProgram(int program) {
+		
+		if(this.program == program) {
+			
+			this.program = UNKNOWN;
+		}
+	}
+	
+	/**
+	 * Has to be called when a vertex array is deleted.
+	 * @param vertexArray the ID of the vertex array
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void forgetVertexArray(int vertexArray) {
+		
+		if(this.vertexArray == vertexArray) {
+			
+			this.vertexArray = UNKNOWN;
+		}
+	}
+	
+	/**
+	 * Has to be called when a buffer is deleted.
+	 * @param buffer the ID of the buffer
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void forgetBuffer(int buffer) {
+		
+		GLStateCache.forget(this.buffers, buffer);
+		GLStateCache.forget(this.indexedBuffers, buffer);
+	}
+	
+	/**
+	 * Has to be called when a texture is deleted.
+	 * @param texture the ID of the texture
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void forgetTexture(int texture) {
+		
+		GLStateCache.forget(this.textures, texture);
+	}
+	
+	/**
+	 * @param names the cached names
+	 * @param name the name that is no longer valid
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void forget(int[] names, int name) {
+		
+		for(int index = 0; index < names.length; index++) {
+			
+			if(names[index] == name) {
+				
+				names[index] = UNKNOWN;
+			}
+		}
+	}
+	
+	/**
+	 * Resets the counters of {@link #getIssuedCalls()} and {@link #getSkippedCalls()}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static void resetStatistics() {
+		
+		issuedCalls = 0;
+		skippedCalls = 0;
+	}
+	
+	/**
+	 * @return the amount of state changes that were sent to OpenGL since the last call of {@link #resetStatistics()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static long getIssuedCalls() {
+		
+		return issuedCalls;
+	}
+	
+	/**
+	 * @return the amount of redundant state changes that were skipped since the last call of {@link #resetStatistics()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static long getSkippedCalls() {
+		
+		return skippedCalls;
+	}
+	
+	/**
+	 * @return the ID of the bound program or {@code -1} if it is unknown
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getProgram() {
+		
+		return this.program;
+	}
+	
+	/**
+	 * @return the ID of the bound vertex array or {@code -1} if it is unknown
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getVertexArray() {
+		
+		return this.vertexArray;
+	}
+}
@@ -1,217 +1,598 @@
-package de.ralleytn.engine.caveman.rendering;
-
-import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
-import static org.lwjgl.opengl.GL30.*;
-
-import javax.vecmath.Color4f;
-import javax.vecmath.Vector3f;
-
-import de.ralleytn.engine.caveman.Entity;
-import de.ralleytn.engine.caveman.Game;
-import de.ralleytn.engine.caveman.Terrain;
-import de.ralleytn.engine.caveman.rendering.geom.Mesh;
-import de.ralleytn.engine.caveman.rendering.light.Light;
-import de.ralleytn.engine.caveman.rendering.shader.Material;
-import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
-
-/**
- * Manages the rendering of 3D graphics.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 30.08.2018/0.3.0
- * @since 30.07.2018/0.1.0
- */
-public class Graphics3D {
-
-	private final Game game;
-	private ShaderPipeline shaderPipeline;
-	private Material material;
-	private Mesh lastRenderedMesh;
-	private int cullMode;
-	
-	/**
-	 * @param game the {@linkplain Game} instance this manager belongs to
-	 * @since 12.08.2018/0.1.0
-	 */
-	public Graphics3D(Game game) {
-		
-		this.game = game;
-	}
-	
-	/**
-	 * Renders a line.
-	 * @param start the start point
-	 * @param end the end point
-	 * @param lineWidth the line width (default = {@code 1.0F})
-	 * @param color the line color
-	 * @since 15.08.2018/0.1.0
-	 */
-	public void renderLine(Vector3f start, Vector3f end, float lineWidth, Color4f color) {
-		
-		glColor4f(color.x, color.y, color.z, color.w);
-		glBegin(GL_LINE_STRIP);
-		glLineWidth(lineWidth);
-		glVertex3f(start.x, start.y, start.z);
-		glVertex3f(end.x, end.y, end.z);
-		glEnd();
-	}
-	
-	/**
-	 * Renders a mesh.
-	 * @param mesh the mesh
-	 * @since 10.08.2018/0.1.0
-	 */
-	public void renderMesh(Mesh mesh) {
-		
-		VertexArray array = mesh.getVertexArray();
-
-		if(this.lastRenderedMesh != mesh) {
-			
-			// Is it really necessary to disable?
-			// I can save a little bit of performance by reducing the native calls.
-			/*if(this.lastRenderedMesh != null) {
-				
-				VertexArray lastMeshArray = this.lastRenderedMesh.getVertexArray();
-				if(this.lastRenderedMesh.hasNormals()) lastMeshArray.disable(2);
-				if(this.lastRenderedMesh.hasTextureCoordinates()) lastMeshArray.disable(1);
-				lastMeshArray.disable(0);
-			}*/
-			
-			if(this.cullMode != mesh.getCullMode()) {
-				
-				this.setFaceCulling(mesh.getCullMode());
-			}
-			
-			glBindVertexArray(array.getID());
-			glEnableVertexAttribArray(0);
-			if(mesh.hasTextureCoordinates()) glEnableVertexAttribArray(1);
-			if(mesh.hasNormals()) glEnableVertexAttribArray(2);
-			this.lastRenderedMesh = mesh;
-		}
-		
-		glDrawElements(GL_TRIANGLES, mesh.getIndexCount(), GL_UNSIGNED_INT, 0);
-	}
-	
-	/**
-	 * Renders a chunk of terrain.
-	 * @param terrain the terrain chunk
-	 * @since 26.08.2018/0.3.0
-	 */
-	public void renderTerrain(Terrain terrain) {
-		
-		Mesh mesh = terrain.getMesh();
-		Material material = terrain.getMaterial();
-		ShaderPipeline shaderPipeline = terrain.getShaderPipeline();
-		
-		if(this.shaderPipeline != shaderPipeline) {
-			
-			this.setShaderPipeline(shaderPipeline);
-		}
-		
-		if(this.shaderPipeline != null) {
-			
-			this.shaderPipeline.setUniform("projection", this.game.getCamera().getProjectionMatrix());
-			this.shaderPipeline.setUniform("transformation", terrain.getTransformation());
-			this.shaderPipeline.setUniform("view", this.game.getCamera().getViewMatrix());
-			
-			if(material != this.material || this.material.hasChanged() || (this.material.getFog() != null && this.material.getFog().hasChanged())) {
-				
-				this.material = material;
-				this.material.applyToShader(this.shaderPipeline);
-			}
-			
-			Light light = this.game.getScene().getSun();
-			
-			if(light != null) {
-				
-				this.shaderPipeline.setUniform("lightPos", light.getTranslation());
-				this.shaderPipeline.setUniform("lightColor", light.getColor());
-			}
-		}
-		
-		this.renderMesh(mesh);
-	}
-	
-	/**
-	 * Renders an instance of {@linkplain Entity}.
-	 * @param entity the object
-	 * @since 26.08.2018/0.3.0
-	 */
-	public void renderEntity(Entity entity) {
-		
-		Mesh mesh = entity.getMesh();
-		Material material = entity.getMaterial();
-		ShaderPipeline shaderPipeline = entity.getShaderPipeline();
-		
-		if(this.shaderPipeline != shaderPipeline) {
-			
-			this.setShaderPipeline(shaderPipeline);
-		}
-		
-		if(this.shaderPipeline != null) {
-			
-			this.shaderPipeline.setUniform("projection", this.game.getCamera().getProjectionMatrix());
-			this.shaderPipeline.setUniform("transformation", entity.getTransformation());
-			this.shaderPipeline.setUniform("view", this.game.getCamera().getViewMatrix());
-			
-			if(material != this.material || this.material.hasChanged() || (this.material.getFog() != null && this.material.getFog().hasChanged())) {
-				
-				this.material = material;
-				this.material.applyToShader(this.shaderPipeline);
-			}
-			
-			Light light = this.game.getScene().getSun();
-			
-			if(light != null) {
-				
-				this.shaderPipeline.setUniform("lightPos", light.getTranslation());
-				this.shaderPipeline.setUniform("lightColor", light.getColor());
-			}
-		}
-		
-		this.renderMesh(mesh);
-	}
-	
-	/**
-	 * Sets the shader pipeline that is used.
-	 * @param shaderPipeline the shader pipeline
-	 * @since 12.08.2018/0.1.0
-	 */
-	public void setShaderPipeline(ShaderPipeline shaderPipeline) {
-		
-		if(shaderPipeline != null) {
-			
-			shaderPipeline.bind();
-			
-		} else {
-			
-			glUseProgram(0);
-		}
-		
-		this.shaderPipeline = shaderPipeline;
-	}
-	
-	/**
-	 * Sets the face culling mode.
-	 * @param mode the face culling mode
-	 * @since 10.08.2018/0.1.0
-	 */
-	public void setFaceCulling(int mode) {
-		
-		if(mode == Mesh.CULLING_BACK) {
-			
-			glEnable(GL_CULL_FACE);
-			glCullFace(GL_BACK);
-			
-		} else if(mode == Mesh.CULLING_FRONT) {
-			
-			glEnable(GL_CULL_FACE);
-			glCullFace(GL_FRONT);
-			
-		} else if(mode == Mesh.CULLING_DISABLED) {
-			
-			glDisable(GL_CULL_FACE);
-		}
-		
-		this.cullMode = mode;
-	}
-}
+package de.ralleytn.engine.caveman.rendering;
+
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL32.*;
+import static org.lwjgl.opengl.GL43.*;
+
+import java.nio.ByteBuffer;
+
+import javax.vecmath.Color4f;
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Vector3f;
+
+import org.lwjgl.BufferUtils;
+
+import de.ralleytn.engine.caveman.Entity;
+import de.ralleytn.engine.caveman.Game;
+import de.ralleytn.engine.caveman.Terrain;
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.rendering.geom.PooledMesh;
+import de.ralleytn.engine.caveman.rendering.shader.Material;
+import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
+import de.ralleytn.engine.caveman.rendering.shader.UniformHandle;
+
+/**
+ * Manages the rendering of 3D graphics.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 30.07.2018/0.1.0
+ */
+public class Graphics3D {
+
+	/** @since 18.10.2026/0.5.0 */ public static final int DRAW_DATA_BINDING = 2;
+	
+	private static final String UNIFORM_TRANSFORMATION = "transformation";
+	private static final String UNIFORM_TERRAIN_NODE = "terrainNode";
+	private static final String UNIFORM_TERRAIN_MORPH = "terrainMorph";
+	private static final String UNIFORM_TERRAIN_ORIGIN = "terrainOrigin";
+	private static final String UNIFORM_TERRAIN_SIZE = "terrainSize";
+	private static final String UNIFORM_TERRAIN_GRID_RESOLUTION = "terrainGridResolution";
+	private static final String UNIFORM_TERRAIN_HEIGHTMAP = "terrainHeightmap";
+	
+	// Runs of packets with the same shader pipeline, material and mesh are drawn instanced from this length on
+	private static final int INSTANCING_THRESHOLD = 4;
+	
+	// Size of a DrawElementsIndirectCommand: count, instanceCount, firstIndex, baseVertex, baseInstance
+	private static final int COMMAND_SIZE = 20;
+	
+	private final Game game;
+	private final GLStateCache stateCache;
+	private final FrameUniformBuffer frameUniforms;
+	private final GLBuffer instanceBuffer;
+	private final GLBuffer commandBuffer;
+	private final GLBuffer drawDataBuffer;
+	private ByteBuffer instanceData;
+	private ByteBuffer commandData;
+	private int[] instancePackets;
+	private ShaderPipeline shaderPipeline;
+	
+	// Resolved whenever the shader pipeline changes, so that drawing needs no name lookups
+	private UniformHandle transformationUniform;
+	private UniformHandle terrainNodeUniform;
+	private UniformHandle terrainMorphUniform;
+	private UniformHandle terrainOriginUniform;
+	private UniformHandle terrainSizeUniform;
+	private UniformHandle terrainGridResolutionUniform;
+	private UniformHandle terrainHeightmapUniform;
+	private Material material;
+	private int cullMode;
+	
+	/**
+	 * @param game the {@linkplain Game} instance this manager belongs to
+	 * @since 12.08.2018/0.1.0
+	 */
+	public Graphics3D(Game game) {
+		
+		this.game = game;
+		this.stateCache = GLStateCache.getDefault();
+		this.frameUniforms = new FrameUniformBuffer();
+		this.instanceBuffer = new GLBuffer(GLBuffer.TYPE_ARRAY);
+		this.commandBuffer = new GLBuffer(GLBuffer.TYPE_DRAW_INDIRECT);
+		this.drawDataBuffer = new GLBuffer(GLBuffer.TYPE_SHADER_STORAGE);
+		this.instanceData = BufferUtils.createByteBuffer(64 * 256);
+		this.commandData = BufferUtils.createByteBuffer(COMMAND_SIZE * 256);
+		this.instancePackets = new int[256];
+	}
+	
+	/**
+	 * Writes projection, view, camera position and light of the current frame to the {@linkplain FrameUniformBuffer}.
+	 * Has to be called once per frame before anything is rendered.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void beginFrame() {
+		
+		this.frameUniforms.update(this.game.getCamera(), this.game.getScene().getSun());
+	}
+	
+	/**
+	 * Renders a line.
+	 * @param start the start point
+	 * @param end the end point
+	 * @param lineWidth the line width (default = {@code 1.0F})
+	 * @param color the line color
+	 * @since 15.08.2018/0.1.0
+	 */
+	public void renderLine(Vector3f start, Vector3f end, float lineWidth, Color4f color) {
+		
+		glColor4f(color.x, color.y, color.z, color.w);
+		glBegin(GL_LINE_STRIP);
+		glLineWidth(lineWidth);
+		glVertex3f(start.x, start.y, start.z);
+		glVertex3f(end.x, end.y, end.z);
+		glEnd();
+	}
+	
+	/**
+	 * Renders a mesh.
+	 * @param mesh the mesh
+	 * @since 10.08.2018/0.1.0
+	 */
+	public void renderMesh(Mesh mesh) {
+		
+		this.bindMesh(mesh);
+		glDrawElementsBaseVertex(GL_TRIANGLES, mesh.getIndexCount(), mesh.getIndexType(), (long)mesh.getFirstIndex() * mesh.getIndexSize(), mesh.getBaseVertex());
+	}
+	
+	/**
+	 * Renders a mesh multiple times with one draw call.
+	 * Each instance gets its transformation matrix from the instance buffer, so the shader pipeline has to be an instanced variant.
+	 * @param mesh the mesh
+	 * @param matrices the transformation matrices in the order of {@link de.ralleytn.engine.caveman.util.MatrixUtil#toArray4f(javax.vecmath.Matrix4f)}
+	 * @param packets indices of the matrices, the matrix of a packet starts at {@code packet * 16}
+	 * @param count the amount of instances
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void renderMeshInstanced(Mesh mesh, float[] matrices, int[] packets, int count) {
+		
+		int size = count * 64;
+		ByteBuffer data = this.reserveInstanceData(size);
+		
+		for(int index = 0; index < count; index++) {
+			
+			Graphics3D.putMatrix(data, matrices, packets[index] * 16);
+		}
+		
+		data.flip();
+		this.bindMesh(mesh);
+		VertexArray array = mesh.getVertexArray();
+		
+		if(array.getInstanceBuffer() != this.instanceBuffer) {
+			
+			array.storeInstanceMatrices(this.instanceBuffer, ShaderPipeline.ATTRIBUTE_INSTANCE_TRANSFORMATION);
+		}
+		
+		// Orphaning the old storage lets the driver keep using it for previous draws instead of waiting for them
+		this.instanceBuffer.bind();
+		this.instanceBuffer.allocate(size, GL_STREAM_DRAW);
+		this.instanceBuffer.setSubData(0, data);
+		glDrawElementsInstancedBaseVertex(GL_TRIANGLES, mesh.getIndexCount(), mesh.getIndexType(), (long)mesh.getFirstIndex() * mesh.getIndexSize(), count, mesh.getBaseVertex());
+	}
+	
+	/**
+	 * Draws the packets of a sorted {@linkplain RenderQueue} from {@code start} to {@code end} with one {@code glMultiDrawElementsIndirect} call.
+	 * All meshes have to be stored in the same {@linkplain de.ralleytn.engine.caveman.rendering.geom.GeometryPool} and have the same cull mode.
+	 * Every run of packets with the same mesh becomes one command, the transformations are read from the
+	 * {@code DrawData} shader storage block at {@value #DRAW_DATA_BINDING}, so the shader pipeline has to be an indirect variant.
+	 * @param queue the render queue
+	 * @param start position of the first packet
+	 * @param end position behind the last packet
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void renderIndirect(RenderQueue queue, int start, int end) {
+		
+		float[] matrices = queue.getMatrices();
+		int count = end - start;
+		ByteBuffer drawData = this.reserveInstanceData(count * 64);
+		
+		if(this.commandData.capacity() < count * COMMAND_SIZE) {
+			
+			this.commandData = BufferUtils.createByteBuffer(Math.max(count * COMMAND_SIZE, this.commandData.capacity() * 2));
+		}
+		
+		ByteBuffer commands = this.commandData;
+		commands.clear();
+		Mesh mesh = queue.getMesh(queue.getPacket(start));
+		int commandCount = 0;
+		int baseInstance = 0;
+		
+		for(int position = start; position < end; position++) {
+			
+			int packet = queue.getPacket(position);
+			Mesh packetMesh = queue.getMesh(packet);
+			
+			if(packetMesh != mesh) {
+				
+				int instance = position - start;
+				Graphics3D.putCommand(commands, mesh, instance - baseInstance, baseInstance);
+				commandCount++;
+				baseInstance = instance;
+				mesh = packetMesh;
+			}
+			
+			Graphics3D.putMatrix(drawData, matrices, packet * 16);
+		}
+		
+		Graphics3D.putCommand(commands, mesh, count - baseInstance, baseInstance);
+		commandCount++;
+		drawData.flip();
+		commands.flip();
+		
+		this.bindMesh(queue.getMesh(queue.getPacket(start)));
+		this.drawDataBuffer.bindBase(DRAW_DATA_BINDING);
+		this.drawDataBuffer.bind();
+		this.drawDataBuffer.allocate(drawData.remaining(), GL_STREAM_DRAW);
+		this.drawDataBuffer.setSubData(0, drawData);
+		this.commandBuffer.bind();
+		this.commandBuffer.allocate(commands.remaining(), GL_STREAM_DRAW);
+		this.commandBuffer.setSubData(0, commands);
+		glMultiDrawElementsIndirect(GL_TRIANGLES, GL_UNSIGNED_INT, 0, commandCount, 0);
+	}
+	
+	/**
+	 * Finds the end of the packets that can be drawn together with {@link #renderIndirect(RenderQueue, int, int)}.
+	 * @param queue the sorted render queue
+	 * @param start position of the first packet
+	 * @param end position behind the last packet with the same mesh as the first one
+	 * @return position behind the last packet that can be drawn together with the first one or {@code start} if the first one can't be drawn indirect
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final int findIndirectBatch(RenderQueue queue, int start, int end) {
+		
+		int first = queue.getPacket(start);
+		Mesh mesh = queue.getMesh(first);
+		
+		// Transparent packets are sorted by depth, so only opaque ones are batched
+		if(!(mesh instanceof PooledMesh) || (queue.getKey(start) >>> 62) != RenderQueue.PASS_OPAQUE) {
+			
+			return start;
+		}
+		
+		ShaderPipeline shaderPipeline = queue.getShaderPipeline(first);
+		Material material = queue.getMaterial(first);
+		VertexArray array = mesh.getVertexArray();
+		int cullMode = mesh.getCullMode();
+		int size = queue.size();
+		
+		while(end < size) {
+			
+			int next = queue.getPacket(end);
+			Mesh nextMesh = queue.getMesh(next);
+			
+			if(queue.getShaderPipeline(next) != shaderPipeline || queue.getMaterial(next) != material || !(nextMesh instanceof PooledMesh) ||
+			   nextMesh.getVertexArray() != array || nextMesh.getCullMode() != cullMode) {
+				
+				break;
+			}
+			
+			end++;
+		}
+		
+		return end;
+	}
+	
+	/**
+	 * @param size the required size in bytes
+	 * @return the cleared buffer for instance matrices, large enough for the given size
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final ByteBuffer reserveInstanceData(int size) {
+		
+		if(this.instanceData.capacity() < size) {
+			
+			this.instanceData = BufferUtils.createByteBuffer(Math.max(size, this.instanceData.capacity() * 2));
+		}
+		
+		this.instanceData.clear();
+		return this.instanceData;
+	}
+	
+	/**
+	 * @param data the buffer
+	 * @param matrices the array containing the matrix
+	 * @param offset index of the first element of the matrix
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void putMatrix(ByteBuffer data, float[] matrices, int offset) {
+		
+		for(int element = 0; element < 16; element++) {
+			
+			data.putFloat(matrices[offset + element]);
+		}
+	}
+	
+	/**
+	 * Writes a {@code DrawElementsIndirectCommand}.
+	 * @param commands the buffer
+	 * @param mesh the mesh
+	 * @param instanceCount the amount of instances
+	 * @param baseInstance index of the first transformation in the {@code DrawData} block
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void putCommand(ByteBuffer commands, Mesh mesh, int instanceCount, int baseInstance) {
+		
+		commands.putInt(mesh.getIndexCount());
+		commands.putInt(instanceCount);
+		commands.putInt(mesh.getFirstIndex());
+		commands.putInt(mesh.getBaseVertex());
+		commands.putInt(baseInstance);
+	}
+	
+	/**
+	 * Binds the vertex array of a mesh and sets its face culling.
+	 * The vertex array is bound on every call, because it may have been unbound since the last draw (for example by a geometry pool that grew).
+	 * {@link GLStateCache} drops the bind if the vertex array is still bound, so meshes of the same
+	 * {@linkplain de.ralleytn.engine.caveman.rendering.geom.GeometryPool} share their vertex array and need no native bind at all.
+	 * The attributes are enabled once when the vertex array is created, because that state is stored in the vertex array.
+	 * @param mesh the mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void bindMesh(Mesh mesh) {
+		
+		if(this.cullMode != mesh.getCullMode()) {
+			
+			this.setFaceCulling(mesh.getCullMode());
+		}
+		
+		mesh.getVertexArray().bind();
+	}
+	
+	/**
+	 * Renders a chunk of terrain.
+	 * Draws the shared grid once for every node that was selected with {@link Terrain#select(Vector3f, de.ralleytn.engine.caveman.rendering.camera.Frustum)}.
+	 * @param terrain the terrain chunk
+	 * @since 26.08.2018/0.3.0
+	 */
+	public void renderTerrain(Terrain terrain) {
+		
+		Mesh mesh = terrain.getMesh();
+		Material material = terrain.getMaterial();
+		ShaderPipeline shaderPipeline = Graphics3D.getPermutation(terrain.getShaderPipeline(), material);
+		
+		if(this.shaderPipeline != shaderPipeline) {
+			
+			this.setShaderPipeline(shaderPipeline);
+		}
+		
+		if(this.shaderPipeline != null) {
+			
+			Heightmap heightmap = terrain.getHeightmap() != null ? terrain.getHeightmap() : Terrain.getFlatHeightmap();
+			heightmap.bind();
+			this.terrainHeightmapUniform.set(Heightmap.TEXTURE_UNIT);
+			this.terrainOriginUniform.set(terrain.getPosition());
+			this.terrainSizeUniform.set(Terrain.SIZE);
+			this.terrainGridResolutionUniform.set((float)Terrain.GRID_RESOLUTION);
+			
+			if(material != this.material || this.material.hasChanged() || (this.material.getFog() != null && this.material.getFog().hasChanged())) {
+				
+				this.material = material;
+				this.material.applyToShader();
+			}
+		}
+		
+		this.bindMesh(mesh);
+		
+		float[] selection = terrain.getSelection();
+		int quarterCount = mesh.getIndexCount() / 4;
+		
+		for(int index = 0; index < terrain.getSelectionCount(); index++) {
+			
+			int offset = index * 5;
+			int level = (int)selection[offset + 3];
+			int quarter = (int)selection[offset + 4];
+			this.terrainNodeUniform.set(selection[offset], selection[offset + 1], selection[offset + 2]);
+			this.terrainMorphUniform.set(Terrain.getMorphStart(level), Terrain.getRange(level));
+			
+			// The indices of the grid are sorted by quarter, so a quarter is a quarter of the index range
+			int count = quarter == -1 ? mesh.getIndexCount() : quarterCount;
+			int first = mesh.getFirstIndex() + (quarter == -1 ? 0 : quarter * quarterCount);
+			glDrawElementsBaseVertex(GL_TRIANGLES, count, mesh.getIndexType(), (long)first * mesh.getIndexSize(), mesh.getBaseVertex());
+		}
+	}
+	
+	/**
+	 * Renders an instance of {@linkplain Entity}.
+	 * @param entity the object
+	 * @since 26.08.2018/0.3.0
+	 */
+	public void renderEntity(Entity entity) {
+		
+		this.renderObject(entity.getMesh(), entity.getMaterial(), entity.getShaderPipeline(), entity.getTransformation());
+	}
+	
+	/**
+	 * Renders a mesh with the given material, shader pipeline and transformation.
+	 * Used for objects that are not an {@linkplain Entity}, like the ones of the entity component system.
+	 * @param mesh the mesh
+	 * @param material the material
+	 * @param shaderPipeline the shader pipeline
+	 * @param transformation the transformation matrix
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void renderObject(Mesh mesh, Material material, ShaderPipeline shaderPipeline, Matrix4f transformation) {
+		
+		ShaderPipeline permutation = Graphics3D.getPermutation(shaderPipeline, material);
+		
+		if(this.shaderPipeline != permutation) {
+			
+			this.setShaderPipeline(permutation);
+		}
+		
+		if(this.shaderPipeline != null) {
+			
+			this.transformationUniform.set(transformation);
+			
+			if(material != this.material || this.material.hasChanged() || (this.material.getFog() != null && this.material.getFog().hasChanged())) {
+				
+				this.material = material;
+				this.material.applyToShader();
+			}
+		}
+		
+		this.renderMesh(mesh);
+	}
+	
+	/**
+	 * Renders all packets of a sorted {@linkplain RenderQueue}.
+	 * The material is only applied when it changes, so a well sorted queue needs very few state changes.
+	 * At least {@value #INSTANCING_THRESHOLD} packets in a row with the same shader pipeline, material and mesh are drawn with a single
+	 * instanced draw call if the shader pipeline has an {@linkplain ShaderPipeline#getInstancedVariant() instanced variant}.
+	 * If it has an {@linkplain ShaderPipeline#getIndirectVariant() indirect variant}, at least {@value #INSTANCING_THRESHOLD} opaque packets in a row
+	 * with the same shader pipeline and material whose meshes are stored in the same {@linkplain de.ralleytn.engine.caveman.rendering.geom.GeometryPool}
+	 * are drawn with a single multi draw call, even if their meshes differ.
+	 * Every shader pipeline is replaced by its {@linkplain ShaderPipeline#getPermutation(int) permutation} for the features of the material.
+	 * @param queue the render queue
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void render(RenderQueue queue) {
+		
+		float[] matrices = queue.getMatrices();
+		ShaderPipeline boundShaderPipeline = null;
+		Material boundMaterial = null;
+		int size = queue.size();
+		int position = 0;
+		
+		while(position < size) {
+			
+			int packet = queue.getPacket(position);
+			ShaderPipeline shaderPipeline = queue.getShaderPipeline(packet);
+			Material material = queue.getMaterial(packet);
+			Mesh mesh = queue.getMesh(packet);
+			int end = position + 1;
+			
+			// The queue is sorted by state, so packets that can share a draw call follow each other
+			while(end < size) {
+				
+				int next = queue.getPacket(end);
+				
+				if(queue.getShaderPipeline(next) != shaderPipeline || queue.getMaterial(next) != material || queue.getMesh(next) != mesh) {
+					
+					break;
+				}
+				
+				end++;
+			}
+			
+			ShaderPipeline indirectVariant = shaderPipeline != null ? shaderPipeline.getIndirectVariant() : null;
+			
+			if(indirectVariant != null) {
+				
+				int batchEnd = Graphics3D.findIndirectBatch(queue, position, end);
+				
+				if(batchEnd - position >= INSTANCING_THRESHOLD) {
+					
+					end = batchEnd;
+					
+				} else {
+					
+					indirectVariant = null;
+				}
+			}
+			
+			int count = end - position;
+			ShaderPipeline instancedVariant = indirectVariant == null && shaderPipeline != null && count >= INSTANCING_THRESHOLD ? shaderPipeline.getInstancedVariant() : null;
+			ShaderPipeline target = Graphics3D.getPermutation(indirectVariant != null ? indirectVariant : (instancedVariant != null ? instancedVariant : shaderPipeline), material);
+			
+			if(target != boundShaderPipeline || position == 0) {
+				
+				this.setShaderPipeline(target);
+				boundShaderPipeline = target;
+			}
+			
+			if(target != null && material != null && (material != boundMaterial || material.hasChanged() || (material.getFog() != null && material.getFog().hasChanged()))) {
+				
+				material.applyToShader();
+				boundMaterial = material;
+			}
+			
+			if(indirectVariant != null) {
+				
+				this.renderIndirect(queue, position, end);
+				
+			} else if(instancedVariant != null) {
+				
+				if(this.instancePackets.length < count) {
+					
+					this.instancePackets = new int[Math.max(count, this.instancePackets.length * 2)];
+				}
+				
+				for(int index = 0; index < count; index++) {
+					
+					this.instancePackets[index] = queue.getPacket(position + index);
+				}
+				
+				this.renderMeshInstanced(mesh, matrices, this.instancePackets, count);
+				
+			} else {
+				
+				for(int index = position; index < end; index++) {
+					
+					if(target != null) {
+						
+						this.transformationUniform.setMatrix(matrices, queue.getPacket(index) * 16);
+					}
+					
+					this.renderMesh(mesh);
+				}
+			}
+			
+			position = end;
+		}
+		
+		this.material = boundMaterial;
+	}
+	
+	/**
+	 * @param shaderPipeline the shader pipeline or {@code null}
+	 * @param material the material or {@code null}
+	 * @return the permutation of the shader pipeline for the features of the material
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final ShaderPipeline getPermutation(ShaderPipeline shaderPipeline, Material material) {
+		
+		return shaderPipeline != null && material != null ? shaderPipeline.getPermutation(material.getFeatures()) : shaderPipeline;
+	}
+	
+	/**
+	 * Sets the shader pipeline that is used.
+	 * @param shaderPipeline the shader pipeline
+	 * @since 12.08.2018/0.1.0
+	 */
+	public void setShaderPipeline(ShaderPipeline shaderPipeline) {
+		
+		if(shaderPipeline != null) {
+			
+			shaderPipeline.bind();
+			this.transformationUniform = shaderPipeline.getUniform(UNIFORM_TRANSFORMATION);
+			this.terrainNodeUniform = shaderPipeline.getUniform(UNIFORM_TERRAIN_NODE);
+			this.terrainMorphUniform = shaderPipeline.getUniform(UNIFORM_TERRAIN_MORPH);
+			this.terrainOriginUniform = shaderPipeline.getUniform(UNIFORM_TERRAIN_ORIGIN);
+			this.terrainSizeUniform = shaderPipeline.getUniform(UNIFORM_TERRAIN_SIZE);
+			this.terrainGridResolutionUniform = shaderPipeline.getUniform(UNIFORM_TERRAIN_GRID_RESOLUTION);
+			this.terrainHeightmapUniform = shaderPipeline.getUniform(UNIFORM_TERRAIN_HEIGHTMAP);
+			
+		} else {
+			
+			this.stateCache.useProgram(0);
+		}
+		
+		this.shaderPipeline = shaderPipeline;
+	}
+	
+	/**
+	 * Sets the face culling mode.
+	 * @param mode the face culling mode
+	 * @since 10.08.2018/0.1.0
+	 */
+	public void setFaceCulling(int mode) {
+		
+		GLStateCache stateCache = this.stateCache;
+		
+		if(mode == Mesh.CULLING_BACK) {
+			
+			stateCache.setEnabled(GL_CULL_FACE, true);
+			stateCache.cullFace(GL_BACK);
+			
+		} else if(mode == Mesh.CULLING_FRONT) {
+			
+			stateCache.setEnabled(GL_CULL_FACE, true);
+			stateCache.cullFace(GL_FRONT);
+			
+		} else if(mode == Mesh.CULLING_DISABLED) {
+			
+			stateCache.setEnabled(GL_CULL_FACE, false);
+		}
+		
+		this.cullMode = mode;
+	}
+}
@@ -0,0 +1,184 @@
+package de.ralleytn.engine.caveman.rendering;
+
+import java.nio.FloatBuffer;
+
+import org.lwjgl.BufferUtils;
+
+import de.ralleytn.engine.caveman.LWJGLObject;
+
+import static org.lwjgl.opengl.GL45.*;
+
+/**
+ * Represents a square grid of heights that is stored as single channel float texture, so that a vertex shader can displace a flat grid with it.
+ * The first and the last sample of a row lie exactly on the edges of the area it covers, so that neighboring heightmaps share their edge samples.
+ * A copy of the heights is kept, so that they can also be read without the GPU.
+ * Must only be used on the OpenGL thread.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class Heightmap extends LWJGLObject {
+
+	/**
+	 * The texture unit to which heightmaps are bound for rendering. The material uses the units 0 to 3 and 29 to 31.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int TEXTURE_UNIT = 4;
+	
+	// Shared by all heightmaps, so that updating the heights doesn't allocate native memory every time
+	private static FloatBuffer uploadBuffer;
+	
+	private final int resolution;
+	private final float[] heights;
+	private float minHeight;
+	private float maxHeight;
+	
+	/**
+	 * @param resolution the amount of samples along each axis
+	 * @param heights the heights, row by row; the array is copied
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Heightmap(int resolution, float[] heights) {
+		
+		this.resolution = resolution;
+		this.heights = new float[resolution * resolution];
+		this.id = glCreateTextures(GL_TEXTURE_2D);
+		glTextureStorage2D(this.id, 1, GL_R32F, resolution, resolution);
+		
+		// Linear filtering lets the vertex shader sample between the samples when a finer grid is drawn over it
+		glTextureParameteri(this.id, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+		glTextureParameteri(this.id, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+		glTextureParameteri(this.id, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+		glTextureParameteri(this.id, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+		this.update(heights);
+	}
+	
+	/**
+	 * Replaces all heights. The resolution stays the same.
+	 * @param heights the new heights, row by row; the array is copied
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void update(float[] heights) {
+		
+		System.arraycopy(heights, 0, this.heights, 0, this.heights.length);
+		this.minHeight = Float.MAX_VALUE;
+		this.maxHeight = -Float.MAX_VALUE;
+		
+		for(float height : this.heights) {
+			
+			this.minHeight = Math.min(this.minHeight, height);
+			this.maxHeight = Math.max(this.maxHeight, height);
+		}
+		
+		if(uploadBuffer == null || uploadBuffer.capacity() < this.heights.length) {
+			
+			uploadBuffer = BufferUtils.createFloatBuffer(this.heights.length);
+		}
+		
+		uploadBuffer.clear();
+		uploadBuffer.put(this.heights);
+		uploadBuffer.flip();
+		glTextureSubImage2D(this.id, 0, 0, 0, this.resolution, this.resolution, GL_RED, GL_FLOAT, uploadBuffer);
+	}
+	
+	/**
+	 * Binds the heightmap to {@link #TEXTURE_UNIT}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void bind() {
+		
+		GLStateCache.getDefault().bindTexture(GL_TEXTURE0 + TEXTURE_UNIT, GL_TEXTURE_2D, this.id);
+	}
+	
+	@Override
+	public void dispose() {
+		
+		glDeleteTextures(this.id);
+		GLStateCache.getDefault().forgetTexture(this.id);
+		this.disposed = true;
+	}
+	
+	/**
+	 * Interpolates the height between the samples the same way as the texture filtering does.
+	 * @param u position on the X axis between {@code 0.0F} (first sample) and {@code 1.0F} (last sample)
+	 * @param v position on the Z axis between {@code 0.0F} (first sample) and {@code 1.0F} (last sample)
+	 * @return the height
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getHeight(float u, float v) {
+		
+		int last = this.resolution - 1;
+		float x = Math.max(0.0F, Math.min(u, 1.0F)) * last;
+		float z = Math.max(0.0F, Math.min(v, 1.0F)) * last;
+		int x0 = Math.min((int)x, last - 1);
+		int z0 = Math.min((int)z, last - 1);
+		float fx = x - x0;
+		float fz = z - z0;
+		int row = z0 * this.resolution;
+		float top = this.heights[row + x0] + (this.heights[row + x0 + 1] - this.heights[row + x0]) * fx;
+		row += this.resolution;
+		float bottom = this.heights[row + x0] + (this.heights[row + x0 + 1] - this.heights[row + x0]) * fx;
+		return top + (bottom - top) * fz;
+	}
+	
+	/**
+	 * Calculates the lowest and highest height in a square area, for example to get the bounds of a part of the terrain.
+	 * @param u start of the area on the X axis between {@code 0.0F} and {@code 1.0F}
+	 * @param v start of the area on the Z axis between {@code 0.0F} and {@code 1.0F}
+	 * @param size size of the area between {@code 0.0F} and {@code 1.0F}
+	 * @param result array in which the lowest (index 0) and highest (index 1) height is stored
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void getHeightRange(float u, float v, float size, float[] result) {
+		
+		int last = this.resolution - 1;
+		
+		// Rounded outwards, so that the interpolated heights between the samples are covered as well
+		int startX = Math.max(0, (int)Math.floor(u * last));
+		int startZ = Math.max(0, (int)Math.floor(v * last));
+		int endX = Math.min(last, (int)Math.ceil((u + size) * last));
+		int endZ = Math.min(last, (int)Math.ceil((v + size) * last));
+		float min = Float.MAX_VALUE;
+		float max = -Float.MAX_VALUE;
+		
+		for(int z = startZ; z <= endZ; z++) {
+			
+			for(int x = startX; x <= endX; x++) {
+				
+				float height = this.heights[z * this.resolution + x];
+				min = Math.min(min, height);
+				max = Math.max(max, height);
+			}
+		}
+		
+		result[0] = min;
+		result[1] = max;
+	}
+	
+	/**
+	 * @return the amount of samples along each axis
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getResolution() {
+		
+		return this.resolution;
+	}
+	
+	/**
+	 * @return the lowest height
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getMinHeight() {
+		
+		return this.minHeight;
+	}
+	
+	/**
+	 * @return the highest height
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getMaxHeight() {
+		
+		return this.maxHeight;
+	}
+}
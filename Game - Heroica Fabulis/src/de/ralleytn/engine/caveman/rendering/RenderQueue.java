@@ -0,0 +1,276 @@
+package de.ralleytn.engine.caveman.rendering;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.rendering.shader.Material;
+import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
+
+/**
+ * Collects a draw packet for every visible object of a frame and sorts them by a 64 bit key, so that {@link Graphics3D#render(RenderQueue)}
+ * has to switch the shader pipeline, the material and the mesh as rarely as possible.
+ * <br><br>Layout of the key for opaque packets (from the most to the least significant bits):
+ * pass (2), shader pipeline (12), material (16), mesh (16), depth (18). Opaque packets are drawn from front to back.
+ * <br>Layout of the key for transparent packets: pass (2), inverted depth (18), shader pipeline (12), material (16), mesh (16).
+ * Transparent packets are drawn from back to front, the state only matters if two packets have the same depth.
+ * <br><br>{@link #add(Mesh, Material, ShaderPipeline, float)} may be called from multiple threads at the same time,
+ * as long as the capacity reserved with {@link #begin(int, float)} is not exceeded.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class RenderQueue {
+
+	/** @since 18.10.2026/0.5.0 */ public static final int PASS_OPAQUE = 0;
+	/** @since 18.10.2026/0.5.0 */ public static final int PASS_TRANSPARENT = 1;
+	
+	private static final int DEPTH_BITS = 18;
+	private static final int MESH_BITS = 16;
+	private static final int MATERIAL_BITS = 16;
+	private static final int SHADER_PIPELINE_BITS = 12;
+	private static final long DEPTH_MAX = (1L << DEPTH_BITS) - 1L;
+	private static final long MESH_MASK = (1L << MESH_BITS) - 1L;
+	private static final long MATERIAL_MASK = (1L << MATERIAL_BITS) - 1L;
+	private static final long SHADER_PIPELINE_MASK = (1L << SHADER_PIPELINE_BITS) - 1L;
+	
+	private final AtomicInteger size;
+	private final int[] histogram;
+	private long[] keys;
+	private long[] sortKeys;
+	private long[] tempKeys;
+	private int[] order;
+	private int[] tempOrder;
+	private Mesh[] meshes;
+	private Material[] materials;
+	private ShaderPipeline[] shaderPipelines;
+	private float[] matrices;
+	private float depthScale;
+	private int count;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public RenderQueue() {
+		
+		this.size = new AtomicInteger();
+		this.histogram = new int[256];
+		this.ensureCapacity(256);
+	}
+	
+	/**
+	 * Removes all packets and reserves enough space for the given amount of packets.
+	 * Has to be called before packets are added.
+	 * @param capacity the maximum amount of packets that will be added
+	 * @param maxDepth the maximum distance of an object to the camera, everything farther away has the same depth
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void begin(int capacity, float maxDepth) {
+		
+		// Packets of the last frame would otherwise keep disposed meshes, materials and shader pipelines reachable
+		int previous = Math.min(this.size.get(), this.meshes.length);
+		Arrays.fill(this.meshes, 0, previous, null);
+		Arrays.fill(this.materials, 0, previous, null);
+		Arrays.fill(this.shaderPipelines, 0, previous, null);
+		
+		this.ensureCapacity(capacity);
+		this.size.set(0);
+		this.count = 0;
+		this.depthScale = maxDepth > 0.0F ? DEPTH_MAX / maxDepth : 0.0F;
+	}
+	
+	/**
+	 * @param capacity the required capacity
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void ensureCapacity(int capacity) {
+		
+		if(this.keys == null || this.keys.length < capacity) {
+			
+			int length = Math.max(capacity, this.keys != null ? this.keys.length * 2 : 0);
+			this.keys = new long[length];
+			this.sortKeys = new long[length];
+			this.tempKeys = new long[length];
+			this.order = new int[length];
+			this.tempOrder = new int[length];
+			this.meshes = new Mesh[length];
+			this.materials = new Material[length];
+			this.shaderPipelines = new ShaderPipeline[length];
+			this.matrices = new float[length * 16];
+		}
+	}
+	
+	/**
+	 * Adds a draw packet. The transformation matrix of the packet has to be written to {@link #getMatrices()}
+	 * at {@code index * 16} in the order of {@link de.ralleytn.engine.caveman.util.MatrixUtil#toArray4f(javax.vecmath.Matrix4f)}.
+	 * @param mesh the mesh
+	 * @param material the material, may be {@code null}
+	 * @param shaderPipeline the shader pipeline
+	 * @param depth the distance of the object to the camera
+	 * @return the index of the packet
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int add(Mesh mesh, Material material, ShaderPipeline shaderPipeline, float depth) {
+		
+		int index = this.size.getAndIncrement();
+		
+		if(index >= this.keys.length) {
+			
+			throw new IllegalStateException("The render queue is full (capacity: " + this.keys.length + ")!");
+		}
+		
+		long quantizedDepth = Math.min(DEPTH_MAX, Math.max(0L, (long)(depth * this.depthScale)));
+		long shaderPipelineID = shaderPipeline != null ? shaderPipeline.getID() & SHADER_PIPELINE_MASK : 0L;
+		long materialID = material != null ? material.getID() & MATERIAL_MASK : 0L;
+		long meshID = mesh.getID() & MESH_MASK;
+		long state = (shaderPipelineID << (MATERIAL_BITS + MESH_BITS)) | (materialID << MESH_BITS) | meshID;
+		
+		this.keys[index] = material != null && material.isTransparent() ?
+			((long)PASS_TRANSPARENT << 62) | ((DEPTH_MAX - quantizedDepth) << (SHADER_PIPELINE_BITS + MATERIAL_BITS + MESH_BITS)) | state :
+			((long)PASS_OPAQUE << 62) | (state << DEPTH_BITS) | quantizedDepth;
+		this.meshes[index] = mesh;
+		this.materials[index] = material;
+		this.shaderPipelines[index] = shaderPipeline;
+		return index;
+	}
+	
+	/**
+	 * Sorts the packets by their key with a least significant digit radix sort (8 bits per pass).
+	 * Passes in which all keys have the same digit are skipped.
+	 * Has to be called after all packets were added and before the queue is rendered.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void sort() {
+		
+		int count = Math.min(this.size.get(), this.keys.length);
+		long[] keys = this.sortKeys;
+		long[] tempKeys = this.tempKeys;
+		int[] order = this.order;
+		int[] tempOrder = this.tempOrder;
+		int[] histogram = this.histogram;
+		
+		System.arraycopy(this.keys, 0, keys, 0, count);
+		
+		for(int index = 0; index < count; index++) {
+			
+			order[index] = index;
+		}
+		
+		for(int shift = 0; shift < Long.SIZE && count > 1; shift += 8) {
+			
+			Arrays.fill(histogram, 0);
+			
+			for(int index = 0; index < count; index++) {
+				
+				histogram[(int)(keys[index] >>> shift) & 0xFF]++;
+			}
+			
+			if(histogram[(int)(keys[0] >>> shift) & 0xFF] == count) {
+				
+				continue;
+			}
+			
+			int offset = 0;
+			
+			for(int digit = 0; digit < 256; digit++) {
+				
+				int amount = histogram[digit];
+				histogram[digit] = offset;
+				offset += amount;
+			}
+			
+			for(int index = 0; index < count; index++) {
+				
+				long key = keys[index];
+				int target = histogram[(int)(key >>> shift) & 0xFF]++;
+				tempKeys[target] = key;
+				tempOrder[target] = order[index];
+			}
+			
+			long[] swapKeys = keys;
+			keys = tempKeys;
+			tempKeys = swapKeys;
+			
+			int[] swapOrder = order;
+			order = tempOrder;
+			tempOrder = swapOrder;
+		}
+		
+		// After an odd amount of passes the sorted data is in the temporary buffers
+		this.sortKeys = keys;
+		this.tempKeys = tempKeys;
+		this.order = order;
+		this.tempOrder = tempOrder;
+		this.count = count;
+	}
+	
+	/**
+	 * Only valid after {@link #sort()}.
+	 * @return the amount of packets
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int size() {
+		
+		return this.count;
+	}
+	
+	/**
+	 * @param position the position in the sorted queue
+	 * @return the index of the packet at the given position
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getPacket(int position) {
+		
+		return this.order[position];
+	}
+	
+	/**
+	 * @param position the position in the sorted queue
+	 * @return the sort key of the packet at the given position
+	 * @since 18.10.2026/0.5.0
+	 */
+	public long getKey(int position) {
+		
+		return this.sortKeys[position];
+	}
+	
+	/**
+	 * @param packet the index of the packet
+	 * @return the mesh of the packet
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Mesh getMesh(int packet) {
+		
+		return this.meshes[packet];
+	}
+	
+	/**
+	 * @param packet the index of the packet
+	 * @return the material of the packet
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Material getMaterial(int packet) {
+		
+		return this.materials[packet];
+	}
+	
+	/**
+	 * @param packet the index of the packet
+	 * @return the shader pipeline of the packet
+	 * @since 18.10.2026/0.5.0
+	 */
+	public ShaderPipeline getShaderPipeline(int packet) {
+		
+		return this.shaderPipelines[packet];
+	}
+	
+	/**
+	 * The matrix of a packet starts at {@code packet * 16}.
+	 * @return the transformation matrices of all packets
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float[] getMatrices() {
+		
+		return this.matrices;
+	}
+}
@@ -1,103 +1,150 @@
-package de.ralleytn.engine.caveman.rendering;
-
-import static org.lwjgl.opengl.GL30.*;
-
-import de.ralleytn.engine.caveman.Bindable;
-import de.ralleytn.engine.caveman.LWJGLObject;
-
-/**
- * Object wrapper for the OpenGL vertex arrays.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 04.09.2018/0.4.0
- * @since 04.08.2018/0.1.0
- */
-public class VertexArray extends LWJGLObject implements Bindable {
-
-	private GLBuffer[] buffers;
-	
-	/**
-	 * @since 04.08.2018/0.1.0
-	 */
-	public VertexArray() {
-		
-		this.buffers = new GLBuffer[16];
-		this.id = glGenVertexArrays();
-	}
-	
-	@Override
-	public void dispose() {
-		
-		for(GLBuffer buffer : this.buffers) {
-			
-			if(buffer != null) {
-				
-				buffer.dispose();
-			}
-		}
-		
-		glDeleteVertexArrays(this.id);
-		this.buffers = null;
-		this.disposed = true;
-	}
-
-	@Override
-	public void bind() {
-		
-		glBindVertexArray(this.id);
-	}
-
-	/**
-	 * This method will unbind ANY currently bound vertex array.
-	 * @since 04.08.2018/0.1.0
-	 */
-	@Override
-	public void unbind() {
-		
-		glBindVertexArray(0);
-	}
-	
-	/**
-	 * Stores a buffer in the vertex array.
-	 * @param buffer the buffer
-	 * @param index the index at which the buffer should be stored
-	 * @param vertexSize the vertex size
-	 * @param dataType the data type
-	 * @since 04.08.2018/0.1.0
-	 */
-	public void store(GLBuffer buffer, int index, int vertexSize, int dataType) {
-		
-		buffer.bind();
-		glVertexAttribPointer(index, vertexSize, dataType, false, 0, 0);
-		this.buffers[index] = buffer;
-	}
-	
-	/**
-	 * Enables the buffer at the given index.
-	 * @param index buffer index
-	 * @since 04.08.2018/0.1.0
-	 */
-	public void enable(int index) {
-		
-		glEnableVertexAttribArray(index);
-	}
-
-	/**
-	 * Disables the buffer at the given index.
-	 * @param index buffer index
-	 * @since 04.08.2018/0.1.0
-	 */
-	public void disable(int index) {
-		
-		glDisableVertexAttribArray(index);
-	}
-
-	/**
-	 * @param index buffer index
-	 * @return the buffer at the given index
-	 * @since 04.08.2018/0.1.0
-	 */
-	public GLBuffer getBuffer(int index) {
-		
-		return this.buffers[index];
-	}
-}
+package de.ralleytn.engine.caveman.rendering;
+
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL33.*;
+
+import de.ralleytn.engine.caveman.Bindable;
+import de.ralleytn.engine.caveman.LWJGLObject;
+
+/**
+ * Object wrapper for the OpenGL vertex arrays.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 04.08.2018/0.1.0
+ */
+public class VertexArray extends LWJGLObject implements Bindable {
+
+	private GLBuffer[] buffers;
+	private GLBuffer instanceBuffer;
+	
+	/**
+	 * @since 04.08.2018/0.1.0
+	 */
+	public VertexArray() {
+		
+		this.buffers = new GLBuffer[16];
+		this.id = glGenVertexArrays();
+	}
+	
+	@Override
+	public void dispose() {
+		
+		for(GLBuffer buffer : this.buffers) {
+			
+			if(buffer != null) {
+				
+				buffer.dispose();
+			}
+		}
+		
+		glDeleteVertexArrays(this.id);
+		GLStateCache.getDefault().forgetVertexArray(this.id);
+		this.buffers = null;
+		this.disposed = true;
+	}
+
+	@Override
+	public void bind() {
+		
+		GLStateCache.getDefault().bindVertexArray(this.id);
+	}
+
+	/**
+	 * This method will unbind ANY currently bound vertex array.
+	 * @since 04.08.2018/0.1.0
+	 */
+	@Override
+	public void unbind() {
+		
+		GLStateCache.getDefault().bindVertexArray(0);
+	}
+	
+	/**
+	 * Stores a buffer in the vertex array and enables it. The vertex array has to be bound.
+	 * @param buffer the buffer
+	 * @param index the index at which the buffer should be stored
+	 * @param vertexSize the vertex size
+	 * @param dataType the data type
+	 * @since 04.08.2018/0.1.0
+	 */
+	public void store(GLBuffer buffer, int index, int vertexSize, int dataType) {
+		
+		buffer.bind();
+		glVertexAttribPointer(index, vertexSize, dataType, false, 0, 0);
+		glEnableVertexAttribArray(index);
+		this.buffers[index] = buffer;
+	}
+	
+	/**
+	 * Stores a buffer whose attributes were already set up, for example by a {@linkplain de.ralleytn.engine.caveman.rendering.geom.VertexLayout},
+	 * so that it is disposed of with the vertex array. A buffer with several attributes only has to be stored once.
+	 * @param buffer the buffer
+	 * @param index the index at which the buffer should be stored
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void store(GLBuffer buffer, int index) {
+		
+		this.buffers[index] = buffer;
+	}
+	
+	/**
+	 * Stores a buffer with one 4x4 matrix per instance in the vertex array.
+	 * A matrix takes four attribute indices, one for each column, that advance once per instance instead of once per vertex.
+	 * The buffer is shared and therefore not disposed of with the vertex array. The vertex array has to be bound.
+	 * @param buffer the buffer
+	 * @param index the first of the four attribute indices
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void storeInstanceMatrices(GLBuffer buffer, int index) {
+		
+		buffer.bind();
+		
+		for(int column = 0; column < 4; column++) {
+			
+			glVertexAttribPointer(index + column, 4, GL_FLOAT, false, 64, column * 16);
+			glVertexAttribDivisor(index + column, 1);
+			glEnableVertexAttribArray(index + column);
+		}
+		
+		this.instanceBuffer = buffer;
+	}
+	
+	/**
+	 * Enables the buffer at the given index.
+	 * @param index buffer index
+	 * @since 04.08.2018/0.1.0
+	 */
+	public void enable(int index) {
+		
+		glEnableVertexAttribArray(index);
+	}
+
+	/**
+	 * Disables the buffer at the given index.
+	 * @param index buffer index
+	 * @since 04.08.2018/0.1.0
+	 */
+	public void disable(int index) {
+		
+		glDisableVertexAttribArray(index);
+	}
+
+	/**
+	 * @return the buffer with the instance matrices or {@code null} if there is none
+	 * @since 18.10.2026/0.5.0
+	 */
+	public GLBuffer getInstanceBuffer() {
+		
+		return this.instanceBuffer;
+	}
+	
+	/**
+	 * @param index buffer index
+	 * @return the buffer at the given index
+	 * @since 04.08.2018/0.1.0
+	 */
+	public GLBuffer getBuffer(int index) {
+		
+		return this.buffers[index];
+	}
+}
@@ -0,0 +1,210 @@
+package de.ralleytn.engine.caveman.rendering.camera;
+
+import javax.vecmath.Matrix4f;
+
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+
+/**
+ * Represents the view frustum of a camera as six planes in world space.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class Frustum {
+
+	/** @since 18.10.2026/0.5.0 */ public static final int PLANE_LEFT = 0;
+	/** @since 18.10.2026/0.5.0 */ public static final int PLANE_RIGHT = 1;
+	/** @since 18.10.2026/0.5.0 */ public static final int PLANE_BOTTOM = 2;
+	/** @since 18.10.2026/0.5.0 */ public static final int PLANE_TOP = 3;
+	/** @since 18.10.2026/0.5.0 */ public static final int PLANE_NEAR = 4;
+	/** @since 18.10.2026/0.5.0 */ public static final int PLANE_FAR = 5;
+	
+	/** @since 18.10.2026/0.5.0 */ public static final int OUTSIDE = 0;
+	/** @since 18.10.2026/0.5.0 */ public static final int INTERSECTING = 1;
+	/** @since 18.10.2026/0.5.0 */ public static final int INSIDE = 2;
+	
+	// 6 planes with 4 components each (a, b, c, d), the normals point into the frustum
+	private final float[] planes;
+	private final float[] clip;
+	private final float[] projection;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Frustum() {
+		
+		this.planes = new float[24];
+		this.clip = new float[16];
+		this.projection = new float[16];
+	}
+	
+	/**
+	 * Extracts the planes from the combined projection and view matrix (Gribb/Hartmann).
+	 * Should only be called once per frame.
+	 * @param projection the projection matrix
+	 * @param view the view matrix
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void update(Matrix4f projection, Matrix4f view) {
+		
+		// The matrices are stored column by column (m30, m31, m32 is the translation),
+		// so the element in row r and column c of the clip matrix lands in clip[r * 4 + c].
+		// The projection matrix is copied row by row into a field, so that no array is allocated every frame.
+		float[] p = this.projection;
+		p[0] = projection.m00;  p[1] = projection.m10;  p[2] = projection.m20;  p[3] = projection.m30;
+		p[4] = projection.m01;  p[5] = projection.m11;  p[6] = projection.m21;  p[7] = projection.m31;
+		p[8] = projection.m02;  p[9] = projection.m12;  p[10] = projection.m22; p[11] = projection.m32;
+		p[12] = projection.m03; p[13] = projection.m13; p[14] = projection.m23; p[15] = projection.m33;
+		
+		for(int column = 0; column < 4; column++) {
+			
+			float v0, v1, v2, v3;
+			
+			switch(column) {
+				
+				case 0: v0 = view.m00; v1 = view.m01; v2 = view.m02; v3 = view.m03; break;
+				case 1: v0 = view.m10; v1 = view.m11; v2 = view.m12; v3 = view.m13; break;
+				case 2: v0 = view.m20; v1 = view.m21; v2 = view.m22; v3 = view.m23; break;
+				default: v0 = view.m30; v1 = view.m31; v2 = view.m32; v3 = view.m33;
+			}
+			
+			for(int row = 0; row < 4; row++) {
+				
+				int r4 = row * 4;
+				this.clip[r4 + column] = p[r4] * v0 + p[r4 + 1] * v1 + p[r4 + 2] * v2 + p[r4 + 3] * v3;
+			}
+		}
+		
+		this.setPlane(PLANE_LEFT,   0,  1.0F);
+		this.setPlane(PLANE_RIGHT,  0, -1.0F);
+		this.setPlane(PLANE_BOTTOM, 1,  1.0F);
+		this.setPlane(PLANE_TOP,    1, -1.0F);
+		this.setPlane(PLANE_NEAR,   2,  1.0F);
+		this.setPlane(PLANE_FAR,    2, -1.0F);
+	}
+	
+	/**
+	 * Sets a plane to the fourth row of the clip matrix plus or minus the given row and normalizes it.
+	 * @param plane the plane index
+	 * @param row the row of the clip matrix
+	 * @param sign {@code 1.0F} to add the row, {@code -1.0F} to subtract it
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void setPlane(int plane, int row, float sign) {
+		
+		int offset = plane * 4;
+		int r4 = row * 4;
+		float a = this.clip[12] + sign * this.clip[r4];
+		float b = this.clip[13] + sign * this.clip[r4 + 1];
+		float c = this.clip[14] + sign * this.clip[r4 + 2];
+		float d = this.clip[15] + sign * this.clip[r4 + 3];
+		float length = (float)Math.sqrt(a * a + b * b + c * c);
+		
+		this.planes[offset] = a / length;
+		this.planes[offset + 1] = b / length;
+		this.planes[offset + 2] = c / length;
+		this.planes[offset + 3] = d / length;
+	}
+	
+	/**
+	 * @param box the box
+	 * @return {@code true} if the box is at least partially inside of the frustum, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean intersects(AxisAlignedBox box) {
+		
+		return this.intersects(box.x, box.y, box.z, box.width, box.height, box.depth);
+	}
+	
+	/**
+	 * Tests an axis aligned box against the six planes.
+	 * Only the corner that lies the furthest in the direction of the plane normal is tested.
+	 * @param x X position of the box
+	 * @param y Y position of the box
+	 * @param z Z position of the box
+	 * @param width the width of the box
+	 * @param height the height of the box
+	 * @param depth the depth of the box
+	 * @return {@code true} if the box is at least partially inside of the frustum, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean intersects(float x, float y, float z, float width, float height, float depth) {
+		
+		for(int offset = 0; offset < 24; offset += 4) {
+			
+			float a = this.planes[offset];
+			float b = this.planes[offset + 1];
+			float c = this.planes[offset + 2];
+			
+			float px = a >= 0.0F ? x + width : x;
+			float py = b >= 0.0F ? y + height : y;
+			float pz = c >= 0.0F ? z + depth : z;
+			
+			if(a * px + b * py + c * pz + this.planes[offset + 3] < 0.0F) {
+				
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Like {@link #intersects(float, float, float, float, float, float)}, but also tells if the box is completely inside of the frustum.
+	 * Used for hierarchical culling, where everything inside of a completely visible node doesn't have to be tested anymore.
+	 * @param minX minimum X
+	 * @param minY minimum Y
+	 * @param minZ minimum Z
+	 * @param maxX maximum X
+	 * @param maxY maximum Y
+	 * @param maxZ maximum Z
+	 * @return {@link #OUTSIDE}, {@link #INTERSECTING} or {@link #INSIDE}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int classify(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		int result = INSIDE;
+		
+		for(int offset = 0; offset < 24; offset += 4) {
+			
+			float a = this.planes[offset];
+			float b = this.planes[offset + 1];
+			float c = this.planes[offset + 2];
+			float d = this.planes[offset + 3];
+			
+			if(a * (a >= 0.0F ? maxX : minX) + b * (b >= 0.0F ? maxY : minY) + c * (c >= 0.0F ? maxZ : minZ) + d < 0.0F) {
+				
+				return OUTSIDE;
+			}
+			
+			if(a * (a >= 0.0F ? minX : maxX) + b * (b >= 0.0F ? minY : maxY) + c * (c >= 0.0F ? minZ : maxZ) + d < 0.0F) {
+				
+				result = INTERSECTING;
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * @param x X component of the point
+	 * @param y Y component of the point
+	 * @param z Z component of the point
+	 * @return {@code true} if the point is inside of the frustum, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean inside(float x, float y, float z) {
+		
+		return this.intersects(x, y, z, 0.0F, 0.0F, 0.0F);
+	}
+	
+	/**
+	 * The returned array is not meant to be modified.
+	 * @return the planes as {@code a, b, c, d} for each plane in the order of the {@code PLANE_*} constants
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float[] getPlanes() {
+		
+		return this.planes;
+	}
+}
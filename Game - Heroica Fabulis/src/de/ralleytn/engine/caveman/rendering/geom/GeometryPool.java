@@ -0,0 +1,301 @@
+package de.ralleytn.engine.caveman.rendering.geom;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL45.*;
+
+import de.ralleytn.engine.caveman.Disposable;
+import de.ralleytn.engine.caveman.rendering.GLBuffer;
+import de.ralleytn.engine.caveman.rendering.VertexArray;
+import de.ralleytn.engine.caveman.util.RangeAllocator;
+
+/**
+ * Stores the vertices and indices of many {@linkplain PooledMesh}es in one large vertex buffer and one large index buffer.
+ * All meshes of a pool share a single vertex array, so switching between them needs no state change at all
+ * and they can be drawn together with one {@code glMultiDrawElementsIndirect} call.
+ * <br><br>The vertices are stored interleaved in the {@linkplain VertexLayout#DEFAULT default layout}.
+ * The indices of a mesh are relative to its first vertex, so a mesh can be moved without touching its indices.
+ * Freed space is reused by later meshes. If the space is too fragmented, {@link #defragment()} moves all meshes to the front.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class GeometryPool implements Disposable {
+
+	/** @since 18.10.2026/0.5.0 */ public static final VertexLayout LAYOUT = VertexLayout.DEFAULT;
+	/** @since 18.10.2026/0.5.0 */ public static final int VERTEX_SIZE = LAYOUT.getVertexSize();
+	
+	private static final int DEFAULT_VERTEX_CAPACITY = 1 << 18;
+	private static final int DEFAULT_INDEX_CAPACITY = 1 << 20;
+	
+	private static GeometryPool instance;
+	
+	private final VertexArray vertexArray;
+	private final RangeAllocator vertexAllocator;
+	private final RangeAllocator indexAllocator;
+	private final List<PooledMesh> meshes;
+	private GLBuffer vertexBuffer;
+	private GLBuffer indexBuffer;
+	private boolean disposed;
+	
+	/**
+	 * @param vertexCapacity the amount of vertices that fit into the pool before it has to grow
+	 * @param indexCapacity the amount of indices that fit into the pool before it has to grow
+	 * @since 18.10.2026/0.5.0
+	 */
+	public GeometryPool(int vertexCapacity, int indexCapacity) {
+		
+		this.vertexArray = new VertexArray();
+		this.vertexAllocator = new RangeAllocator(vertexCapacity);
+		this.indexAllocator = new RangeAllocator(indexCapacity);
+		this.meshes = new ArrayList<>();
+		this.rebuild(vertexCapacity, indexCapacity);
+	}
+	
+	/**
+	 * Creates the default pool the first time it is needed.
+	 * @return the default pool
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static GeometryPool getDefault() {
+		
+		if(instance == null) {
+			
+			instance = new GeometryPool(DEFAULT_VERTEX_CAPACITY, DEFAULT_INDEX_CAPACITY);
+		}
+		
+		return instance;
+	}
+	
+	@Override
+	public void dispose() {
+		
+		this.vertexBuffer.dispose();
+		this.indexBuffer.dispose();
+		this.vertexArray.dispose();
+		this.disposed = true;
+	}
+	
+	@Override
+	public boolean isDisposed() {
+		
+		return this.disposed;
+	}
+	
+	/**
+	 * Stores the data of a mesh in the pool and sets its first index and base vertex.
+	 * @param mesh the mesh
+	 * @param data the mesh data
+	 * @since 18.10.2026/0.5.0
+	 */
+	synchronized void add(PooledMesh mesh, MeshData data) {
+		
+		int vertexCount = mesh.getVertexCount();
+		int indexCount = mesh.getIndexCount();
+		int baseVertex = this.vertexAllocator.allocate(vertexCount);
+		int firstIndex = this.indexAllocator.allocate(indexCount);
+		
+		if(baseVertex == -1 || firstIndex == -1) {
+			
+			if(baseVertex != -1) this.vertexAllocator.free(baseVertex, vertexCount);
+			if(firstIndex != -1) this.indexAllocator.free(firstIndex, indexCount);
+			
+			// Growing compacts the pool as well, afterwards everything behind the used space is free
+			this.rebuild(GeometryPool.grow(this.vertexAllocator, vertexCount), GeometryPool.grow(this.indexAllocator, indexCount));
+			baseVertex = this.vertexAllocator.allocate(vertexCount);
+			firstIndex = this.indexAllocator.allocate(indexCount);
+		}
+		
+		int[] indices = data.getIndices();
+		ByteBuffer vertexData = LAYOUT.encode(data);
+		ByteBuffer indexData = BufferUtils.createByteBuffer(indexCount * 4);
+		
+		for(int index : indices) {
+			
+			indexData.putInt(index);
+		}
+		
+		indexData.flip();
+		glNamedBufferSubData(this.vertexBuffer.getID(), (long)baseVertex * VERTEX_SIZE, vertexData);
+		glNamedBufferSubData(this.indexBuffer.getID(), (long)firstIndex * 4, indexData);
+		
+		mesh.setLocation(firstIndex, baseVertex, this.meshes.size());
+		this.meshes.add(mesh);
+	}
+	
+	/**
+	 * Gives the space of a mesh back. Does not need OpenGL and may therefore be called from any thread.
+	 * @param mesh the mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	synchronized void remove(PooledMesh mesh) {
+		
+		int poolIndex = mesh.getPoolIndex();
+		
+		if(poolIndex >= 0 && poolIndex < this.meshes.size() && this.meshes.get(poolIndex) == mesh) {
+			
+			this.vertexAllocator.free(mesh.getBaseVertex(), mesh.getVertexCount());
+			this.indexAllocator.free(mesh.getFirstIndex(), mesh.getIndexCount());
+			
+			// Swap remove, the last mesh takes the place of the removed one
+			PooledMesh last = this.meshes.remove(this.meshes.size() - 1);
+			
+			if(last != mesh) {
+				
+				this.meshes.set(poolIndex, last);
+				last.setLocation(last.getFirstIndex(), last.getBaseVertex(), poolIndex);
+			}
+			
+			mesh.setLocation(mesh.getFirstIndex(), mesh.getBaseVertex(), -1);
+		}
+	}
+	
+	/**
+	 * Reads the data of a mesh back from the pool.
+	 * @param mesh the mesh
+	 * @param data the mesh data to which the vertices, texture coordinates, normals and indices are written
+	 * @since 18.10.2026/0.5.0
+	 */
+	synchronized void read(PooledMesh mesh, MeshData data) {
+		
+		int vertexCount = mesh.getVertexCount();
+		ByteBuffer vertexData = BufferUtils.createByteBuffer(vertexCount * VERTEX_SIZE);
+		ByteBuffer indexData = BufferUtils.createByteBuffer(mesh.getIndexCount() * 4);
+		glGetNamedBufferSubData(this.vertexBuffer.getID(), (long)mesh.getBaseVertex() * VERTEX_SIZE, vertexData);
+		glGetNamedBufferSubData(this.indexBuffer.getID(), (long)mesh.getFirstIndex() * 4, indexData);
+		
+		int[] indices = new int[mesh.getIndexCount()];
+		
+		for(int index = 0; index < indices.length; index++) {
+			
+			indices[index] = indexData.getInt();
+		}
+		
+		LAYOUT.decode(vertexData, vertexCount, mesh.hasTextureCoordinates(), mesh.hasNormals(), data);
+		data.setIndices(indices);
+	}
+	
+	/**
+	 * Moves all meshes to the beginning of the buffers, so that the free space becomes one continuous range again.
+	 * Has to be called on the OpenGL thread.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public synchronized void defragment() {
+		
+		this.rebuild(this.vertexAllocator.getCapacity(), this.indexAllocator.getCapacity());
+	}
+	
+	/**
+	 * @param allocator the allocator
+	 * @param size the size of the range that didn't fit
+	 * @return the new capacity
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final int grow(RangeAllocator allocator, int size) {
+		
+		return Math.max(allocator.getCapacity() * 2, allocator.getUsed() + size);
+	}
+	
+	/**
+	 * Creates new buffers, copies all meshes tightly packed into them and attaches them to the vertex array.
+	 * @param vertexCapacity the amount of vertices the new vertex buffer can hold
+	 * @param indexCapacity the amount of indices the new index buffer can hold
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void rebuild(int vertexCapacity, int indexCapacity) {
+		
+		GLBuffer vertexBuffer = new GLBuffer(GLBuffer.TYPE_ARRAY);
+		GLBuffer indexBuffer = new GLBuffer(GLBuffer.TYPE_ELEMENT_ARRAY);
+		glNamedBufferData(vertexBuffer.getID(), (long)vertexCapacity * VERTEX_SIZE, GL_STATIC_DRAW);
+		glNamedBufferData(indexBuffer.getID(), (long)indexCapacity * 4, GL_STATIC_DRAW);
+		int vertexOffset = 0;
+		int indexOffset = 0;
+		
+		for(PooledMesh mesh : this.meshes) {
+			
+			// The indices are relative to the base vertex, so only the ranges have to be copied
+			glCopyNamedBufferSubData(this.vertexBuffer.getID(), vertexBuffer.getID(), (long)mesh.getBaseVertex() * VERTEX_SIZE, (long)vertexOffset * VERTEX_SIZE, (long)mesh.getVertexCount() * VERTEX_SIZE);
+			glCopyNamedBufferSubData(this.indexBuffer.getID(), indexBuffer.getID(), (long)mesh.getFirstIndex() * 4, (long)indexOffset * 4, (long)mesh.getIndexCount() * 4);
+			mesh.setLocation(indexOffset, vertexOffset, mesh.getPoolIndex());
+			vertexOffset += mesh.getVertexCount();
+			indexOffset += mesh.getIndexCount();
+		}
+		
+		if(this.vertexBuffer != null) {
+			
+			this.vertexBuffer.dispose();
+			this.indexBuffer.dispose();
+		}
+		
+		this.vertexBuffer = vertexBuffer;
+		this.indexBuffer = indexBuffer;
+		this.vertexAllocator.reset(vertexCapacity, vertexOffset);
+		this.indexAllocator.reset(indexCapacity, indexOffset);
+		
+		this.vertexArray.bind();
+		indexBuffer.bind();
+		vertexBuffer.bind();
+		LAYOUT.setAttributes(vertexCapacity);
+		vertexBuffer.unbind();
+		this.vertexArray.unbind();
+	}
+	
+	/**
+	 * @return the vertex array that is shared by all meshes of this pool
+	 * @since 18.10.2026/0.5.0
+	 */
+	public VertexArray getVertexArray() {
+		
+		return this.vertexArray;
+	}
+	
+	/**
+	 * @return the shared vertex buffer
+	 * @since 18.10.2026/0.5.0
+	 */
+	public GLBuffer getVertexBuffer() {
+		
+		return this.vertexBuffer;
+	}
+	
+	/**
+	 * @return the shared index buffer
+	 * @since 18.10.2026/0.5.0
+	 */
+	public GLBuffer getIndexBuffer() {
+		
+		return this.indexBuffer;
+	}
+	
+	/**
+	 * @return the amount of meshes in this pool
+	 * @since 18.10.2026/0.5.0
+	 */
+	public synchronized int getMeshCount() {
+		
+		return this.meshes.size();
+	}
+	
+	/**
+	 * @return the allocator of the vertex buffer, can be used to decide when {@link #defragment()} should be called
+	 * @since 18.10.2026/0.5.0
+	 */
+	public RangeAllocator getVertexAllocator() {
+		
+		return this.vertexAllocator;
+	}
+	
+	/**
+	 * @return the allocator of the index buffer, can be used to decide when {@link #defragment()} should be called
+	 * @since 18.10.2026/0.5.0
+	 */
+	public RangeAllocator getIndexAllocator() {
+		
+		return this.indexAllocator;
+	}
+}
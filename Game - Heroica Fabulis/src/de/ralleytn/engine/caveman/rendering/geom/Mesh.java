@@ -1,151 +1,234 @@
-package de.ralleytn.engine.caveman.rendering.geom;
-
-import de.ralleytn.engine.caveman.Disposable;
-import de.ralleytn.engine.caveman.rendering.GLBuffer;
-import de.ralleytn.engine.caveman.rendering.VertexArray;
-
-/**
- * Represents an abstract mesh.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 04.09.2018/0.4.0
- * @since 04.08.2018/0.1.0
- */
-public abstract class Mesh implements Disposable {
-
-	/** @since 04.08.2018/0.1.0 */ public static final int CULLING_DISABLED = 0;
-	/** @since 04.08.2018/0.1.0 */ public static final int CULLING_BACK = 1;
-	/** @since 04.08.2018/0.1.0 */ public static final int CULLING_FRONT = 2;
-	
-	protected VertexArray vertexArray;
-	protected int vertexCount;
-	protected int indexCount;
-	protected int faceCount;
-	protected int cullMode;
-	protected boolean disposed;
-	
-	// Has to be a member because it isn't stored in the vertex array.
-	// Because it is not stored in the vertex array, the garbage collector will try to collect it and call its finalize method.
-	// The finalize method would then try to delete the buffer while it is still used.
-	// see BUG0001
-	protected GLBuffer indexBuffer;
-	
-	/**
-	 * @since 04.08.2018/0.1.0
-	 */
-	protected Mesh() {
-		
-		this.cullMode = CULLING_BACK;
-	}
-	
-	@Override
-	protected void finalize() throws Throwable {
-		
-		try {
-			
-			this.dispose();
-			
-		} finally {
-			
-			super.finalize();
-		}
-	}
-
-	@Override
-	public void dispose() {
-		
-		if(!this.disposed && this.vertexArray != null) {
-			
-			this.vertexArray.dispose();
-			this.disposed = true;
-		}
-	}
-	
-	/**
-	 * Wraps the mesh data in an instance of {@linkplain MeshData}.
-	 * @return the created instance of {@linkplain MeshData}
-	 * @since 23.08.2018/0.2.0
-	 */
-	public abstract MeshData createMeshData();
-	
-	/**
-	 * Sets the face culling mode.
-	 * @param cullMode the cull mode (default = {@link #CULLING_BACK})
-	 * @since 04.08.2018/0.1.0
-	 */
-	public void setCullMode(int cullMode) {
-		
-		this.cullMode = cullMode;
-	}
-	
-	/**
-	 * @return the mode used for face culling
-	 * @since 04.08.2018/0.1.0
-	 */
-	public int getCullMode() {
-		
-		return this.cullMode;
-	}
-	
-	/**
-	 * @return the vertex count of this mesh
-	 * @since 04.08.2018/0.1.0
-	 */
-	public int getVertexCount() {
-		
-		return this.vertexCount;
-	}
-	
-	/**
-	 * @return the index count
-	 * @since 04.08.2018/0.1.0
-	 */
-	public int getIndexCount() {
-		
-		return this.indexCount;
-	}
-	
-	/**
-	 * @return the face count
-	 * @since 04.08.2018/0.1.0
-	 */
-	public int getFaceCount() {
-		
-		return this.faceCount;
-	}
-	
-	/**
-	 * @return the {@linkplain VertexArray} used to store the mesh data
-	 * @since 04.08.2018/0.1.0
-	 */
-	public VertexArray getVertexArray() {
-		
-		return this.vertexArray;
-	}
-	
-	/**
-	 * @return {@code true} if this mesh has normals, else {@code false}
-	 * @since 10.08.2018/0.1.0
-	 */
-	public abstract boolean hasNormals();
-	
-	/**
-	 * @return {@code true} if this mesh has texture coordinates, else {@code false}
-	 * @since 10.08.2018/0.1.0
-	 */
-	public abstract boolean hasTextureCoordinates();
-	
-	/**
-	 * @return the index buffer
-	 * @since 18.08.2018/0.2.0
-	 */
-	public GLBuffer getIndexBuffer() {
-		
-		return this.indexBuffer;
-	}
-	
-	@Override
-	public boolean isDisposed() {
-		
-		return this.disposed;
-	}
-}
+package de.ralleytn.engine.caveman.rendering.geom;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lwjgl.opengl.GL11.*;
+
+import de.ralleytn.engine.caveman.Disposable;
+import de.ralleytn.engine.caveman.rendering.GLBuffer;
+import de.ralleytn.engine.caveman.rendering.VertexArray;
+
+/**
+ * Represents an abstract mesh.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 04.08.2018/0.1.0
+ */
+public abstract class Mesh implements Disposable {
+
+	/** @since 04.08.2018/0.1.0 */ public static final int CULLING_DISABLED = 0;
+	/** @since 04.08.2018/0.1.0 */ public static final int CULLING_BACK = 1;
+	/** @since 04.08.2018/0.1.0 */ public static final int CULLING_FRONT = 2;
+	
+	private static final AtomicInteger ID_SUPPLY = new AtomicInteger();
+	
+	private final int id;
+	protected VertexArray vertexArray;
+	protected int vertexCount;
+	protected int indexCount;
+	protected int faceCount;
+	protected int cullMode;
+	protected boolean disposed;
+	
+	// Position of the mesh in its buffers, only not 0 if the buffers are shared with other meshes
+	protected int firstIndex;
+	protected int baseVertex;
+	
+	// GL_UNSIGNED_INT or GL_UNSIGNED_SHORT
+	protected int indexType;
+	
+	// Local bounds, calculated once when the mesh is created so that they never have to be read back from the GPU
+	protected AxisAlignedBox aabb;
+	protected Sphere boundingSphere;
+	
+	// Has to be a member because it isn't stored in the vertex array.
+	// Because it is not stored in the vertex array, the garbage collector will try to collect it and call its finalize method.
+	// The finalize method would then try to delete the buffer while it is still used.
+	// see BUG0001
+	protected GLBuffer indexBuffer;
+	
+	/**
+	 * @since 04.08.2018/0.1.0
+	 */
+	protected Mesh() {
+		
+		this.cullMode = CULLING_BACK;
+		this.indexType = GL_UNSIGNED_INT;
+		this.id = ID_SUPPLY.getAndIncrement();
+	}
+	
+	@Override
+	protected void finalize() throws Throwable {
+		
+		try {
+			
+			this.dispose();
+			
+		} finally {
+			
+			super.finalize();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		
+		if(!this.disposed && this.vertexArray != null) {
+			
+			this.vertexArray.dispose();
+			this.disposed = true;
+		}
+	}
+	
+	/**
+	 * Wraps the mesh data in an instance of {@linkplain MeshData}.
+	 * @return the created instance of {@linkplain MeshData}
+	 * @since 23.08.2018/0.2.0
+	 */
+	public abstract MeshData createMeshData();
+	
+	/**
+	 * Sets the face culling mode.
+	 * @param cullMode the cull mode (default = {@link #CULLING_BACK})
+	 * @since 04.08.2018/0.1.0
+	 */
+	public void setCullMode(int cullMode) {
+		
+		this.cullMode = cullMode;
+	}
+	
+	/**
+	 * @return the mode used for face culling
+	 * @since 04.08.2018/0.1.0
+	 */
+	public int getCullMode() {
+		
+		return this.cullMode;
+	}
+	
+	/**
+	 * @return the vertex count of this mesh
+	 * @since 04.08.2018/0.1.0
+	 */
+	public int getVertexCount() {
+		
+		return this.vertexCount;
+	}
+	
+	/**
+	 * @return the index count
+	 * @since 04.08.2018/0.1.0
+	 */
+	public int getIndexCount() {
+		
+		return this.indexCount;
+	}
+	
+	/**
+	 * @return the face count
+	 * @since 04.08.2018/0.1.0
+	 */
+	public int getFaceCount() {
+		
+		return this.faceCount;
+	}
+	
+	/**
+	 * @return the {@linkplain VertexArray} used to store the mesh data
+	 * @since 04.08.2018/0.1.0
+	 */
+	public VertexArray getVertexArray() {
+		
+		return this.vertexArray;
+	}
+	
+	/**
+	 * @return the index in the index buffer at which the indices of this mesh start
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getFirstIndex() {
+		
+		return this.firstIndex;
+	}
+	
+	/**
+	 * @return the value that is added to every index of this mesh before the vertex is fetched
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getBaseVertex() {
+		
+		return this.baseVertex;
+	}
+	
+	/**
+	 * @return the data type of the indices, {@code GL_UNSIGNED_INT} or {@code GL_UNSIGNED_SHORT}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getIndexType() {
+		
+		return this.indexType;
+	}
+	
+	/**
+	 * @return the size of one index in bytes
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getIndexSize() {
+		
+		return this.indexType == GL_UNSIGNED_SHORT ? 2 : 4;
+	}
+	
+	/**
+	 * @return an ID that is unique for every mesh, used to sort draw calls by mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getID() {
+		
+		return this.id;
+	}
+	
+	/**
+	 * @return {@code true} if this mesh has normals, else {@code false}
+	 * @since 10.08.2018/0.1.0
+	 */
+	public abstract boolean hasNormals();
+	
+	/**
+	 * @return {@code true} if this mesh has texture coordinates, else {@code false}
+	 * @since 10.08.2018/0.1.0
+	 */
+	public abstract boolean hasTextureCoordinates();
+	
+	/**
+	 * @return the index buffer
+	 * @since 18.08.2018/0.2.0
+	 */
+	public GLBuffer getIndexBuffer() {
+		
+		return this.indexBuffer;
+	}
+	
+	/**
+	 * @return the axis aligned bounding box in model space
+	 * @since 18.10.2026/0.5.0
+	 */
+	public AxisAlignedBox getAABB() {
+		
+		return this.aabb;
+	}
+	
+	/**
+	 * @return the bounding sphere in model space
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Sphere getBoundingSphere() {
+		
+		return this.boundingSphere;
+	}
+	
+	@Override
+	public boolean isDisposed() {
+		
+		return this.disposed;
+	}
+}
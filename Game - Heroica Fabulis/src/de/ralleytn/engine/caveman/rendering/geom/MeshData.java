@@ -1,143 +1,232 @@
-package de.ralleytn.engine.caveman.rendering.geom;
-
-import de.ralleytn.engine.caveman.util.ArrayUtil;
-
-/**
- * Represents mesh data.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 07.09.2018/0.4.0
- * @since 20.08.2018/0.2.0
- */
-public class MeshData {
-
-	private float[] vertices;
-	private float[] texCoords;
-	private float[] normals;
-	private int[] indices;
-	
-	/**
-	 * Sets the vertices.
-	 * @param vertices the verices.
-	 * @since 20.08.2018/0.2.0
-	 */
-	public void setVertices(float[] vertices) {
-		
-		this.vertices = vertices;
-	}
-	
-	/**
-	 * Sets the texture coordinates.
-	 * Can be {@code null}.
-	 * @param texCoords the texture coordinates
-	 * @since 20.08.2018/0.2.0
-	 */
-	public void setTextureCoordinates(float[] texCoords) {
-		
-		this.texCoords = texCoords;
-	}
-	
-	/**
-	 * Sets the normals.
-	 * Can be {@code null}.
-	 * @param normals the normals
-	 * @since 20.08.2018/0.2.0
-	 */
-	public void setNormals(float[] normals) {
-		
-		this.normals = normals;
-	}
-	
-	/**
-	 * Sets the indices.
-	 * @param indices the indices
-	 * @since 20.08.2018/0.2.0
-	 */
-	public void setIndices(int[] indices) {
-		
-		this.indices = indices;
-	}
-	
-	/**
-	 * @return the vertices
-	 * @since 20.08.2018/0.2.0
-	 */
-	public float[] getVertices() {
-		
-		return this.vertices;
-	}
-	
-	/**
-	 * @return the texture coordinates
-	 * @since 20.08.2018/0.2.0
-	 */
-	public float[] getTextureCoordinates() {
-		
-		return this.texCoords;
-	}
-	
-	/**
-	 * @return the normals
-	 * @since 20.08.2018/0.2.0
-	 */
-	public float[] getNormals() {
-		
-		return this.normals;
-	}
-	
-	/**
-	 * @return the indices
-	 * @since 20.08.2018/0.2.0
-	 */
-	public int[] getIndices() {
-		
-		return this.indices;
-	}
-
-	/**
-	 * 
-	 * @return
-	 * @since 04.09.2018/0.4.0
-	 */
-	public MeshData copy() {
-		
-		MeshData data = new MeshData();
-		data.indices = ArrayUtil.copy(this.indices);
-		data.normals = ArrayUtil.copy(this.normals);
-		data.texCoords = ArrayUtil.copy(this.texCoords);
-		data.vertices = ArrayUtil.copy(this.vertices);
-		
-		return data;
-	}
-	
-	/**
-	 * 
-	 * @return
-	 * @since 05.09.2018/0.4.0
-	 */
-	public AxisAlignedBox createAABB() {
-		
-		float xn = this.vertices[0];
-		float yn = this.vertices[1];
-		float zn = this.vertices[2];
-		float xf = xn;
-		float yf = yn;
-		float zf = zn;
-		
-		for(int index = 3; index < this.vertices.length; index += 3) {
-			
-			float x = this.vertices[index];
-			float y = this.vertices[index + 1];
-			float z = this.vertices[index + 2];
-			
-			if(x < xn) xn = x; else if(x > xf) xf = x;
-			if(y < yn) yn = y; else if(y > yf) yf = y;
-			if(z < zn) zn = z; else if(z > zf) zf = z;
-		}
-		
-		float width = xf - xn;
-		float height = yf - yn;
-		float depth = zf - zn;
-		
-		return new AxisAlignedBox(xn, yn, zn, width, height, depth);
-	}
-}
+package de.ralleytn.engine.caveman.rendering.geom;
+
+import de.ralleytn.engine.caveman.util.ArrayUtil;
+
+/**
+ * Represents mesh data.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 20.08.2018/0.2.0
+ */
+public class MeshData {
+
+	private float[] vertices;
+	private float[] texCoords;
+	private float[] normals;
+	private int[] indices;
+	private AxisAlignedBox aabb;
+	private Sphere boundingSphere;
+	
+	/**
+	 * Sets the vertices.
+	 * Resets the bounds.
+	 * @param vertices the verices.
+	 * @since 20.08.2018/0.2.0
+	 */
+	public void setVertices(float[] vertices) {
+		
+		this.vertices = vertices;
+		this.aabb = null;
+		this.boundingSphere = null;
+	}
+	
+	/**
+	 * Sets the local bounds of the mesh, for example when they were stored in the mesh file.
+	 * If the bounds are not set they will be calculated from the vertices when they are requested.
+	 * @param aabb the axis aligned bounding box
+	 * @param boundingSphere the bounding sphere
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setBounds(AxisAlignedBox aabb, Sphere boundingSphere) {
+		
+		this.aabb = aabb;
+		this.boundingSphere = boundingSphere;
+	}
+	
+	/**
+	 * Sets the texture coordinates.
+	 * Can be {@code null}.
+	 * @param texCoords the texture coordinates
+	 * @since 20.08.2018/0.2.0
+	 */
+	public void setTextureCoordinates(float[] texCoords) {
+		
+		this.texCoords = texCoords;
+	}
+	
+	/**
+	 * Sets the normals.
+	 * Can be {@code null}.
+	 * @param normals the normals
+	 * @since 20.08.2018/0.2.0
+	 */
+	public void setNormals(float[] normals) {
+		
+		this.normals = normals;
+	}
+	
+	/**
+	 * Sets the indices.
+	 * @param indices the indices
+	 * @since 20.08.2018/0.2.0
+	 */
+	public void setIndices(int[] indices) {
+		
+		this.indices = indices;
+	}
+	
+	/**
+	 * @return the vertices
+	 * @since 20.08.2018/0.2.0
+	 */
+	public float[] getVertices() {
+		
+		return this.vertices;
+	}
+	
+	/**
+	 * @return the texture coordinates
+	 * @since 20.08.2018/0.2.0
+	 */
+	public float[] getTextureCoordinates() {
+		
+		return this.texCoords;
+	}
+	
+	/**
+	 * @return the normals
+	 * @since 20.08.2018/0.2.0
+	 */
+	public float[] getNormals() {
+		
+		return this.normals;
+	}
+	
+	/**
+	 * @return the indices
+	 * @since 20.08.2018/0.2.0
+	 */
+	public int[] getIndices() {
+		
+		return this.indices;
+	}
+
+	/**
+	 * 
+	 * @return
+	 * @since 04.09.2018/0.4.0
+	 */
+	public MeshData copy() {
+		
+		MeshData data = new MeshData();
+		data.indices = ArrayUtil.copy(this.indices);
+		data.normals = ArrayUtil.copy(this.normals);
+		data.texCoords = ArrayUtil.copy(this.texCoords);
+		data.vertices = ArrayUtil.copy(this.vertices);
+		
+		if(this.aabb != null) {
+			
+			data.aabb = new AxisAlignedBox(this.aabb);
+		}
+		
+		if(this.boundingSphere != null) {
+			
+			Sphere sphere = this.boundingSphere;
+			data.boundingSphere = new Sphere(sphere.x, sphere.y, sphere.z, sphere.radius);
+		}
+		
+		return data;
+	}
+	
+	/**
+	 * 
+	 * @return
+	 * @since 05.09.2018/0.4.0
+	 */
+	public AxisAlignedBox createAABB() {
+		
+		float xn = this.vertices[0];
+		float yn = this.vertices[1];
+		float zn = this.vertices[2];
+		float xf = xn;
+		float yf = yn;
+		float zf = zn;
+		
+		for(int index = 3; index < this.vertices.length; index += 3) {
+			
+			float x = this.vertices[index];
+			float y = this.vertices[index + 1];
+			float z = this.vertices[index + 2];
+			
+			if(x < xn) xn = x; else if(x > xf) xf = x;
+			if(y < yn) yn = y; else if(y > yf) yf = y;
+			if(z < zn) zn = z; else if(z > zf) zf = z;
+		}
+		
+		float width = xf - xn;
+		float height = yf - yn;
+		float depth = zf - zn;
+		
+		return new AxisAlignedBox(xn, yn, zn, width, height, depth);
+	}
+	
+	/**
+	 * The bounding box is only calculated once and is then cached until the vertices change.
+	 * @return the local axis aligned bounding box
+	 * @since 18.10.2026/0.5.0
+	 */
+	public AxisAlignedBox getAABB() {
+		
+		if(this.aabb == null) {
+			
+			this.aabb = this.createAABB();
+		}
+		
+		return this.aabb;
+	}
+	
+	/**
+	 * The bounding sphere is only calculated once and is then cached until the vertices change.
+	 * @return the local bounding sphere
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Sphere getBoundingSphere() {
+		
+		if(this.boundingSphere == null) {
+			
+			this.boundingSphere = this.createBoundingSphere();
+		}
+		
+		return this.boundingSphere;
+	}
+	
+	/**
+	 * Creates a bounding sphere around the center of the bounding box.
+	 * The sphere is not minimal but it always contains every vertex.
+	 * @return the created bounding sphere
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Sphere createBoundingSphere() {
+		
+		AxisAlignedBox aabb = this.getAABB();
+		float cx = aabb.x + aabb.width * 0.5F;
+		float cy = aabb.y + aabb.height * 0.5F;
+		float cz = aabb.z + aabb.depth * 0.5F;
+		float radiusSquared = 0.0F;
+		
+		for(int index = 0; index < this.vertices.length; index += 3) {
+			
+			float dx = this.vertices[index] - cx;
+			float dy = this.vertices[index + 1] - cy;
+			float dz = this.vertices[index + 2] - cz;
+			float distanceSquared = dx * dx + dy * dy + dz * dz;
+			
+			if(distanceSquared > radiusSquared) {
+				
+				radiusSquared = distanceSquared;
+			}
+		}
+		
+		return new Sphere(cx, cy, cz, (float)Math.sqrt(radiusSquared));
+	}
+}
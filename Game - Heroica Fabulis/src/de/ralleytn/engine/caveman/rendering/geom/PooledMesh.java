@@ -0,0 +1,111 @@
+package de.ralleytn.engine.caveman.rendering.geom;
+
+import de.ralleytn.engine.caveman.rendering.GLBuffer;
+
+/**
+ * Represents an unmodifiable mesh that is stored in a {@linkplain GeometryPool} instead of its own buffers.
+ * Meshes of the same pool share one vertex array, so they can be drawn one after another without any state change.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class PooledMesh extends Mesh {
+
+	private final GeometryPool pool;
+	private final boolean normals;
+	private final boolean textureCoordinates;
+	private int poolIndex;
+	
+	/**
+	 * @param pool the pool in which the mesh data should be stored
+	 * @param data the mesh data
+	 * @since 18.10.2026/0.5.0
+	 */
+	public PooledMesh(GeometryPool pool, MeshData data) {
+		
+		int[] indices = data.getIndices();
+		
+		this.pool = pool;
+		this.vertexArray = pool.getVertexArray();
+		this.vertexCount = data.getVertices().length / 3;
+		this.indexCount = indices.length;
+		this.faceCount = indices.length / 3;
+		this.normals = data.getNormals() != null;
+		this.textureCoordinates = data.getTextureCoordinates() != null;
+		this.aabb = new AxisAlignedBox(data.getAABB());
+		Sphere sphere = data.getBoundingSphere();
+		this.boundingSphere = new Sphere(sphere.x, sphere.y, sphere.z, sphere.radius);
+		this.poolIndex = -1;
+		pool.add(this, data);
+	}
+	
+	@Override
+	public void dispose() {
+		
+		// Only gives the space in the pool back, the shared buffers stay alive
+		if(!this.disposed) {
+			
+			this.pool.remove(this);
+			this.disposed = true;
+		}
+	}
+	
+	/**
+	 * Called by the pool whenever the mesh is stored or moved.
+	 * @param firstIndex the index in the index buffer at which the indices of this mesh start
+	 * @param baseVertex the index of the first vertex in the vertex buffer
+	 * @param poolIndex the index of this mesh in the list of the pool
+	 * @since 18.10.2026/0.5.0
+	 */
+	void setLocation(int firstIndex, int baseVertex, int poolIndex) {
+		
+		this.firstIndex = firstIndex;
+		this.baseVertex = baseVertex;
+		this.poolIndex = poolIndex;
+	}
+	
+	/**
+	 * @return the index of this mesh in the list of the pool
+	 * @since 18.10.2026/0.5.0
+	 */
+	int getPoolIndex() {
+		
+		return this.poolIndex;
+	}
+	
+	/**
+	 * @return the pool in which this mesh is stored
+	 * @since 18.10.2026/0.5.0
+	 */
+	public GeometryPool getPool() {
+		
+		return this.pool;
+	}
+	
+	@Override
+	public GLBuffer getIndexBuffer() {
+		
+		return this.pool.getIndexBuffer();
+	}
+	
+	@Override
+	public boolean hasNormals() {
+		
+		return this.normals;
+	}
+	
+	@Override
+	public boolean hasTextureCoordinates() {
+		
+		return this.textureCoordinates;
+	}
+	
+	@Override
+	public MeshData createMeshData() {
+		
+		MeshData data = new MeshData();
+		this.pool.read(this, data);
+		data.setBounds(new AxisAlignedBox(this.aabb), new Sphere(this.boundingSphere.x, this.boundingSphere.y, this.boundingSphere.z, this.boundingSphere.radius));
+		return data;
+	}
+}
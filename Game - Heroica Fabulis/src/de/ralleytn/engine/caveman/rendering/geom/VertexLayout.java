@@ -0,0 +1,279 @@
+package de.ralleytn.engine.caveman.rendering.geom;
+
+import java.nio.ByteBuffer;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL30.*;
+
+import de.ralleytn.engine.caveman.util.MathUtil;
+import de.ralleytn.engine.caveman.util.VectorUtil;
+
+/**
+ * Describes how the vertices of a mesh are stored on the GPU and converts {@linkplain MeshData} into that format.
+ * Positions are always stored as three {@code float}s and normals are always encoded with the octahedral mapping
+ * into two signed normalized {@code short}s, so the shaders have to declare the normal as {@code vec2} and decode it.
+ * The format of the texture coordinates can be chosen.
+ * <br><br>The attributes are either interleaved (one vertex after another) or stored one after another in the same buffer
+ * (all positions, then all texture coordinates, then all normals). Attributes that the mesh data doesn't have are filled with zeros.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class VertexLayout {
+
+	/** @since 18.10.2026/0.5.0 */ public static final int TEXTURE_COORDINATES_FLOAT = 0;
+	/** @since 18.10.2026/0.5.0 */ public static final int TEXTURE_COORDINATES_HALF_FLOAT = 1;
+	/** @since 18.10.2026/0.5.0 */ public static final int TEXTURE_COORDINATES_NORMALIZED_SHORT = 2;
+	
+	/**
+	 * Interleaved with texture coordinates as {@code half}s, 20 bytes per vertex.
+	 * Good for texture coordinates that are not repeated too often over a mesh.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final VertexLayout DEFAULT = new VertexLayout(true, TEXTURE_COORDINATES_HALF_FLOAT);
+	
+	/**
+	 * Interleaved with texture coordinates as {@code float}s, 24 bytes per vertex.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final VertexLayout FULL_PRECISION = new VertexLayout(true, TEXTURE_COORDINATES_FLOAT);
+	
+	/**
+	 * Interleaved with texture coordinates as unsigned normalized {@code short}s, 20 bytes per vertex.
+	 * Only for texture coordinates between 0 and 1, but much more precise than {@link #DEFAULT} in that range.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final VertexLayout NORMALIZED = new VertexLayout(true, TEXTURE_COORDINATES_NORMALIZED_SHORT);
+	
+	private static final int POSITION_SIZE = 12;
+	private static final int NORMAL_SIZE = 4;
+	
+	private final boolean interleaved;
+	private final int textureCoordinateFormat;
+	private final int textureCoordinateSize;
+	
+	/**
+	 * @param interleaved {@code true} to store the attributes of a vertex next to each other, {@code false} to store each attribute in its own block
+	 * @param textureCoordinateFormat the format of the texture coordinates, one of the {@code TEXTURE_COORDINATES_} constants
+	 * @since 18.10.2026/0.5.0
+	 */
+	public VertexLayout(boolean interleaved, int textureCoordinateFormat) {
+		
+		this.interleaved = interleaved;
+		this.textureCoordinateFormat = textureCoordinateFormat;
+		this.textureCoordinateSize = textureCoordinateFormat == TEXTURE_COORDINATES_FLOAT ? 8 : 4;
+	}
+	
+	/**
+	 * Converts the vertices of mesh data into this layout.
+	 * @param data the mesh data
+	 * @return a buffer with {@link #getVertexSize()} bytes per vertex, ready to be uploaded
+	 * @since 18.10.2026/0.5.0
+	 */
+	public ByteBuffer encode(MeshData data) {
+		
+		float[] vertices = data.getVertices();
+		float[] textureCoordinates = data.getTextureCoordinates();
+		float[] normals = data.getNormals();
+		int vertexCount = vertices.length / 3;
+		int textureCoordinateOffset = this.getTextureCoordinateOffset(vertexCount);
+		int normalOffset = this.getNormalOffset(vertexCount);
+		int positionStride = this.interleaved ? this.getVertexSize() : POSITION_SIZE;
+		int textureCoordinateStride = this.interleaved ? this.getVertexSize() : this.textureCoordinateSize;
+		int normalStride = this.interleaved ? this.getVertexSize() : NORMAL_SIZE;
+		
+		// Zeroed, so missing attributes don't have to be written
+		ByteBuffer buffer = BufferUtils.createByteBuffer(vertexCount * this.getVertexSize());
+		
+		for(int vertex = 0; vertex < vertexCount; vertex++) {
+			
+			int position = vertex * positionStride;
+			buffer.putFloat(position, vertices[vertex * 3]);
+			buffer.putFloat(position + 4, vertices[vertex * 3 + 1]);
+			buffer.putFloat(position + 8, vertices[vertex * 3 + 2]);
+			
+			if(textureCoordinates != null) {
+				
+				int textureCoordinate = textureCoordinateOffset + vertex * textureCoordinateStride;
+				float u = textureCoordinates[vertex * 2];
+				float v = textureCoordinates[vertex * 2 + 1];
+				
+				if(this.textureCoordinateFormat == TEXTURE_COORDINATES_FLOAT) {
+					
+					buffer.putFloat(textureCoordinate, u);
+					buffer.putFloat(textureCoordinate + 4, v);
+				
+				} else if(this.textureCoordinateFormat == TEXTURE_COORDINATES_HALF_FLOAT) {
+					
+					buffer.putShort(textureCoordinate, MathUtil.toHalfFloat(u));
+					buffer.putShort(textureCoordinate + 2, MathUtil.toHalfFloat(v));
+				
+				} else {
+					
+					buffer.putShort(textureCoordinate, (short)Math.round(Math.max(0.0F, Math.min(1.0F, u)) * 65535.0F));
+					buffer.putShort(textureCoordinate + 2, (short)Math.round(Math.max(0.0F, Math.min(1.0F, v)) * 65535.0F));
+				}
+			}
+			
+			if(normals != null) {
+				
+				// Written as two shorts, so that the order is right regardless of the byte order
+				int normal = normalOffset + vertex * normalStride;
+				int encoded = VectorUtil.encodeOctahedral(normals[vertex * 3], normals[vertex * 3 + 1], normals[vertex * 3 + 2]);
+				buffer.putShort(normal, (short)encoded);
+				buffer.putShort(normal + 2, (short)(encoded >> 16));
+			}
+		}
+		
+		return buffer;
+	}
+	
+	/**
+	 * Converts vertices in this layout back into mesh data. The normals are normalized afterwards.
+	 * @param buffer the buffer with the vertices, starting at index 0
+	 * @param vertexCount the amount of vertices
+	 * @param textureCoordinates {@code true} if the texture coordinates should be read
+	 * @param normals {@code true} if the normals should be read
+	 * @param data the mesh data to which the vertices, texture coordinates and normals are written
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void decode(ByteBuffer buffer, int vertexCount, boolean textureCoordinates, boolean normals, MeshData data) {
+		
+		int textureCoordinateOffset = this.getTextureCoordinateOffset(vertexCount);
+		int normalOffset = this.getNormalOffset(vertexCount);
+		int positionStride = this.interleaved ? this.getVertexSize() : POSITION_SIZE;
+		int textureCoordinateStride = this.interleaved ? this.getVertexSize() : this.textureCoordinateSize;
+		int normalStride = this.interleaved ? this.getVertexSize() : NORMAL_SIZE;
+		float[] vertexArray = new float[vertexCount * 3];
+		float[] textureCoordinateArray = textureCoordinates ? new float[vertexCount * 2] : null;
+		float[] normalArray = normals ? new float[vertexCount * 3] : null;
+		
+		for(int vertex = 0; vertex < vertexCount; vertex++) {
+			
+			int position = vertex * positionStride;
+			vertexArray[vertex * 3] = buffer.getFloat(position);
+			vertexArray[vertex * 3 + 1] = buffer.getFloat(position + 4);
+			vertexArray[vertex * 3 + 2] = buffer.getFloat(position + 8);
+			
+			if(textureCoordinates) {
+				
+				int textureCoordinate = textureCoordinateOffset + vertex * textureCoordinateStride;
+				
+				if(this.textureCoordinateFormat == TEXTURE_COORDINATES_FLOAT) {
+					
+					textureCoordinateArray[vertex * 2] = buffer.getFloat(textureCoordinate);
+					textureCoordinateArray[vertex * 2 + 1] = buffer.getFloat(textureCoordinate + 4);
+				
+				} else if(this.textureCoordinateFormat == TEXTURE_COORDINATES_HALF_FLOAT) {
+					
+					textureCoordinateArray[vertex * 2] = MathUtil.fromHalfFloat(buffer.getShort(textureCoordinate));
+					textureCoordinateArray[vertex * 2 + 1] = MathUtil.fromHalfFloat(buffer.getShort(textureCoordinate + 2));
+				
+				} else {
+					
+					textureCoordinateArray[vertex * 2] = (buffer.getShort(textureCoordinate) & 0xFFFF) / 65535.0F;
+					textureCoordinateArray[vertex * 2 + 1] = (buffer.getShort(textureCoordinate + 2) & 0xFFFF) / 65535.0F;
+				}
+			}
+			
+			if(normals) {
+				
+				int normal = normalOffset + vertex * normalStride;
+				int encoded = (buffer.getShort(normal) & 0xFFFF) | (buffer.getShort(normal + 2) << 16);
+				VectorUtil.decodeOctahedral(encoded, normalArray, vertex * 3);
+			}
+		}
+		
+		data.setVertices(vertexArray);
+		
+		if(textureCoordinates) {
+			
+			data.setTextureCoordinates(textureCoordinateArray);
+		}
+		
+		if(normals) {
+			
+			data.setNormals(normalArray);
+		}
+	}
+	
+	/**
+	 * Sets and enables the attribute pointers for position (0), texture coordinates (1) and normal (2).
+	 * The vertex array and the vertex buffer have to be bound.
+	 * @param vertexCount the amount of vertices in the buffer, only needed if the layout is not interleaved
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setAttributes(int vertexCount) {
+		
+		int vertexSize = this.getVertexSize();
+		glVertexAttribPointer(0, 3, GL_FLOAT, false, this.interleaved ? vertexSize : 0, 0);
+		
+		if(this.textureCoordinateFormat == TEXTURE_COORDINATES_FLOAT) {
+			
+			glVertexAttribPointer(1, 2, GL_FLOAT, false, this.interleaved ? vertexSize : 0, this.getTextureCoordinateOffset(vertexCount));
+		
+		} else if(this.textureCoordinateFormat == TEXTURE_COORDINATES_HALF_FLOAT) {
+			
+			glVertexAttribPointer(1, 2, GL_HALF_FLOAT, false, this.interleaved ? vertexSize : 0, this.getTextureCoordinateOffset(vertexCount));
+		
+		} else {
+			
+			glVertexAttribPointer(1, 2, GL_UNSIGNED_SHORT, true, this.interleaved ? vertexSize : 0, this.getTextureCoordinateOffset(vertexCount));
+		}
+		
+		glVertexAttribPointer(2, 2, GL_SHORT, true, this.interleaved ? vertexSize : 0, this.getNormalOffset(vertexCount));
+		glEnableVertexAttribArray(0);
+		glEnableVertexAttribArray(1);
+		glEnableVertexAttribArray(2);
+	}
+	
+	/**
+	 * @param vertexCount the amount of vertices in the buffer
+	 * @return the offset of the first texture coordinate in bytes
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final int getTextureCoordinateOffset(int vertexCount) {
+		
+		return this.interleaved ? POSITION_SIZE : POSITION_SIZE * vertexCount;
+	}
+	
+	/**
+	 * @param vertexCount the amount of vertices in the buffer
+	 * @return the offset of the first normal in bytes
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final int getNormalOffset(int vertexCount) {
+		
+		return this.interleaved ? POSITION_SIZE + this.textureCoordinateSize : (POSITION_SIZE + this.textureCoordinateSize) * vertexCount;
+	}
+	
+	/**
+	 * @return the size of one vertex with all of its attributes in bytes
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getVertexSize() {
+		
+		return POSITION_SIZE + this.textureCoordinateSize + NORMAL_SIZE;
+	}
+	
+	/**
+	 * @return {@code true} if the attributes of a vertex are stored next to each other, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isInterleaved() {
+		
+		return this.interleaved;
+	}
+	
+	/**
+	 * @return the format of the texture coordinates, one of the {@code TEXTURE_COORDINATES_} constants
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getTextureCoordinateFormat() {
+		
+		return this.textureCoordinateFormat;
+	}
+}
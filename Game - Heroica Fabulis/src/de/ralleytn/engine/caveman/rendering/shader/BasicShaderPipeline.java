@@ -1,103 +1,304 @@
-package de.ralleytn.engine.caveman.rendering.shader;
-
-import java.io.File;
-import java.io.IOException;
-
-import org.lwjgl.opengl.GL20;
-
-import de.ralleytn.engine.caveman.EngineException;
-
-/**
- * A basic shader pipeline with vertex, geometry and fragment shader. the geometry shader is optional.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 16.08.2018/0.1.0
- * @since 11.08.2018/0.1.0
- */
-public class BasicShaderPipeline extends ShaderPipeline {
-
-	protected final File vertexShaderFile;
-	protected final File geometryShaderFile;
-	protected final File fragmentShaderFile;
-	
-	/**
-	 * @param directory the directory with the shader source code; the directory has to contain at least the files 
-	 * 					<code>"{name}_vertex.glsl"</code> and <code>"{name}_fragment.glsl"</code>, <code>"{name}_geometry.glsl"</code> is optional
-	 * @param name the shader name (example: {@code "basic_vertex.glsl"} => {@code "basic"})
-	 * @throws IOException if one of the shader files could not be read
-	 * @throws EngineException if one of the shaders could not be compiled
-	 * @since 11.08.2018/0.1.0
-	 */
-	public BasicShaderPipeline(File directory, String name) throws IOException, EngineException {
-
-		this.vertexShaderFile = new File(directory, String.format("%s_vertex.glsl", name));
-		this.geometryShaderFile = new File(directory, String.format("%s_geometry.glsl", name));
-		this.fragmentShaderFile = new File(directory, String.format("%s_fragment.glsl", name));
-
-		this.createShaderPipelineFromScratch();
-	}
-	
-	@Override
-	public void dispose() {
-
-		this.disposeShader(this.getVertexShader());
-		this.disposeShader(this.getGeometryShader());
-		this.disposeShader(this.getFragmentShader());
-		
-		super.dispose();
-	}
-	
-	/**
-	 * Builds the shader pipeline from scratch.
-	 * @throws IOException if one of the shader files could not be read
-	 * @throws EngineException if one of the shaders could not be compiled
-	 * @since 11.08.2018/0.1.0
-	 */
-	private final void createShaderPipelineFromScratch() throws IOException, EngineException {
-
-		this.setVertexShader(createShaderFromFile(Shader.TYPE_VERTEX_SHADER, this.vertexShaderFile));
-		this.setGeometryShader(createShaderFromFile(Shader.TYPE_GEOMETRY_SHADER, this.geometryShaderFile));
-		this.setFragmentShader(createShaderFromFile(Shader.TYPE_FRAGMENT_SHADER, this.fragmentShaderFile));
-		
-		this.bindAttribute(0, "inVertex");
-		this.bindAttribute(1, "inTexCoord");
-		this.bindAttribute(2, "inNormal");
-		
-		this.link();
-	}
-	
-	/**
-	 * Builds a shader from a file.
-	 * @param type the shader type
-	 * @param file the file
-	 * @return the built shader
-	 * @throws IOException if the file could not be read
-	 * @throws EngineException if the shader could not be compiled
-	 * @since 11.08.2018/0.1.0
-	 */
-	private static final Shader createShaderFromFile(int type, File file) throws IOException, EngineException {
-		
-		if(file.exists() && file.isFile() && file.canRead()) {
-			
-			Shader shader = new Shader(type, file);
-			shader.load();
-			shader.compile();
-			return shader;
-		}
-		
-		return null;
-	}
-	
-	/**
-	 * Detaches a shader and disposes of it.
-	 * @param shader the shader
-	 * @since 11.08.2018/0.1.0
-	 */
-	private void disposeShader(Shader shader) {
-		
-		if(shader != null) {
-			
-			GL20.glDetachShader(this.id, shader.getID());
-			shader.dispose();
-		}
-	}
-}
+package de.ralleytn.engine.caveman.rendering.shader;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.lwjgl.opengl.GL20;
+
+import de.ralleytn.engine.caveman.EngineException;
+import de.ralleytn.engine.caveman.Errors;
+import de.ralleytn.engine.caveman.rendering.FrameUniformBuffer;
+
+/**
+ * A basic shader pipeline with vertex, geometry and fragment shader. the geometry shader is optional.
+ * The uniform blocks {@value FrameUniformBuffer#BLOCK_NAME} and {@value Material#BLOCK_NAME} are bound to
+ * {@value FrameUniformBuffer#BINDING} and {@value Material#BINDING}.
+ * <p>
+ * For every combination of {@linkplain Material#getFeatures() material features} a permutation is compiled on demand from the same files.
+ * Permutations define the macro {@code PERMUTATION} and one macro per feature with the value {@code true} or {@code false}
+ * in front of the source code ({@code MAT_AFFECTED_BY_LIGHT}, {@code MAT_USE_COLOR_MAP}, ...).
+ * Without {@code PERMUTATION} the shaders should define these macros as the flags of the uniform block, so that the generic shader pipeline
+ * still works for every material.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 11.08.2018/0.1.0
+ */
+public class BasicShaderPipeline extends ShaderPipeline {
+
+	// In the order of the bits of the material features
+	private static final String[] FEATURE_MACROS = {
+		
+		"MAT_AFFECTED_BY_LIGHT",
+		"MAT_SPECULAR",
+		"MAT_USE_SPECULAR_MAP",
+		"MAT_USE_COLOR_MAP",
+		"MAT_USE_BLEND_MAP",
+		"MAT_USE_OVERLAY1",
+		"MAT_USE_OVERLAY2",
+		"MAT_USE_OVERLAY3",
+		"MAT_ALLOW_TRANSPARENCY",
+		"MAT_USE_UPWARDS_NORMALS",
+		"MAT_AFFECTED_BY_FOG"
+	};
+	
+	protected final File vertexShaderFile;
+	protected final File geometryShaderFile;
+	protected final File fragmentShaderFile;
+	
+	private final int features;
+	private ShaderPipeline[] permutations;
+	private boolean permutationsEnabled;
+	
+	/**
+	 * @param directory the directory with the shader source code; the directory has to contain at least the files 
+	 * 					<code>"{name}_vertex.glsl"</code> and <code>"{name}_fragment.glsl"</code>, <code>"{name}_geometry.glsl"</code> is optional
+	 * @param name the shader name (example: {@code "basic_vertex.glsl"} => {@code "basic"})
+	 * @throws IOException if one of the shader files could not be read
+	 * @throws EngineException if one of the shaders could not be compiled
+	 * @since 11.08.2018/0.1.0
+	 */
+	public BasicShaderPipeline(File directory, String name) throws IOException, EngineException {
+
+		this(directory, name, name);
+	}
+	
+	/**
+	 * Creates a shader pipeline with a different vertex shader, for example {@code "basic_instanced"} with the other shaders of {@code "basic"}.
+	 * @param directory the directory with the shader source code
+	 * @param name the shader name of the geometry and fragment shader
+	 * @param vertexShaderName the shader name of the vertex shader
+	 * @throws IOException if one of the shader files could not be read
+	 * @throws EngineException if one of the shaders could not be compiled
+	 * @since 18.10.2026/0.5.0
+	 */
+	public BasicShaderPipeline(File directory, String name, String vertexShaderName) throws IOException, EngineException {
+
+		this.vertexShaderFile = new File(directory, String.format("%s_vertex.glsl", vertexShaderName));
+		this.geometryShaderFile = new File(directory, String.format("%s_geometry.glsl", name));
+		this.fragmentShaderFile = new File(directory, String.format("%s_fragment.glsl", name));
+		this.features = -1;
+		this.permutationsEnabled = true;
+
+		this.createShaderPipelineFromScratch();
+	}
+	
+	/**
+	 * Creates a permutation of a shader pipeline.
+	 * @param generic the shader pipeline from which the permutation is created
+	 * @param features the material features for which the permutation is specialized
+	 * @throws IOException if one of the shader files could not be read
+	 * @throws EngineException if one of the shaders could not be compiled
+	 * @since 18.10.2026/0.5.0
+	 */
+	protected BasicShaderPipeline(BasicShaderPipeline generic, int features) throws IOException, EngineException {
+		
+		this.vertexShaderFile = generic.vertexShaderFile;
+		this.geometryShaderFile = generic.geometryShaderFile;
+		this.fragmentShaderFile = generic.fragmentShaderFile;
+		this.features = features;
+		
+		this.createShaderPipelineFromScratch();
+	}
+	
+	@Override
+	public void dispose() {
+
+		this.disposeShader(this.getVertexShader());
+		this.disposeShader(this.getGeometryShader());
+		this.disposeShader(this.getFragmentShader());
+		
+		if(this.permutations != null) {
+			
+			for(ShaderPipeline permutation : this.permutations) {
+				
+				if(permutation != null && permutation != this) {
+					
+					permutation.dispose();
+				}
+			}
+			
+			this.permutations = null;
+		}
+		
+		super.dispose();
+	}
+	
+	/**
+	 * Returns the permutation for the given material features. It is compiled the first time it is requested and kept until this shader pipeline is disposed.
+	 * If the compilation fails, the error is printed and this shader pipeline is used for the features instead.
+	 * Permutations have no permutations themselves and return themselves.
+	 * @since 18.10.2026/0.5.0
+	 */
+	@Override
+	public ShaderPipeline getPermutation(int features) {
+		
+		if(this.features != -1 || !this.permutationsEnabled) {
+			
+			return this;
+		}
+		
+		if(this.permutations == null) {
+			
+			this.permutations = new ShaderPipeline[1 << Material.FEATURE_COUNT];
+		}
+		
+		int key = features & ((1 << Material.FEATURE_COUNT) - 1);
+		ShaderPipeline permutation = this.permutations[key];
+		
+		if(permutation == null) {
+			
+			try {
+				
+				permutation = new BasicShaderPipeline(this, key);
+				
+			} catch(IOException | EngineException exception) {
+				
+				// The generic shader pipeline reads the flags of the material, so it still renders the material correctly
+				Errors.print(exception);
+				permutation = this;
+			}
+			
+			this.permutations[key] = permutation;
+		}
+		
+		return permutation;
+	}
+	
+	/**
+	 * Enables or disables the permutations. If they are disabled, this shader pipeline is used for all materials.
+	 * Permutations that were already compiled are kept.
+	 * @param permutationsEnabled {@code true} to enable the permutations, {@code false} to disable them
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setPermutationsEnabled(boolean permutationsEnabled) {
+		
+		this.permutationsEnabled = permutationsEnabled;
+	}
+	
+	/**
+	 * @return {@code true} if the permutations are enabled, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isPermutationsEnabled() {
+		
+		return this.permutationsEnabled;
+	}
+	
+	/**
+	 * @return the material features for which this shader pipeline is specialized or {@code -1} if it is the generic one
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getFeatures() {
+		
+		return this.features;
+	}
+	
+	/**
+	 * Builds the shader pipeline from scratch or loads it from the {@linkplain ProgramBinaryCache}.
+	 * @throws IOException if one of the shader files could not be read
+	 * @throws EngineException if one of the shaders could not be compiled
+	 * @since 11.08.2018/0.1.0
+	 */
+	private final void createShaderPipelineFromScratch() throws IOException, EngineException {
+
+		long start = System.nanoTime();
+		Shader vertexShader = createShaderFromFile(Shader.TYPE_VERTEX_SHADER, this.vertexShaderFile, this.features);
+		Shader geometryShader = createShaderFromFile(Shader.TYPE_GEOMETRY_SHADER, this.geometryShaderFile, this.features);
+		Shader fragmentShader = createShaderFromFile(Shader.TYPE_FRAGMENT_SHADER, this.fragmentShaderFile, this.features);
+		
+		this.bindAttribute(0, "inVertex");
+		this.bindAttribute(1, "inTexCoord");
+		this.bindAttribute(2, "inNormal");
+		this.bindAttribute(ATTRIBUTE_INSTANCE_TRANSFORMATION, "inTransformation");
+		
+		ProgramBinaryCache cache = ProgramBinaryCache.getDefault();
+		String key = cache.createKey(this.getAttributeBindings().toString(), BasicShaderPipeline.getSource(vertexShader), BasicShaderPipeline.getSource(geometryShader), BasicShaderPipeline.getSource(fragmentShader));
+		boolean loaded = cache.load(this, key);
+		
+		if(loaded) {
+			
+			// The shaders were never compiled or attached, so they are not needed anymore
+			if(vertexShader != null) vertexShader.dispose();
+			if(geometryShader != null) geometryShader.dispose();
+			if(fragmentShader != null) fragmentShader.dispose();
+			
+		} else {
+			
+			if(vertexShader != null) vertexShader.compile();
+			if(geometryShader != null) geometryShader.compile();
+			if(fragmentShader != null) fragmentShader.compile();
+			
+			this.setVertexShader(vertexShader);
+			this.setGeometryShader(geometryShader);
+			this.setFragmentShader(fragmentShader);
+			this.link();
+			cache.store(this, key);
+		}
+		
+		this.bindUniformBlock(FrameUniformBuffer.BLOCK_NAME, FrameUniformBuffer.BINDING);
+		this.bindUniformBlock(Material.BLOCK_NAME, Material.BINDING);
+		
+		// Samplers keep their texture unit, so they only have to be assigned once
+		this.bind();
+		Material.applyTextureUnits(this);
+		this.unbind();
+		
+		ProgramBinaryCache.count(loaded, System.nanoTime() - start);
+	}
+	
+	/**
+	 * @param shader the shader or {@code null}
+	 * @return the source code of the shader or {@code null}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final String getSource(Shader shader) {
+		
+		return shader != null ? shader.getSource() : null;
+	}
+	
+	/**
+	 * Creates a shader and loads its source code from a file. It still has to be compiled.
+	 * @param type the shader type
+	 * @param file the file
+	 * @param features the material features for which the shader should be specialized or {@code -1} for the generic shader
+	 * @return the shader or {@code null} if the file doesn't exist
+	 * @throws IOException if the file could not be read
+	 * @since 11.08.2018/0.1.0
+	 */
+	private static final Shader createShaderFromFile(int type, File file, int features) throws IOException {
+		
+		if(file.exists() && file.isFile() && file.canRead()) {
+			
+			Shader shader = new Shader(type, file);
+			
+			if(features != -1) {
+				
+				shader.define("PERMUTATION", "1");
+				
+				for(int index = 0; index < FEATURE_MACROS.length; index++) {
+					
+					shader.define(FEATURE_MACROS[index], (features & (1 << index)) != 0 ? "true" : "false");
+				}
+			}
+			
+			shader.load();
+			return shader;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Detaches a shader and disposes of it.
+	 * @param shader the shader
+	 * @since 11.08.2018/0.1.0
+	 */
+	private void disposeShader(Shader shader) {
+		
+		if(shader != null) {
+			
+			GL20.glDetachShader(this.id, shader.getID());
+			shader.dispose();
+		}
+	}
+}
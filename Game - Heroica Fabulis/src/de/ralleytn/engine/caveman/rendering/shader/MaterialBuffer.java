@@ -0,0 +1,157 @@
+package de.ralleytn.engine.caveman.rendering.shader;
+
+import java.nio.ByteBuffer;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL15.*;
+import static org.lwjgl.opengl.GL30.*;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL45.*;
+
+import de.ralleytn.engine.caveman.rendering.GLBuffer;
+import de.ralleytn.engine.caveman.rendering.GLStateCache;
+
+/**
+ * One uniform buffer that holds the {@value Material#BLOCK_NAME} block of every material in its own region.
+ * Switching the material is then just binding another range of the buffer to {@value Material#BINDING}.
+ * Must only be used on the OpenGL thread.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+final class MaterialBuffer {
+
+	// Size of the block with std140 layout, see Material#write(ByteBuffer)
+	static final int BLOCK_SIZE = 144;
+	
+	private static final int INITIAL_CAPACITY = 64;
+	
+	private static MaterialBuffer instance;
+	
+	private final int stride;
+	private final ByteBuffer data;
+	private GLBuffer buffer;
+	private int capacity;
+	private int count;
+	private int[] freeRegions;
+	private int freeCount;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	private MaterialBuffer() {
+		
+		// Every region has to start at a multiple of the offset alignment to be bindable
+		int alignment = Math.max(1, glGetInteger(GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT));
+		this.stride = ((BLOCK_SIZE + alignment - 1) / alignment) * alignment;
+		this.data = BufferUtils.createByteBuffer(BLOCK_SIZE);
+		this.freeRegions = new int[16];
+		this.grow(INITIAL_CAPACITY);
+	}
+	
+	/**
+	 * Creates the material buffer the first time it is needed.
+	 * Not synchronized, because the buffer can only be created and used on the OpenGL thread.
+	 * @return the material buffer
+	 * @since 18.10.2026/0.5.0
+	 */
+	static MaterialBuffer getDefault() {
+		
+		if(instance == null) {
+			
+			instance = new MaterialBuffer();
+		}
+		
+		return instance;
+	}
+	
+	/**
+	 * @param capacity the new amount of regions
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void grow(int capacity) {
+		
+		GLBuffer buffer = new GLBuffer(GLBuffer.TYPE_UNIFORM);
+		buffer.bind();
+		buffer.allocate((long)capacity * this.stride, GL_DYNAMIC_DRAW);
+		
+		if(this.buffer != null) {
+			
+			glCopyNamedBufferSubData(this.buffer.getID(), buffer.getID(), 0, 0, (long)this.count * this.stride);
+			this.buffer.dispose();
+		}
+		
+		this.buffer = buffer;
+		this.capacity = capacity;
+	}
+	
+	/**
+	 * @return the index of a region that is not used by any other material
+	 * @since 18.10.2026/0.5.0
+	 */
+	int allocate() {
+		
+		if(this.freeCount > 0) {
+			
+			return this.freeRegions[--this.freeCount];
+		}
+		
+		if(this.count == this.capacity) {
+			
+			this.grow(this.capacity * 2);
+		}
+		
+		return this.count++;
+	}
+	
+	/**
+	 * Gives a region back.
+	 * @param region the index of the region
+	 * @since 18.10.2026/0.5.0
+	 */
+	void free(int region) {
+		
+		if(this.freeCount == this.freeRegions.length) {
+			
+			int[] freeRegions = new int[this.freeCount * 2];
+			System.arraycopy(this.freeRegions, 0, freeRegions, 0, this.freeCount);
+			this.freeRegions = freeRegions;
+		}
+		
+		this.freeRegions[this.freeCount++] = region;
+	}
+	
+	/**
+	 * @return the cleared buffer the material data should be written to before calling {@link #upload(int)}
+	 * @since 18.10.2026/0.5.0
+	 */
+	ByteBuffer begin() {
+		
+		this.data.clear();
+		return this.data;
+	}
+	
+	/**
+	 * Uploads the data that was written to {@link #begin()} into a region.
+	 * @param region the index of the region
+	 * @since 18.10.2026/0.5.0
+	 */
+	void upload(int region) {
+		
+		this.data.position(0).limit(BLOCK_SIZE);
+		this.buffer.bind();
+		this.buffer.setSubData((long)region * this.stride, this.data);
+	}
+	
+	/**
+	 * Binds a region to {@value Material#BINDING}.
+	 * @param region the index of the region
+	 * @since 18.10.2026/0.5.0
+	 */
+	void bind(int region) {
+		
+		GLStateCache.getDefault().bindBufferRange(GL_UNIFORM_BUFFER, Material.BINDING, this.buffer.getID(), (long)region * this.stride, BLOCK_SIZE);
+	}
+}
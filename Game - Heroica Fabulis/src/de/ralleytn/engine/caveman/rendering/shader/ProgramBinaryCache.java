@@ -0,0 +1,383 @@
+package de.ralleytn.engine.caveman.rendering.shader;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.zip.CRC32;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL41.*;
+
+import de.ralleytn.engine.caveman.Errors;
+
+/**
+ * Stores linked shader programs as binaries on the disk, so that they don't have to be compiled and linked again on the next start.
+ * Every binary is stored in its own file whose name is a hash of the shader source code (including all {@code #define} directives),
+ * the attribute bindings and the vendor, renderer and version string of OpenGL. A driver update therefore leads to new files.
+ * Binaries that can't be loaded anymore are deleted and the program is compiled normally.
+ * Must only be used on the OpenGL thread.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class ProgramBinaryCache {
+
+	private static final String FILE_EXTENSION = ".bin";
+	private static final int MAGIC = 0x48465042; // "HFPB"
+	private static final int FORMAT_VERSION = 1;
+	
+	// Magic, format version, binary format, binary length and CRC32 of the binary
+	private static final int HEADER_SIZE = 24;
+	
+	private static ProgramBinaryCache instance;
+	
+	private static int loadedPrograms;
+	private static int compiledPrograms;
+	private static int failedLoads;
+	private static long loadTime;
+	private static long compileTime;
+	
+	private File directory;
+	private String driver;
+	private int supported;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	private ProgramBinaryCache() {
+		
+		this.supported = -1;
+	}
+	
+	/**
+	 * Creates the cache the first time it is needed. It stays disabled until a directory is set.
+	 * @return the program binary cache
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static ProgramBinaryCache getDefault() {
+		
+		if(instance == null) {
+			
+			instance = new ProgramBinaryCache();
+		}
+		
+		return instance;
+	}
+	
+	/**
+	 * Sets the directory in which the binaries are stored. It is created when the first binary is stored.
+	 * @param directory the directory or {@code null} to disable the cache
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setDirectory(File directory) {
+		
+		this.directory = directory;
+	}
+	
+	/**
+	 * Creates the key under which a program is stored.
+	 * @param parts everything the linked program depends on, like the source code of its shaders; {@code null} values are allowed
+	 * @return the key or {@code null} if the cache is disabled
+	 * @since 18.10.2026/0.5.0
+	 */
+	public String createKey(String... parts) {
+		
+		if(!this.isEnabled()) {
+			
+			return null;
+		}
+		
+		if(this.driver == null) {
+			
+			this.driver = glGetString(GL_VENDOR) + '\0' + glGetString(GL_RENDERER) + '\0' + glGetString(GL_VERSION);
+		}
+		
+		try {
+			
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(this.driver.getBytes(StandardCharsets.UTF_8));
+			
+			for(String part : parts) {
+				
+				// The separator keeps "ab" + "c" and "a" + "bc" apart
+				digest.update((byte)0);
+				
+				if(part != null) {
+					
+					digest.update(part.getBytes(StandardCharsets.UTF_8));
+				}
+			}
+			
+			StringBuilder key = new StringBuilder();
+			
+			for(byte value : digest.digest()) {
+				
+				key.append(String.format("%02x", value & 0xFF));
+			}
+			
+			return key.toString();
+		
+		} catch(NoSuchAlgorithmException exception) {
+			
+			// Every Java platform has to support SHA-256, so this should never happen
+			Errors.print(exception);
+			return null;
+		}
+	}
+	
+	/**
+	 * Loads the binary that is stored under the given key into a shader pipeline.
+	 * If it succeeds, the shader pipeline is linked and doesn't need any shaders.
+	 * @param pipeline the shader pipeline
+	 * @param key the key created with {@link #createKey(String...)}
+	 * @return {@code true} if the binary was loaded, {@code false} if the program has to be compiled and linked normally
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean load(ShaderPipeline pipeline, String key) {
+		
+		if(key == null || !this.isEnabled()) {
+			
+			return false;
+		}
+		
+		File file = new File(this.directory, key + FILE_EXTENSION);
+		
+		if(!file.isFile()) {
+			
+			return false;
+		}
+		
+		try {
+			
+			byte[] data = Files.readAllBytes(file.toPath());
+			
+			if(data.length >= HEADER_SIZE) {
+				
+				ByteBuffer header = ByteBuffer.wrap(data, 0, HEADER_SIZE);
+				int magic = header.getInt();
+				int version = header.getInt();
+				int format = header.getInt();
+				int length = header.getInt();
+				long checksum = header.getLong();
+				
+				if(magic == MAGIC && version == FORMAT_VERSION && length == data.length - HEADER_SIZE) {
+					
+					CRC32 crc = new CRC32();
+					crc.update(data, HEADER_SIZE, length);
+					
+					if(crc.getValue() == checksum) {
+						
+						ByteBuffer binary = BufferUtils.createByteBuffer(length);
+						binary.put(data, HEADER_SIZE, length);
+						binary.flip();
+						
+						// The driver may still reject the binary, for example after an update that kept the version string
+						if(pipeline.loadBinary(format, binary)) {
+							
+							return true;
+						}
+					}
+				}
+			}
+		
+		} catch(IOException exception) {
+			
+			Errors.print(exception);
+		}
+		
+		failedLoads++;
+		file.delete();
+		return false;
+	}
+	
+	/**
+	 * Stores the binary of a linked shader pipeline under the given key. Errors are printed and otherwise ignored,
+	 * because the program only has to be compiled again on the next start.
+	 * @param pipeline the linked shader pipeline
+	 * @param key the key created with {@link #createKey(String...)}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void store(ShaderPipeline pipeline, String key) {
+		
+		if(key == null || !this.isEnabled()) {
+			
+			return;
+		}
+		
+		int length = glGetProgrami(pipeline.getID(), GL_PROGRAM_BINARY_LENGTH);
+		
+		if(length <= 0) {
+			
+			return;
+		}
+		
+		IntBuffer written = BufferUtils.createIntBuffer(1);
+		IntBuffer format = BufferUtils.createIntBuffer(1);
+		ByteBuffer binary = BufferUtils.createByteBuffer(length);
+		glGetProgramBinary(pipeline.getID(), written, format, binary);
+		length = written.get(0);
+		
+		byte[] data = new byte[HEADER_SIZE + length];
+		binary.get(data, HEADER_SIZE, length);
+		
+		CRC32 crc = new CRC32();
+		crc.update(data, HEADER_SIZE, length);
+		
+		ByteBuffer header = ByteBuffer.wrap(data, 0, HEADER_SIZE);
+		header.putInt(MAGIC);
+		header.putInt(FORMAT_VERSION);
+		header.putInt(format.get(0));
+		header.putInt(length);
+		header.putLong(crc.getValue());
+		
+		try {
+			
+			this.directory.mkdirs();
+			
+			// Written to a temporary file first, so that a crash can't leave a half written binary behind
+			File file = new File(this.directory, key + FILE_EXTENSION);
+			File temporary = new File(this.directory, key + ".tmp");
+			Files.write(temporary.toPath(), data);
+			Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		
+		} catch(IOException exception) {
+			
+			Errors.print(exception);
+		}
+	}
+	
+	/**
+	 * Deletes all stored binaries.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void clear() {
+		
+		File[] files = this.directory != null ? this.directory.listFiles() : null;
+		
+		if(files != null) {
+			
+			for(File file : files) {
+				
+				if(file.isFile() && file.getName().endsWith(FILE_EXTENSION)) {
+					
+					file.delete();
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @return {@code true} if a directory is set and the driver supports at least one binary format, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean isEnabled() {
+		
+		if(this.directory == null) {
+			
+			return false;
+		}
+		
+		if(this.supported == -1) {
+			
+			this.supported = glGetInteger(GL_NUM_PROGRAM_BINARY_FORMATS) > 0 ? 1 : 0;
+		}
+		
+		return this.supported == 1;
+	}
+	
+	/**
+	 * @return the directory in which the binaries are stored or {@code null} if the cache is disabled
+	 * @since 18.10.2026/0.5.0
+	 */
+	public File getDirectory() {
+		
+		return this.directory;
+	}
+	
+	/**
+	 * Counts a built program for the statistics.
+	 * @param loaded {@code true} if it was loaded from the cache, {@code false} if it was compiled
+	 * @param time the time it took to build the program in nanoseconds
+	 * @since 18.10.2026/0.5.0
+	 */
+	static final void count(boolean loaded, long time) {
+		
+		if(loaded) {
+			
+			loadedPrograms++;
+			loadTime += time;
+		
+		} else {
+			
+			compiledPrograms++;
+			compileTime += time;
+		}
+	}
+	
+	/**
+	 * Resets all statistics.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static void resetStatistics() {
+		
+		loadedPrograms = 0;
+		compiledPrograms = 0;
+		failedLoads = 0;
+		loadTime = 0;
+		compileTime = 0;
+	}
+	
+	/**
+	 * @return the amount of programs that were loaded from the cache since the last call of {@link #resetStatistics()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static int getLoadedPrograms() {
+		
+		return loadedPrograms;
+	}
+	
+	/**
+	 * @return the amount of programs that were compiled and linked since the last call of {@link #resetStatistics()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static int getCompiledPrograms() {
+		
+		return compiledPrograms;
+	}
+	
+	/**
+	 * @return the amount of stored binaries that could not be loaded since the last call of {@link #resetStatistics()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static int getFailedLoads() {
+		
+		return failedLoads;
+	}
+	
+	/**
+	 * @return the time in milliseconds it took to build the programs that were loaded from the cache
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static float getLoadTime() {
+		
+		return loadTime / 1000000.0F;
+	}
+	
+	/**
+	 * @return the time in milliseconds it took to build the programs that were compiled and linked
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static float getCompileTime() {
+		
+		return compileTime / 1000000.0F;
+	}
+}
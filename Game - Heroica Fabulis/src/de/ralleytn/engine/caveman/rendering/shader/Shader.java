@@ -1,117 +1,177 @@
-package de.ralleytn.engine.caveman.rendering.shader;
-
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-
-import static org.lwjgl.opengl.GL20.*;
-
-import org.lwjgl.opengl.GL11;
-import org.lwjgl.opengl.GL32;
-import org.lwjgl.opengl.GL40;
-import org.lwjgl.opengl.GL43;
-
-import de.ralleytn.engine.caveman.EngineException;
-import de.ralleytn.engine.caveman.LWJGLObject;
-import de.ralleytn.engine.caveman.io.Loadable;
-
-/**
- * Represents a single shader in OpenGL.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 11.08.2018/0.1.0
- * @since 10.08.2018/0.1.0
- */
-public class Shader extends LWJGLObject implements Loadable {
-
-	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_VERTEX_SHADER = GL_VERTEX_SHADER;
-	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_FRAGMENT_SHADER = GL_FRAGMENT_SHADER;
-	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_COMPUTE_SHADER = GL43.GL_COMPUTE_SHADER;
-	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_GEOMETRY_SHADER = GL32.GL_GEOMETRY_SHADER;
-	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_TESSELATION_CONTROL_SHADER = GL40.GL_TESS_CONTROL_SHADER;
-	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_TESSELATION_EVALUATION_SHADER = GL40.GL_TESS_EVALUATION_SHADER;
-	
-	private int type;
-	private File file;
-	
-	/**
-	 * @param type the type of shader
-	 * @param file the file containing the shader source code
-	 * @since 10.08.2018/0.1.0
-	 */
-	public Shader(int type, File file) {
-		
-		this.type = type;
-		this.file = file;
-		this.id = glCreateShader(type);
-	}
-	
-	@Override
-	public void dispose() {
-		
-		glDeleteShader(this.id);
-		this.disposed = true;
-	}
-	
-	@Override
-	public void load() throws IOException {
-		
-		StringBuilder source = new StringBuilder();
-		
-		try(BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(this.file), StandardCharsets.UTF_8))) {
-			
-			String line = null;
-			
-			while((line = reader.readLine()) != null) {
-				
-				line = line.trim();
-				
-				if(!line.isEmpty()) {
-					
-					source.append(line);
-					source.append('\n');
-				}
-			}
-		}
-		
-		glShaderSource(this.id, source);
-	}
-	
-	/**
-	 * Compiles the shader.
-	 * @throws EngineException if the shader could not be compiled
-	 * @since 10.08.2018/0.1.0
-	 */
-	public void compile() throws EngineException {
-		
-		glCompileShader(this.id);
-		
-		if(glGetShaderi(this.id, GL_COMPILE_STATUS) == GL11.GL_FALSE) {
-			
-			// Has to be done in this order, otherwise the info log is empty
-			EngineException exception = new EngineException("Could not compile shader! " + glGetShaderInfoLog(this.id));
-			this.dispose();
-			throw exception;
-		}
-	}
-	
-	/**
-	 * @return the file containing the shader source code
-	 * @since 10.08.2018/0.1.0
-	 */
-	public File getFile() {
-		
-		return this.file;
-	}
-	
-	/**
-	 * @return the shader type
-	 * @since 10.08.2018/0.1.0
-	 */
-	public int getType() {
-		
-		return this.type;
-	}
-}
+package de.ralleytn.engine.caveman.rendering.shader;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.lwjgl.opengl.GL20.*;
+
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL32;
+import org.lwjgl.opengl.GL40;
+import org.lwjgl.opengl.GL43;
+
+import de.ralleytn.engine.caveman.EngineException;
+import de.ralleytn.engine.caveman.LWJGLObject;
+import de.ralleytn.engine.caveman.io.Loadable;
+
+/**
+ * Represents a single shader in OpenGL.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 10.08.2018/0.1.0
+ */
+public class Shader extends LWJGLObject implements Loadable {
+
+	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_VERTEX_SHADER = GL_VERTEX_SHADER;
+	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_FRAGMENT_SHADER = GL_FRAGMENT_SHADER;
+	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_COMPUTE_SHADER = GL43.GL_COMPUTE_SHADER;
+	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_GEOMETRY_SHADER = GL32.GL_GEOMETRY_SHADER;
+	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_TESSELATION_CONTROL_SHADER = GL40.GL_TESS_CONTROL_SHADER;
+	/** @since 10.08.2018/0.1.0 */ public static final int TYPE_TESSELATION_EVALUATION_SHADER = GL40.GL_TESS_EVALUATION_SHADER;
+	
+	private int type;
+	private File file;
+	private Map<String, String> defines;
+	private String source;
+	
+	/**
+	 * @param type the type of shader
+	 * @param file the file containing the shader source code
+	 * @since 10.08.2018/0.1.0
+	 */
+	public Shader(int type, File file) {
+		
+		this.type = type;
+		this.file = file;
+		this.defines = new LinkedHashMap<>();
+		this.id = glCreateShader(type);
+	}
+	
+	@Override
+	public void dispose() {
+		
+		glDeleteShader(this.id);
+		this.disposed = true;
+	}
+	
+	@Override
+	public void load() throws IOException {
+		
+		StringBuilder source = new StringBuilder();
+		
+		try(BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(this.file), StandardCharsets.UTF_8))) {
+			
+			String line = null;
+			boolean firstLine = true;
+			
+			while((line = reader.readLine()) != null) {
+				
+				line = line.trim();
+				
+				if(!line.isEmpty()) {
+					
+					// Defines have to follow the version directive, because nothing else may be in front of it
+					boolean version = line.startsWith("#version");
+					
+					if(firstLine && !version) {
+						
+						this.appendDefines(source);
+					}
+					
+					source.append(line);
+					source.append('\n');
+					
+					if(firstLine && version) {
+						
+						this.appendDefines(source);
+					}
+					
+					firstLine = false;
+				}
+			}
+		}
+		
+		this.source = source.toString();
+		glShaderSource(this.id, this.source);
+	}
+	
+	/**
+	 * Adds a preprocessor macro that is defined in front of the source code when the shader is loaded.
+	 * Has to be called before {@link #load()}.
+	 * @param name the name of the macro
+	 * @param value the value of the macro
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void define(String name, String value) {
+		
+		this.defines.put(name, value);
+	}
+	
+	/**
+	 * Appends the {@code #define} directives of all macros.
+	 * @param source the source code
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void appendDefines(StringBuilder source) {
+		
+		this.defines.forEach((name, value) -> {
+			
+			source.append("#define ");
+			source.append(name);
+			source.append(' ');
+			source.append(value);
+			source.append('\n');
+		});
+	}
+	
+	/**
+	 * Compiles the shader.
+	 * @throws EngineException if the shader could not be compiled
+	 * @since 10.08.2018/0.1.0
+	 */
+	public void compile() throws EngineException {
+		
+		glCompileShader(this.id);
+		
+		if(glGetShaderi(this.id, GL_COMPILE_STATUS) == GL11.GL_FALSE) {
+			
+			// Has to be done in this order, otherwise the info log is empty
+			EngineException exception = new EngineException("Could not compile shader! " + glGetShaderInfoLog(this.id));
+			this.dispose();
+			throw exception;
+		}
+	}
+	
+	/**
+	 * @return the file containing the shader source code
+	 * @since 10.08.2018/0.1.0
+	 */
+	public File getFile() {
+		
+		return this.file;
+	}
+	
+	/**
+	 * @return the source code with all defines as it was given to OpenGL or {@code null} if the shader was not loaded yet
+	 * @since 18.10.2026/0.5.0
+	 */
+	public String getSource() {
+		
+		return this.source;
+	}
+	
+	/**
+	 * @return the shader type
+	 * @since 10.08.2018/0.1.0
+	 */
+	public int getType() {
+		
+		return this.type;
+	}
+}
@@ -1,311 +1,469 @@
-package de.ralleytn.engine.caveman.rendering.shader;
-
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Consumer;
-
-import javax.vecmath.Matrix4f;
-import javax.vecmath.Tuple2f;
-import javax.vecmath.Tuple3f;
-import javax.vecmath.Tuple4f;
-
-import static org.lwjgl.opengl.GL11.*;
-import static org.lwjgl.opengl.GL20.*;
-
-import de.ralleytn.engine.caveman.Bindable;
-import de.ralleytn.engine.caveman.EngineException;
-import de.ralleytn.engine.caveman.LWJGLObject;
-import de.ralleytn.engine.caveman.util.MatrixUtil;
-
-/**
- * Represents a shader pipeline.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 29.08.2018/0.3.0
- * @since 10.08.2018/0.1.0
- */
-public class ShaderPipeline extends LWJGLObject implements Bindable {
-
-	private Shader vertexShader;
-	private Shader geometryShader;
-	private Shader fragmentShader;
-	private Map<Integer, String> inputVarBinding;
-	
-	/**
-	 * @since 11.08.2018/0.1.0
-	 */
-	public ShaderPipeline() {
-		
-		this.inputVarBinding = new HashMap<>();
-		this.id = glCreateProgram();
-	}
-	
-	@Override
-	public void dispose() {
-		
-		glDeleteProgram(this.id);
-		this.disposed = true;
-	}
-	
-	@Override
-	public void bind() {
-		
-		glUseProgram(this.id);
-	}
-
-	@Override
-	public void unbind() {
-		
-		glUseProgram(0);
-	}
-	
-	/**
-	 * Sets the vertex shader.
-	 * @param vertexShader the vertex shader
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void setVertexShader(Shader vertexShader) {
-		
-		this.vertexShader = vertexShader;
-	}
-	
-	/**
-	 * Sets the geometry shader.
-	 * @param geometryShader the geometry shader
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void setGeometryShader(Shader geometryShader) {
-		
-		this.geometryShader = geometryShader;
-	}
-	
-	/**
-	 * Sets the fragment shader.
-	 * @param fragmentShader the fragment shader
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void setFragmentShader(Shader fragmentShader) {
-		
-		this.fragmentShader = fragmentShader;
-	}
-	
-	/**
-	 * Wrapper for setting uniform variables.
-	 * This method just checks if the uniform variable exists and if it does, executes the given consumer (which is supposed to actually set the uniform variable).
-	 * @param uniform the uniform variable name
-	 * @param action the action to be executed when the uniform variable exists
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 29.08.2018/0.3.0
-	 */
-	private final boolean setUniform(String uniform, Consumer<Integer> action) {
-		
-		int location = this.getUniformLocation(uniform);
-		
-		if(location != -1) {
-			
-			action.accept(location);
-			return true;
-		}
-		
-		return false;
-	}
-	
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param value the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, Matrix4f value) {
-		
-		return this.setUniform(uniform, location -> glUniformMatrix4fv(location, false, MatrixUtil.toArray4f(value)));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param value the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, float value) {
-
-		return this.setUniform(uniform, location -> glUniform1f(location, value));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param value the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, Tuple2f value) {
-		
-		return this.setUniform(uniform, location -> glUniform2f(location, value.x, value.y));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param x X component of the variable value
-	 * @param y Y component of the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, float x, float y) {
-		
-		return this.setUniform(uniform, location -> glUniform2f(location, x, y));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param value the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, Tuple3f value) {
-		
-		return this.setUniform(uniform, location -> glUniform3f(location, value.x, value.y, value.z));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param x X component of the variable value
-	 * @param y Y component of the variable value
-	 * @param z Z component of the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, float x, float y, float z) {
-		
-		return this.setUniform(uniform, location -> glUniform3f(location, x, y, z));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param value the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, Tuple4f value) {
-		
-		return this.setUniform(uniform, location -> glUniform4f(location, value.x, value.y, value.z, value.w));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param x X component of the variable value
-	 * @param y Y component of the variable value
-	 * @param z Z component of the variable value
-	 * @param w W component of the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, float x, float y, float z, float w) {
-		
-		return this.setUniform(uniform, location -> glUniform4f(location, x, y, z, w));
-	}
-
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param value the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, int value) {
-		
-		return this.setUniform(uniform, location -> glUniform1i(location, value));
-	}
-	
-	/**
-	 * Sets a uniform variable.
-	 * @param uniform variable name
-	 * @param value the variable value
-	 * @return {@code true} if the variable exists, {@code false} if it doesn't
-	 * @since 11.08.2018/0.1.0
-	 */
-	public boolean setUniform(String uniform, boolean value) {
-		
-		return this.setUniform(uniform, location -> glUniform1i(location, value ? GL_TRUE : GL_FALSE));
-	}
-	
-	/**
-	 * Binds the attribute at the given index to the given variable name
-	 * @param index attribute index
-	 * @param variable variable name
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void bindAttribute(int index, String variable) {
-		
-		this.inputVarBinding.put(index, variable);
-	}
-	
-	/**
-	 * Links the shader pipeline
-	 * @throws EngineException if the shader pipeline could not be linked
-	 * @since 11.08.2018/0.1.0
-	 */
-	public void link() throws EngineException {
-		
-		glAttachShader(this.id, this.vertexShader.getID());										// Vertex
-		if(this.geometryShader != null) glAttachShader(this.id, this.geometryShader.getID());	// Geometry
-		glAttachShader(this.id, this.fragmentShader.getID());									// Fragment
-		
-		this.inputVarBinding.forEach((index, variable) -> glBindAttribLocation(this.id, index, variable));
-		
-		glLinkProgram(this.id);
-		
-		if(glGetProgrami(this.id, GL_LINK_STATUS) == GL_FALSE) {
-			
-			// Has to be done in this order!
-			EngineException exception = new EngineException("Could not link shader program! " + glGetProgramInfoLog(this.id));
-			this.dispose();
-			throw exception;
-		}
-		
-		glValidateProgram(this.id);
-	}
-	
-	/**
-	 * @return the vertex shader
-	 * @since 11.08.2018/0.1.0
-	 */
-	public Shader getVertexShader() {
-		
-		return this.vertexShader;
-	}
-	
-	/**
-	 * @return the geometry shader
-	 * @since 11.08.2018/0.1.0
-	 */
-	public Shader getGeometryShader() {
-		
-		return this.geometryShader;
-	}
-	
-	/**
-	 * @return the fragment shader
-	 * @since 11.08.2018/0.1.0
-	 */
-	public Shader getFragmentShader() {
-		
-		return this.fragmentShader;
-	}
-	
-	/**
-	 * @param uniform name of the uniform variable
-	 * @return the location of the uniform variable
-	 * @since 11.08.2018/0.1.0
-	 */
-	protected int getUniformLocation(String uniform) {
-		
-		return glGetUniformLocation(this.id, uniform);
-	}
-}
+package de.ralleytn.engine.caveman.rendering.shader;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Tuple2f;
+import javax.vecmath.Tuple3f;
+import javax.vecmath.Tuple4f;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL20.*;
+import static org.lwjgl.opengl.GL31.*;
+import static org.lwjgl.opengl.GL41.*;
+
+import de.ralleytn.engine.caveman.Bindable;
+import de.ralleytn.engine.caveman.EngineException;
+import de.ralleytn.engine.caveman.LWJGLObject;
+import de.ralleytn.engine.caveman.rendering.GLStateCache;
+
+/**
+ * Represents a shader pipeline.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 10.08.2018/0.1.0
+ */
+public class ShaderPipeline extends LWJGLObject implements Bindable {
+
+	/** @since 18.10.2026/0.5.0 */ public static final int ATTRIBUTE_INSTANCE_TRANSFORMATION = 3;
+
+	private Shader vertexShader;
+	private Shader geometryShader;
+	private Shader fragmentShader;
+	private ShaderPipeline instancedVariant;
+	private ShaderPipeline indirectVariant;
+	private Map<Integer, String> inputVarBinding;
+	private Map<String, UniformHandle> uniforms;
+	private boolean linked;
+	
+	/**
+	 * @since 11.08.2018/0.1.0
+	 */
+	public ShaderPipeline() {
+		
+		this.inputVarBinding = new HashMap<>();
+		this.uniforms = new HashMap<>();
+		this.id = glCreateProgram();
+	}
+	
+	@Override
+	public void dispose() {
+		
+		glDeleteProgram(this.id);
+		GLStateCache.getDefault().forgetProgram(this.id);
+		this.disposed = true;
+	}
+	
+	@Override
+	public void bind() {
+		
+		GLStateCache.getDefault().useProgram(this.id);
+	}
+
+	@Override
+	public void unbind() {
+		
+		GLStateCache.getDefault().useProgram(0);
+	}
+	
+	/**
+	 * Sets the vertex shader.
+	 * @param vertexShader the vertex shader
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void setVertexShader(Shader vertexShader) {
+		
+		this.vertexShader = vertexShader;
+	}
+	
+	/**
+	 * Sets the geometry shader.
+	 * @param geometryShader the geometry shader
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void setGeometryShader(Shader geometryShader) {
+		
+		this.geometryShader = geometryShader;
+	}
+	
+	/**
+	 * Sets the fragment shader.
+	 * @param fragmentShader the fragment shader
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void setFragmentShader(Shader fragmentShader) {
+		
+		this.fragmentShader = fragmentShader;
+	}
+	
+	/**
+	 * Sets the shader pipeline that should be used instead of this one if many objects with the same mesh and material are drawn at once.
+	 * It has to read the transformation from the per instance {@code mat4} attribute at index {@value #ATTRIBUTE_INSTANCE_TRANSFORMATION}
+	 * instead of the uniform variable and otherwise behave exactly like this shader pipeline.
+	 * @param instancedVariant the instanced variant or {@code null} to draw every object on its own
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setInstancedVariant(ShaderPipeline instancedVariant) {
+		
+		this.instancedVariant = instancedVariant;
+	}
+	
+	/**
+	 * Sets the shader pipeline that should be used instead of this one if many objects whose meshes are stored in the same
+	 * {@linkplain de.ralleytn.engine.caveman.rendering.geom.GeometryPool} are drawn with one multi draw call.
+	 * It has to read the transformation from the {@code DrawData} shader storage block at binding
+	 * {@value de.ralleytn.engine.caveman.rendering.Graphics3D#DRAW_DATA_BINDING} at index {@code gl_BaseInstance + gl_InstanceID}
+	 * instead of the uniform variable and otherwise behave exactly like this shader pipeline.
+	 * @param indirectVariant the indirect variant or {@code null} to draw every mesh on its own
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setIndirectVariant(ShaderPipeline indirectVariant) {
+		
+		this.indirectVariant = indirectVariant;
+	}
+	
+	/**
+	 * Returns the handle of a uniform variable. The handle should be kept by the caller, so that the name doesn't have to be looked up again.
+	 * If the variable doesn't exist, a handle is returned on which setting values does nothing.
+	 * @param uniform name of the uniform variable
+	 * @return the handle of the uniform variable
+	 * @since 18.10.2026/0.5.0
+	 */
+	public UniformHandle getUniform(String uniform) {
+		
+		UniformHandle handle = this.uniforms.get(uniform);
+		
+		if(handle == null) {
+			
+			// Elements of arrays other than the first one are not listed as active uniforms
+			int location = this.linked ? glGetUniformLocation(this.id, uniform) : -1;
+			handle = new UniformHandle(uniform, location, 0, location != -1 ? 1 : 0);
+			this.uniforms.put(uniform, handle);
+		}
+		
+		return handle;
+	}
+	
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param value the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, Matrix4f value) {
+		
+		return this.getUniform(uniform).set(value);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param value the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, float value) {
+
+		return this.getUniform(uniform).set(value);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param value the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, Tuple2f value) {
+		
+		return this.getUniform(uniform).set(value);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param x X component of the variable value
+	 * @param y Y component of the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, float x, float y) {
+		
+		return this.getUniform(uniform).set(x, y);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param value the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, Tuple3f value) {
+		
+		return this.getUniform(uniform).set(value);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param x X component of the variable value
+	 * @param y Y component of the variable value
+	 * @param z Z component of the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, float x, float y, float z) {
+		
+		return this.getUniform(uniform).set(x, y, z);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param value the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, Tuple4f value) {
+		
+		return this.getUniform(uniform).set(value);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param x X component of the variable value
+	 * @param y Y component of the variable value
+	 * @param z Z component of the variable value
+	 * @param w W component of the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, float x, float y, float z, float w) {
+		
+		return this.getUniform(uniform).set(x, y, z, w);
+	}
+
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param value the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, int value) {
+		
+		return this.getUniform(uniform).set(value);
+	}
+	
+	/**
+	 * Sets a uniform variable.
+	 * @param uniform variable name
+	 * @param value the variable value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 11.08.2018/0.1.0
+	 */
+	public boolean setUniform(String uniform, boolean value) {
+		
+		return this.getUniform(uniform).set(value);
+	}
+	
+	/**
+	 * Binds the attribute at the given index to the given variable name
+	 * @param index attribute index
+	 * @param variable variable name
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void bindAttribute(int index, String variable) {
+		
+		this.inputVarBinding.put(index, variable);
+	}
+	
+	/**
+	 * Links the shader pipeline
+	 * @throws EngineException if the shader pipeline could not be linked
+	 * @since 11.08.2018/0.1.0
+	 */
+	public void link() throws EngineException {
+		
+		glAttachShader(this.id, this.vertexShader.getID());										// Vertex
+		if(this.geometryShader != null) glAttachShader(this.id, this.geometryShader.getID());	// Geometry
+		glAttachShader(this.id, this.fragmentShader.getID());									// Fragment
+		
+		this.inputVarBinding.forEach((index, variable) -> glBindAttribLocation(this.id, index, variable));
+		
+		// Without the hint some drivers don't keep the binary for the program binary cache
+		glProgramParameteri(this.id, GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL_TRUE);
+		glLinkProgram(this.id);
+		
+		if(glGetProgrami(this.id, GL_LINK_STATUS) == GL_FALSE) {
+			
+			// Has to be done in this order!
+			EngineException exception = new EngineException("Could not link shader program! " + glGetProgramInfoLog(this.id));
+			this.dispose();
+			throw exception;
+		}
+		
+		glValidateProgram(this.id);
+		this.linked = true;
+		this.reflectUniforms();
+	}
+	
+	/**
+	 * Loads a program binary instead of linking the shaders. Unlike {@link #link()} nothing is disposed if it fails,
+	 * so that the shader pipeline can still be linked normally afterwards.
+	 * @param format the binary format as returned by {@code glGetProgramBinary}
+	 * @param binary the binary
+	 * @return {@code true} if the binary was accepted, {@code false} if it wasn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean loadBinary(int format, ByteBuffer binary) {
+		
+		glProgramBinary(this.id, format, binary);
+		
+		if(glGetProgrami(this.id, GL_LINK_STATUS) == GL_FALSE) {
+			
+			return false;
+		}
+		
+		this.linked = true;
+		this.reflectUniforms();
+		return true;
+	}
+	
+	/**
+	 * Assigns a uniform block of this shader pipeline to a binding point, so that it reads the uniform buffer bound there.
+	 * The shader pipeline has to be linked.
+	 * @param block name of the uniform block
+	 * @param binding index of the binding point
+	 * @return {@code true} if the uniform block exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean bindUniformBlock(String block, int binding) {
+		
+		int index = glGetUniformBlockIndex(this.id, block);
+		
+		if(index != GL_INVALID_INDEX) {
+			
+			glUniformBlockBinding(this.id, index, binding);
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Fills the uniform table with a handle for every active uniform variable, so that no name has to be looked up by OpenGL later.
+	 * Variables in uniform blocks are skipped, because they have no location.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void reflectUniforms() {
+		
+		int count = glGetProgrami(this.id, GL_ACTIVE_UNIFORMS);
+		IntBuffer size = BufferUtils.createIntBuffer(1);
+		IntBuffer type = BufferUtils.createIntBuffer(1);
+		this.uniforms.clear();
+		
+		for(int index = 0; index < count; index++) {
+			
+			String name = glGetActiveUniform(this.id, index, size, type);
+			int location = glGetUniformLocation(this.id, name);
+			
+			if(location != -1) {
+				
+				// Arrays are reported as "name[0]", but should also be found by their plain name
+				if(name.endsWith("[0]")) {
+					
+					name = name.substring(0, name.length() - 3);
+				}
+				
+				this.uniforms.put(name, new UniformHandle(name, location, type.get(0), size.get(0)));
+			}
+		}
+	}
+	
+	/**
+	 * Returns the shader pipeline that should be used instead of this one to render a material with the given features.
+	 * A permutation is specialized for exactly these features, so it doesn't have to read the flags of the material.
+	 * The default implementation has no permutations and returns this shader pipeline.
+	 * @param features the features of the material as returned by {@link Material#getFeatures()}
+	 * @return the permutation for the given features
+	 * @since 18.10.2026/0.5.0
+	 */
+	public ShaderPipeline getPermutation(int features) {
+		
+		return this;
+	}
+	
+	/**
+	 * @return the instanced variant of this shader pipeline or {@code null} if there is none
+	 * @since 18.10.2026/0.5.0
+	 */
+	public ShaderPipeline getInstancedVariant() {
+		
+		return this.instancedVariant;
+	}
+	
+	/**
+	 * @return the indirect variant of this shader pipeline or {@code null} if there is none
+	 * @since 18.10.2026/0.5.0
+	 */
+	public ShaderPipeline getIndirectVariant() {
+		
+		return this.indirectVariant;
+	}
+	
+	/**
+	 * @return the attribute indices with the names of the variables that are bound to them
+	 * @since 18.10.2026/0.5.0
+	 */
+	public Map<Integer, String> getAttributeBindings() {
+		
+		return Collections.unmodifiableMap(this.inputVarBinding);
+	}
+	
+	/**
+	 * @return the vertex shader
+	 * @since 11.08.2018/0.1.0
+	 */
+	public Shader getVertexShader() {
+		
+		return this.vertexShader;
+	}
+	
+	/**
+	 * @return the geometry shader
+	 * @since 11.08.2018/0.1.0
+	 */
+	public Shader getGeometryShader() {
+		
+		return this.geometryShader;
+	}
+	
+	/**
+	 * @return the fragment shader
+	 * @since 11.08.2018/0.1.0
+	 */
+	public Shader getFragmentShader() {
+		
+		return this.fragmentShader;
+	}
+	
+	/**
+	 * @param uniform name of the uniform variable
+	 * @return the location of the uniform variable
+	 * @since 11.08.2018/0.1.0
+	 */
+	protected int getUniformLocation(String uniform) {
+		
+		return this.getUniform(uniform).getLocation();
+	}
+}
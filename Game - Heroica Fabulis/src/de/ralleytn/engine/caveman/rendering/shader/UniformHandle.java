@@ -0,0 +1,421 @@
+package de.ralleytn.engine.caveman.rendering.shader;
+
+import java.nio.FloatBuffer;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Tuple2f;
+import javax.vecmath.Tuple3f;
+import javax.vecmath.Tuple4f;
+
+import org.lwjgl.BufferUtils;
+
+import static org.lwjgl.opengl.GL11.*;
+import static org.lwjgl.opengl.GL20.*;
+
+/**
+ * A resolved uniform variable of a {@linkplain ShaderPipeline}.
+ * Handles should be resolved once with {@link ShaderPipeline#getUniform(String)} and kept, so that setting the variable
+ * doesn't need a name lookup. Setting a variable that doesn't exist in the shader pipeline does nothing.
+ * The shader pipeline has to be bound when a value is set.
+ * <br><br>Every handle keeps a copy of the last value it uploaded. Setting the same value again skips the OpenGL call,
+ * so per frame values like the projection matrix can be set for every object without any cost.
+ * This only works as long as the variable is not set with OpenGL directly.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public final class UniformHandle {
+
+	// Uniforms may only be set on the OpenGL thread, so one buffer is enough for all handles
+	private static final FloatBuffer MATRIX_BUFFER = BufferUtils.createFloatBuffer(16);
+	private static final float[] MATRIX_ARRAY = new float[16];
+	
+	// Kind of the value in the shadow copy
+	private static final int VALUE_NONE = 0;
+	private static final int VALUE_INT = 1;
+	private static final int VALUE_FLOAT = 2;
+	private static final int VALUE_VEC2 = 3;
+	private static final int VALUE_VEC3 = 4;
+	private static final int VALUE_VEC4 = 5;
+	private static final int VALUE_MAT4 = 6;
+	
+	private static long issuedUpdates;
+	private static long skippedUpdates;
+	
+	private final String name;
+	private final int location;
+	private final int type;
+	private final int size;
+	private final float[] shadow;
+	private int shadowInt;
+	private int shadowKind;
+	
+	/**
+	 * @param name name of the uniform variable
+	 * @param location location of the uniform variable, {@code -1} if it doesn't exist
+	 * @param type OpenGL type of the uniform variable, {@code 0} if it doesn't exist
+	 * @param size amount of elements if the uniform variable is an array, else {@code 1}
+	 * @since 18.10.2026/0.5.0
+	 */
+	UniformHandle(String name, int location, int type, int size) {
+		
+		this.name = name;
+		this.location = location;
+		this.type = type;
+		this.size = size;
+		this.shadow = new float[16];
+	}
+	
+	/**
+	 * Compares a value with the shadow copy and replaces the shadow copy with it.
+	 * @param kind kind of the value
+	 * @param x first component
+	 * @param y second component
+	 * @param z third component
+	 * @param w fourth component
+	 * @return {@code true} if the value has to be uploaded, {@code false} if it is already set
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean update(int kind, float x, float y, float z, float w) {
+		
+		float[] shadow = this.shadow;
+		
+		if(this.shadowKind == kind && shadow[0] == x && shadow[1] == y && shadow[2] == z && shadow[3] == w) {
+			
+			skippedUpdates++;
+			return false;
+		}
+		
+		shadow[0] = x;
+		shadow[1] = y;
+		shadow[2] = z;
+		shadow[3] = w;
+		this.shadowKind = kind;
+		issuedUpdates++;
+		return true;
+	}
+	
+	/**
+	 * Compares a matrix with the shadow copy and replaces the shadow copy with it.
+	 * @param values the array containing the matrix
+	 * @param offset index of the first element of the matrix
+	 * @return {@code true} if the matrix has to be uploaded, {@code false} if it is already set
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean update(float[] values, int offset) {
+		
+		float[] shadow = this.shadow;
+		boolean changed = this.shadowKind != VALUE_MAT4;
+		
+		for(int index = 0; index < 16; index++) {
+			
+			float value = values[offset + index];
+			
+			if(shadow[index] != value) {
+				
+				shadow[index] = value;
+				changed = true;
+			}
+		}
+		
+		if(changed) {
+			
+			this.shadowKind = VALUE_MAT4;
+			issuedUpdates++;
+			
+		} else {
+			
+			skippedUpdates++;
+		}
+		
+		return changed;
+	}
+	
+	/**
+	 * Sets the value of a {@code mat4} variable.
+	 * @param value the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(Matrix4f value) {
+		
+		float[] array = MATRIX_ARRAY;
+		array[0]  = value.m00; array[1]  = value.m01; array[2]  = value.m02; array[3]  = value.m03;
+		array[4]  = value.m10; array[5]  = value.m11; array[6]  = value.m12; array[7]  = value.m13;
+		array[8]  = value.m20; array[9]  = value.m21; array[10] = value.m22; array[11] = value.m23;
+		array[12] = value.m30; array[13] = value.m31; array[14] = value.m32; array[15] = value.m33;
+		return this.setMatrix(array, 0);
+	}
+	
+	/**
+	 * Sets the value of a {@code mat4} variable from an array in the order of {@link de.ralleytn.engine.caveman.util.MatrixUtil#toArray4f(Matrix4f)}.
+	 * @param values the array
+	 * @param offset index of the first element of the matrix
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean setMatrix(float[] values, int offset) {
+		
+		if(this.location != -1) {
+			
+			if(!this.update(values, offset)) {
+				
+				return true;
+			}
+			
+			FloatBuffer buffer = MATRIX_BUFFER;
+			buffer.clear();
+			buffer.put(values, offset, 16);
+			buffer.flip();
+			glUniformMatrix4fv(this.location, false, buffer);
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the value of a {@code float} variable.
+	 * @param value the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(float value) {
+		
+		if(this.location != -1) {
+			
+			if(this.update(VALUE_FLOAT, value, 0.0F, 0.0F, 0.0F)) {
+				
+				glUniform1f(this.location, value);
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the value of a {@code vec2} variable.
+	 * @param value the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(Tuple2f value) {
+		
+		return this.set(value.x, value.y);
+	}
+	
+	/**
+	 * Sets the value of a {@code vec2} variable.
+	 * @param x X component of the value
+	 * @param y Y component of the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(float x, float y) {
+		
+		if(this.location != -1) {
+			
+			if(this.update(VALUE_VEC2, x, y, 0.0F, 0.0F)) {
+				
+				glUniform2f(this.location, x, y);
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the value of a {@code vec3} variable.
+	 * @param value the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(Tuple3f value) {
+		
+		return this.set(value.x, value.y, value.z);
+	}
+	
+	/**
+	 * Sets the value of a {@code vec3} variable.
+	 * @param x X component of the value
+	 * @param y Y component of the value
+	 * @param z Z component of the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(float x, float y, float z) {
+		
+		if(this.location != -1) {
+			
+			if(this.update(VALUE_VEC3, x, y, z, 0.0F)) {
+				
+				glUniform3f(this.location, x, y, z);
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the value of a {@code vec4} variable.
+	 * @param value the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(Tuple4f value) {
+		
+		return this.set(value.x, value.y, value.z, value.w);
+	}
+	
+	/**
+	 * Sets the value of a {@code vec4} variable.
+	 * @param x X component of the value
+	 * @param y Y component of the value
+	 * @param z Z component of the value
+	 * @param w W component of the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(float x, float y, float z, float w) {
+		
+		if(this.location != -1) {
+			
+			if(this.update(VALUE_VEC4, x, y, z, w)) {
+				
+				glUniform4f(this.location, x, y, z, w);
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the value of an {@code int} or sampler variable.
+	 * @param value the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(int value) {
+		
+		if(this.location != -1) {
+			
+			if(this.shadowKind != VALUE_INT || this.shadowInt != value) {
+				
+				this.shadowKind = VALUE_INT;
+				this.shadowInt = value;
+				issuedUpdates++;
+				glUniform1i(this.location, value);
+				
+			} else {
+				
+				skippedUpdates++;
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the value of a {@code bool} variable.
+	 * @param value the value
+	 * @return {@code true} if the variable exists, {@code false} if it doesn't
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean set(boolean value) {
+		
+		return this.set(value ? GL_TRUE : GL_FALSE);
+	}
+	
+	/**
+	 * Forgets the last uploaded value, so that the next value is uploaded in any case.
+	 * Has to be called if the variable was set without this handle.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void invalidate() {
+		
+		this.shadowKind = VALUE_NONE;
+	}
+	
+	/**
+	 * Resets the counters of {@link #getIssuedUpdates()} and {@link #getSkippedUpdates()}.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static void resetStatistics() {
+		
+		issuedUpdates = 0;
+		skippedUpdates = 0;
+	}
+	
+	/**
+	 * @return the amount of uniform updates that were sent to OpenGL since the last call of {@link #resetStatistics()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static long getIssuedUpdates() {
+		
+		return issuedUpdates;
+	}
+	
+	/**
+	 * @return the amount of uniform updates that were skipped because the value was already set since the last call of {@link #resetStatistics()}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static long getSkippedUpdates() {
+		
+		return skippedUpdates;
+	}
+	
+	/**
+	 * @return {@code true} if the uniform variable is used by the shader pipeline, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean exists() {
+		
+		return this.location != -1;
+	}
+	
+	/**
+	 * @return the name of the uniform variable
+	 * @since 18.10.2026/0.5.0
+	 */
+	public String getName() {
+		
+		return this.name;
+	}
+	
+	/**
+	 * @return the location of the uniform variable, {@code -1} if it doesn't exist
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getLocation() {
+		
+		return this.location;
+	}
+	
+	/**
+	 * @return the OpenGL type of the uniform variable (for example {@code GL_FLOAT_MAT4}), {@code 0} if it doesn't exist
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getType() {
+		
+		return this.type;
+	}
+	
+	/**
+	 * @return the amount of elements if the uniform variable is an array, else {@code 1}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getSize() {
+		
+		return this.size;
+	}
+}
@@ -0,0 +1,747 @@
+package de.ralleytn.engine.caveman.spatial;
+
+import java.util.Arrays;
+
+import de.ralleytn.engine.caveman.rendering.camera.Frustum;
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.util.MathUtil;
+
+/**
+ * A loose octree. Every node covers a cubic cell, but its bounds are twice as big as the cell,
+ * so an item only depends on its size and the position of its center and never lies on the border between two nodes.
+ * Because of that an item that moves a little usually stays in the same node and updating it is cheap.
+ * <br><br>Items are referenced by an integer handle that is returned on insertion.
+ * Items whose center lies outside of the root cell are stored in the root node, so the octree never loses an item.
+ * All queries report their results to a {@linkplain SpatialVisitor} and don't create any objects.
+ * Inserting, updating and removing items is not thread safe, but every query except {@link #raycastNearest(float, float, float, float, float, float, float)}
+ * may be executed by multiple threads at the same time as long as the octree is not modified.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ * @param <T> type of the items
+ */
+public class LooseOctree<T> {
+
+	private final Node root;
+	private final int maxDepth;
+	private Object[] items;
+	
+	// min x, min y, min z, max x, max y, max z of every handle
+	private float[] bounds;
+	private Node[] nodes;
+	private int[] positions;
+	private int[] freeHandles;
+	private int freeHandleCount;
+	private int handleSupply;
+	private int size;
+	
+	// State of raycastNearest
+	private Object nearest;
+	private float nearestDistance;
+	
+	/**
+	 * @param centerX X component of the center of the root cell
+	 * @param centerY Y component of the center of the root cell
+	 * @param centerZ Z component of the center of the root cell
+	 * @param halfSize half of the edge length of the root cell
+	 * @param maxDepth the depth of the smallest nodes, the root has a depth of {@code 0}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public LooseOctree(float centerX, float centerY, float centerZ, float halfSize, int maxDepth) {
+		
+		this.root = new Node(null, 0, 0, centerX, centerY, centerZ, halfSize);
+		this.maxDepth = maxDepth;
+		this.items = new Object[64];
+		this.bounds = new float[64 * 6];
+		this.nodes = new Node[64];
+		this.positions = new int[64];
+		this.freeHandles = new int[16];
+	}
+	
+	/**
+	 * Inserts an item.
+	 * @param item the item
+	 * @param box the bounds of the item
+	 * @return the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int insert(T item, AxisAlignedBox box) {
+		
+		return this.insert(item, box.x, box.y, box.z, box.x + box.width, box.y + box.height, box.z + box.depth);
+	}
+	
+	/**
+	 * Inserts an item.
+	 * @param item the item
+	 * @param minX minimum X of the bounds
+	 * @param minY minimum Y of the bounds
+	 * @param minZ minimum Z of the bounds
+	 * @param maxX maximum X of the bounds
+	 * @param maxY maximum Y of the bounds
+	 * @param maxZ maximum Z of the bounds
+	 * @return the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int insert(T item, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		int handle;
+		
+		if(this.freeHandleCount > 0) {
+			
+			handle = this.freeHandles[--this.freeHandleCount];
+		
+		} else {
+			
+			handle = this.handleSupply++;
+			
+			if(handle == this.items.length) {
+				
+				int capacity = handle * 2;
+				this.items = Arrays.copyOf(this.items, capacity);
+				this.bounds = Arrays.copyOf(this.bounds, capacity * 6);
+				this.nodes = Arrays.copyOf(this.nodes, capacity);
+				this.positions = Arrays.copyOf(this.positions, capacity);
+			}
+		}
+		
+		this.items[handle] = item;
+		this.setBounds(handle, minX, minY, minZ, maxX, maxY, maxZ);
+		this.attach(handle, this.findNode(minX, minY, minZ, maxX, maxY, maxZ));
+		this.size++;
+		return handle;
+	}
+	
+	/**
+	 * Updates the bounds of an item. The item only moves to another node if it doesn't fit into its current node anymore.
+	 * @param handle the handle of the item
+	 * @param box the new bounds
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void update(int handle, AxisAlignedBox box) {
+		
+		this.update(handle, box.x, box.y, box.z, box.x + box.width, box.y + box.height, box.z + box.depth);
+	}
+	
+	/**
+	 * Updates the bounds of an item. The item only moves to another node if it doesn't fit into its current node anymore.
+	 * @param handle the handle of the item
+	 * @param minX minimum X of the bounds
+	 * @param minY minimum Y of the bounds
+	 * @param minZ minimum Z of the bounds
+	 * @param maxX maximum X of the bounds
+	 * @param maxY maximum Y of the bounds
+	 * @param maxZ maximum Z of the bounds
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void update(int handle, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		this.setBounds(handle, minX, minY, minZ, maxX, maxY, maxZ);
+		Node node = this.nodes[handle];
+		
+		if(!this.fits(node, minX, minY, minZ, maxX, maxY, maxZ)) {
+			
+			// Detached first, because an emptied node is removed from its parent and must not be the parent of the new node
+			this.detach(handle);
+			this.attach(handle, this.findNode(minX, minY, minZ, maxX, maxY, maxZ));
+		}
+	}
+	
+	/**
+	 * Removes an item. Its handle may be reused by the next inserted item.
+	 * @param handle the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void remove(int handle) {
+		
+		this.detach(handle);
+		this.items[handle] = null;
+		
+		if(this.freeHandleCount == this.freeHandles.length) {
+			
+			this.freeHandles = Arrays.copyOf(this.freeHandles, this.freeHandleCount * 2);
+		}
+		
+		this.freeHandles[this.freeHandleCount++] = handle;
+		this.size--;
+	}
+	
+	/**
+	 * Removes all items.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void clear() {
+		
+		this.root.children = null;
+		this.root.count = 0;
+		this.root.total = 0;
+		Arrays.fill(this.items, null);
+		Arrays.fill(this.nodes, null);
+		this.freeHandleCount = 0;
+		this.handleSupply = 0;
+		this.size = 0;
+	}
+	
+	/**
+	 * @param handle the handle of the item
+	 * @return the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int handle) {
+		
+		return (T)this.items[handle];
+	}
+	
+	/**
+	 * @return the amount of items
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int size() {
+		
+		return this.size;
+	}
+	
+	/**
+	 * Visits every item whose bounds intersect the given box.
+	 * @param minX minimum X of the box
+	 * @param minY minimum Y of the box
+	 * @param minZ minimum Z of the box
+	 * @param maxX maximum X of the box
+	 * @param maxY maximum Y of the box
+	 * @param maxZ maximum Z of the box
+	 * @param visitor the visitor
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean queryBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, SpatialVisitor<? super T> visitor) {
+		
+		return this.queryBox(this.root, minX, minY, minZ, maxX, maxY, maxZ, visitor);
+	}
+	
+	/**
+	 * Visits every item whose bounds intersect the given sphere.
+	 * @param x X component of the center
+	 * @param y Y component of the center
+	 * @param z Z component of the center
+	 * @param radius the radius
+	 * @param visitor the visitor
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean querySphere(float x, float y, float z, float radius, SpatialVisitor<? super T> visitor) {
+		
+		return this.querySphere(this.root, x, y, z, radius * radius, visitor);
+	}
+	
+	/**
+	 * Visits every item whose bounds intersect the frustum.
+	 * Nodes that are completely inside of the frustum are visited without testing their items.
+	 * @param frustum the frustum
+	 * @param visitor the visitor
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean queryFrustum(Frustum frustum, SpatialVisitor<? super T> visitor) {
+		
+		return this.queryFrustum(this.root, frustum, false, visitor);
+	}
+	
+	/**
+	 * Visits every item whose bounds are hit by the ray, in no particular order.
+	 * @param originX X component of the ray origin
+	 * @param originY Y component of the ray origin
+	 * @param originZ Z component of the ray origin
+	 * @param directionX X component of the normalized ray direction
+	 * @param directionY Y component of the normalized ray direction
+	 * @param directionZ Z component of the normalized ray direction
+	 * @param maxDistance the length of the ray
+	 * @param visitor the visitor
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean raycast(float originX, float originY, float originZ, float directionX, float directionY, float directionZ, float maxDistance, SpatialVisitor<? super T> visitor) {
+		
+		return this.raycast(this.root, originX, originY, originZ, 1.0F / directionX, 1.0F / directionY, 1.0F / directionZ, maxDistance, visitor);
+	}
+	
+	/**
+	 * Finds the item whose bounds are hit first by the ray. Nodes that are farther away than the closest hit so far are skipped.
+	 * @param originX X component of the ray origin
+	 * @param originY Y component of the ray origin
+	 * @param originZ Z component of the ray origin
+	 * @param directionX X component of the normalized ray direction
+	 * @param directionY Y component of the normalized ray direction
+	 * @param directionZ Z component of the normalized ray direction
+	 * @param maxDistance the length of the ray
+	 * @return the closest item or {@code null} if no item was hit
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public T raycastNearest(float originX, float originY, float originZ, float directionX, float directionY, float directionZ, float maxDistance) {
+		
+		this.nearest = null;
+		this.nearestDistance = maxDistance;
+		this.raycastNearest(this.root, originX, originY, originZ, 1.0F / directionX, 1.0F / directionY, 1.0F / directionZ);
+		T result = (T)this.nearest;
+		this.nearest = null;
+		return result;
+	}
+	
+	/**
+	 * @param handle the handle
+	 * @param minX minimum X of the bounds
+	 * @param minY minimum Y of the bounds
+	 * @param minZ minimum Z of the bounds
+	 * @param maxX maximum X of the bounds
+	 * @param maxY maximum Y of the bounds
+	 * @param maxZ maximum Z of the bounds
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void setBounds(int handle, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		int offset = handle * 6;
+		this.bounds[offset] = minX;
+		this.bounds[offset + 1] = minY;
+		this.bounds[offset + 2] = minZ;
+		this.bounds[offset + 3] = maxX;
+		this.bounds[offset + 4] = maxY;
+		this.bounds[offset + 5] = maxZ;
+	}
+	
+	/**
+	 * @param node the node
+	 * @param minX minimum X of the bounds
+	 * @param minY minimum Y of the bounds
+	 * @param minZ minimum Z of the bounds
+	 * @param maxX maximum X of the bounds
+	 * @param maxY maximum Y of the bounds
+	 * @param maxZ maximum Z of the bounds
+	 * @return {@code true} if {@link #findNode(float, float, float, float, float, float)} would return the given node, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean fits(Node node, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		float x = (minX + maxX) * 0.5F;
+		float y = (minY + maxY) * 0.5F;
+		float z = (minZ + maxZ) * 0.5F;
+		float extent = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ)) * 0.5F;
+		
+		if(Math.abs(x - node.x) > node.halfSize || Math.abs(y - node.y) > node.halfSize || Math.abs(z - node.z) > node.halfSize) {
+			
+			// Items outside of the root cell are always stored in the root
+			return node == this.root;
+		}
+		
+		return (node == this.root || extent <= node.halfSize) && (node.depth == this.maxDepth || extent > node.halfSize * 0.5F);
+	}
+	
+	/**
+	 * Finds the deepest node whose loose bounds can contain the given bounds. Missing nodes are created.
+	 * An item fits into a node if half of its largest extent is not bigger than half of the edge length of the node's cell.
+	 * @param minX minimum X of the bounds
+	 * @param minY minimum Y of the bounds
+	 * @param minZ minimum Z of the bounds
+	 * @param maxX maximum X of the bounds
+	 * @param maxY maximum Y of the bounds
+	 * @param maxZ maximum Z of the bounds
+	 * @return the node
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final Node findNode(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		float x = (minX + maxX) * 0.5F;
+		float y = (minY + maxY) * 0.5F;
+		float z = (minZ + maxZ) * 0.5F;
+		float extent = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ)) * 0.5F;
+		Node node = this.root;
+		
+		if(Math.abs(x - node.x) > node.halfSize || Math.abs(y - node.y) > node.halfSize || Math.abs(z - node.z) > node.halfSize) {
+			
+			return node;
+		}
+		
+		while(node.depth < this.maxDepth && extent <= node.halfSize * 0.5F) {
+			
+			node = node.getChild((x >= node.x ? 1 : 0) | (y >= node.y ? 2 : 0) | (z >= node.z ? 4 : 0));
+		}
+		
+		return node;
+	}
+	
+	/**
+	 * @param handle the handle
+	 * @param node the node to which the item should be added
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void attach(int handle, Node node) {
+		
+		this.positions[handle] = node.add(handle);
+		this.nodes[handle] = node;
+		
+		for(Node current = node; current != null; current = current.parent) {
+			
+			current.total++;
+		}
+	}
+	
+	/**
+	 * Removes an item from its node and removes nodes that became empty.
+	 * @param handle the handle
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void detach(int handle) {
+		
+		Node node = this.nodes[handle];
+		int position = this.positions[handle];
+		int moved = node.removeAt(position);
+		
+		if(moved != -1) {
+			
+			this.positions[moved] = position;
+		}
+		
+		this.nodes[handle] = null;
+		
+		for(Node current = node; current != null; current = current.parent) {
+			
+			current.total--;
+		}
+		
+		for(Node current = node; current.parent != null && current.total == 0; current = current.parent) {
+			
+			current.parent.children[current.index] = null;
+		}
+	}
+	
+	/**
+	 * Visits the items of a node and its children that intersect the box.
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	private final boolean queryBox(Node node, float minX, float minY, float minZ, float maxX, float maxY, float maxZ, SpatialVisitor<? super T> visitor) {
+		
+		float[] bounds = this.bounds;
+		
+		for(int index = 0; index < node.count; index++) {
+			
+			int handle = node.handles[index];
+			int o = handle * 6;
+			
+			if(bounds[o] <= maxX && bounds[o + 3] >= minX &&
+			   bounds[o + 1] <= maxY && bounds[o + 4] >= minY &&
+			   bounds[o + 2] <= maxZ && bounds[o + 5] >= minZ &&
+			   !visitor.visit((T)this.items[handle])) {
+				
+				return false;
+			}
+		}
+		
+		if(node.children != null) {
+			
+			for(Node child : node.children) {
+				
+				if(child != null) {
+					
+					float loose = child.halfSize * 2.0F;
+					
+					if(child.x - loose <= maxX && child.x + loose >= minX &&
+					   child.y - loose <= maxY && child.y + loose >= minY &&
+					   child.z - loose <= maxZ && child.z + loose >= minZ &&
+					   !this.queryBox(child, minX, minY, minZ, maxX, maxY, maxZ, visitor)) {
+						
+						return false;
+					}
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Visits the items of a node and its children that intersect the sphere.
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	private final boolean querySphere(Node node, float x, float y, float z, float radiusSquared, SpatialVisitor<? super T> visitor) {
+		
+		float[] bounds = this.bounds;
+		
+		for(int index = 0; index < node.count; index++) {
+			
+			int handle = node.handles[index];
+			int o = handle * 6;
+			
+			if(MathUtil.distanceSquared(x, y, z, bounds[o], bounds[o + 1], bounds[o + 2], bounds[o + 3], bounds[o + 4], bounds[o + 5]) <= radiusSquared &&
+			   !visitor.visit((T)this.items[handle])) {
+				
+				return false;
+			}
+		}
+		
+		if(node.children != null) {
+			
+			for(Node child : node.children) {
+				
+				if(child != null) {
+					
+					float loose = child.halfSize * 2.0F;
+					
+					if(MathUtil.distanceSquared(x, y, z, child.x - loose, child.y - loose, child.z - loose, child.x + loose, child.y + loose, child.z + loose) <= radiusSquared &&
+					   !this.querySphere(child, x, y, z, radiusSquared, visitor)) {
+						
+						return false;
+					}
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Visits the items of a node and its children that intersect the frustum.
+	 * If the node is completely inside of the frustum, nothing is tested anymore.
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	private final boolean queryFrustum(Node node, Frustum frustum, boolean inside, SpatialVisitor<? super T> visitor) {
+		
+		float[] bounds = this.bounds;
+		
+		for(int index = 0; index < node.count; index++) {
+			
+			int handle = node.handles[index];
+			int o = handle * 6;
+			
+			if((inside || frustum.intersects(bounds[o], bounds[o + 1], bounds[o + 2], bounds[o + 3] - bounds[o], bounds[o + 4] - bounds[o + 1], bounds[o + 5] - bounds[o + 2])) &&
+			   !visitor.visit((T)this.items[handle])) {
+				
+				return false;
+			}
+		}
+		
+		if(node.children != null) {
+			
+			for(Node child : node.children) {
+				
+				if(child != null) {
+					
+					boolean childInside = inside;
+					
+					if(!inside) {
+						
+						float loose = child.halfSize * 2.0F;
+						int result = frustum.classify(child.x - loose, child.y - loose, child.z - loose, child.x + loose, child.y + loose, child.z + loose);
+						
+						if(result == Frustum.OUTSIDE) {
+							
+							continue;
+						}
+						
+						childInside = result == Frustum.INSIDE;
+					}
+					
+					if(!this.queryFrustum(child, frustum, childInside, visitor)) {
+						
+						return false;
+					}
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Visits the items of a node and its children that are hit by the ray.
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	private final boolean raycast(Node node, float x, float y, float z, float inverseX, float inverseY, float inverseZ, float maxDistance, SpatialVisitor<? super T> visitor) {
+		
+		float[] bounds = this.bounds;
+		
+		for(int index = 0; index < node.count; index++) {
+			
+			int handle = node.handles[index];
+			int o = handle * 6;
+			
+			if(MathUtil.intersectRay(x, y, z, inverseX, inverseY, inverseZ, maxDistance, bounds[o], bounds[o + 1], bounds[o + 2], bounds[o + 3], bounds[o + 4], bounds[o + 5]) >= 0.0F &&
+			   !visitor.visit((T)this.items[handle])) {
+				
+				return false;
+			}
+		}
+		
+		if(node.children != null) {
+			
+			for(Node child : node.children) {
+				
+				if(child != null) {
+					
+					float loose = child.halfSize * 2.0F;
+					
+					if(MathUtil.intersectRay(x, y, z, inverseX, inverseY, inverseZ, maxDistance, child.x - loose, child.y - loose, child.z - loose, child.x + loose, child.y + loose, child.z + loose) >= 0.0F &&
+					   !this.raycast(child, x, y, z, inverseX, inverseY, inverseZ, maxDistance, visitor)) {
+						
+						return false;
+					}
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Searches the items of a node and its children for a hit that is closer than the closest one so far.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void raycastNearest(Node node, float x, float y, float z, float inverseX, float inverseY, float inverseZ) {
+		
+		float[] bounds = this.bounds;
+		
+		for(int index = 0; index < node.count; index++) {
+			
+			int handle = node.handles[index];
+			int o = handle * 6;
+			float distance = MathUtil.intersectRay(x, y, z, inverseX, inverseY, inverseZ, this.nearestDistance, bounds[o], bounds[o + 1], bounds[o + 2], bounds[o + 3], bounds[o + 4], bounds[o + 5]);
+			
+			if(distance >= 0.0F && (distance < this.nearestDistance || this.nearest == null)) {
+				
+				this.nearest = this.items[handle];
+				this.nearestDistance = distance;
+			}
+		}
+		
+		if(node.children != null) {
+			
+			for(Node child : node.children) {
+				
+				if(child != null) {
+					
+					float loose = child.halfSize * 2.0F;
+					
+					if(MathUtil.intersectRay(x, y, z, inverseX, inverseY, inverseZ, this.nearestDistance, child.x - loose, child.y - loose, child.z - loose, child.x + loose, child.y + loose, child.z + loose) >= 0.0F) {
+						
+						this.raycastNearest(child, x, y, z, inverseX, inverseY, inverseZ);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * A node of the octree.
+	 * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+	 * @version 18.10.2026/0.5.0
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final class Node {
+		
+		final Node parent;
+		final int index;
+		final int depth;
+		final float x;
+		final float y;
+		final float z;
+		final float halfSize;
+		Node[] children;
+		int[] handles;
+		int count;
+		
+		// Amount of items in this node and all of its descendants
+		int total;
+		
+		/**
+		 * @param parent the parent node
+		 * @param index the index of this node in the children of its parent
+		 * @param depth the depth
+		 * @param x X component of the cell center
+		 * @param y Y component of the cell center
+		 * @param z Z component of the cell center
+		 * @param halfSize half of the edge length of the cell
+		 * @since 18.10.2026/0.5.0
+		 */
+		Node(Node parent, int index, int depth, float x, float y, float z, float halfSize) {
+			
+			this.parent = parent;
+			this.index = index;
+			this.depth = depth;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.halfSize = halfSize;
+			this.handles = new int[4];
+		}
+		
+		/**
+		 * @param index index of the child (bit 0 = positive X, bit 1 = positive Y, bit 2 = positive Z)
+		 * @return the child, it will be created if it doesn't exist
+		 * @since 18.10.2026/0.5.0
+		 */
+		Node getChild(int index) {
+			
+			if(this.children == null) {
+				
+				this.children = new Node[8];
+			}
+			
+			Node child = this.children[index];
+			
+			if(child == null) {
+				
+				float quarter = this.halfSize * 0.5F;
+				child = new Node(this, index, this.depth + 1,
+						(index & 1) != 0 ? this.x + quarter : this.x - quarter,
+						(index & 2) != 0 ? this.y + quarter : this.y - quarter,
+						(index & 4) != 0 ? this.z + quarter : this.z - quarter,
+						quarter);
+				this.children[index] = child;
+			}
+			
+			return child;
+		}
+		
+		/**
+		 * @param handle the handle
+		 * @return the position of the handle in this node
+		 * @since 18.10.2026/0.5.0
+		 */
+		int add(int handle) {
+			
+			if(this.count == this.handles.length) {
+				
+				this.handles = Arrays.copyOf(this.handles, this.count * 2);
+			}
+			
+			this.handles[this.count] = handle;
+			return this.count++;
+		}
+		
+		/**
+		 * Removes a handle and fills the hole with the last handle.
+		 * @param position the position of the handle
+		 * @return the handle that was moved to the position or {@code -1} if no handle was moved
+		 * @since 18.10.2026/0.5.0
+		 */
+		int removeAt(int position) {
+			
+			int last = --this.count;
+			
+			if(position != last) {
+				
+				int moved = this.handles[last];
+				this.handles[position] = moved;
+				return moved;
+			}
+			
+			return -1;
+		}
+	}
+}
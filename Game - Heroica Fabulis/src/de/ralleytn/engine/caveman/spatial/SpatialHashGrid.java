@@ -0,0 +1,553 @@
+package de.ralleytn.engine.caveman.spatial;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.ralleytn.engine.caveman.util.LongIntHashMap;
+import de.ralleytn.engine.caveman.util.MathUtil;
+
+/**
+ * A uniform grid of cubic cells for items that move all the time. Only cells that contain items exist,
+ * they are found by hashing their coordinates. Every item is a point with a radius and belongs to the cell that contains the point.
+ * Moving an item is just a write of its position, it only changes its cell if it crosses a cell border.
+ * Items whose radius is larger than a cell are kept in a separate list that every query checks, so that they don't widen the cell range of all queries.
+ * <br><br>The items of a cell are a linked list of handles and the cells are stored in a {@linkplain LongIntHashMap}, so nothing is boxed.
+ * <br><br>While the grid is {@linkplain #setDeferred(boolean) deferred}, {@link #move(int, float, float, float)} may be called by multiple threads
+ * at the same time for different items. Items that crossed a cell border are moved to their new cell when the grid is no longer deferred.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ * @param <T> type of the items
+ */
+public class SpatialHashGrid<T> {
+
+	// 21 bits per axis, enough for 2 million cells in every direction
+	private static final int AXIS_BITS = 21;
+	private static final long AXIS_MASK = (1L << AXIS_BITS) - 1L;
+	
+	private final float cellSize;
+	private final float inverseCellSize;
+	private final LongIntHashMap cells;
+	private final AtomicInteger pendingCount;
+	private Object[] items;
+	private float[] positions;
+	private float[] radii;
+	private long[] cellKeys;
+	private int[] next;
+	private int[] previous;
+	private boolean[] pending;
+	private int[] pendingHandles;
+	private int[] freeHandles;
+	private int freeHandleCount;
+	private int handleSupply;
+	private int size;
+	
+	// Items that are larger than a cell and the index of every item in this list (-1 if it is in a cell)
+	private int[] oversized;
+	private int[] oversizedIndices;
+	private int oversizedCount;
+	private volatile boolean deferred;
+	
+	/**
+	 * @param cellSize the edge length of a cell, should be about the radius of a typical query
+	 * @since 18.10.2026/0.5.0
+	 */
+	public SpatialHashGrid(float cellSize) {
+		
+		this.cellSize = cellSize;
+		this.inverseCellSize = 1.0F / cellSize;
+		this.cells = new LongIntHashMap(256);
+		this.pendingCount = new AtomicInteger();
+		this.items = new Object[64];
+		this.positions = new float[64 * 3];
+		this.radii = new float[64];
+		this.cellKeys = new long[64];
+		this.next = new int[64];
+		this.previous = new int[64];
+		this.pending = new boolean[64];
+		this.pendingHandles = new int[64];
+		this.freeHandles = new int[16];
+		this.oversized = new int[16];
+		this.oversizedIndices = new int[64];
+	}
+	
+	/**
+	 * Inserts an item.
+	 * @param item the item
+	 * @param x X component of the position
+	 * @param y Y component of the position
+	 * @param z Z component of the position
+	 * @param radius the radius of the item
+	 * @return the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int insert(T item, float x, float y, float z, float radius) {
+		
+		int handle;
+		
+		if(this.freeHandleCount > 0) {
+			
+			handle = this.freeHandles[--this.freeHandleCount];
+		
+		} else {
+			
+			handle = this.handleSupply++;
+			
+			if(handle == this.items.length) {
+				
+				int capacity = handle * 2;
+				this.items = Arrays.copyOf(this.items, capacity);
+				this.positions = Arrays.copyOf(this.positions, capacity * 3);
+				this.radii = Arrays.copyOf(this.radii, capacity);
+				this.cellKeys = Arrays.copyOf(this.cellKeys, capacity);
+				this.next = Arrays.copyOf(this.next, capacity);
+				this.previous = Arrays.copyOf(this.previous, capacity);
+				this.pending = Arrays.copyOf(this.pending, capacity);
+				this.pendingHandles = Arrays.copyOf(this.pendingHandles, capacity);
+				this.oversizedIndices = Arrays.copyOf(this.oversizedIndices, capacity);
+			}
+		}
+		
+		int offset = handle * 3;
+		this.items[handle] = item;
+		this.positions[offset] = x;
+		this.positions[offset + 1] = y;
+		this.positions[offset + 2] = z;
+		this.radii[handle] = radius;
+		
+		if(radius > this.cellSize) {
+			
+			this.addOversized(handle);
+			
+		} else {
+			
+			this.oversizedIndices[handle] = -1;
+			this.link(handle, this.key(x, y, z));
+		}
+		
+		this.size++;
+		return handle;
+	}
+	
+	/**
+	 * Sets the position of an item. It only changes its cell if the new position lies in another cell.
+	 * @param handle the handle of the item
+	 * @param x X component of the new position
+	 * @param y Y component of the new position
+	 * @param z Z component of the new position
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void move(int handle, float x, float y, float z) {
+		
+		int offset = handle * 3;
+		this.positions[offset] = x;
+		this.positions[offset + 1] = y;
+		this.positions[offset + 2] = z;
+		long key = this.key(x, y, z);
+		
+		// Oversized items are not in a cell
+		if(this.oversizedIndices[handle] == -1 && key != this.cellKeys[handle]) {
+			
+			if(this.deferred) {
+				
+				// Only the thread that moves this item writes its flag
+				if(!this.pending[handle]) {
+					
+					this.pending[handle] = true;
+					this.pendingHandles[this.pendingCount.getAndIncrement()] = handle;
+				}
+			
+			} else {
+				
+				this.unlink(handle);
+				this.link(handle, key);
+			}
+		}
+	}
+	
+	/**
+	 * Sets the radius of an item. An item that becomes larger than a cell moves to the list of oversized items
+	 * and back into its cell when it becomes small enough again. Must not be called while the grid is deferred.
+	 * @param handle the handle of the item
+	 * @param radius the radius
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setRadius(int handle, float radius) {
+		
+		this.radii[handle] = radius;
+		boolean oversized = radius > this.cellSize;
+		
+		if(oversized && this.oversizedIndices[handle] == -1) {
+			
+			this.unlink(handle);
+			this.addOversized(handle);
+			
+		} else if(!oversized && this.oversizedIndices[handle] != -1) {
+			
+			int offset = handle * 3;
+			this.removeOversized(handle);
+			this.link(handle, this.key(this.positions[offset], this.positions[offset + 1], this.positions[offset + 2]));
+		}
+	}
+	
+	/**
+	 * Removes an item. Its handle may be reused by the next inserted item.
+	 * @param handle the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void remove(int handle) {
+		
+		if(this.oversizedIndices[handle] != -1) {
+			
+			this.removeOversized(handle);
+			
+		} else {
+			
+			this.unlink(handle);
+		}
+		
+		this.items[handle] = null;
+		
+		if(this.freeHandleCount == this.freeHandles.length) {
+			
+			this.freeHandles = Arrays.copyOf(this.freeHandles, this.freeHandleCount * 2);
+		}
+		
+		this.freeHandles[this.freeHandleCount++] = handle;
+		this.size--;
+	}
+	
+	/**
+	 * Removes all items.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void clear() {
+		
+		this.cells.clear();
+		Arrays.fill(this.items, null);
+		Arrays.fill(this.pending, false);
+		this.pendingCount.set(0);
+		this.freeHandleCount = 0;
+		this.handleSupply = 0;
+		this.size = 0;
+		this.oversizedCount = 0;
+	}
+	
+	/**
+	 * If the grid is deferred, items that cross a cell border only remember their new position and
+	 * {@link #move(int, float, float, float)} can be called by multiple threads at the same time.
+	 * When the grid stops being deferred, the items are moved to their new cells.
+	 * Queries still work while the grid is deferred, but may miss items that crossed a cell border.
+	 * @param deferred {@code true} to defer cell changes, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void setDeferred(boolean deferred) {
+		
+		this.deferred = deferred;
+		
+		if(!deferred) {
+			
+			int count = this.pendingCount.getAndSet(0);
+			
+			for(int index = 0; index < count; index++) {
+				
+				int handle = this.pendingHandles[index];
+				int offset = handle * 3;
+				this.pending[handle] = false;
+				
+				// Removed while pending
+				if(this.items[handle] != null && this.oversizedIndices[handle] == -1) {
+					
+					this.unlink(handle);
+					this.link(handle, this.key(this.positions[offset], this.positions[offset + 1], this.positions[offset + 2]));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Visits every item whose sphere intersects the given sphere.
+	 * @param x X component of the center
+	 * @param y Y component of the center
+	 * @param z Z component of the center
+	 * @param radius the radius
+	 * @param visitor the visitor
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean queryRadius(float x, float y, float z, float radius, SpatialVisitor<? super T> visitor) {
+		
+		// Items in cells are at most one cell large
+		float reach = radius + this.cellSize;
+		int minX = this.cell(x - reach);
+		int minY = this.cell(y - reach);
+		int minZ = this.cell(z - reach);
+		int maxX = this.cell(x + reach);
+		int maxY = this.cell(y + reach);
+		int maxZ = this.cell(z + reach);
+		float[] positions = this.positions;
+		
+		for(int cellX = minX; cellX <= maxX; cellX++) {
+			
+			for(int cellY = minY; cellY <= maxY; cellY++) {
+				
+				for(int cellZ = minZ; cellZ <= maxZ; cellZ++) {
+					
+					for(int handle = this.cells.get(SpatialHashGrid.key(cellX, cellY, cellZ), -1); handle != -1; handle = this.next[handle]) {
+						
+						int offset = handle * 3;
+						float dx = positions[offset] - x;
+						float dy = positions[offset + 1] - y;
+						float dz = positions[offset + 2] - z;
+						float distance = radius + this.radii[handle];
+						
+						if(dx * dx + dy * dy + dz * dz <= distance * distance && !visitor.visit((T)this.items[handle])) {
+							
+							return false;
+						}
+					}
+				}
+			}
+		}
+		
+		for(int index = 0; index < this.oversizedCount; index++) {
+			
+			int handle = this.oversized[index];
+			int offset = handle * 3;
+			float dx = positions[offset] - x;
+			float dy = positions[offset + 1] - y;
+			float dz = positions[offset + 2] - z;
+			float distance = radius + this.radii[handle];
+			
+			if(dx * dx + dy * dy + dz * dz <= distance * distance && !visitor.visit((T)this.items[handle])) {
+				
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Visits every item whose sphere intersects the given box.
+	 * @param minX minimum X of the box
+	 * @param minY minimum Y of the box
+	 * @param minZ minimum Z of the box
+	 * @param maxX maximum X of the box
+	 * @param maxY maximum Y of the box
+	 * @param maxZ maximum Z of the box
+	 * @param visitor the visitor
+	 * @return {@code false} if the visitor stopped the query, else {@code true}
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean queryBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, SpatialVisitor<? super T> visitor) {
+		
+		float reach = this.cellSize;
+		int fromX = this.cell(minX - reach);
+		int fromY = this.cell(minY - reach);
+		int fromZ = this.cell(minZ - reach);
+		int toX = this.cell(maxX + reach);
+		int toY = this.cell(maxY + reach);
+		int toZ = this.cell(maxZ + reach);
+		float[] positions = this.positions;
+		
+		for(int cellX = fromX; cellX <= toX; cellX++) {
+			
+			for(int cellY = fromY; cellY <= toY; cellY++) {
+				
+				for(int cellZ = fromZ; cellZ <= toZ; cellZ++) {
+					
+					for(int handle = this.cells.get(SpatialHashGrid.key(cellX, cellY, cellZ), -1); handle != -1; handle = this.next[handle]) {
+						
+						int offset = handle * 3;
+						float radius = this.radii[handle];
+						
+						if(MathUtil.distanceSquared(positions[offset], positions[offset + 1], positions[offset + 2], minX, minY, minZ, maxX, maxY, maxZ) <= radius * radius &&
+						   !visitor.visit((T)this.items[handle])) {
+							
+							return false;
+						}
+					}
+				}
+			}
+		}
+		
+		for(int index = 0; index < this.oversizedCount; index++) {
+			
+			int handle = this.oversized[index];
+			int offset = handle * 3;
+			float radius = this.radii[handle];
+			
+			if(MathUtil.distanceSquared(positions[offset], positions[offset + 1], positions[offset + 2], minX, minY, minZ, maxX, maxY, maxZ) <= radius * radius &&
+			   !visitor.visit((T)this.items[handle])) {
+				
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * @param handle the handle of the item
+	 * @return the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int handle) {
+		
+		return (T)this.items[handle];
+	}
+	
+	/**
+	 * @return the amount of items
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int size() {
+		
+		return this.size;
+	}
+	
+	/**
+	 * @return the amount of cells that contain at least one item
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getCellCount() {
+		
+		return this.cells.size();
+	}
+	
+	/**
+	 * @return the edge length of a cell
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getCellSize() {
+		
+		return this.cellSize;
+	}
+	
+	/**
+	 * @return the amount of items that are larger than a cell
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getOversizedCount() {
+		
+		return this.oversizedCount;
+	}
+	
+	/**
+	 * Adds an item to the list of oversized items.
+	 * @param handle the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void addOversized(int handle) {
+		
+		if(this.oversizedCount == this.oversized.length) {
+			
+			this.oversized = Arrays.copyOf(this.oversized, this.oversizedCount * 2);
+		}
+		
+		this.oversizedIndices[handle] = this.oversizedCount;
+		this.oversized[this.oversizedCount++] = handle;
+	}
+	
+	/**
+	 * Removes an item from the list of oversized items by moving the last one into its place.
+	 * @param handle the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void removeOversized(int handle) {
+		
+		int index = this.oversizedIndices[handle];
+		int last = this.oversized[--this.oversizedCount];
+		this.oversized[index] = last;
+		this.oversizedIndices[last] = index;
+		this.oversizedIndices[handle] = -1;
+	}
+	
+	/**
+	 * Adds an item to the front of the list of a cell.
+	 * @param handle the handle of the item
+	 * @param key the key of the cell
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void link(int handle, long key) {
+		
+		int head = this.cells.get(key, -1);
+		this.next[handle] = head;
+		this.previous[handle] = -1;
+		this.cellKeys[handle] = key;
+		
+		if(head != -1) {
+			
+			this.previous[head] = handle;
+		}
+		
+		this.cells.put(key, handle);
+	}
+	
+	/**
+	 * Removes an item from the list of its cell. The cell is removed if it becomes empty.
+	 * @param handle the handle of the item
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void unlink(int handle) {
+		
+		int previous = this.previous[handle];
+		int next = this.next[handle];
+		
+		if(next != -1) {
+			
+			this.previous[next] = previous;
+		}
+		
+		if(previous != -1) {
+			
+			this.next[previous] = next;
+		
+		} else if(next != -1) {
+			
+			this.cells.put(this.cellKeys[handle], next);
+		
+		} else {
+			
+			this.cells.remove(this.cellKeys[handle]);
+		}
+	}
+	
+	/**
+	 * @param value a coordinate
+	 * @return the cell coordinate
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final int cell(float value) {
+		
+		return (int)Math.floor(value * this.inverseCellSize);
+	}
+	
+	/**
+	 * @param x X component of a position
+	 * @param y Y component of a position
+	 * @param z Z component of a position
+	 * @return the key of the cell that contains the position
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final long key(float x, float y, float z) {
+		
+		return SpatialHashGrid.key(this.cell(x), this.cell(y), this.cell(z));
+	}
+	
+	/**
+	 * @param x X coordinate of the cell
+	 * @param y Y coordinate of the cell
+	 * @param z Z coordinate of the cell
+	 * @return the key of the cell
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final long key(int x, int y, int z) {
+		
+		return ((x & AXIS_MASK) << (AXIS_BITS * 2)) | ((y & AXIS_MASK) << AXIS_BITS) | (z & AXIS_MASK);
+	}
+}
@@ -0,0 +1,20 @@
+package de.ralleytn.engine.caveman.spatial;
+
+/**
+ * Receives the results of a spatial query one by one, so that no list has to be created for the results.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ * @param <T> type of the items
+ */
+@FunctionalInterface
+public interface SpatialVisitor<T> {
+
+	/**
+	 * Gets called for every item that matches the query.
+	 * @param item the item
+	 * @return {@code true} to continue the query, {@code false} to stop it
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean visit(T item);
+}
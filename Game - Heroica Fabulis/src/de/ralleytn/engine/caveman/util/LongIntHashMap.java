@@ -0,0 +1,232 @@
+package de.ralleytn.engine.caveman.util;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from {@code long} to {@code int} that works without boxing.
+ * Uses open addressing with linear probing. Removed entries are filled by shifting the following entries back, so there are no tombstones.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class LongIntHashMap {
+
+	private static final float LOAD_FACTOR = 0.5F;
+	
+	private long[] keys;
+	private int[] values;
+	private boolean[] used;
+	private int mask;
+	private int size;
+	private int threshold;
+	
+	/**
+	 * @since 18.10.2026/0.5.0
+	 */
+	public LongIntHashMap() {
+		
+		this(16);
+	}
+	
+	/**
+	 * @param capacity the amount of entries that can be stored before the map has to grow
+	 * @since 18.10.2026/0.5.0
+	 */
+	public LongIntHashMap(int capacity) {
+		
+		this.allocate(Integer.highestOneBit(Math.max(2, (int)(capacity / LOAD_FACTOR) - 1)) << 1);
+	}
+	
+	/**
+	 * @param length the length of the tables, has to be a power of two
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void allocate(int length) {
+		
+		this.keys = new long[length];
+		this.values = new int[length];
+		this.used = new boolean[length];
+		this.mask = length - 1;
+		this.threshold = (int)(length * LOAD_FACTOR);
+	}
+	
+	/**
+	 * @param key the key
+	 * @return the index at which the search for the key starts
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final int slot(long key) {
+		
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int)(hash ^ (hash >>> 32)) & this.mask;
+	}
+	
+	/**
+	 * @param key the key
+	 * @param defaultValue the value that should be returned if there is no entry for the key
+	 * @return the value of the key or the default value
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int get(long key, int defaultValue) {
+		
+		for(int index = this.slot(key); this.used[index]; index = (index + 1) & this.mask) {
+			
+			if(this.keys[index] == key) {
+				
+				return this.values[index];
+			}
+		}
+		
+		return defaultValue;
+	}
+	
+	/**
+	 * @param key the key
+	 * @return {@code true} if there is an entry for the key, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean containsKey(long key) {
+		
+		for(int index = this.slot(key); this.used[index]; index = (index + 1) & this.mask) {
+			
+			if(this.keys[index] == key) {
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Sets the value of a key.
+	 * @param key the key
+	 * @param value the value
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void put(long key, int value) {
+		
+		int index = this.slot(key);
+		
+		for(; this.used[index]; index = (index + 1) & this.mask) {
+			
+			if(this.keys[index] == key) {
+				
+				this.values[index] = value;
+				return;
+			}
+		}
+		
+		this.keys[index] = key;
+		this.values[index] = value;
+		this.used[index] = true;
+		
+		if(++this.size > this.threshold) {
+			
+			this.rehash(this.keys.length << 1);
+		}
+	}
+	
+	/**
+	 * Removes the entry of a key.
+	 * @param key the key
+	 * @return {@code true} if there was an entry for the key, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	public boolean remove(long key) {
+		
+		int index = this.slot(key);
+		
+		for(; this.used[index]; index = (index + 1) & this.mask) {
+			
+			if(this.keys[index] == key) {
+				
+				this.shiftBack(index);
+				this.size--;
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Closes the gap at the given index by moving back every following entry that would otherwise not be found anymore.
+	 * @param gap the index of the removed entry
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void shiftBack(int gap) {
+		
+		int index = gap;
+		
+		while(true) {
+			
+			index = (index + 1) & this.mask;
+			
+			if(!this.used[index]) {
+				
+				break;
+			}
+			
+			int home = this.slot(this.keys[index]);
+			
+			// The entry may only be moved if its home slot doesn't lie cyclically between the gap and its current index
+			if(((index - home) & this.mask) >= ((index - gap) & this.mask)) {
+				
+				this.keys[gap] = this.keys[index];
+				this.values[gap] = this.values[index];
+				gap = index;
+			}
+		}
+		
+		this.used[gap] = false;
+	}
+	
+	/**
+	 * @param length the new length of the tables
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void rehash(int length) {
+		
+		long[] keys = this.keys;
+		int[] values = this.values;
+		boolean[] used = this.used;
+		this.allocate(length);
+		
+		for(int index = 0; index < keys.length; index++) {
+			
+			if(used[index]) {
+				
+				int target = this.slot(keys[index]);
+				
+				while(this.used[target]) {
+					
+					target = (target + 1) & this.mask;
+				}
+				
+				this.keys[target] = keys[index];
+				this.values[target] = values[index];
+				this.used[target] = true;
+			}
+		}
+	}
+	
+	/**
+	 * Removes all entries.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void clear() {
+		
+		Arrays.fill(this.used, false);
+		this.size = 0;
+	}
+	
+	/**
+	 * @return the amount of entries
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int size() {
+		
+		return this.size;
+	}
+}
@@ -1,52 +1,189 @@
-package de.ralleytn.engine.caveman.util;
-
-/**
- * Utility class containing methods for math problems that don't fit in any of the other utility classes.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 05.09.2018/0.4.0
- * @since 16.08.2018/0.1.0
- */
-public final class MathUtil {
-
-	/**
-	 * Private because no instance of this class should exist.
-	 * @since 16.08.2018/0.1.0
-	 */
-	private MathUtil() {}
-	
-	/**
-	 * 
-	 * @param n
-	 * @param m
-	 * @return
-	 * @since 05.09.2018/0.4.0
-	 */
-	public static final int roundm(float n, float m) {
-		
-		return (int)(Math.floor(((n + m - 1) / m)) * m);
-	}
-	
-	/**
-	 * @param x first value
-	 * @param y second value
-	 * @return the smallest common factor
-	 * @since 15.08.2018/0.1.0
-	 */
-	public static final int smallestCommonFactor(int x, int y) {
-		
-	    return (y == 0) ? x : smallestCommonFactor(y, x % y);
-	}
-	
-	/**
-	 * A method with the functionality of {@link Math#floor(double)} but faster.
-	 * @param x the value
-	 * @return the result
-	 * @since 21.08.2018/0.2.0
-	 * @see Math#floor(double)
-	 */
-	public static final int fastfloor(double x) {
-		
-		int xAsInt = (int)x;
-		return x < xAsInt ? xAsInt - 1 : xAsInt;
-	}
-}
+package de.ralleytn.engine.caveman.util;
+
+/**
+ * Utility class containing methods for math problems that don't fit in any of the other utility classes.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 16.08.2018/0.1.0
+ */
+public final class MathUtil {
+
+	/**
+	 * Private because no instance of this class should exist.
+	 * @since 16.08.2018/0.1.0
+	 */
+	private MathUtil() {}
+	
+	/**
+	 * 
+	 * @param n
+	 * @param m
+	 * @return
+	 * @since 05.09.2018/0.4.0
+	 */
+	public static final int roundm(float n, float m) {
+		
+		return (int)(Math.floor(((n + m - 1) / m)) * m);
+	}
+	
+	/**
+	 * @param x first value
+	 * @param y second value
+	 * @return the smallest common factor
+	 * @since 15.08.2018/0.1.0
+	 */
+	public static final int smallestCommonFactor(int x, int y) {
+		
+	    return (y == 0) ? x : smallestCommonFactor(y, x % y);
+	}
+	
+	/**
+	 * A method with the functionality of {@link Math#floor(double)} but faster.
+	 * @param x the value
+	 * @return the result
+	 * @since 21.08.2018/0.2.0
+	 * @see Math#floor(double)
+	 */
+	public static final int fastfloor(double x) {
+		
+		int xAsInt = (int)x;
+		return x < xAsInt ? xAsInt - 1 : xAsInt;
+	}
+	
+	/**
+	 * @param x X component of the point
+	 * @param y Y component of the point
+	 * @param z Z component of the point
+	 * @param minX minimum X of the box
+	 * @param minY minimum Y of the box
+	 * @param minZ minimum Z of the box
+	 * @param maxX maximum X of the box
+	 * @param maxY maximum Y of the box
+	 * @param maxZ maximum Z of the box
+	 * @return squared distance between a point and a box, {@code 0} if the point is inside of the box
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final float distanceSquared(float x, float y, float z, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		float dx = x < minX ? minX - x : (x > maxX ? x - maxX : 0.0F);
+		float dy = y < minY ? minY - y : (y > maxY ? y - maxY : 0.0F);
+		float dz = z < minZ ? minZ - z : (z > maxZ ? z - maxZ : 0.0F);
+		return dx * dx + dy * dy + dz * dz;
+	}
+	
+	/**
+	 * Intersects a ray with a box (slab method).
+	 * @param x X component of the ray origin
+	 * @param y Y component of the ray origin
+	 * @param z Z component of the ray origin
+	 * @param inverseX {@code 1} divided by the X component of the ray direction
+	 * @param inverseY {@code 1} divided by the Y component of the ray direction
+	 * @param inverseZ {@code 1} divided by the Z component of the ray direction
+	 * @param maxDistance the length of the ray
+	 * @param minX minimum X of the box
+	 * @param minY minimum Y of the box
+	 * @param minZ minimum Z of the box
+	 * @param maxX maximum X of the box
+	 * @param maxY maximum Y of the box
+	 * @param maxZ maximum Z of the box
+	 * @return the distance from the origin to the hit or {@code -1} if the box is not hit within the max distance
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final float intersectRay(float x, float y, float z, float inverseX, float inverseY, float inverseZ, float maxDistance, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+		
+		float t1 = (minX - x) * inverseX;
+		float t2 = (maxX - x) * inverseX;
+		float near = Math.min(t1, t2);
+		float far = Math.max(t1, t2);
+		
+		t1 = (minY - y) * inverseY;
+		t2 = (maxY - y) * inverseY;
+		near = Math.max(near, Math.min(t1, t2));
+		far = Math.min(far, Math.max(t1, t2));
+		
+		t1 = (minZ - z) * inverseZ;
+		t2 = (maxZ - z) * inverseZ;
+		near = Math.max(near, Math.min(t1, t2));
+		far = Math.min(far, Math.max(t1, t2));
+		
+		near = Math.max(near, 0.0F);
+		return far >= near && near <= maxDistance ? near : -1.0F;
+	}
+	
+	/**
+	 * Converts a value into a 16 bit floating point number (IEEE 754 half precision), rounded to the nearest one.
+	 * Values that are too large become infinity, values that are too small become 0.
+	 * @param value the value
+	 * @return the bits of the half precision number
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final short toHalfFloat(float value) {
+		
+		int bits = Float.floatToIntBits(value);
+		int sign = (bits >>> 16) & 0x8000;
+		int exponent = ((bits >>> 23) & 0xFF) - 127 + 15;
+		int mantissa = bits & 0x7FFFFF;
+		
+		if(exponent >= 31) {
+			
+			// NaN stays NaN, everything else is too large
+			return (short)((bits & 0x7FFFFFFF) > 0x7F800000 ? sign | 0x7E00 : sign | 0x7C00);
+		}
+		
+		if(exponent <= 0) {
+			
+			if(exponent < -10) {
+				
+				return (short)sign;
+			}
+			
+			// Subnormal, the hidden bit becomes part of the mantissa
+			mantissa |= 0x800000;
+			int shift = 14 - exponent;
+			int half = mantissa >> shift;
+			
+			if(((mantissa >> (shift - 1)) & 1) != 0) {
+				
+				half++;
+			}
+			
+			return (short)(sign | half);
+		}
+		
+		// A carry from the rounding correctly moves into the exponent
+		int half = sign | (exponent << 10) | (mantissa >> 13);
+		
+		if((mantissa & 0x1000) != 0) {
+			
+			half++;
+		}
+		
+		return (short)half;
+	}
+	
+	/**
+	 * Converts a 16 bit floating point number (IEEE 754 half precision) into a {@code float}.
+	 * @param half the bits of the half precision number
+	 * @return the value
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final float fromHalfFloat(short half) {
+		
+		int sign = (half & 0x8000) << 16;
+		int exponent = (half >>> 10) & 0x1F;
+		int mantissa = half & 0x3FF;
+		
+		if(exponent == 0) {
+			
+			float value = mantissa * 5.9604645E-8F; // 2^-24
+			return sign != 0 ? -value : value;
+		}
+		
+		if(exponent == 31) {
+			
+			return Float.intBitsToFloat(sign | 0x7F800000 | (mantissa << 13));
+		}
+		
+		return Float.intBitsToFloat(sign | ((exponent - 15 + 127) << 23) | (mantissa << 13));
+	}
+}
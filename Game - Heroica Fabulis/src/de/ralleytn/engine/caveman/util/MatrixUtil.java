@@ -1,181 +1,320 @@
-package de.ralleytn.engine.caveman.util;
-
-import javax.vecmath.Matrix4f;
-import javax.vecmath.Vector3f;
-
-/**
- * Utility class containg methods for working with matrices.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 25.08.2018/0.3.0
- * @since 11.08.2018/0.1.0
- */
-public final class MatrixUtil {
-
-	/**
-	 * @since 11.08.2018/0.1.0
-	 */
-	private MatrixUtil() {}
-	
-	/**
-	 * Creates a new transformation matrix.
-	 * @param translation the translation
-	 * @param rotation the rotation
-	 * @param scale the scale
-	 * @return the created transformation matrix
-	 * @since 25.08.2018/0.3.0
-	 */
-	public static final Matrix4f createTransformationMatrx(Vector3f translation, Vector3f rotation, Vector3f scale) {
-		
-		Matrix4f transformation = new Matrix4f();
-		transformation.setIdentity();
-		translate(translation, transformation);
-		rotate((float)Math.toRadians(rotation.x), VectorUtil.AXIS_X, transformation);
-		rotate((float)Math.toRadians(rotation.y), VectorUtil.AXIS_Y, transformation);
-		rotate((float)Math.toRadians(rotation.z), VectorUtil.AXIS_Z, transformation);
-		scale(scale, transformation);
-		return transformation;
-	}
-	
-	/**
-	 * Converts a {@linkplain Matrix4f} to a float array.
-	 * @param matrix the {@linkplain Matrix4f}
-	 * @return the resulting float array
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final float[] toArray4f(Matrix4f matrix) {
-		
-		return new float[] {
-				
-			matrix.m00, matrix.m01, matrix.m02, matrix.m03,
-			matrix.m10, matrix.m11, matrix.m12, matrix.m13,
-			matrix.m20, matrix.m21, matrix.m22, matrix.m23,
-			matrix.m30, matrix.m31, matrix.m32, matrix.m33,
-		};
-	}
-	
-	/**
-	 * Multiplies a 4D matrix with a 3D vector.
-	 * @param matrix the 4D matrix
-	 * @param x X component of the 3D vector
-	 * @param y Y component of the 3D vector
-	 * @param z Z component of the 3D vector
-	 * @return the resulting vector
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final Vector3f multiply(Matrix4f matrix, float x, float y, float z) {
-		
-		Vector3f result = new Vector3f();
-		result.x = (x * matrix.m00) + (y * matrix.m10) + (z * matrix.m20) + matrix.m30;
-		result.y = (x * matrix.m01) + (y * matrix.m11) + (z * matrix.m21) + matrix.m31;
-		result.z = (x * matrix.m02) + (y * matrix.m12) + (z * matrix.m22) + matrix.m32;
-		return result;
-	}
-	
-	/**
-	 * Calculates the rotation matrix.
-	 * @param rotation the rotation
-	 * @param matrix the matrix
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final void calcRotationMatrix(Vector3f rotation, Matrix4f matrix) {
-		
-		matrix.setIdentity();
-		MatrixUtil.rotate(rotation.x, VectorUtil.AXIS_X, matrix);
-		MatrixUtil.rotate(rotation.y, VectorUtil.AXIS_Y, matrix);
-		MatrixUtil.rotate(rotation.z, VectorUtil.AXIS_Z, matrix);
-	}
-	
-	/**
-	 * Scales a matrix.
-	 * @param scale the scale
-	 * @param matrix the matrix
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final void scale(Vector3f scale, Matrix4f matrix) {
-		
-		matrix.m00 *= scale.x;
-		matrix.m01 *= scale.x;
-		matrix.m02 *= scale.x;
-		matrix.m03 *= scale.x;
-		
-		matrix.m10 *= scale.y;
-		matrix.m11 *= scale.y;
-		matrix.m12 *= scale.y;
-		matrix.m13 *= scale.y;
-		
-		matrix.m20 *= scale.z;
-		matrix.m21 *= scale.z;
-		matrix.m22 *= scale.z;
-		matrix.m23 *= scale.z;
-	}
-	
-	/**
-	 * Translates a matrix.
-	 * @param translation the translation
-	 * @param matrix the matrix
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final void translate(Vector3f translation, Matrix4f matrix) {
-		
-		matrix.m30 += matrix.m00 * translation.x + matrix.m10 * translation.y + matrix.m20 * translation.z;
-		matrix.m31 += matrix.m01 * translation.x + matrix.m11 * translation.y + matrix.m21 * translation.z;
-		matrix.m32 += matrix.m02 * translation.x + matrix.m12 * translation.y + matrix.m22 * translation.z;
-		matrix.m33 += matrix.m03 * translation.x + matrix.m13 * translation.y + matrix.m23 * translation.z;
-	}
-	
-	/**
-	 * Rotates a matrix.
-	 * @param angle the angle
-	 * @param axis the axis
-	 * @param matrix the matrix
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final void rotate(float angle, Vector3f axis, Matrix4f matrix) {
-		
-		float c = (float)Math.cos(angle);
-		float s = (float)Math.sin(angle);
-		
-		float oneminusc = 1.0F - c;
-		
-		float xy = axis.x * axis.y;
-		float yz = axis.y * axis.z;
-		float xz = axis.x * axis.z;
-		
-		float xs = axis.x * s;
-		float ys = axis.y * s;
-		float zs = axis.z * s;
-
-		float f00 = axis.x * axis.x * oneminusc + c;
-		float f01 = xy * oneminusc + zs;
-		float f02 = xz * oneminusc - ys;
-		float f10 = xy * oneminusc - zs;
-		float f11 = axis.y * axis.y * oneminusc + c;
-		float f12 = yz * oneminusc + xs;
-		float f20 = xz * oneminusc + ys;
-		float f21 = yz * oneminusc - xs;
-		float f22 = axis.z * axis.z * oneminusc + c;
-
-		float t00 = matrix.m00 * f00 + matrix.m10 * f01 + matrix.m20 * f02;
-		float t01 = matrix.m01 * f00 + matrix.m11 * f01 + matrix.m21 * f02;
-		float t02 = matrix.m02 * f00 + matrix.m12 * f01 + matrix.m22 * f02;
-		float t03 = matrix.m03 * f00 + matrix.m13 * f01 + matrix.m23 * f02;
-		float t10 = matrix.m00 * f10 + matrix.m10 * f11 + matrix.m20 * f12;
-		float t11 = matrix.m01 * f10 + matrix.m11 * f11 + matrix.m21 * f12;
-		float t12 = matrix.m02 * f10 + matrix.m12 * f11 + matrix.m22 * f12;
-		float t13 = matrix.m03 * f10 + matrix.m13 * f11 + matrix.m23 * f12;
-		
-		matrix.m20 = matrix.m00 * f20 + matrix.m10 * f21 + matrix.m20 * f22;
-		matrix.m21 = matrix.m01 * f20 + matrix.m11 * f21 + matrix.m21 * f22;
-		matrix.m22 = matrix.m02 * f20 + matrix.m12 * f21 + matrix.m22 * f22;
-		matrix.m23 = matrix.m03 * f20 + matrix.m13 * f21 + matrix.m23 * f22;
-		
-		matrix.m00 = t00;
-		matrix.m01 = t01;
-		matrix.m02 = t02;
-		matrix.m03 = t03;
-		matrix.m10 = t10;
-		matrix.m11 = t11;
-		matrix.m12 = t12;
-		matrix.m13 = t13;
-	}
-}
+package de.ralleytn.engine.caveman.util;
+
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+
+/**
+ * Utility class containg methods for working with matrices.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 11.08.2018/0.1.0
+ */
+public final class MatrixUtil {
+
+	/**
+	 * @since 11.08.2018/0.1.0
+	 */
+	private MatrixUtil() {}
+	
+	/**
+	 * Creates a new transformation matrix.
+	 * @param translation the translation
+	 * @param rotation the rotation
+	 * @param scale the scale
+	 * @return the created transformation matrix
+	 * @since 25.08.2018/0.3.0
+	 */
+	public static final Matrix4f createTransformationMatrx(Vector3f translation, Vector3f rotation, Vector3f scale) {
+		
+		Matrix4f transformation = new Matrix4f();
+		transformation.setIdentity();
+		translate(translation, transformation);
+		rotate((float)Math.toRadians(rotation.x), VectorUtil.AXIS_X, transformation);
+		rotate((float)Math.toRadians(rotation.y), VectorUtil.AXIS_Y, transformation);
+		rotate((float)Math.toRadians(rotation.z), VectorUtil.AXIS_Z, transformation);
+		scale(scale, transformation);
+		return transformation;
+	}
+	
+	/**
+	 * Converts a {@linkplain Matrix4f} to a float array.
+	 * @param matrix the {@linkplain Matrix4f}
+	 * @return the resulting float array
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final float[] toArray4f(Matrix4f matrix) {
+		
+		return new float[] {
+				
+			matrix.m00, matrix.m01, matrix.m02, matrix.m03,
+			matrix.m10, matrix.m11, matrix.m12, matrix.m13,
+			matrix.m20, matrix.m21, matrix.m22, matrix.m23,
+			matrix.m30, matrix.m31, matrix.m32, matrix.m33,
+		};
+	}
+	
+	/**
+	 * Reverse of {@link #toArray4f(Matrix4f)}.
+	 * @param array the array containing the matrix elements
+	 * @param offset the offset in the array
+	 * @param destination the matrix in which the elements should be stored
+	 * @return the destination matrix
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final Matrix4f fromArray4f(float[] array, int offset, Matrix4f destination) {
+		
+		destination.m00 = array[offset];      destination.m01 = array[offset + 1];  destination.m02 = array[offset + 2];  destination.m03 = array[offset + 3];
+		destination.m10 = array[offset + 4];  destination.m11 = array[offset + 5];  destination.m12 = array[offset + 6];  destination.m13 = array[offset + 7];
+		destination.m20 = array[offset + 8];  destination.m21 = array[offset + 9];  destination.m22 = array[offset + 10]; destination.m23 = array[offset + 11];
+		destination.m30 = array[offset + 12]; destination.m31 = array[offset + 13]; destination.m32 = array[offset + 14]; destination.m33 = array[offset + 15];
+		return destination;
+	}
+	
+	/**
+	 * Multiplies a 4D matrix with a 3D vector.
+	 * @param matrix the 4D matrix
+	 * @param x X component of the 3D vector
+	 * @param y Y component of the 3D vector
+	 * @param z Z component of the 3D vector
+	 * @return the resulting vector
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final Vector3f multiply(Matrix4f matrix, float x, float y, float z) {
+		
+		Vector3f result = new Vector3f();
+		result.x = (x * matrix.m00) + (y * matrix.m10) + (z * matrix.m20) + matrix.m30;
+		result.y = (x * matrix.m01) + (y * matrix.m11) + (z * matrix.m21) + matrix.m31;
+		result.z = (x * matrix.m02) + (y * matrix.m12) + (z * matrix.m22) + matrix.m32;
+		return result;
+	}
+	
+	/**
+	 * Transforms an axis aligned box and stores the axis aligned box enclosing the 8 transformed corners in the destination.
+	 * Instead of transforming every corner, each matrix element is applied to the minimum and maximum of the box separately (Arvo).
+	 * This does not allocate any objects.
+	 * @param matrix the transformation matrix
+	 * @param box the box that should be transformed
+	 * @param destination the box in which the result should be stored (may be the same instance as {@code box})
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void transform(Matrix4f matrix, AxisAlignedBox box, AxisAlignedBox destination) {
+		
+		float minX = box.x;
+		float minY = box.y;
+		float minZ = box.z;
+		float maxX = minX + box.width;
+		float maxY = minY + box.height;
+		float maxZ = minZ + box.depth;
+		
+		float nx = matrix.m30, fx = nx;
+		float ny = matrix.m31, fy = ny;
+		float nz = matrix.m32, fz = nz;
+		float a, b;
+		
+		a = matrix.m00 * minX; b = matrix.m00 * maxX; if(a < b) { nx += a; fx += b; } else { nx += b; fx += a; }
+		a = matrix.m10 * minY; b = matrix.m10 * maxY; if(a < b) { nx += a; fx += b; } else { nx += b; fx += a; }
+		a = matrix.m20 * minZ; b = matrix.m20 * maxZ; if(a < b) { nx += a; fx += b; } else { nx += b; fx += a; }
+		
+		a = matrix.m01 * minX; b = matrix.m01 * maxX; if(a < b) { ny += a; fy += b; } else { ny += b; fy += a; }
+		a = matrix.m11 * minY; b = matrix.m11 * maxY; if(a < b) { ny += a; fy += b; } else { ny += b; fy += a; }
+		a = matrix.m21 * minZ; b = matrix.m21 * maxZ; if(a < b) { ny += a; fy += b; } else { ny += b; fy += a; }
+		
+		a = matrix.m02 * minX; b = matrix.m02 * maxX; if(a < b) { nz += a; fz += b; } else { nz += b; fz += a; }
+		a = matrix.m12 * minY; b = matrix.m12 * maxY; if(a < b) { nz += a; fz += b; } else { nz += b; fz += a; }
+		a = matrix.m22 * minZ; b = matrix.m22 * maxZ; if(a < b) { nz += a; fz += b; } else { nz += b; fz += a; }
+		
+		destination.set(nx, ny, nz, fx - nx, fy - ny, fz - nz);
+	}
+	
+	/**
+	 * Calculates the transformation matrix {@code T * Rx * Ry * Rz * S} in closed form and stores it in an array.
+	 * The result is the same as {@link #createTransformationMatrx(Vector3f, Vector3f, Vector3f)} without any of the intermediate matrix multiplications
+	 * and the elements are stored in the same order as {@link #toArray4f(Matrix4f)}.
+	 * @param tx translation on the X axis
+	 * @param ty translation on the Y axis
+	 * @param tz translation on the Z axis
+	 * @param rx rotation around the X axis in degrees
+	 * @param ry rotation around the Y axis in degrees
+	 * @param rz rotation around the Z axis in degrees
+	 * @param sx scale on the X axis
+	 * @param sy scale on the Y axis
+	 * @param sz scale on the Z axis
+	 * @param destination the array in which the matrix should be stored
+	 * @param offset the offset in the array
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void calcTransformation(float tx, float ty, float tz, float rx, float ry, float rz, float sx, float sy, float sz, float[] destination, int offset) {
+		
+		double radX = Math.toRadians(rx);
+		double radY = Math.toRadians(ry);
+		double radZ = Math.toRadians(rz);
+		float sa = (float)Math.sin(radX), ca = (float)Math.cos(radX);
+		float sb = (float)Math.sin(radY), cb = (float)Math.cos(radY);
+		float sc = (float)Math.sin(radZ), cc = (float)Math.cos(radZ);
+		
+		float[] m = destination;
+		int o = offset;
+		m[o]      = cb * cc * sx;
+		m[o + 1]  = (sa * sb * cc + ca * sc) * sx;
+		m[o + 2]  = (-ca * sb * cc + sa * sc) * sx;
+		m[o + 3]  = 0.0F;
+		m[o + 4]  = -cb * sc * sy;
+		m[o + 5]  = (-sa * sb * sc + ca * cc) * sy;
+		m[o + 6]  = (ca * sb * sc + sa * cc) * sy;
+		m[o + 7]  = 0.0F;
+		m[o + 8]  = sb * sz;
+		m[o + 9]  = -sa * cb * sz;
+		m[o + 10] = ca * cb * sz;
+		m[o + 11] = 0.0F;
+		m[o + 12] = tx;
+		m[o + 13] = ty;
+		m[o + 14] = tz;
+		m[o + 15] = 1.0F;
+	}
+	
+	/**
+	 * Same as {@link #transform(Matrix4f, AxisAlignedBox, AxisAlignedBox)} but for matrices and bounds stored in arrays.
+	 * The bounds are stored as {@code min x, min y, min z, max x, max y, max z}.
+	 * @param matrix the array containing the matrix in the order of {@link #toArray4f(Matrix4f)}
+	 * @param matrixOffset the offset of the matrix in the array
+	 * @param bounds the array containing the bounds that should be transformed
+	 * @param boundsOffset the offset of the bounds in the array
+	 * @param destination the array in which the transformed bounds should be stored
+	 * @param destinationOffset the offset in the destination array
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void transformBounds(float[] matrix, int matrixOffset, float[] bounds, int boundsOffset, float[] destination, int destinationOffset) {
+		
+		float minX = bounds[boundsOffset];
+		float minY = bounds[boundsOffset + 1];
+		float minZ = bounds[boundsOffset + 2];
+		float maxX = bounds[boundsOffset + 3];
+		float maxY = bounds[boundsOffset + 4];
+		float maxZ = bounds[boundsOffset + 5];
+		
+		for(int row = 0; row < 3; row++) {
+			
+			int o = matrixOffset + row;
+			float min = matrix[o + 12];
+			float max = min;
+			float a, b;
+			
+			a = matrix[o] * minX;     b = matrix[o] * maxX;     if(a < b) { min += a; max += b; } else { min += b; max += a; }
+			a = matrix[o + 4] * minY; b = matrix[o + 4] * maxY; if(a < b) { min += a; max += b; } else { min += b; max += a; }
+			a = matrix[o + 8] * minZ; b = matrix[o + 8] * maxZ; if(a < b) { min += a; max += b; } else { min += b; max += a; }
+			
+			destination[destinationOffset + row] = min;
+			destination[destinationOffset + 3 + row] = max;
+		}
+	}
+	
+	/**
+	 * Calculates the rotation matrix.
+	 * @param rotation the rotation
+	 * @param matrix the matrix
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final void calcRotationMatrix(Vector3f rotation, Matrix4f matrix) {
+		
+		matrix.setIdentity();
+		MatrixUtil.rotate(rotation.x, VectorUtil.AXIS_X, matrix);
+		MatrixUtil.rotate(rotation.y, VectorUtil.AXIS_Y, matrix);
+		MatrixUtil.rotate(rotation.z, VectorUtil.AXIS_Z, matrix);
+	}
+	
+	/**
+	 * Scales a matrix.
+	 * @param scale the scale
+	 * @param matrix the matrix
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final void scale(Vector3f scale, Matrix4f matrix) {
+		
+		matrix.m00 *= scale.x;
+		matrix.m01 *= scale.x;
+		matrix.m02 *= scale.x;
+		matrix.m03 *= scale.x;
+		
+		matrix.m10 *= scale.y;
+		matrix.m11 *= scale.y;
+		matrix.m12 *= scale.y;
+		matrix.m13 *= scale.y;
+		
+		matrix.m20 *= scale.z;
+		matrix.m21 *= scale.z;
+		matrix.m22 *= scale.z;
+		matrix.m23 *= scale.z;
+	}
+	
+	/**
+	 * Translates a matrix.
+	 * @param translation the translation
+	 * @param matrix the matrix
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final void translate(Vector3f translation, Matrix4f matrix) {
+		
+		matrix.m30 += matrix.m00 * translation.x + matrix.m10 * translation.y + matrix.m20 * translation.z;
+		matrix.m31 += matrix.m01 * translation.x + matrix.m11 * translation.y + matrix.m21 * translation.z;
+		matrix.m32 += matrix.m02 * translation.x + matrix.m12 * translation.y + matrix.m22 * translation.z;
+		matrix.m33 += matrix.m03 * translation.x + matrix.m13 * translation.y + matrix.m23 * translation.z;
+	}
+	
+	/**
+	 * Rotates a matrix.
+	 * @param angle the angle
+	 * @param axis the axis
+	 * @param matrix the matrix
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final void rotate(float angle, Vector3f axis, Matrix4f matrix) {
+		
+		float c = (float)Math.cos(angle);
+		float s = (float)Math.sin(angle);
+		
+		float oneminusc = 1.0F - c;
+		
+		float xy = axis.x * axis.y;
+		float yz = axis.y * axis.z;
+		float xz = axis.x * axis.z;
+		
+		float xs = axis.x * s;
+		float ys = axis.y * s;
+		float zs = axis.z * s;
+
+		float f00 = axis.x * axis.x * oneminusc + c;
+		float f01 = xy * oneminusc + zs;
+		float f02 = xz * oneminusc - ys;
+		float f10 = xy * oneminusc - zs;
+		float f11 = axis.y * axis.y * oneminusc + c;
+		float f12 = yz * oneminusc + xs;
+		float f20 = xz * oneminusc + ys;
+		float f21 = yz * oneminusc - xs;
+		float f22 = axis.z * axis.z * oneminusc + c;
+
+		float t00 = matrix.m00 * f00 + matrix.m10 * f01 + matrix.m20 * f02;
+		float t01 = matrix.m01 * f00 + matrix.m11 * f01 + matrix.m21 * f02;
+		float t02 = matrix.m02 * f00 + matrix.m12 * f01 + matrix.m22 * f02;
+		float t03 = matrix.m03 * f00 + matrix.m13 * f01 + matrix.m23 * f02;
+		float t10 = matrix.m00 * f10 + matrix.m10 * f11 + matrix.m20 * f12;
+		float t11 = matrix.m01 * f10 + matrix.m11 * f11 + matrix.m21 * f12;
+		float t12 = matrix.m02 * f10 + matrix.m12 * f11 + matrix.m22 * f12;
+		float t13 = matrix.m03 * f10 + matrix.m13 * f11 + matrix.m23 * f12;
+		
+		matrix.m20 = matrix.m00 * f20 + matrix.m10 * f21 + matrix.m20 * f22;
+		matrix.m21 = matrix.m01 * f20 + matrix.m11 * f21 + matrix.m21 * f22;
+		matrix.m22 = matrix.m02 * f20 + matrix.m12 * f21 + matrix.m22 * f22;
+		matrix.m23 = matrix.m03 * f20 + matrix.m13 * f21 + matrix.m23 * f22;
+		
+		matrix.m00 = t00;
+		matrix.m01 = t01;
+		matrix.m02 = t02;
+		matrix.m03 = t03;
+		matrix.m10 = t10;
+		matrix.m11 = t11;
+		matrix.m12 = t12;
+		matrix.m13 = t13;
+	}
+}
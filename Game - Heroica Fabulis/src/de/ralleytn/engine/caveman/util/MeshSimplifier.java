@@ -0,0 +1,642 @@
+package de.ralleytn.engine.caveman.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.rendering.geom.MeshData;
+
+/**
+ * Reduces the triangle count of a mesh by collapsing edges, ordered by the quadric error metric of Garland and Heckbert.
+ * Every collapse moves a vertex onto one of its neighbors, so no new vertices are created and the texture coordinates and normals stay exact.
+ * Vertices that share a position but have different attributes form a UV seam. They are only moved along the seam and always together,
+ * so that the texture doesn't tear apart. Borders of open meshes are kept in the same way.
+ * The collapses are done in passes. Every pass sorts all edges by their error and collapses as many of them as possible
+ * without touching the neighborhood of a vertex twice, so that the check for flipped triangles stays exact.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class MeshSimplifier {
+
+	private static final byte KIND_MANIFOLD = 0;
+	private static final byte KIND_BORDER = 1;
+	private static final byte KIND_SEAM = 2;
+	private static final byte KIND_LOCKED = 3;
+	
+	// Borders and seams are held in place by planes that stand perpendicular on their triangles
+	private static final double EDGE_WEIGHT = 10.0;
+	
+	// A collapse is rejected if it turns a triangle by more than about 75 degrees
+	private static final double FLIP_THRESHOLD = 0.25;
+	
+	// Quadric layout: a00, a11, a22, a01, a02, a12, b0, b1, b2, c, weight
+	private static final int QUADRIC_SIZE = 11;
+	
+	private final MeshData source;
+	private final float[] vertices;
+	private final int vertexCount;
+	private final int[] positions;
+	private final int[] wedges;
+	private final byte[] kinds;
+	private final float scale;
+	private int[] loops;
+	private int[] loopsBack;
+	private float error;
+	
+	/**
+	 * Analyzes the mesh. The same simplifier can be used to create multiple simplified versions of it.
+	 * @param source the mesh that should be simplified, it is not modified
+	 * @since 18.10.2026/0.5.0
+	 */
+	public MeshSimplifier(MeshData source) {
+		
+		this.source = source;
+		this.vertices = source.getVertices();
+		this.vertexCount = this.vertices.length / 3;
+		this.positions = new int[this.vertexCount];
+		this.wedges = new int[this.vertexCount];
+		this.kinds = new byte[this.vertexCount];
+		this.loops = new int[this.vertexCount];
+		this.loopsBack = new int[this.vertexCount];
+		
+		// The first vertex with a position represents all vertices with the same position
+		Map<Vector3f, Integer> firstVertices = new HashMap<>();
+		
+		for(int vertex = 0; vertex < this.vertexCount; vertex++) {
+			
+			Vector3f position = new Vector3f(this.vertices[vertex * 3], this.vertices[vertex * 3 + 1], this.vertices[vertex * 3 + 2]);
+			Integer first = firstVertices.putIfAbsent(position, vertex);
+			this.positions[vertex] = first != null ? first : vertex;
+		}
+		
+		// The vertices with the same position are linked to a ring
+		for(int vertex = 0; vertex < this.vertexCount; vertex++) {
+			
+			this.wedges[vertex] = vertex;
+		}
+		
+		for(int vertex = 0; vertex < this.vertexCount; vertex++) {
+			
+			int first = this.positions[vertex];
+			
+			if(first != vertex) {
+				
+				this.wedges[vertex] = this.wedges[first];
+				this.wedges[first] = vertex;
+			}
+		}
+		
+		this.updateLoops(source.getIndices(), source.getIndices().length);
+		this.classifyVertices();
+		
+		// The errors are measured relative to the largest side of the bounding box
+		float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+		float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+		
+		for(int index = 0; index < this.vertices.length; index += 3) {
+			
+			minX = Math.min(minX, this.vertices[index]);
+			minY = Math.min(minY, this.vertices[index + 1]);
+			minZ = Math.min(minZ, this.vertices[index + 2]);
+			maxX = Math.max(maxX, this.vertices[index]);
+			maxY = Math.max(maxY, this.vertices[index + 1]);
+			maxZ = Math.max(maxZ, this.vertices[index + 2]);
+		}
+		
+		this.scale = this.vertexCount > 0 ? Math.max(Math.max(maxX - minX, maxY - minY), Math.max(maxZ - minZ, Float.MIN_NORMAL)) : 1.0F;
+	}
+	
+	/**
+	 * Creates a simplified version of the mesh.
+	 * Stops as soon as the target triangle count is reached or the next collapse would cause a larger error than allowed.
+	 * The result is already optimized with {@link MeshUtil#optimize(MeshData)} and keeps the bounds of the source mesh.
+	 * @param targetTriangleCount the amount of triangles the result should have
+	 * @param targetError the largest allowed error relative to the size of the mesh, {@code 0.01F} means 1% of the largest side of the bounding box
+	 * @return the simplified mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	public MeshData simplify(int targetTriangleCount, float targetError) {
+		
+		int[] indices = this.source.getIndices().clone();
+		int indexCount = indices.length;
+		double[] quadrics = new double[this.vertexCount * QUADRIC_SIZE];
+		int[] collapseRemap = new int[this.vertexCount];
+		boolean[] collapseLocked = new boolean[this.vertexCount];
+		double errorLimit = (double)targetError * this.scale * targetError * this.scale;
+		double largestError = 0.0;
+		
+		this.updateLoops(indices, indexCount);
+		this.fillQuadrics(indices, indexCount, quadrics);
+		
+		while(indexCount / 3 > targetTriangleCount) {
+			
+			this.updateLoops(indices, indexCount);
+			
+			// The triangles around every position, so that flipped triangles can be found
+			int[] adjacencyOffsets = new int[this.vertexCount + 1];
+			int[] adjacency = new int[indexCount];
+			
+			for(int index = 0; index < indexCount; index++) {
+				
+				adjacencyOffsets[this.positions[indices[index]] + 1]++;
+			}
+			
+			for(int vertex = 0; vertex < this.vertexCount; vertex++) {
+				
+				adjacencyOffsets[vertex + 1] += adjacencyOffsets[vertex];
+			}
+			
+			int[] fill = Arrays.copyOf(adjacencyOffsets, this.vertexCount);
+			
+			for(int index = 0; index < indexCount; index++) {
+				
+				adjacency[fill[this.positions[indices[index]]]++] = index / 3;
+			}
+			
+			// Every candidate stores the vertex that is moved and the vertex it is moved to; the edges are sorted by their error
+			int[] candidates = new int[indexCount * 2];
+			double[] errors = new double[indexCount];
+			int candidateCount = 0;
+			
+			for(int index = 0; index < indexCount; index++) {
+				
+				int vertex0 = indices[index];
+				int vertex1 = indices[index - index % 3 + (index + 1) % 3];
+				int position0 = this.positions[vertex0];
+				int position1 = this.positions[vertex1];
+				
+				// Inner edges appear twice, once in each direction
+				if(position0 == position1 || (position0 > position1 && !this.isOpenEdge(vertex0, vertex1))) {
+					
+					continue;
+				}
+				
+				boolean collapse0 = this.canCollapse(vertex0, vertex1);
+				boolean collapse1 = this.canCollapse(vertex1, vertex0);
+				double error0 = collapse0 ? MeshSimplifier.evaluate(quadrics, position0, this.vertices, position1) : Double.MAX_VALUE;
+				double error1 = collapse1 ? MeshSimplifier.evaluate(quadrics, position1, this.vertices, position0) : Double.MAX_VALUE;
+				
+				if(collapse0 || collapse1) {
+					
+					boolean first = error0 <= error1;
+					candidates[candidateCount * 2] = first ? vertex0 : vertex1;
+					candidates[candidateCount * 2 + 1] = first ? vertex1 : vertex0;
+					errors[candidateCount] = first ? error0 : error1;
+					candidateCount++;
+				}
+			}
+			
+			// The errors are positive, so their bits are sorted in the same order as the values
+			long[] order = new long[candidateCount];
+			
+			for(int candidate = 0; candidate < candidateCount; candidate++) {
+				
+				order[candidate] = ((long)Float.floatToIntBits((float)errors[candidate]) << 32) | candidate;
+			}
+			
+			Arrays.sort(order);
+			
+			for(int vertex = 0; vertex < this.vertexCount; vertex++) {
+				
+				collapseRemap[vertex] = vertex;
+			}
+			
+			Arrays.fill(collapseLocked, false);
+			int triangleCount = indexCount / 3;
+			int collapses = 0;
+			
+			for(int position = 0; position < candidateCount && triangleCount > targetTriangleCount; position++) {
+				
+				int candidate = (int)order[position];
+				int from = candidates[candidate * 2];
+				int to = candidates[candidate * 2 + 1];
+				int fromPosition = this.positions[from];
+				int toPosition = this.positions[to];
+				
+				if(errors[candidate] > errorLimit) {
+					
+					break;
+				}
+				
+				if(collapseLocked[fromPosition] || collapseLocked[toPosition] || this.hasFlippedTriangles(indices, adjacency, adjacencyOffsets, fromPosition, toPosition)) {
+					
+					continue;
+				}
+				
+				if(this.kinds[from] == KIND_SEAM) {
+					
+					// The second vertex of the seam moves along the twin edge to the matching vertex on its side
+					int twin = this.wedges[from];
+					int twinTarget = to == this.loops[from] ? this.loopsBack[twin] : this.loops[twin];
+					
+					if(twinTarget < 0 || this.positions[twinTarget] != toPosition) {
+						
+						continue;
+					}
+					
+					collapseRemap[twin] = twinTarget;
+				}
+				
+				collapseRemap[from] = to;
+				
+				for(int index = 0; index < QUADRIC_SIZE; index++) {
+					
+					quadrics[toPosition * QUADRIC_SIZE + index] += quadrics[fromPosition * QUADRIC_SIZE + index];
+				}
+				
+				// The whole neighborhood is locked, so that the flip check of the following collapses sees the real positions
+				for(int neighbor = adjacencyOffsets[fromPosition]; neighbor < adjacencyOffsets[fromPosition + 1]; neighbor++) {
+					
+					int triangle = adjacency[neighbor] * 3;
+					boolean removed = false;
+					
+					for(int corner = 0; corner < 3; corner++) {
+						
+						int cornerPosition = this.positions[indices[triangle + corner]];
+						collapseLocked[cornerPosition] = true;
+						removed |= cornerPosition == toPosition;
+					}
+					
+					triangleCount -= removed ? 1 : 0;
+				}
+				
+				largestError = Math.max(largestError, errors[candidate]);
+				collapses++;
+			}
+			
+			if(collapses == 0) {
+				
+				break;
+			}
+			
+			// Applies the collapses and removes the triangles that were squashed to a line
+			int newIndexCount = 0;
+			
+			for(int index = 0; index < indexCount; index += 3) {
+				
+				int vertex0 = collapseRemap[indices[index]];
+				int vertex1 = collapseRemap[indices[index + 1]];
+				int vertex2 = collapseRemap[indices[index + 2]];
+				int position0 = this.positions[vertex0];
+				int position1 = this.positions[vertex1];
+				int position2 = this.positions[vertex2];
+				
+				if(position0 != position1 && position0 != position2 && position1 != position2) {
+					
+					indices[newIndexCount++] = vertex0;
+					indices[newIndexCount++] = vertex1;
+					indices[newIndexCount++] = vertex2;
+				}
+			}
+			
+			indexCount = newIndexCount;
+		}
+		
+		this.error = (float)Math.sqrt(largestError) / this.scale;
+		
+		MeshData result = new MeshData();
+		result.setVertices(this.vertices);
+		result.setTextureCoordinates(this.source.getTextureCoordinates());
+		result.setNormals(this.source.getNormals());
+		result.setIndices(Arrays.copyOf(indices, indexCount));
+		result.setBounds(this.source.getAABB(), this.source.getBoundingSphere());
+		
+		// Also removes the vertices that are not used anymore
+		MeshUtil.optimize(result);
+		return result;
+	}
+	
+	/**
+	 * Creates a chain of simplified meshes, every one with a fraction of the triangles of the one before.
+	 * The chain ends early if a level can't be simplified enough without exceeding the error limit.
+	 * @param source the mesh with the full detail
+	 * @param levels the largest amount of simplified meshes
+	 * @param ratio the fraction of the triangles of the previous level that every level should have, like {@code 0.5F}
+	 * @param targetError the largest allowed error relative to the size of the mesh
+	 * @return the simplified meshes, beginning with the one with the most triangles; the source is not part of it
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final MeshData[] createLODChain(MeshData source, int levels, float ratio, float targetError) {
+		
+		MeshSimplifier simplifier = new MeshSimplifier(source);
+		MeshData[] chain = new MeshData[levels];
+		int previousTriangleCount = source.getIndices().length / 3;
+		int level = 0;
+		
+		for(; level < levels; level++) {
+			
+			// Every level starts at the source, so that the errors don't add up
+			MeshData lod = simplifier.simplify((int)(previousTriangleCount * ratio), targetError);
+			int triangleCount = lod.getIndices().length / 3;
+			
+			// A level that saves less than a tenth of the triangles is not worth the memory
+			if(triangleCount == 0 || triangleCount > previousTriangleCount * 0.9F) {
+				
+				break;
+			}
+			
+			chain[level] = lod;
+			previousTriangleCount = triangleCount;
+		}
+		
+		return Arrays.copyOf(chain, level);
+	}
+	
+	/**
+	 * Finds the open edges of the current triangles. An edge is open if no triangle uses it in the other direction.
+	 * These are the borders of the mesh and the edges along a seam, because the triangles on both sides use different vertices.
+	 * @param indices the indices of the triangles
+	 * @param indexCount the amount of used indices
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void updateLoops(int[] indices, int indexCount) {
+		
+		LongIntHashMap edges = new LongIntHashMap(indexCount);
+		Arrays.fill(this.loops, -1);
+		Arrays.fill(this.loopsBack, -1);
+		
+		for(int index = 0; index < indexCount; index++) {
+			
+			edges.put(MeshSimplifier.getEdgeKey(indices[index], indices[index - index % 3 + (index + 1) % 3]), 1);
+		}
+		
+		for(int index = 0; index < indexCount; index++) {
+			
+			int vertex0 = indices[index];
+			int vertex1 = indices[index - index % 3 + (index + 1) % 3];
+			
+			if(!edges.containsKey(MeshSimplifier.getEdgeKey(vertex1, vertex0))) {
+				
+				// -2 marks vertices with more than one open edge in the same direction
+				this.loops[vertex0] = this.loops[vertex0] == -1 ? vertex1 : -2;
+				this.loopsBack[vertex1] = this.loopsBack[vertex1] == -1 ? vertex0 : -2;
+			}
+		}
+	}
+	
+	/**
+	 * Decides for every vertex how it may be moved, based on the open edges of the source mesh.
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void classifyVertices() {
+		
+		for(int vertex = 0; vertex < this.vertexCount; vertex++) {
+			
+			int twin = this.wedges[vertex];
+			boolean open = this.loops[vertex] != -1 || this.loopsBack[vertex] != -1;
+			boolean loop = this.loops[vertex] >= 0 && this.loopsBack[vertex] >= 0;
+			
+			if(twin == vertex) {
+				
+				this.kinds[vertex] = !open ? KIND_MANIFOLD : (loop ? KIND_BORDER : KIND_LOCKED);
+			
+			} else if(this.wedges[twin] == vertex && loop && this.loops[twin] >= 0 && this.loopsBack[twin] >= 0 &&
+					  this.positions[this.loops[vertex]] == this.positions[this.loopsBack[twin]] &&
+					  this.positions[this.loopsBack[vertex]] == this.positions[this.loops[twin]]) {
+				
+				// Exactly two vertices whose open edges run along each other in opposite directions
+				this.kinds[vertex] = KIND_SEAM;
+			
+			} else {
+				
+				this.kinds[vertex] = KIND_LOCKED;
+			}
+		}
+	}
+	
+	/**
+	 * Sums up the quadrics of the planes of all triangles and of the planes that hold the borders and seams in place.
+	 * The planes are weighted by the area of their triangle and the quadrics are stored per position.
+	 * @param indices the indices of the triangles
+	 * @param indexCount the amount of used indices
+	 * @param quadrics the array in which the quadrics are stored
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void fillQuadrics(int[] indices, int indexCount, double[] quadrics) {
+		
+		float[] v = this.vertices;
+		
+		for(int index = 0; index < indexCount; index += 3) {
+			
+			int i0 = indices[index] * 3;
+			int i1 = indices[index + 1] * 3;
+			int i2 = indices[index + 2] * 3;
+			double e1x = v[i1] - v[i0], e1y = v[i1 + 1] - v[i0 + 1], e1z = v[i1 + 2] - v[i0 + 2];
+			double e2x = v[i2] - v[i0], e2y = v[i2 + 1] - v[i0 + 1], e2z = v[i2 + 2] - v[i0 + 2];
+			double nx = e1y * e2z - e1z * e2y;
+			double ny = e1z * e2x - e1x * e2z;
+			double nz = e1x * e2y - e1y * e2x;
+			double length = Math.sqrt(nx * nx + ny * ny + nz * nz);
+			
+			if(length == 0.0) {
+				
+				continue;
+			}
+			
+			nx /= length;
+			ny /= length;
+			nz /= length;
+			double area = length * 0.5;
+			double d = -(nx * v[i0] + ny * v[i0 + 1] + nz * v[i0 + 2]);
+			
+			for(int corner = 0; corner < 3; corner++) {
+				
+				MeshSimplifier.addPlane(quadrics, this.positions[indices[index + corner]], nx, ny, nz, d, area);
+			}
+			
+			for(int corner = 0; corner < 3; corner++) {
+				
+				int vertex0 = indices[index + corner];
+				int vertex1 = indices[index + (corner + 1) % 3];
+				byte kind = this.kinds[vertex0];
+				
+				if((kind == KIND_BORDER || kind == KIND_SEAM) && this.loops[vertex0] == vertex1) {
+					
+					double ex = v[vertex1 * 3] - v[vertex0 * 3];
+					double ey = v[vertex1 * 3 + 1] - v[vertex0 * 3 + 1];
+					double ez = v[vertex1 * 3 + 2] - v[vertex0 * 3 + 2];
+					double edgeLength = Math.sqrt(ex * ex + ey * ey + ez * ez);
+					
+					// The plane contains the edge and stands perpendicular on the triangle
+					double px = ey * nz - ez * ny;
+					double py = ez * nx - ex * nz;
+					double pz = ex * ny - ey * nx;
+					double planeLength = Math.sqrt(px * px + py * py + pz * pz);
+					
+					if(planeLength > 0.0) {
+						
+						px /= planeLength;
+						py /= planeLength;
+						pz /= planeLength;
+						double pd = -(px * v[vertex0 * 3] + py * v[vertex0 * 3 + 1] + pz * v[vertex0 * 3 + 2]);
+						double weight = edgeLength * edgeLength * EDGE_WEIGHT;
+						MeshSimplifier.addPlane(quadrics, this.positions[vertex0], px, py, pz, pd, weight);
+						MeshSimplifier.addPlane(quadrics, this.positions[vertex1], px, py, pz, pd, weight);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * @param from the vertex that should be moved
+	 * @param to the vertex it should be moved to
+	 * @return {@code true} if the collapse keeps the borders and seams intact, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean canCollapse(int from, int to) {
+		
+		byte kind = this.kinds[from];
+		byte targetKind = this.kinds[to];
+		
+		switch(kind) {
+			
+			case KIND_MANIFOLD:
+				return true;
+			
+			case KIND_BORDER:
+				return (targetKind == KIND_BORDER || targetKind == KIND_LOCKED) && (this.loops[from] == to || this.loopsBack[from] == to);
+			
+			case KIND_SEAM:
+				return (targetKind == KIND_SEAM || targetKind == KIND_LOCKED) && (this.loops[from] == to || this.loopsBack[from] == to);
+			
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * @param vertex0 start of the edge
+	 * @param vertex1 end of the edge
+	 * @return {@code true} if no triangle uses the edge in the other direction
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean isOpenEdge(int vertex0, int vertex1) {
+		
+		return this.loops[vertex0] == vertex1 || this.loopsBack[vertex1] == vertex0 || this.loops[vertex0] == -2;
+	}
+	
+	/**
+	 * Checks if moving a position onto another one turns any of the remaining triangles around.
+	 * @param indices the indices of the triangles
+	 * @param adjacency the triangles around every position
+	 * @param adjacencyOffsets the index in the adjacency at which the triangles of every position start
+	 * @param from the position that should be moved
+	 * @param to the position it should be moved to
+	 * @return {@code true} if the collapse has to be rejected, else {@code false}
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final boolean hasFlippedTriangles(int[] indices, int[] adjacency, int[] adjacencyOffsets, int from, int to) {
+		
+		float[] v = this.vertices;
+		
+		for(int neighbor = adjacencyOffsets[from]; neighbor < adjacencyOffsets[from + 1]; neighbor++) {
+			
+			int triangle = adjacency[neighbor] * 3;
+			int corner = 0;
+			
+			while(this.positions[indices[triangle + corner]] != from) {
+				
+				corner++;
+			}
+			
+			int moved = this.positions[indices[triangle + corner]];
+			int b = this.positions[indices[triangle + (corner + 1) % 3]];
+			int c = this.positions[indices[triangle + (corner + 2) % 3]];
+			
+			// Triangles that contain both positions disappear
+			if(b == to || c == to) {
+				
+				continue;
+			}
+			
+			double bx = v[b * 3], by = v[b * 3 + 1], bz = v[b * 3 + 2];
+			double e1x = v[c * 3] - bx, e1y = v[c * 3 + 1] - by, e1z = v[c * 3 + 2] - bz;
+			double e2x = v[moved * 3] - bx, e2y = v[moved * 3 + 1] - by, e2z = v[moved * 3 + 2] - bz;
+			double e3x = v[to * 3] - bx, e3y = v[to * 3 + 1] - by, e3z = v[to * 3 + 2] - bz;
+			double n0x = e1y * e2z - e1z * e2y, n0y = e1z * e2x - e1x * e2z, n0z = e1x * e2y - e1y * e2x;
+			double n1x = e1y * e3z - e1z * e3y, n1y = e1z * e3x - e1x * e3z, n1z = e1x * e3y - e1y * e3x;
+			double dot = n0x * n1x + n0y * n1y + n0z * n1z;
+			
+			if(dot <= FLIP_THRESHOLD * Math.sqrt((n0x * n0x + n0y * n0y + n0z * n0z) * (n1x * n1x + n1y * n1y + n1z * n1z))) {
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * @param quadrics the quadrics
+	 * @param position the position whose quadric should be changed
+	 * @param nx x component of the plane normal
+	 * @param ny y component of the plane normal
+	 * @param nz z component of the plane normal
+	 * @param d distance of the plane from the origin
+	 * @param weight the weight of the plane
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void addPlane(double[] quadrics, int position, double nx, double ny, double nz, double d, double weight) {
+		
+		int q = position * QUADRIC_SIZE;
+		quadrics[q]      += weight * nx * nx;
+		quadrics[q + 1]  += weight * ny * ny;
+		quadrics[q + 2]  += weight * nz * nz;
+		quadrics[q + 3]  += weight * nx * ny;
+		quadrics[q + 4]  += weight * nx * nz;
+		quadrics[q + 5]  += weight * ny * nz;
+		quadrics[q + 6]  += weight * nx * d;
+		quadrics[q + 7]  += weight * ny * d;
+		quadrics[q + 8]  += weight * nz * d;
+		quadrics[q + 9]  += weight * d * d;
+		quadrics[q + 10] += weight;
+	}
+	
+	/**
+	 * @param quadrics the quadrics
+	 * @param position the position whose quadric should be evaluated
+	 * @param vertices the vertices
+	 * @param target the vertex at which the quadric should be evaluated
+	 * @return the average squared distance of the target to the planes of the quadric
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final double evaluate(double[] quadrics, int position, float[] vertices, int target) {
+		
+		int q = position * QUADRIC_SIZE;
+		double x = vertices[target * 3];
+		double y = vertices[target * 3 + 1];
+		double z = vertices[target * 3 + 2];
+		double error = quadrics[q] * x * x + quadrics[q + 1] * y * y + quadrics[q + 2] * z * z +
+					   2.0 * (quadrics[q + 3] * x * y + quadrics[q + 4] * x * z + quadrics[q + 5] * y * z) +
+					   2.0 * (quadrics[q + 6] * x + quadrics[q + 7] * y + quadrics[q + 8] * z) +
+					   quadrics[q + 9];
+		double weight = quadrics[q + 10];
+		
+		// Rounding can make the error slightly negative
+		return weight > 0.0 ? Math.abs(error) / weight : 0.0;
+	}
+	
+	/**
+	 * @param vertex0 start of the edge
+	 * @param vertex1 end of the edge
+	 * @return the key of the directed edge
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final long getEdgeKey(int vertex0, int vertex1) {
+		
+		return ((long)vertex0 << 32) | (vertex1 & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * @return the largest error of the last call of {@link #simplify(int, float)}, relative to the size of the mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	public float getError() {
+		
+		return this.error;
+	}
+}
@@ -1,145 +1,616 @@
-package de.ralleytn.engine.caveman.util;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import javax.vecmath.Matrix4f;
-import javax.vecmath.Vector3f;
-
-import de.ralleytn.engine.caveman.rendering.geom.MeshData;
-
-/**
- * Utility class containg methods for working with meshes.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 26.08.2018/0.3.0
- * @since 11.08.2018/0.1.0
- */
-public final class MeshUtil {
-
-	/**
-	 * Private because no instances of this class should be created.
-	 * @since 11.08.2018/0.1.0
-	 */
-	private MeshUtil() {}
-	
-	/**
-	 * Merges multiple meshes lazily.
-	 * <ol>
-	 * <li>The vertices and normals are multiplied with the corresponding transformation</li>
-	 * <li>Vertices, texture coordinate, normals and indices are merged together.</li>
-	 * <li>The indices are incremented.</li>
-	 * </ol>
-	 * The purpose of this method is to allow fast merging for situations where it will already create the optimal result.
-	 * @param meshes the meshes
-	 * @param transformations the transformations.
-	 * @return the merged mesh
-	 * @since 26.08.2018/0.3.0
-	 */
-	public static final MeshData mergeLazy(List<MeshData> meshes, List<Matrix4f> transformations) {
-		
-		ArrayList<Float> vertices = new ArrayList<>();
-		ArrayList<Float> texCoords = new ArrayList<>();
-		ArrayList<Float> normals = new ArrayList<>();
-		ArrayList<Integer> indices = new ArrayList<>();
-		int offset = 0;
-		int m = 0;
-		
-		for(MeshData mesh : meshes) {
-			
-			Matrix4f transformation = transformations.get(m);
-			float[] mVertices = mesh.getVertices();
-			float[] mNormals = mesh.getNormals();
-			
-			for(int index = 0; index < mesh.getVertices().length; index += 3) {
-				
-				Vector3f vertex = MatrixUtil.multiply(transformation, mVertices[index], mVertices[index + 1], mVertices[index + 2]);
-				vertices.add(vertex.x);
-				vertices.add(vertex.y);
-				vertices.add(vertex.z);
-				
-				Vector3f normal = MatrixUtil.multiply(transformation, mNormals[index], mNormals[index + 1], mNormals[index + 2]);
-				normals.add(normal.x);
-				normals.add(normal.y);
-				normals.add(normal.z);
-			}
-			
-			ListUtil.addFloatArray(texCoords, mesh.getTextureCoordinates());
-			int[] mIndices = mesh.getIndices();
-			
-			for(int index : mIndices) {
-				
-				indices.add(index + offset);
-			}
-			
-			offset += mVertices.length / 3;
-			m++;
-		}
-		
-		MeshData mesh = new MeshData();
-		mesh.setIndices(ListUtil.toPrimitiveIntArray(indices));
-		mesh.setNormals(ListUtil.toPrimitiveFloatArray(normals));
-		mesh.setTextureCoordinates(ListUtil.toPrimitiveFloatArray(texCoords));
-		mesh.setVertices(ListUtil.toPrimitiveFloatArray(vertices));
-		
-		return mesh;
-	}
-	
-	/**
-	 * Generates the normals of a mesh based on the vertices and the indices.
-	 * @param vertices the vertices
-	 * @param indices the indices
-	 * @return the generated normals
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final List<Vector3f> generateNormals(List<Vector3f> vertices, int[] indices) {
-		
-		List<Vector3f> normals = new ArrayList<>();
-		
-		for(int index = 0; index < vertices.size(); index++) {
-			
-			normals.add(new Vector3f());
-		}
-		
-		for(int index = 0; index < indices.length; index += 3) {
-			
-			Vector3f v1 = vertices.get(indices[index]);
-			Vector3f v2 = vertices.get(indices[index + 1]);
-			Vector3f v3 = vertices.get(indices[index + 2]);
-			
-			Vector3f faceNormal = generateFaceNormal(v1, v2, v3);
-			
-			normals.get(indices[index]).add(faceNormal);
-			normals.get(indices[index + 1]).add(faceNormal);
-			normals.get(indices[index + 2]).add(faceNormal);
-		}
-		
-		normals.forEach(normal -> {
-			
-			normal.normalize();
-			normal.negate();
-		});
-		
-		return normals;
-	}
-
-	/**
-	 * Generates a face normal.
-	 * @param vert1 first vertex
-	 * @param vert2 second vertex
-	 * @param vert3 third vertex
-	 * @return the generated face normal
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final Vector3f generateFaceNormal(Vector3f vert1, Vector3f vert2, Vector3f vert3) {
-		
-		Vector3f v1 = new Vector3f(vert2);
-		v1.sub(vert1);
-		
-		Vector3f v2 = new Vector3f(vert3);
-		v2.sub(vert1);
-		v2.cross(v2, v1);
-		v2.normalize();
-		
-		return v2;
-	}
-}
+package de.ralleytn.engine.caveman.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.vecmath.Matrix3f;
+import javax.vecmath.Matrix4f;
+import javax.vecmath.SingularMatrixException;
+import javax.vecmath.Vector3f;
+
+import de.ralleytn.engine.caveman.rendering.geom.AxisAlignedBox;
+import de.ralleytn.engine.caveman.rendering.geom.MeshData;
+import de.ralleytn.engine.caveman.rendering.geom.Sphere;
+
+/**
+ * Utility class containg methods for working with meshes.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 11.08.2018/0.1.0
+ */
+public final class MeshUtil {
+
+	/**
+	 * The amount of vertices the vertex cache optimization expects the GPU to keep.
+	 * Larger than the cache of most GPUs, which only makes the result slightly worse on small caches, but never bad.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int VERTEX_CACHE_SIZE = 32;
+	
+	/**
+	 * The cache size with which the ACMR is usually reported, so that the values are comparable to other tools.
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int DEFAULT_ACMR_CACHE_SIZE = 16;
+	
+	private static final float CACHE_DECAY_POWER = 1.5F;
+	private static final float LAST_TRIANGLE_SCORE = 0.75F;
+	private static final float VALENCE_BOOST_SCALE = 2.0F;
+	private static final float VALENCE_BOOST_POWER = 0.5F;
+	
+	/**
+	 * Private because no instances of this class should be created.
+	 * @since 11.08.2018/0.1.0
+	 */
+	private MeshUtil() {}
+	
+	/**
+	 * Merges multiple meshes lazily.
+	 * <ol>
+	 * <li>The vertices are multiplied with the corresponding transformation, the normals with its normal matrix</li>
+	 * <li>Vertices, texture coordinate, normals and indices are merged together.</li>
+	 * <li>The indices are incremented.</li>
+	 * </ol>
+	 * The purpose of this method is to allow fast merging for situations where it will already create the optimal result.
+	 * Texture coordinates and normals are only merged if every mesh has them.
+	 * @param meshes the meshes
+	 * @param transformations the transformations.
+	 * @return the merged mesh
+	 * @since 26.08.2018/0.3.0
+	 */
+	public static final MeshData mergeLazy(List<MeshData> meshes, List<Matrix4f> transformations) {
+		
+		int vertexCount = 0;
+		int indexCount = 0;
+		boolean hasTextureCoordinates = true;
+		boolean hasNormals = true;
+		
+		for(MeshData mesh : meshes) {
+			
+			vertexCount += mesh.getVertices().length / 3;
+			indexCount += mesh.getIndices().length;
+			hasTextureCoordinates &= mesh.getTextureCoordinates() != null;
+			hasNormals &= mesh.getNormals() != null;
+		}
+		
+		// The sizes are known up front, so everything is written straight into primitive arrays
+		float[] vertices = new float[vertexCount * 3];
+		float[] textureCoordinates = hasTextureCoordinates ? new float[vertexCount * 2] : null;
+		float[] normals = hasNormals ? new float[vertexCount * 3] : null;
+		int[] indices = new int[indexCount];
+		Matrix3f normalMatrix = new Matrix3f();
+		int vertexOffset = 0;
+		int indexOffset = 0;
+		int m = 0;
+		
+		for(MeshData mesh : meshes) {
+			
+			Matrix4f transformation = transformations.get(m);
+			MeshUtil.createNormalMatrix(transformation, normalMatrix);
+			MeshUtil.append(mesh, transformation, normalMatrix, vertices, textureCoordinates, normals, indices, vertexOffset, indexOffset);
+			vertexOffset += mesh.getVertices().length / 3;
+			indexOffset += mesh.getIndices().length;
+			m++;
+		}
+		
+		MeshData mesh = new MeshData();
+		mesh.setIndices(indices);
+		mesh.setNormals(normals);
+		mesh.setTextureCoordinates(textureCoordinates);
+		mesh.setVertices(vertices);
+		
+		return mesh;
+	}
+	
+	/**
+	 * Transforms a mesh and writes it into the arrays of a merged mesh.
+	 * Does not allocate any objects and only writes to the ranges of the given mesh, so multiple meshes can be appended at the same time.
+	 * @param mesh the mesh
+	 * @param transformation the transformation of the vertices
+	 * @param normalMatrix the transformation of the normals, see {@link #createNormalMatrix(Matrix4f, Matrix3f)}
+	 * @param vertices the vertices of the merged mesh
+	 * @param textureCoordinates the texture coordinates of the merged mesh, {@code null} if they should not be merged
+	 * @param normals the normals of the merged mesh, {@code null} if they should not be merged
+	 * @param indices the indices of the merged mesh
+	 * @param vertexOffset index of the vertex in the merged mesh at which the mesh starts
+	 * @param indexOffset position in the indices of the merged mesh at which the mesh starts
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void append(MeshData mesh, Matrix4f transformation, Matrix3f normalMatrix, float[] vertices, float[] textureCoordinates, float[] normals, int[] indices, int vertexOffset, int indexOffset) {
+		
+		float[] mVertices = mesh.getVertices();
+		float[] mNormals = mesh.getNormals();
+		float[] mTextureCoordinates = mesh.getTextureCoordinates();
+		int[] mIndices = mesh.getIndices();
+		Matrix4f t = transformation;
+		Matrix3f n = normalMatrix;
+		int target = vertexOffset * 3;
+		
+		for(int index = 0; index < mVertices.length; index += 3) {
+			
+			float x = mVertices[index];
+			float y = mVertices[index + 1];
+			float z = mVertices[index + 2];
+			vertices[target + index]     = (x * t.m00) + (y * t.m10) + (z * t.m20) + t.m30;
+			vertices[target + index + 1] = (x * t.m01) + (y * t.m11) + (z * t.m21) + t.m31;
+			vertices[target + index + 2] = (x * t.m02) + (y * t.m12) + (z * t.m22) + t.m32;
+			
+			if(normals != null) {
+				
+				float nx = mNormals[index];
+				float ny = mNormals[index + 1];
+				float nz = mNormals[index + 2];
+				float rx = (nx * n.m00) + (ny * n.m10) + (nz * n.m20);
+				float ry = (nx * n.m01) + (ny * n.m11) + (nz * n.m21);
+				float rz = (nx * n.m02) + (ny * n.m12) + (nz * n.m22);
+				float length = (float)Math.sqrt(rx * rx + ry * ry + rz * rz);
+				float scale = length > 0.0F ? 1.0F / length : 0.0F;
+				normals[target + index]     = rx * scale;
+				normals[target + index + 1] = ry * scale;
+				normals[target + index + 2] = rz * scale;
+			}
+		}
+		
+		if(textureCoordinates != null) {
+			
+			System.arraycopy(mTextureCoordinates, 0, textureCoordinates, vertexOffset * 2, mTextureCoordinates.length);
+		}
+		
+		for(int index = 0; index < mIndices.length; index++) {
+			
+			indices[indexOffset + index] = mIndices[index] + vertexOffset;
+		}
+	}
+	
+	/**
+	 * Optimizes a mesh for the GPU. The triangles are reordered with {@link #optimizeVertexCache(int[], int)}
+	 * and the vertices afterwards with {@link #optimizeVertexFetch(MeshData)}. The mesh looks exactly the same afterwards.
+	 * @param mesh the mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void optimize(MeshData mesh) {
+		
+		mesh.setIndices(MeshUtil.optimizeVertexCache(mesh.getIndices(), mesh.getVertices().length / 3));
+		MeshUtil.optimizeVertexFetch(mesh);
+	}
+	
+	/**
+	 * Reorders the triangles of a mesh so that the vertices which were just transformed by the GPU are used again as soon as possible.
+	 * Uses the algorithm of Tom Forsyth: every vertex has a score that is higher the more recently it was used and the less triangles
+	 * still need it and the triangle whose vertices have the highest score is always the next one.
+	 * Only the triangles that use a vertex in the simulated cache are scored again after a triangle was added, so it runs in linear time.
+	 * @param indices the indices of the triangles
+	 * @param vertexCount the amount of vertices
+	 * @return the reordered indices, the given array is not modified
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int[] optimizeVertexCache(int[] indices, int vertexCount) {
+		
+		int triangleCount = indices.length / 3;
+		int[] result = new int[triangleCount * 3];
+		
+		if(triangleCount == 0) {
+			
+			return result;
+		}
+		
+		// The triangles of every vertex, stored in one array; the live count shrinks when a triangle is added
+		int[] liveCounts = new int[vertexCount];
+		int[] adjacencyOffsets = new int[vertexCount + 1];
+		int[] adjacency = new int[triangleCount * 3];
+		
+		for(int index = 0; index < triangleCount * 3; index++) {
+			
+			liveCounts[indices[index]]++;
+		}
+		
+		for(int vertex = 0; vertex < vertexCount; vertex++) {
+			
+			adjacencyOffsets[vertex + 1] = adjacencyOffsets[vertex] + liveCounts[vertex];
+		}
+		
+		int[] fill = Arrays.copyOf(adjacencyOffsets, vertexCount);
+		
+		for(int index = 0; index < triangleCount * 3; index++) {
+			
+			adjacency[fill[indices[index]]++] = index / 3;
+		}
+		
+		// Every triangle is only counted once by each of its vertices, even if it is degenerated
+		Arrays.fill(liveCounts, 0);
+		
+		for(int vertex = 0; vertex < vertexCount; vertex++) {
+			
+			int count = 0;
+			
+			for(int position = adjacencyOffsets[vertex]; position < adjacencyOffsets[vertex + 1]; position++) {
+				
+				if(count == 0 || adjacency[adjacencyOffsets[vertex] + count - 1] != adjacency[position]) {
+					
+					adjacency[adjacencyOffsets[vertex] + count++] = adjacency[position];
+				}
+			}
+			
+			liveCounts[vertex] = count;
+		}
+		
+		int[] cachePositions = new int[vertexCount];
+		float[] vertexScores = new float[vertexCount];
+		float[] triangleScores = new float[triangleCount];
+		boolean[] added = new boolean[triangleCount];
+		Arrays.fill(cachePositions, -1);
+		
+		for(int vertex = 0; vertex < vertexCount; vertex++) {
+			
+			vertexScores[vertex] = MeshUtil.calculateVertexScore(cachePositions[vertex], liveCounts[vertex]);
+		}
+		
+		int bestTriangle = 0;
+		
+		for(int triangle = 0; triangle < triangleCount; triangle++) {
+			
+			int offset = triangle * 3;
+			triangleScores[triangle] = vertexScores[indices[offset]] + vertexScores[indices[offset + 1]] + vertexScores[indices[offset + 2]];
+			
+			if(triangleScores[triangle] > triangleScores[bestTriangle]) {
+				
+				bestTriangle = triangle;
+			}
+		}
+		
+		// The cache is three entries larger, so that the vertices that are pushed out still get their score updated
+		int[] cache = new int[VERTEX_CACHE_SIZE + 3];
+		int[] newCache = new int[VERTEX_CACHE_SIZE + 3];
+		int cacheCount = 0;
+		int nextCandidate = 0;
+		
+		for(int output = 0; output < triangleCount; output++) {
+			
+			if(bestTriangle < 0) {
+				
+				// Nothing in the cache is used anymore, so it continues with the next triangle that was not added yet
+				while(added[nextCandidate]) {
+					
+					nextCandidate++;
+				}
+				
+				bestTriangle = nextCandidate;
+			}
+			
+			int offset = bestTriangle * 3;
+			int newCacheCount = 0;
+			added[bestTriangle] = true;
+			
+			for(int corner = 0; corner < 3; corner++) {
+				
+				int vertex = indices[offset + corner];
+				result[output * 3 + corner] = vertex;
+				
+				if(cachePositions[vertex] != -2) {
+					
+					// -2 marks the vertices that are already at the front of the new cache
+					cachePositions[vertex] = -2;
+					newCache[newCacheCount++] = vertex;
+					MeshUtil.removeTriangle(adjacency, adjacencyOffsets[vertex], liveCounts, vertex, bestTriangle);
+				}
+			}
+			
+			for(int position = 0; position < cacheCount; position++) {
+				
+				int vertex = cache[position];
+				
+				if(cachePositions[vertex] != -2) {
+					
+					if(newCacheCount < newCache.length) {
+						
+						newCache[newCacheCount++] = vertex;
+						
+					} else {
+						
+						cachePositions[vertex] = -1;
+						vertexScores[vertex] = MeshUtil.calculateVertexScore(-1, liveCounts[vertex]);
+						MeshUtil.updateTriangleScores(adjacency, adjacencyOffsets[vertex], liveCounts[vertex], indices, vertexScores, triangleScores);
+					}
+				}
+			}
+			
+			int[] swap = cache;
+			cache = newCache;
+			newCache = swap;
+			cacheCount = newCacheCount;
+			
+			for(int position = 0; position < cacheCount; position++) {
+				
+				int vertex = cache[position];
+				cachePositions[vertex] = position < VERTEX_CACHE_SIZE ? position : -1;
+				vertexScores[vertex] = MeshUtil.calculateVertexScore(cachePositions[vertex], liveCounts[vertex]);
+			}
+			
+			bestTriangle = -1;
+			float bestScore = 0.0F;
+			
+			for(int position = 0; position < cacheCount; position++) {
+				
+				int vertex = cache[position];
+				int start = adjacencyOffsets[vertex];
+				MeshUtil.updateTriangleScores(adjacency, start, liveCounts[vertex], indices, vertexScores, triangleScores);
+				
+				for(int triangle = start; triangle < start + liveCounts[vertex]; triangle++) {
+					
+					if(triangleScores[adjacency[triangle]] > bestScore) {
+						
+						bestScore = triangleScores[adjacency[triangle]];
+						bestTriangle = adjacency[triangle];
+					}
+				}
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Removes a triangle from the live triangles of a vertex.
+	 * @param adjacency the triangles of all vertices
+	 * @param start index in the adjacency at which the triangles of the vertex start
+	 * @param liveCounts the amount of triangles per vertex that were not added yet
+	 * @param vertex the vertex
+	 * @param triangle the triangle
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void removeTriangle(int[] adjacency, int start, int[] liveCounts, int vertex, int triangle) {
+		
+		int end = start + liveCounts[vertex];
+		
+		for(int position = start; position < end; position++) {
+			
+			if(adjacency[position] == triangle) {
+				
+				adjacency[position] = adjacency[end - 1];
+				adjacency[end - 1] = triangle;
+				liveCounts[vertex]--;
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Updates the scores of the live triangles of a vertex.
+	 * @param adjacency the triangles of all vertices
+	 * @param start index in the adjacency at which the triangles of the vertex start
+	 * @param count the amount of live triangles of the vertex
+	 * @param indices the indices of the mesh
+	 * @param vertexScores the scores of all vertices
+	 * @param triangleScores the scores of all triangles
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final void updateTriangleScores(int[] adjacency, int start, int count, int[] indices, float[] vertexScores, float[] triangleScores) {
+		
+		for(int position = start; position < start + count; position++) {
+			
+			int offset = adjacency[position] * 3;
+			triangleScores[adjacency[position]] = vertexScores[indices[offset]] + vertexScores[indices[offset + 1]] + vertexScores[indices[offset + 2]];
+		}
+	}
+	
+	/**
+	 * Calculates the score of a vertex for the vertex cache optimization.
+	 * The vertices of the last triangle get a fixed score, so that the next triangle doesn't prefer them over the rest of the cache.
+	 * @param cachePosition the position in the simulated cache or {@code -1} if it isn't in the cache
+	 * @param liveTriangles the amount of triangles that use the vertex and were not added yet
+	 * @return the score
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final float calculateVertexScore(int cachePosition, int liveTriangles) {
+		
+		if(liveTriangles == 0) {
+			
+			return -1.0F;
+		}
+		
+		float score = 0.0F;
+		
+		if(cachePosition >= 0) {
+			
+			if(cachePosition < 3) {
+				
+				score = LAST_TRIANGLE_SCORE;
+				
+			} else {
+				
+				float scale = 1.0F / (VERTEX_CACHE_SIZE - 3);
+				score = (float)Math.pow(1.0F - (cachePosition - 3) * scale, CACHE_DECAY_POWER);
+			}
+		}
+		
+		// Vertices with only a few triangles left are preferred, so that no lonely triangles stay behind
+		return score + VALENCE_BOOST_SCALE * (float)Math.pow(liveTriangles, -VALENCE_BOOST_POWER);
+	}
+	
+	/**
+	 * Renumbers the vertices of a mesh in the order in which the indices use them for the first time, so that the GPU reads the vertex buffer
+	 * as linear as possible. Should be called after {@link #optimizeVertexCache(int[], int)}.
+	 * Vertices that are not used by any triangle are removed. The bounds of the mesh stay the same.
+	 * @param mesh the mesh
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void optimizeVertexFetch(MeshData mesh) {
+		
+		float[] vertices = mesh.getVertices();
+		float[] textureCoordinates = mesh.getTextureCoordinates();
+		float[] normals = mesh.getNormals();
+		int[] indices = mesh.getIndices();
+		int[] remap = new int[vertices.length / 3];
+		int vertexCount = 0;
+		Arrays.fill(remap, -1);
+		
+		for(int index = 0; index < indices.length; index++) {
+			
+			if(remap[indices[index]] == -1) {
+				
+				remap[indices[index]] = vertexCount++;
+			}
+		}
+		
+		float[] newVertices = new float[vertexCount * 3];
+		float[] newTextureCoordinates = textureCoordinates != null ? new float[vertexCount * 2] : null;
+		float[] newNormals = normals != null ? new float[vertexCount * 3] : null;
+		int[] newIndices = new int[indices.length];
+		
+		for(int vertex = 0; vertex < remap.length; vertex++) {
+			
+			int target = remap[vertex];
+			
+			if(target != -1) {
+				
+				System.arraycopy(vertices, vertex * 3, newVertices, target * 3, 3);
+				
+				if(newTextureCoordinates != null) {
+					
+					System.arraycopy(textureCoordinates, vertex * 2, newTextureCoordinates, target * 2, 2);
+				}
+				
+				if(newNormals != null) {
+					
+					System.arraycopy(normals, vertex * 3, newNormals, target * 3, 3);
+				}
+			}
+		}
+		
+		for(int index = 0; index < indices.length; index++) {
+			
+			newIndices[index] = remap[indices[index]];
+		}
+		
+		// The bounds are taken over, because they may have been stored in the mesh file
+		AxisAlignedBox aabb = mesh.getAABB();
+		Sphere boundingSphere = mesh.getBoundingSphere();
+		mesh.setVertices(newVertices);
+		mesh.setTextureCoordinates(newTextureCoordinates);
+		mesh.setNormals(newNormals);
+		mesh.setIndices(newIndices);
+		mesh.setBounds(aabb, boundingSphere);
+	}
+	
+	/**
+	 * Calculates the average cache miss ratio (ACMR) of a mesh, the average amount of vertices the GPU has to transform per triangle.
+	 * The vertex cache is simulated as a FIFO queue like on most GPUs. The result lies between {@code 0.5} on a perfect, very large grid
+	 * and {@code 3.0} if no vertex is ever reused.
+	 * @param indices the indices of the triangles
+	 * @param vertexCount the amount of vertices
+	 * @param cacheSize the amount of vertices in the simulated cache
+	 * @return the ACMR or {@code 0} if the mesh has no triangles
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final float calculateACMR(int[] indices, int vertexCount, int cacheSize) {
+		
+		int triangleCount = indices.length / 3;
+		
+		if(triangleCount == 0) {
+			
+			return 0.0F;
+		}
+		
+		// A vertex is in the cache if less than cacheSize other vertices were loaded after it
+		int[] timestamps = new int[vertexCount];
+		int time = cacheSize + 1;
+		int misses = 0;
+		
+		for(int index = 0; index < triangleCount * 3; index++) {
+			
+			int vertex = indices[index];
+			
+			if(time - timestamps[vertex] > cacheSize) {
+				
+				timestamps[vertex] = time++;
+				misses++;
+			}
+		}
+		
+		return (float)misses / triangleCount;
+	}
+	
+	/**
+	 * Calculates the matrix with which normals have to be transformed, the transposed inverse of the rotation and scale of a transformation.
+	 * Unlike the transformation itself it keeps the normals perpendicular to the surface if the mesh is scaled non uniformly and it ignores the translation.
+	 * The result is laid out like the transformation, so it is applied the same way as in {@link MatrixUtil#multiply(Matrix4f, float, float, float)}.
+	 * @param transformation the transformation
+	 * @param normalMatrix the matrix in which the result is stored
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void createNormalMatrix(Matrix4f transformation, Matrix3f normalMatrix) {
+		
+		transformation.getRotationScale(normalMatrix);
+		
+		try {
+			
+			normalMatrix.invert();
+			normalMatrix.transpose();
+			
+		} catch(SingularMatrixException exception) {
+			
+			// A mesh that is scaled to nothing has no meaningful normals, the rotation and scale are good enough
+			transformation.getRotationScale(normalMatrix);
+		}
+	}
+	
+	/**
+	 * Generates the normals of a mesh based on the vertices and the indices.
+	 * @param vertices the vertices
+	 * @param indices the indices
+	 * @return the generated normals
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final List<Vector3f> generateNormals(List<Vector3f> vertices, int[] indices) {
+		
+		List<Vector3f> normals = new ArrayList<>();
+		
+		for(int index = 0; index < vertices.size(); index++) {
+			
+			normals.add(new Vector3f());
+		}
+		
+		for(int index = 0; index < indices.length; index += 3) {
+			
+			Vector3f v1 = vertices.get(indices[index]);
+			Vector3f v2 = vertices.get(indices[index + 1]);
+			Vector3f v3 = vertices.get(indices[index + 2]);
+			
+			Vector3f faceNormal = generateFaceNormal(v1, v2, v3);
+			
+			normals.get(indices[index]).add(faceNormal);
+			normals.get(indices[index + 1]).add(faceNormal);
+			normals.get(indices[index + 2]).add(faceNormal);
+		}
+		
+		normals.forEach(normal -> {
+			
+			normal.normalize();
+			normal.negate();
+		});
+		
+		return normals;
+	}
+
+	/**
+	 * Generates a face normal.
+	 * @param vert1 first vertex
+	 * @param vert2 second vertex
+	 * @param vert3 third vertex
+	 * @return the generated face normal
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final Vector3f generateFaceNormal(Vector3f vert1, Vector3f vert2, Vector3f vert3) {
+		
+		Vector3f v1 = new Vector3f(vert2);
+		v1.sub(vert1);
+		
+		Vector3f v2 = new Vector3f(vert3);
+		v2.sub(vert1);
+		v2.cross(v2, v1);
+		v2.normalize();
+		
+		return v2;
+	}
+}
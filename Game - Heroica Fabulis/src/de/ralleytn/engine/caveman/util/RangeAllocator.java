@@ -0,0 +1,233 @@
+package de.ralleytn.engine.caveman.util;
+
+import java.util.Arrays;
+
+/**
+ * Hands out ranges of a linear address space, like the elements of a large buffer.
+ * The free ranges are kept sorted by their offset in a list. Allocating takes the first free range that is large enough
+ * and freeing merges the range with its free neighbors, so that the free list stays as short as possible.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 18.10.2026/0.5.0
+ */
+public class RangeAllocator {
+
+	private int[] freeOffsets;
+	private int[] freeSizes;
+	private int freeCount;
+	private int capacity;
+	private int used;
+	
+	/**
+	 * @param capacity the size of the address space
+	 * @since 18.10.2026/0.5.0
+	 */
+	public RangeAllocator(int capacity) {
+		
+		this.freeOffsets = new int[16];
+		this.freeSizes = new int[16];
+		this.reset(capacity, 0);
+	}
+	
+	/**
+	 * Allocates a range.
+	 * @param size the size of the range
+	 * @return the offset of the range or {@code -1} if there is no free range that is large enough
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int allocate(int size) {
+		
+		for(int index = 0; index < this.freeCount; index++) {
+			
+			int freeSize = this.freeSizes[index];
+			
+			if(freeSize >= size) {
+				
+				int offset = this.freeOffsets[index];
+				
+				if(freeSize == size) {
+					
+					this.removeFreeRange(index);
+				
+				} else {
+					
+					this.freeOffsets[index] += size;
+					this.freeSizes[index] -= size;
+				}
+				
+				this.used += size;
+				return offset;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Gives a range back.
+	 * @param offset the offset of the range
+	 * @param size the size of the range
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void free(int offset, int size) {
+		
+		if(size <= 0) {
+			
+			return;
+		}
+		
+		// Binary search for the first free range behind the given one
+		int low = 0;
+		int high = this.freeCount;
+		
+		while(low < high) {
+			
+			int middle = (low + high) >>> 1;
+			
+			if(this.freeOffsets[middle] < offset) {
+				
+				low = middle + 1;
+			
+			} else {
+				
+				high = middle;
+			}
+		}
+		
+		boolean mergePrevious = low > 0 && this.freeOffsets[low - 1] + this.freeSizes[low - 1] == offset;
+		boolean mergeNext = low < this.freeCount && offset + size == this.freeOffsets[low];
+		
+		if(mergePrevious && mergeNext) {
+			
+			this.freeSizes[low - 1] += size + this.freeSizes[low];
+			this.removeFreeRange(low);
+		
+		} else if(mergePrevious) {
+			
+			this.freeSizes[low - 1] += size;
+		
+		} else if(mergeNext) {
+			
+			this.freeOffsets[low] = offset;
+			this.freeSizes[low] += size;
+		
+		} else {
+			
+			this.insertFreeRange(low, offset, size);
+		}
+		
+		this.used -= size;
+	}
+	
+	/**
+	 * Enlarges the address space. The new space is appended at the end.
+	 * @param capacity the new size of the address space, has to be larger than the current one
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void grow(int capacity) {
+		
+		int added = capacity - this.capacity;
+		
+		if(added > 0) {
+			
+			int oldCapacity = this.capacity;
+			this.capacity = capacity;
+			this.used += added;
+			this.free(oldCapacity, added);
+		}
+	}
+	
+	/**
+	 * Forgets all ranges and marks everything in front of the given size as used.
+	 * Meant to be called after all used ranges were moved to the beginning of the address space.
+	 * @param capacity the size of the address space
+	 * @param used the size of the used space at the beginning
+	 * @since 18.10.2026/0.5.0
+	 */
+	public void reset(int capacity, int used) {
+		
+		this.capacity = capacity;
+		this.used = used;
+		this.freeCount = 0;
+		
+		if(used < capacity) {
+			
+			this.insertFreeRange(0, used, capacity - used);
+		}
+	}
+	
+	/**
+	 * @param index index in the free list
+	 * @param offset offset of the free range
+	 * @param size size of the free range
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void insertFreeRange(int index, int offset, int size) {
+		
+		if(this.freeCount == this.freeOffsets.length) {
+			
+			this.freeOffsets = Arrays.copyOf(this.freeOffsets, this.freeCount * 2);
+			this.freeSizes = Arrays.copyOf(this.freeSizes, this.freeCount * 2);
+		}
+		
+		System.arraycopy(this.freeOffsets, index, this.freeOffsets, index + 1, this.freeCount - index);
+		System.arraycopy(this.freeSizes, index, this.freeSizes, index + 1, this.freeCount - index);
+		this.freeOffsets[index] = offset;
+		this.freeSizes[index] = size;
+		this.freeCount++;
+	}
+	
+	/**
+	 * @param index index in the free list
+	 * @since 18.10.2026/0.5.0
+	 */
+	private final void removeFreeRange(int index) {
+		
+		System.arraycopy(this.freeOffsets, index + 1, this.freeOffsets, index, this.freeCount - index - 1);
+		System.arraycopy(this.freeSizes, index + 1, this.freeSizes, index, this.freeCount - index - 1);
+		this.freeCount--;
+	}
+	
+	/**
+	 * @return the size of the address space
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getCapacity() {
+		
+		return this.capacity;
+	}
+	
+	/**
+	 * @return the size of all allocated ranges together
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getUsed() {
+		
+		return this.used;
+	}
+	
+	/**
+	 * @return the size of the largest free range
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getLargestFreeRange() {
+		
+		int largest = 0;
+		
+		for(int index = 0; index < this.freeCount; index++) {
+			
+			largest = Math.max(largest, this.freeSizes[index]);
+		}
+		
+		return largest;
+	}
+	
+	/**
+	 * @return the amount of free ranges, {@code 1} or {@code 0} means the address space is not fragmented
+	 * @since 18.10.2026/0.5.0
+	 */
+	public int getFreeRangeCount() {
+		
+		return this.freeCount;
+	}
+}
@@ -1,295 +1,357 @@
-package de.ralleytn.engine.caveman.util;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import javax.vecmath.Vector2f;
-import javax.vecmath.Vector3f;
-
-/**
- * Utility class containing methods for working with vectors.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 08.09.2018/0.4.0
- * @since 11.08.2018/0.1.0
- */
-public final class VectorUtil {
-
-	/**
-	 * Represents the X axis as {@linkplain Vector3f}. Important for some matrix/vector calculations.<br>
-	 * NEVER CHANGE THE VALUES!
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final Vector3f AXIS_X = new Vector3f(1.0F, 0.0F, 0.0F);
-	
-	/**
-	 * Represents the Y axis as {@linkplain Vector3f}. Important for some matrix/vector calculations.<br>
-	 * NEVER CHANGE THE VALUES!
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final Vector3f AXIS_Y = new Vector3f(0.0F, 1.0F, 0.0F);
-	
-	/**
-	 * Represents the Z axis as {@linkplain Vector3f}. Important for some matrix/vector calculations.<br>
-	 * NEVER CHANGE THE VALUES!
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final Vector3f AXIS_Z = new Vector3f(0.0F, 0.0F, 1.0F);
-	
-	/**
-	 * Represents the default scale as {@linkplain Vector3f}.<br>
-	 * NEVER CHANGE THE VALUES!
-	 * @since 08.09.2018/0.4.0
-	 */
-	public static final Vector3f DEFAULT_SCALE = new Vector3f(1.0F, 1.0F, 1.0F);
-	
-	/**
-	 * Private because no instances of this class should exist.
-	 * @since 11.08.2018/0.1.0
-	 */
-	private VectorUtil() {}
-	
-	/**
-	 * 
-	 * @param v
-	 * @return
-	 * @since 07.09.2018/0.4.0
-	 */
-	public static final String toString(Vector3f v) {
-		
-		StringBuilder builder = new StringBuilder();
-		builder.append("(x=").append(v.x);
-		builder.append(",y=").append(v.y);
-		builder.append(",z=").append(v.z);
-		builder.append(')');
-		
-		return builder.toString();
-	}
-	
-	/**
-	 * 
-	 * @param v
-	 * @param angle
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f rotateX(Vector3f v, float angle) {
-		
-		float cos = (float)Math.cos(angle);
-		float sin = (float)Math.sin(angle);
-		
-		return new Vector3f(v.x,
-							v.y * cos - v.z * sin,
-							v.y * sin + v.z * cos);
-	}
-	
-	/**
-	 * 
-	 * @param v
-	 * @param angle
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f rotateY(Vector3f v, float angle) {
-		
-		float cos = (float)Math.cos(angle);
-		float sin = (float)Math.sin(angle);
-		
-		return new Vector3f(v.x * cos + v.z * sin,
-							v.y,
-							-(v.x * sin) + v.z * cos);
-	}
-	
-	/**
-	 * 
-	 * @param v
-	 * @param angle
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f rotateZ(Vector3f v, float angle) {
-		
-		float cos = (float)Math.cos(angle);
-		float sin = (float)Math.sin(angle);
-		
-		return new Vector3f(v.x * cos - v.y * sin,
-							v.x * sin + v.y * cos,
-							v.z);
-	}
-	
-	/**
-	 * 
-	 * @param v1
-	 * @param v2
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f cross(Vector3f v1, Vector3f v2) {
-		
-		return new Vector3f(v1.y * v2.z - v1.z * v2.y,
-							v2.x * v1.z - v2.z * v1.x,
-							v1.x * v2.y - v1.y * v2.x);
-	}
-	
-	/**
-	 * 
-	 * @param v
-	 * @param val
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f multiply(Vector3f v, float val) {
-		
-		return new Vector3f(v.x * val, v.y * val, v.z * val);
-	}
-	
-	/**
-	 * 
-	 * @param v1
-	 * @param v2
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f multiply(Vector3f v1, Vector3f v2) {
-		
-		return new Vector3f(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z);
-	}
-	
-	/**
-	 * 
-	 * @param v1
-	 * @param v2
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f add(Vector3f v1, Vector3f v2) {
-		
-		return new Vector3f(v1.x + v2.x, v1.y + v2.y, v1.z + v2.z);
-	}
-	
-	/**
-	 * 
-	 * @param v1
-	 * @param v2
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final Vector3f substract(Vector3f v1, Vector3f v2) {
-		
-		return new Vector3f(v1.x - v2.x, v1.y - v2.y, v1.z - v2.z);
-	}
-	
-	/**
-	 * Calculates the distance between two points in a 3D space.
-	 * @param p1 point 1
-	 * @param p2 point 2
-	 * @return the distance
-	 * @since 26.08.2018/0.3.0
-	 */
-	public static final float getAbsoluteDistance(Vector3f p1, Vector3f p2) {
-
-		return (float)Math.abs(getDistance(p1, p2));
-	}
-	
-	/**
-	 * 
-	 * @param p1
-	 * @param p2
-	 * @return
-	 * @since 06.09.2018/0.4.0
-	 */
-	public static final float getDistance(Vector3f p1, Vector3f p2) {
-		
-		return (float)Math.pow(Math.pow(p2.x - p1.x, 2) + Math.pow(p2.y - p1.y, 2) + Math.pow(p2.z - p1.z, 2), 0.5F);
-	}
-	
-	/**
-	 * 
-	 * @param p1
-	 * @param p2
-	 * @return
-	 * @since 05.09.2018/0.4.0
-	 */
-	public static final float getAbsoluteDistance(Vector2f p1, Vector2f p2) {
-		
-		return (float)Math.abs(Math.pow(Math.pow(p2.x - p1.x, 2) + Math.pow(p2.y - p1.y, 2), 0.5F));
-	}
-	
-	/**
-	 * Converts a {@code float} array into a list of 2D vectors.
-	 * @param values the {@code float} array
-	 * @return the created list with the 2D vectors
-	 * @since 18.08.2018/0.2.0
-	 */
-	public static final List<Vector2f> toList2f(float[] values) {
-		
-		List<Vector2f> list = new ArrayList<>();
-		
-		for(int index = 0; index < values.length; index += 2) {
-			
-			list.add(new Vector2f(values[index], values[index + 1]));
-		}
-		
-		return list;
-	}
-	
-	/**
-	 * Converts a float array into a {@linkplain List} of {@linkplain Vector3f}s.
-	 * @param values the float array
-	 * @return the created {@linkplain List}
-	 * @since 11.08.2018/0.1.0
-	 */
-	public static final List<Vector3f> toList3f(float[] values) {
-		
-		List<Vector3f> list = new ArrayList<>();
-		
-		for(int index = 0; index < values.length; index += 3) {
-			
-			list.add(new Vector3f(values[index], values[index + 1], values[index + 2]));
-		}
-		
-		return list;
-	}
-	
-	/**
-	 * Converts a list with 3D vectors into a {@code float} array.
-	 * @param vectors the list with the 3D vectors
-	 * @return the created {@code float} array
-	 * @since 18.08.2018/0.2.0
-	 */
-	public static final float[] toArray3f(List<Vector3f> vectors) {
-		
-		float[] array = new float[vectors.size() * 3];
-		int index = 0;
-		
-		for(Vector3f vector : vectors) {
-			
-			array[index] = vector.x;
-			array[index + 1] = vector.y;
-			array[index + 2] = vector.z;
-			index += 3;
-		}
-		
-		return array;
-	}
-	
-	/**
-	 * Converts a list with 2D vectors into a {@code float} array.
-	 * @param vectors the list with the 2D vectors
-	 * @return the created {@code float} array
-	 * @since 18.08.2018/0.2.0
-	 */
-	public static final float[] toArray2f(List<Vector2f> vectors) {
-		
-		float[] array = new float[vectors.size() * 2];
-		int index = 0;
-		
-		for(Vector2f vector : vectors) {
-			
-			array[index] = vector.x;
-			array[index + 1] = vector.y;
-			index += 2;
-		}
-		
-		return array;
-	}
-}
+package de.ralleytn.engine.caveman.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.vecmath.Vector2f;
+import javax.vecmath.Vector3f;
+
+/**
+ * Utility class containing methods for working with vectors.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 11.08.2018/0.1.0
+ */
+public final class VectorUtil {
+
+	/**
+	 * Represents the X axis as {@linkplain Vector3f}. Important for some matrix/vector calculations.<br>
+	 * NEVER CHANGE THE VALUES!
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final Vector3f AXIS_X = new Vector3f(1.0F, 0.0F, 0.0F);
+	
+	/**
+	 * Represents the Y axis as {@linkplain Vector3f}. Important for some matrix/vector calculations.<br>
+	 * NEVER CHANGE THE VALUES!
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final Vector3f AXIS_Y = new Vector3f(0.0F, 1.0F, 0.0F);
+	
+	/**
+	 * Represents the Z axis as {@linkplain Vector3f}. Important for some matrix/vector calculations.<br>
+	 * NEVER CHANGE THE VALUES!
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final Vector3f AXIS_Z = new Vector3f(0.0F, 0.0F, 1.0F);
+	
+	/**
+	 * Represents the default scale as {@linkplain Vector3f}.<br>
+	 * NEVER CHANGE THE VALUES!
+	 * @since 08.09.2018/0.4.0
+	 */
+	public static final Vector3f DEFAULT_SCALE = new Vector3f(1.0F, 1.0F, 1.0F);
+	
+	/**
+	 * Private because no instances of this class should exist.
+	 * @since 11.08.2018/0.1.0
+	 */
+	private VectorUtil() {}
+	
+	/**
+	 * 
+	 * @param v
+	 * @return
+	 * @since 07.09.2018/0.4.0
+	 */
+	public static final String toString(Vector3f v) {
+		
+		StringBuilder builder = new StringBuilder();
+		builder.append("(x=").append(v.x);
+		builder.append(",y=").append(v.y);
+		builder.append(",z=").append(v.z);
+		builder.append(')');
+		
+		return builder.toString();
+	}
+	
+	/**
+	 * 
+	 * @param v
+	 * @param angle
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f rotateX(Vector3f v, float angle) {
+		
+		float cos = (float)Math.cos(angle);
+		float sin = (float)Math.sin(angle);
+		
+		return new Vector3f(v.x,
+							v.y * cos - v.z * sin,
+							v.y * sin + v.z * cos);
+	}
+	
+	/**
+	 * 
+	 * @param v
+	 * @param angle
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f rotateY(Vector3f v, float angle) {
+		
+		float cos = (float)Math.cos(angle);
+		float sin = (float)Math.sin(angle);
+		
+		return new Vector3f(v.x * cos + v.z * sin,
+							v.y,
+							-(v.x * sin) + v.z * cos);
+	}
+	
+	/**
+	 * 
+	 * @param v
+	 * @param angle
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f rotateZ(Vector3f v, float angle) {
+		
+		float cos = (float)Math.cos(angle);
+		float sin = (float)Math.sin(angle);
+		
+		return new Vector3f(v.x * cos - v.y * sin,
+							v.x * sin + v.y * cos,
+							v.z);
+	}
+	
+	/**
+	 * 
+	 * @param v1
+	 * @param v2
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f cross(Vector3f v1, Vector3f v2) {
+		
+		return new Vector3f(v1.y * v2.z - v1.z * v2.y,
+							v2.x * v1.z - v2.z * v1.x,
+							v1.x * v2.y - v1.y * v2.x);
+	}
+	
+	/**
+	 * 
+	 * @param v
+	 * @param val
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f multiply(Vector3f v, float val) {
+		
+		return new Vector3f(v.x * val, v.y * val, v.z * val);
+	}
+	
+	/**
+	 * 
+	 * @param v1
+	 * @param v2
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f multiply(Vector3f v1, Vector3f v2) {
+		
+		return new Vector3f(v1.x * v2.x, v1.y * v2.y, v1.z * v2.z);
+	}
+	
+	/**
+	 * 
+	 * @param v1
+	 * @param v2
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f add(Vector3f v1, Vector3f v2) {
+		
+		return new Vector3f(v1.x + v2.x, v1.y + v2.y, v1.z + v2.z);
+	}
+	
+	/**
+	 * 
+	 * @param v1
+	 * @param v2
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final Vector3f substract(Vector3f v1, Vector3f v2) {
+		
+		return new Vector3f(v1.x - v2.x, v1.y - v2.y, v1.z - v2.z);
+	}
+	
+	/**
+	 * Calculates the distance between two points in a 3D space.
+	 * @param p1 point 1
+	 * @param p2 point 2
+	 * @return the distance
+	 * @since 26.08.2018/0.3.0
+	 */
+	public static final float getAbsoluteDistance(Vector3f p1, Vector3f p2) {
+
+		return (float)Math.abs(getDistance(p1, p2));
+	}
+	
+	/**
+	 * 
+	 * @param p1
+	 * @param p2
+	 * @return
+	 * @since 06.09.2018/0.4.0
+	 */
+	public static final float getDistance(Vector3f p1, Vector3f p2) {
+		
+		return (float)Math.pow(Math.pow(p2.x - p1.x, 2) + Math.pow(p2.y - p1.y, 2) + Math.pow(p2.z - p1.z, 2), 0.5F);
+	}
+	
+	/**
+	 * 
+	 * @param p1
+	 * @param p2
+	 * @return
+	 * @since 05.09.2018/0.4.0
+	 */
+	public static final float getAbsoluteDistance(Vector2f p1, Vector2f p2) {
+		
+		return (float)Math.abs(Math.pow(Math.pow(p2.x - p1.x, 2) + Math.pow(p2.y - p1.y, 2), 0.5F));
+	}
+	
+	/**
+	 * Converts a {@code float} array into a list of 2D vectors.
+	 * @param values the {@code float} array
+	 * @return the created list with the 2D vectors
+	 * @since 18.08.2018/0.2.0
+	 */
+	public static final List<Vector2f> toList2f(float[] values) {
+		
+		List<Vector2f> list = new ArrayList<>();
+		
+		for(int index = 0; index < values.length; index += 2) {
+			
+			list.add(new Vector2f(values[index], values[index + 1]));
+		}
+		
+		return list;
+	}
+	
+	/**
+	 * Converts a float array into a {@linkplain List} of {@linkplain Vector3f}s.
+	 * @param values the float array
+	 * @return the created {@linkplain List}
+	 * @since 11.08.2018/0.1.0
+	 */
+	public static final List<Vector3f> toList3f(float[] values) {
+		
+		List<Vector3f> list = new ArrayList<>();
+		
+		for(int index = 0; index < values.length; index += 3) {
+			
+			list.add(new Vector3f(values[index], values[index + 1], values[index + 2]));
+		}
+		
+		return list;
+	}
+	
+	/**
+	 * Converts a list with 3D vectors into a {@code float} array.
+	 * @param vectors the list with the 3D vectors
+	 * @return the created {@code float} array
+	 * @since 18.08.2018/0.2.0
+	 */
+	public static final float[] toArray3f(List<Vector3f> vectors) {
+		
+		float[] array = new float[vectors.size() * 3];
+		int index = 0;
+		
+		for(Vector3f vector : vectors) {
+			
+			array[index] = vector.x;
+			array[index + 1] = vector.y;
+			array[index + 2] = vector.z;
+			index += 3;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Converts a list with 2D vectors into a {@code float} array.
+	 * @param vectors the list with the 2D vectors
+	 * @return the created {@code float} array
+	 * @since 18.08.2018/0.2.0
+	 */
+	public static final float[] toArray2f(List<Vector2f> vectors) {
+		
+		float[] array = new float[vectors.size() * 2];
+		int index = 0;
+		
+		for(Vector2f vector : vectors) {
+			
+			array[index] = vector.x;
+			array[index + 1] = vector.y;
+			index += 2;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Encodes a normal with the octahedral mapping into two signed normalized 16 bit values.
+	 * The normal is projected onto an octahedron whose lower half is folded over the upper one, which keeps the error
+	 * nearly the same in every direction. The normal doesn't have to be normalized.
+	 * @param x X component of the normal
+	 * @param y Y component of the normal
+	 * @param z Z component of the normal
+	 * @return the first value in the lower 16 bits and the second value in the upper 16 bits
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final int encodeOctahedral(float x, float y, float z) {
+		
+		float length = Math.abs(x) + Math.abs(y) + Math.abs(z);
+		
+		if(length == 0.0F) {
+			
+			return 0;
+		}
+		
+		float u = x / length;
+		float v = y / length;
+		
+		if(z < 0.0F) {
+			
+			float foldedU = (1.0F - Math.abs(v)) * (u >= 0.0F ? 1.0F : -1.0F);
+			float foldedV = (1.0F - Math.abs(u)) * (v >= 0.0F ? 1.0F : -1.0F);
+			u = foldedU;
+			v = foldedV;
+		}
+		
+		int encodedU = Math.round(Math.max(-1.0F, Math.min(1.0F, u)) * 32767.0F);
+		int encodedV = Math.round(Math.max(-1.0F, Math.min(1.0F, v)) * 32767.0F);
+		return (encodedU & 0xFFFF) | (encodedV << 16);
+	}
+	
+	/**
+	 * Decodes a normal that was encoded with {@link #encodeOctahedral(float, float, float)}.
+	 * @param encoded the encoded normal
+	 * @param target the array to which the normalized normal is written
+	 * @param offset the index in the array at which the X component should be written
+	 * @since 18.10.2026/0.5.0
+	 */
+	public static final void decodeOctahedral(int encoded, float[] target, int offset) {
+		
+		float x = Math.max((short)encoded / 32767.0F, -1.0F);
+		float y = Math.max((short)(encoded >> 16) / 32767.0F, -1.0F);
+		float z = 1.0F - Math.abs(x) - Math.abs(y);
+		
+		if(z < 0.0F) {
+			
+			float unfoldedX = (1.0F - Math.abs(y)) * (x >= 0.0F ? 1.0F : -1.0F);
+			float unfoldedY = (1.0F - Math.abs(x)) * (y >= 0.0F ? 1.0F : -1.0F);
+			x = unfoldedX;
+			y = unfoldedY;
+		}
+		
+		float length = (float)Math.sqrt(x * x + y * y + z * z);
+		target[offset] = x / length;
+		target[offset + 1] = y / length;
+		target[offset + 2] = z / length;
+	}
+}
@@ -1,131 +1,191 @@
-package de.ralleytn.games.heroicafabulis;
-
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-
-import de.ralleytn.engine.caveman.EngineException;
-import de.ralleytn.engine.caveman.Entity;
-import de.ralleytn.engine.caveman.Errors;
-import de.ralleytn.engine.caveman.Game;
-import de.ralleytn.engine.caveman.Terrain;
-import de.ralleytn.engine.caveman.audio.OpenAL;
-import de.ralleytn.engine.caveman.io.meshes.XMeshReader;
-import de.ralleytn.engine.caveman.io.textures.XImgTextureReader;
-import de.ralleytn.engine.caveman.rendering.Texture;
-import de.ralleytn.engine.caveman.rendering.camera.FlyCamBehavior;
-import de.ralleytn.engine.caveman.rendering.geom.StaticMesh;
-import de.ralleytn.engine.caveman.rendering.light.Light;
-import de.ralleytn.engine.caveman.rendering.shader.BasicShaderPipeline;
-import de.ralleytn.engine.caveman.rendering.shader.Fog;
-import de.ralleytn.engine.caveman.rendering.shader.Material;
-import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
-
-/**
- * This is the main class in which the game components are assembled and the game is started.
- * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
- * @version 26.08.2018/0.3.0
- * @since 30.07.2018/0.1.0
- */
-public final class HeroicaFabulis extends Game {
-	
-	/**
-	 * @throws IOException 
-	 * @since 30.07.2018/0.1.0
-	 */
-	public HeroicaFabulis() throws IOException {
-		
-		super("Heroica Fabulis v0.1.0", new File("options.txt"), "de/ralleytn/games/heroicafabulis/defaults.txt");
-	}
-	
-	/**
-	 * First method to be called.
-	 * @param args the arguments that were used to start the program (should be none)
-	 * @since 30.07.2018/0.1.0
-	 */
-	public static void main(String[] args) {
-		
-		HeroicaFabulis game = null;
-		
-		try {
-
-			game = new HeroicaFabulis();
-			game.start();
-			
-		} catch(Exception exception) {
-			
-			Errors.print(exception);
-			Errors.prompt(exception, Errors.log(exception, game.getErrLogDirectory()));
-			
-		} finally {
-			
-			if(game != null) {
-				
-				game.stop();
-			}
-			
-			System.exit(1);
-		}
-	}
-
-	@Override
-	public void initialize(Game game) throws EngineException, IOException {
-		
-		FlyCamBehavior behavior = new FlyCamBehavior();
-		behavior.setSpeed(0.02F);
-		game.getCamera().setBehavior(behavior);
-		
-		this.getCamera().setTranslation(0, 1, 0);
-
-		ShaderPipeline shaderPipeline = new BasicShaderPipeline(new File("res/shaders"), "basic");
-		ShaderPipeline terrainShaderPipeline = new BasicShaderPipeline(new File("res/shaders"), "terrain");
-
-		Fog fog = new Fog();
-		
-		Material playerMaterial = new Material();
-		playerMaterial.setMinBrightness(0.1F);
-		playerMaterial.setAffectedByLight(true);
-		
-		Material stallMaterial = new Material();
-		stallMaterial.setMinBrightness(0.1F);
-		stallMaterial.setColorMap(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/stall.ximg")), true));
-		stallMaterial.setAffectedByLight(true);
-		stallMaterial.setFog(fog);
-		
-		Material terrainMaterial = new Material();
-		terrainMaterial.setMinBrightness(0.3F);
-		terrainMaterial.setColorMap(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/grass.ximg")), true));
-		terrainMaterial.setOverlay1(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/street.ximg")), true));
-		terrainMaterial.setBlendMap(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/blendMap1.ximg"))));
-		terrainMaterial.setColorMapTiling(Terrain.VERTEX_COUNT);
-		terrainMaterial.setOverlay1Tiling(30);
-		terrainMaterial.setAffectedByLight(true);
-		terrainMaterial.setFog(fog);
-
-		Entity stall = new Entity();
-		stall.setShaderPipeline(shaderPipeline);
-		stall.setMaterial(stallMaterial);
-		stall.setMesh(new StaticMesh(new XMeshReader().read(new FileInputStream("res/meshes/stall.xmesh"))));
-		stall.setTranslation(-50, 0, -50);
-		stall.setRotation(0, 180, 0);
-
-		Terrain terrain0 = new Terrain(-1, -1);
-		terrain0.setMaterial(terrainMaterial);
-		terrain0.setShaderPipeline(terrainShaderPipeline);
-
-		Light sun = new Light();
-		sun.setTranslation(0, 10, 0);
-
-		game.getScene().addEntity(stall);
-		game.getScene().setSun(sun);
-		game.getScene().addTerrain(terrain0);
-	}
-
-	@Override
-	public void update(float delta) {
-		
-		this.getDisplay().setTitle(this.getTitle() + " (" + this.getCurrentFPS() + ")");
-		OpenAL.getListener().setTranslation(this.getCamera().getTranslation());
-		OpenAL.getListener().setOrientation(this.getCamera().getViewMatrix());
-	}
-}
+package de.ralleytn.games.heroicafabulis;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import de.ralleytn.engine.caveman.EngineException;
+import de.ralleytn.engine.caveman.Entity;
+import de.ralleytn.engine.caveman.Errors;
+import de.ralleytn.engine.caveman.Game;
+import de.ralleytn.engine.caveman.Terrain;
+import de.ralleytn.engine.caveman.TerrainStreamer;
+import de.ralleytn.engine.caveman.TransformStatistics;
+import de.ralleytn.engine.caveman.audio.OpenAL;
+import de.ralleytn.engine.caveman.io.meshes.XMeshReader;
+import de.ralleytn.engine.caveman.io.textures.XImgTextureReader;
+import de.ralleytn.engine.caveman.rendering.Texture;
+import de.ralleytn.engine.caveman.rendering.camera.FlyCamBehavior;
+import de.ralleytn.engine.caveman.rendering.geom.GeometryPool;
+import de.ralleytn.engine.caveman.rendering.geom.Mesh;
+import de.ralleytn.engine.caveman.rendering.geom.PooledMesh;
+import de.ralleytn.engine.caveman.rendering.light.Light;
+import de.ralleytn.engine.caveman.rendering.shader.BasicShaderPipeline;
+import de.ralleytn.engine.caveman.rendering.shader.Fog;
+import de.ralleytn.engine.caveman.rendering.shader.Material;
+import de.ralleytn.engine.caveman.rendering.shader.ProgramBinaryCache;
+import de.ralleytn.engine.caveman.rendering.shader.ShaderPipeline;
+import de.ralleytn.engine.caveman.util.math.SimplexNoise;
+
+/**
+ * This is the main class in which the game components are assembled and the game is started.
+ * @author Ralph Niemitz/RalleYTN(ralph.niemitz@gmx.de)
+ * @version 18.10.2026/0.5.0
+ * @since 30.07.2018/0.1.0
+ */
+public final class HeroicaFabulis extends Game {
+	
+	// Projected sizes as fraction of the screen height below which the simplified meshes are used
+	private static final float[] LOD_SCREEN_SIZES = {0.2F, 0.08F, 0.03F};
+	
+	// Amount of terrain tiles that are loaded in every direction around the camera
+	private static final int TERRAIN_RADIUS = 2;
+	private static final float TERRAIN_HEIGHT = 8.0F;
+	
+	private TerrainStreamer terrainStreamer;
+	private List<Material> materials;
+	
+	/**
+	 * @throws IOException 
+	 * @since 30.07.2018/0.1.0
+	 */
+	public HeroicaFabulis() throws IOException {
+		
+		super("Heroica Fabulis v0.1.0", new File("options.txt"), "de/ralleytn/games/heroicafabulis/defaults.txt");
+	}
+	
+	/**
+	 * First method to be called.
+	 * @param args the arguments that were used to start the program (should be none)
+	 * @since 30.07.2018/0.1.0
+	 */
+	public static void main(String[] args) {
+		
+		HeroicaFabulis game = null;
+		
+		try {
+
+			game = new HeroicaFabulis();
+			game.start();
+			
+		} catch(Exception exception) {
+			
+			Errors.print(exception);
+			Errors.prompt(exception, Errors.log(exception, game.getErrLogDirectory()));
+			
+		} finally {
+			
+			if(game != null) {
+				
+				game.stop();
+			}
+			
+			System.exit(1);
+		}
+	}
+
+	@Override
+	public void initialize(Game game) throws EngineException, IOException {
+		
+		FlyCamBehavior behavior = new FlyCamBehavior();
+		behavior.setSpeed(0.02F);
+		game.getCamera().setBehavior(behavior);
+		
+		this.getCamera().setTranslation(0, TERRAIN_HEIGHT + 1, 0);
+
+		ShaderPipeline shaderPipeline = new BasicShaderPipeline(new File("res/shaders"), "basic");
+		ShaderPipeline terrainShaderPipeline = new BasicShaderPipeline(new File("res/shaders"), "terrain");
+		shaderPipeline.setInstancedVariant(new BasicShaderPipeline(new File("res/shaders"), "basic", "basic_instanced"));
+		shaderPipeline.setIndirectVariant(new BasicShaderPipeline(new File("res/shaders"), "basic", "basic_indirect"));
+
+		Fog fog = new Fog();
+		
+		Material playerMaterial = new Material();
+		playerMaterial.setMinBrightness(0.1F);
+		playerMaterial.setAffectedByLight(true);
+		
+		Material stallMaterial = new Material();
+		stallMaterial.setMinBrightness(0.1F);
+		stallMaterial.setColorMap(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/stall.ximg")), true));
+		stallMaterial.setAffectedByLight(true);
+		stallMaterial.setFog(fog);
+		
+		Material terrainMaterial = new Material();
+		terrainMaterial.setMinBrightness(0.3F);
+		terrainMaterial.setColorMap(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/grass.ximg")), true));
+		terrainMaterial.setOverlay1(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/street.ximg")), true));
+		terrainMaterial.setBlendMap(new Texture(new XImgTextureReader().read(new FileInputStream("res/textures/blendMap1.ximg"))));
+		terrainMaterial.setColorMapTiling(Terrain.VERTEX_COUNT);
+		terrainMaterial.setOverlay1Tiling(30);
+		terrainMaterial.setAffectedByLight(true);
+		terrainMaterial.setFog(fog);
+		this.materials = Arrays.asList(playerMaterial, stallMaterial, terrainMaterial);
+
+		Entity stall = new Entity();
+		stall.setShaderPipeline(shaderPipeline);
+		stall.setMaterial(stallMaterial);
+		stall.setMesh(new PooledMesh(GeometryPool.getDefault(), new XMeshReader().read(new FileInputStream("res/meshes/stall.xmesh"))));
+		Mesh[] stallLODs = HeroicaFabulis.loadLODs("res/meshes/stall");
+		
+		if(stallLODs != null) {
+			
+			stall.setLODs(stallLODs, Arrays.copyOf(LOD_SCREEN_SIZES, stallLODs.length));
+		}
+		
+		stall.setTranslation(-50, 0, -50);
+		stall.setRotation(0, 180, 0);
+
+		this.terrainStreamer = new TerrainStreamer(game.getScene(), game.getCamera(), new SimplexNoise(256, 0.45D, 1337L), TERRAIN_HEIGHT, TERRAIN_RADIUS, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+		this.terrainStreamer.setMaterial(terrainMaterial);
+		this.terrainStreamer.setShaderPipeline(terrainShaderPipeline);
+
+		Light sun = new Light();
+		sun.setTranslation(0, 10, 0);
+
+		game.getScene().addEntity(stall);
+		game.getScene().setSun(sun);
+	}
+
+	/**
+	 * Loads the simplified meshes that the mesh converter wrote next to a mesh ({@code name.lod1.xmesh}, ...).
+	 * @param name path of the mesh without the extension
+	 * @return the simplified meshes or {@code null} if there are none
+	 * @throws IOException if an I/O error occurred
+	 * @since 18.10.2026/0.5.0
+	 */
+	private static final Mesh[] loadLODs(String name) throws IOException {
+		
+		List<Mesh> lods = new ArrayList<>();
+		File file;
+		
+		while(lods.size() < LOD_SCREEN_SIZES.length && (file = new File(name + ".lod" + (lods.size() + 1) + ".xmesh")).isFile()) {
+			
+			lods.add(new PooledMesh(GeometryPool.getDefault(), new XMeshReader().read(new FileInputStream(file))));
+		}
+		
+		return lods.isEmpty() ? null : lods.toArray(new Mesh[lods.size()]);
+	}
+
+	@Override
+	public void stop() {
+		
+		if(this.materials != null) {
+			
+			this.materials.forEach(Material::dispose);
+		}
+		
+		super.stop();
+	}
+
+	@Override
+	public void update(float delta) {
+		
+		this.terrainStreamer.update(delta);
+		this.getDisplay().setTitle(this.getTitle() + " (" + this.getCurrentFPS() + ") [visible: " + this.getScene().getVisibleObjectCount() + ", culled: " + this.getScene().getCulledObjectCount() + ", saved recalculations: " + TransformStatistics.getSavedRecalculationCount() + ", shader programs: " + ProgramBinaryCache.getLoadedPrograms() + " cached in " + String.format("%.1f", ProgramBinaryCache.getLoadTime()) + " ms, " + ProgramBinaryCache.getCompiledPrograms() + " compiled in " + String.format("%.1f", ProgramBinaryCache.getCompileTime()) + " ms]");
+		OpenAL.getListener().setTranslation(this.getCamera().getTranslation());
+		OpenAL.getListener().setOrientation(this.getCamera().getViewMatrix());
+	}
+}